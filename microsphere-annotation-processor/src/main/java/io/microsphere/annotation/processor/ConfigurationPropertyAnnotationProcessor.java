@@ -20,7 +20,10 @@ package io.microsphere.annotation.processor;
 import io.microsphere.annotation.ConfigurationProperty;
 import io.microsphere.constants.ResourceConstants;
 import io.microsphere.json.JSONArray;
+import io.microsphere.json.JSONObject;
 import io.microsphere.metadata.ConfigurationPropertyGenerator;
+import io.microsphere.metadata.ConfigurationPropertyIndex;
+import io.microsphere.metadata.ConfigurationPropertyIndexWriter;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.Messager;
@@ -28,21 +31,37 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.TypeElement;
-import java.util.Iterator;
+import javax.lang.model.element.VariableElement;
+import javax.tools.FileObject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.util.List;
 import java.util.Set;
 
 import static io.microsphere.annotation.processor.ConfigurationPropertyJSONElementVisitor.CONFIGURATION_PROPERTY_ANNOTATION_CLASS_NAME;
+import static io.microsphere.annotation.processor.ResourceProcessor.FOR_WRITING;
+import static io.microsphere.collection.SetUtils.newHashSet;
+import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE;
 import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_RESOURCE;
 import static io.microsphere.constants.SymbolConstants.COMMA_CHAR;
 import static io.microsphere.constants.SymbolConstants.LEFT_SQUARE_BRACKET_CHAR;
 import static io.microsphere.constants.SymbolConstants.RIGHT_SQUARE_BRACKET_CHAR;
+import static io.microsphere.lang.model.util.AnnotationUtils.isAnnotationPresent;
+import static io.microsphere.lang.model.util.FieldUtils.getDeclaredField;
 import static io.microsphere.lang.model.util.MessagerUtils.printNote;
+import static io.microsphere.lang.model.util.MessagerUtils.printWarning;
+import static io.microsphere.lang.model.util.ModelQueryCache.enter;
+import static io.microsphere.lang.model.util.ModelQueryCache.exit;
 import static io.microsphere.metadata.ConfigurationPropertyLoader.loadAll;
+import static io.microsphere.util.ExceptionUtils.wrap;
+import static java.lang.Boolean.parseBoolean;
 import static javax.lang.model.SourceVersion.latestSupported;
+import static javax.lang.model.util.ElementFilter.typesIn;
 import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
 /**
@@ -56,50 +75,94 @@ import static javax.tools.StandardLocation.CLASS_OUTPUT;
  *     <li>{@link #init(ProcessingEnvironment)} initializes required utilities such as the Messager and ResourceProcessor.</li>
  *     <li>{@link #process(Set, RoundEnvironment)} handles each processing round:
  *         <ul>
- *             <li>During normal rounds, it resolves metadata from annotated elements.</li>
- *             <li>On the final round, it writes collected metadata into a resource file.</li>
+ *             <li>On the first round, it loads the previously generated metadata and opens the resource file.</li>
+ *             <li>During normal rounds, it streams the metadata of annotated elements into the resource file.</li>
+ *             <li>On the final round, it appends the retained previous metadata and completes the resource file.</li>
  *         </ul>
  *     </li>
  *     <li>{@link #resolveMetadata(RoundEnvironment)} traverses all root elements to extract configuration property metadata.</li>
- *     <li>{@link #writeMetadata()} writes the generated metadata into a JSON file under
- *         {@value ResourceConstants#CONFIGURATION_PROPERTY_METADATA_RESOURCE} using a writer.</li>
+ *     <li>{@link #writeMetadata()} completes the JSON file under
+ *         {@value ResourceConstants#CONFIGURATION_PROPERTY_METADATA_RESOURCE} using a writer, and the binary
+ *         {@link ConfigurationPropertyIndex index} under
+ *         {@value ResourceConstants#CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE}.</li>
  * </ul>
  *
+ * <p>The entries are written through the {@link JSONFormattingWriter} as soon as they are generated, so the metadata
+ * of the whole module is never held in the memory. On the incremental compilation, the previous entries whose
+ * declared classes are not compiled again but still exist are retained. The generated JSON is printed as the notes
+ * if the option {@value #DUMP_METADATA_OPTION} is <code>true</code>, e.g. <code>-Amicrosphere.metadata.dump=true</code>.
+ *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @see ConfigurationProperty
  * @see ConfigurationPropertyJSONElementVisitor
  * @see ConfigurationPropertyGenerator
+ * @see JSONFormattingWriter
+ * @see ConfigurationPropertyIndexWriter
  * @see ResourceProcessor
  * @see Messager
  * @see ProcessingEnvironment
  * @since 1.0.0
  */
 @SupportedAnnotationTypes(value = CONFIGURATION_PROPERTY_ANNOTATION_CLASS_NAME)
+@SupportedOptions(value = ConfigurationPropertyAnnotationProcessor.DUMP_METADATA_OPTION)
 public class ConfigurationPropertyAnnotationProcessor extends AbstractProcessor {
 
+    /**
+     * The option name whether the generated metadata JSON is printed as the notes
+     */
+    public static final String DUMP_METADATA_OPTION = "microsphere.metadata.dump";
+
+    static final int INDENT_SPACES = 2;
+
     private Messager messager;
 
+    private boolean dumpMetadata;
+
     private StringBuilder jsonBuilder;
 
     private ResourceProcessor classPathResourceProcessor;
 
     private ConfigurationPropertyJSONElementVisitor jsonElementVisitor;
 
+    private JSONArray previousMetadata;
+
+    private Set<String> processedClassNames;
+
+    private Writer metadataWriter;
+
+    private ConfigurationPropertyIndexWriter indexWriter;
+
+    private boolean metadataWritten;
+
     @Override
     public synchronized void init(ProcessingEnvironment processingEnv) {
         super.init(processingEnv);
         this.messager = processingEnv.getMessager();
+        this.dumpMetadata = parseBoolean(processingEnv.getOptions().get(DUMP_METADATA_OPTION));
         this.jsonBuilder = new StringBuilder();
         this.classPathResourceProcessor = new ResourceProcessor(processingEnv, CLASS_OUTPUT);
-        this.jsonElementVisitor = new ConfigurationPropertyJSONElementVisitor(processingEnv);
+        this.jsonElementVisitor = new ConfigurationPropertyJSONElementVisitor(processingEnv,
+                (configurationProperty, json) -> index(configurationProperty.getName(), json));
+        this.processedClassNames = newHashSet();
     }
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        if (roundEnv.processingOver()) {
-            writeMetadata();
-        } else {
-            resolveMetadata(roundEnv);
+        enter(processingEnv, roundEnv);
+        try {
+            if (metadataWriter == null) {
+                this.previousMetadata = loadPreviousMetadata();
+                openMetadata(openResourceWriter());
+                openIndex(openResourceOutputStream(CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE));
+            }
+            if (roundEnv.processingOver()) {
+                writeMetadata();
+            } else {
+                resolveMetadata(roundEnv);
+            }
+        } finally {
+            // the cache must not outlive the invocation, or it keeps the javac context on the reused thread
+            exit();
         }
         return false;
     }
@@ -110,53 +173,186 @@ public class ConfigurationPropertyAnnotationProcessor extends AbstractProcessor
     }
 
     void resolveMetadata(Set<? extends Element> elements) {
-        jsonBuilder.append(LEFT_SQUARE_BRACKET_CHAR);
-
-        // Resolve the content
-        if (!elements.isEmpty()) {
-            Iterator<? extends Element> iterator = elements.iterator();
-            while (iterator.hasNext()) {
-                Element element = iterator.next();
-                element.accept(jsonElementVisitor, jsonBuilder);
+        for (Element element : elements) {
+            element.accept(jsonElementVisitor, jsonBuilder);
+            addProcessedClassNames(element);
+            flushMetadata();
+        }
+    }
+
+    /**
+     * Start the JSON array of the metadata in the specified {@link Writer}
+     *
+     * @param writer the {@link Writer} of the metadata resource
+     */
+    void openMetadata(Writer writer) {
+        this.metadataWriter = new JSONFormattingWriter(writer, INDENT_SPACES);
+        this.metadataWritten = false;
+        write(String.valueOf(LEFT_SQUARE_BRACKET_CHAR));
+    }
+
+    /**
+     * Start the binary index of the metadata in the specified {@link OutputStream}
+     *
+     * @param outputStream the {@link OutputStream} of the index resource
+     */
+    void openIndex(OutputStream outputStream) {
+        this.indexWriter = new ConfigurationPropertyIndexWriter(outputStream);
+    }
+
+    private void writeMetadata() {
+        // retain the previous metadata of the unchanged classes
+        appendPreviousConfigurationPropertyJSON();
+        // append the JSON content generated by ConfigurationPropertyGenerator SPI
+        appendGeneratedConfigurationPropertyJSON();
+        flushMetadata();
+        closeMetadata();
+    }
+
+    /**
+     * End the JSON array of the metadata and close the {@link Writer}
+     */
+    void closeMetadata() {
+        write(String.valueOf(RIGHT_SQUARE_BRACKET_CHAR));
+        try {
+            metadataWriter.close();
+            if (indexWriter != null) {
+                indexWriter.close();
             }
-            // append the JSON content generated by ConfigurationPropertyGenerator SPI
-            appendGeneratedConfigurationPropertyJSON(jsonBuilder);
+        } catch (IOException e) {
+            throw wrap(e, RuntimeException.class);
         }
+    }
 
-        int lastIndex = jsonBuilder.length() - 1;
-        if (COMMA_CHAR == jsonBuilder.charAt(lastIndex)) {
-            jsonBuilder.setCharAt(lastIndex, RIGHT_SQUARE_BRACKET_CHAR);
-        } else {
-            jsonBuilder.append(RIGHT_SQUARE_BRACKET_CHAR);
+    private void appendPreviousConfigurationPropertyJSON() {
+        JSONArray previousMetadata = this.previousMetadata;
+        if (previousMetadata == null) {
+            return;
         }
+        for (int i = 0, length = previousMetadata.length(); i < length; i++) {
+            JSONObject configurationProperty = previousMetadata.optJSONObject(i);
+            if (isRetained(configurationProperty)) {
+                String json = configurationProperty.toString();
+                jsonBuilder.append(json)
+                        .append(COMMA_CHAR);
+                index(configurationProperty.optString("name"), json);
+            }
+        }
+        this.previousMetadata = null;
     }
 
-    private void appendGeneratedConfigurationPropertyJSON(StringBuilder jsonBuilder) {
+    /**
+     * The previous entry is retained if its declared class was not compiled in this compilation and still declares
+     * the annotated field, thus the entries of the removed classes and the ones loaded by
+     * {@link io.microsphere.metadata.ConfigurationPropertyLoader} SPI are not.
+     *
+     * @param configurationProperty the previous entry
+     * @return <code>true</code> if retained
+     */
+    boolean isRetained(JSONObject configurationProperty) {
+        JSONObject metadata = configurationProperty == null ? null : configurationProperty.optJSONObject("metadata");
+        if (metadata == null) {
+            return false;
+        }
+        String declaredClass = metadata.optString("declaredClass", null);
+        if (declaredClass == null || processedClassNames.contains(declaredClass)) {
+            return false;
+        }
+        TypeElement declaredType = processingEnv.getElementUtils().getTypeElement(declaredClass);
+        VariableElement declaredField = getDeclaredField(declaredType, metadata.optString("declaredField"));
+        return declaredField != null && isAnnotationPresent(declaredField, CONFIGURATION_PROPERTY_ANNOTATION_CLASS_NAME);
+    }
+
+    private void appendGeneratedConfigurationPropertyJSON() {
         List<io.microsphere.beans.ConfigurationProperty> configurationProperties = loadAll();
         int size = configurationProperties.size();
         for (int i = 0; i < size; i++) {
-            appendGeneratedConfigurationPropertyJSON(jsonBuilder, configurationProperties.get(i));
+            appendGeneratedConfigurationPropertyJSON(configurationProperties.get(i));
         }
     }
 
-    private void appendGeneratedConfigurationPropertyJSON(StringBuilder jsonBuilder, io.microsphere.beans.ConfigurationProperty configurationProperty) {
+    private void appendGeneratedConfigurationPropertyJSON(io.microsphere.beans.ConfigurationProperty configurationProperty) {
         ConfigurationPropertyGenerator generator = this.jsonElementVisitor.getGenerator();
         String json = generator.generate(configurationProperty);
         jsonBuilder.append(json)
                 .append(COMMA_CHAR);
+        index(configurationProperty.getName(), json);
     }
 
-    private void writeMetadata() {
-        classPathResourceProcessor.processInResourceWriter(CONFIGURATION_PROPERTY_METADATA_RESOURCE, writer -> {
-            JSONArray jsonArray = new JSONArray(jsonBuilder.toString());
-            String formatedJSON = jsonArray.toString(2);
-            writer.write(formatedJSON);
-            printNote(this.messager, "The generated metadata JSON of @{} : \n{}", CONFIGURATION_PROPERTY_ANNOTATION_CLASS_NAME, formatedJSON);
-        });
+    private void index(String name, String json) {
+        if (indexWriter == null) {
+            return;
+        }
+        try {
+            indexWriter.add(name, json);
+        } catch (IOException e) {
+            throw wrap(e, RuntimeException.class);
+        }
+    }
+
+    /**
+     * Write the comma-terminated entries buffered in the {@link #jsonBuilder} into the metadata resource
+     */
+    private void flushMetadata() {
+        StringBuilder jsonBuilder = this.jsonBuilder;
+        int length = jsonBuilder.length();
+        if (length == 0) {
+            return;
+        }
+        // remove the trailing comma
+        jsonBuilder.setLength(length - 1);
+        if (dumpMetadata) {
+            printNote(this.messager, "The generated metadata JSON of @{} : \n{}", CONFIGURATION_PROPERTY_ANNOTATION_CLASS_NAME, jsonBuilder);
+        }
+        if (metadataWritten) {
+            write(String.valueOf(COMMA_CHAR));
+        }
+        write(jsonBuilder.toString());
+        metadataWritten = true;
+        jsonBuilder.setLength(0);
+    }
+
+    private void write(String json) {
+        try {
+            metadataWriter.write(json);
+        } catch (IOException e) {
+            throw wrap(e, RuntimeException.class);
+        }
+    }
+
+    private void addProcessedClassNames(Element element) {
+        if (element instanceof TypeElement) {
+            processedClassNames.add(((TypeElement) element).getQualifiedName().toString());
+            for (TypeElement nestedType : typesIn(element.getEnclosedElements())) {
+                addProcessedClassNames(nestedType);
+            }
+        }
     }
 
-    String toJSON() {
-        return jsonBuilder.toString();
+    private JSONArray loadPreviousMetadata() {
+        return classPathResourceProcessor.processInResourceContent(CONFIGURATION_PROPERTY_METADATA_RESOURCE,
+                content -> new JSONArray(content.toString()), (resource, e) -> {
+                    printWarning(this.messager, "The previous metadata[name : '{}'] can't be loaded", resource.getName(), e);
+                    return null;
+                }).orElse(null);
+    }
+
+    private Writer openResourceWriter() {
+        FileObject resource = classPathResourceProcessor.getResource(CONFIGURATION_PROPERTY_METADATA_RESOURCE, FOR_WRITING).get();
+        try {
+            return resource.openWriter();
+        } catch (IOException e) {
+            throw wrap(e, RuntimeException.class);
+        }
+    }
+
+    private OutputStream openResourceOutputStream(String resourceName) {
+        FileObject resource = classPathResourceProcessor.getResource(resourceName, FOR_WRITING).get();
+        try {
+            return resource.openOutputStream();
+        } catch (IOException e) {
+            throw wrap(e, RuntimeException.class);
+        }
     }
 
     @Override
@@ -32,6 +32,7 @@ import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeMirror;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import static io.microsphere.constants.SymbolConstants.COMMA_CHAR;
 import static io.microsphere.lang.model.util.AnnotationUtils.getAnnotation;
@@ -59,9 +60,23 @@ class ConfigurationPropertyJSONElementVisitor extends AnnotatedElementJSONElemen
 
     private final ConfigurationPropertyGenerator generator;
 
+    private final BiConsumer<io.microsphere.beans.ConfigurationProperty, String> generatedListener;
+
     ConfigurationPropertyJSONElementVisitor(ProcessingEnvironment processingEnv) {
+        this(processingEnv, (configurationProperty, json) -> {
+        });
+    }
+
+    /**
+     * @param processingEnv     {@link ProcessingEnvironment}
+     * @param generatedListener the listener is notified with the {@link io.microsphere.beans.ConfigurationProperty}
+     *                          and its generated JSON once an entry is appended
+     */
+    ConfigurationPropertyJSONElementVisitor(ProcessingEnvironment processingEnv,
+                                            BiConsumer<io.microsphere.beans.ConfigurationProperty, String> generatedListener) {
         super(processingEnv, CONFIGURATION_PROPERTY_ANNOTATION_CLASS_NAME);
         this.generator = loadFirstService(ConfigurationPropertyGenerator.class);
+        this.generatedListener = generatedListener;
     }
 
     @Override
@@ -99,6 +114,7 @@ class ConfigurationPropertyJSONElementVisitor extends AnnotatedElementJSONElemen
             String json = generator.generate(configurationProperty);
             jsonBuilder.append(json);
             jsonBuilder.append(COMMA_CHAR);
+            generatedListener.accept(configurationProperty, json);
             return true;
         }
         return false;
@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.annotation.processor;
+
+import io.microsphere.json.JSONArray;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+import static io.microsphere.constants.SymbolConstants.COLON_CHAR;
+import static io.microsphere.constants.SymbolConstants.COMMA_CHAR;
+import static io.microsphere.constants.SymbolConstants.DOUBLE_QUOTE_CHAR;
+import static io.microsphere.constants.SymbolConstants.LEFT_CURLY_BRACE_CHAR;
+import static io.microsphere.constants.SymbolConstants.LEFT_SQUARE_BRACKET_CHAR;
+import static io.microsphere.constants.SymbolConstants.RIGHT_CURLY_BRACE_CHAR;
+import static io.microsphere.constants.SymbolConstants.RIGHT_SQUARE_BRACKET_CHAR;
+import static io.microsphere.constants.SymbolConstants.SPACE_CHAR;
+import static java.lang.Character.isWhitespace;
+
+/**
+ * The {@link Writer} indents the compact JSON written into it on the fly, producing the same layout as
+ * {@link JSONArray#toString(int)} does without parsing the JSON into the objects.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * StringWriter out = new StringWriter();
+ * try (Writer writer = new JSONFormattingWriter(out, 2)) {
+ *     writer.write("[{\"name\":\"a\",\"sources\":[]}]");
+ * }
+ * // [
+ * //   {
+ * //     "name": "a",
+ * //     "sources": []
+ * //   }
+ * // ]
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONArray#toString(int)
+ * @since 1.0.0
+ */
+class JSONFormattingWriter extends FilterWriter {
+
+    private static final char BACKSLASH_CHAR = '\\';
+
+    private static final char LINE_FEED_CHAR = '\n';
+
+    private final int indentSpaces;
+
+    private int depth;
+
+    private boolean inString;
+
+    private boolean escaped;
+
+    /**
+     * Whether a bracket was opened right before, the line break is deferred until the next character shows
+     * the scope is not empty.
+     */
+    private boolean opened;
+
+    JSONFormattingWriter(Writer out, int indentSpaces) {
+        super(out);
+        this.indentSpaces = indentSpaces;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        char ch = (char) c;
+        if (inString) {
+            writeInString(ch);
+            return;
+        }
+        if (isWhitespace(ch)) {
+            return;
+        }
+        if (opened) {
+            opened = false;
+            if (ch == RIGHT_CURLY_BRACE_CHAR || ch == RIGHT_SQUARE_BRACKET_CHAR) {
+                depth--;
+                out.write(ch);
+                return;
+            }
+            newLine();
+        }
+        switch (ch) {
+            case LEFT_CURLY_BRACE_CHAR:
+            case LEFT_SQUARE_BRACKET_CHAR:
+                out.write(ch);
+                depth++;
+                opened = true;
+                break;
+            case RIGHT_CURLY_BRACE_CHAR:
+            case RIGHT_SQUARE_BRACKET_CHAR:
+                depth--;
+                newLine();
+                out.write(ch);
+                break;
+            case COMMA_CHAR:
+                out.write(ch);
+                newLine();
+                break;
+            case COLON_CHAR:
+                out.write(ch);
+                out.write(SPACE_CHAR);
+                break;
+            case DOUBLE_QUOTE_CHAR:
+                inString = true;
+                out.write(ch);
+                break;
+            default:
+                out.write(ch);
+        }
+    }
+
+    @Override
+    public void write(char[] buffer, int offset, int length) throws IOException {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            write(buffer[i]);
+        }
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            write(str.charAt(i));
+        }
+    }
+
+    private void writeInString(char ch) throws IOException {
+        out.write(ch);
+        if (escaped) {
+            escaped = false;
+        } else if (ch == BACKSLASH_CHAR) {
+            escaped = true;
+        } else if (ch == DOUBLE_QUOTE_CHAR) {
+            inString = false;
+        }
+    }
+
+    private void newLine() throws IOException {
+        out.write(LINE_FEED_CHAR);
+        for (int i = 0, spaces = depth * indentSpaces; i < spaces; i++) {
+            out.write(SPACE_CHAR);
+        }
+    }
+}
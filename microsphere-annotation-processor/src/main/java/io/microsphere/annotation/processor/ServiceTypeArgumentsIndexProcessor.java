@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.annotation.processor;
+
+import io.microsphere.classloading.ArtifactResourceResolver;
+import io.microsphere.convert.Converter;
+import io.microsphere.event.EventListener;
+import io.microsphere.io.serializer.Deserializer;
+import io.microsphere.io.serializer.Serializer;
+import io.microsphere.util.ServiceRegistry;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.microsphere.collection.ListUtils.ofList;
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.constants.PathConstants.SLASH_CHAR;
+import static io.microsphere.constants.SeparatorConstants.LINE_SEPARATOR;
+import static io.microsphere.constants.SymbolConstants.COMMA_CHAR;
+import static io.microsphere.constants.SymbolConstants.EQUAL_CHAR;
+import static io.microsphere.constants.SymbolConstants.LEFT_SQUARE_BRACKET;
+import static io.microsphere.lang.model.util.MessagerUtils.printNote;
+import static io.microsphere.lang.model.util.ModelQueryCache.enter;
+import static io.microsphere.lang.model.util.ModelQueryCache.exit;
+import static io.microsphere.util.ServiceRegistry.SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME;
+import static java.lang.Boolean.parseBoolean;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableMap;
+import static javax.lang.model.SourceVersion.latestSupported;
+import static javax.lang.model.element.ElementKind.CLASS;
+import static javax.lang.model.element.Modifier.ABSTRACT;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+import static javax.lang.model.element.NestingKind.TOP_LEVEL;
+import static javax.lang.model.type.TypeKind.ARRAY;
+import static javax.lang.model.type.TypeKind.DECLARED;
+import static javax.lang.model.util.ElementFilter.methodsIn;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+
+/**
+ * The {@link Processor} generates the index of the resolved type arguments of the generic service types per provider
+ * class during the compilation phase, which is loaded by {@link ServiceRegistry#getTypeArguments(Class, Class)} at
+ * runtime instead of resolving the generic types by reflection.
+ *
+ * <p>The indexed service types are {@link #SERVICE_TYPE_NAMES}. A provider class is indexed if it's a public,
+ * concrete and top-level (or static nested) class, all type arguments of the service type are resolved to the classes
+ * or the primitive arrays, and none of the type-resolving methods (e.g. {@link Converter#getSourceType()}) is
+ * overridden in its hierarchy, otherwise it's skipped and resolved at runtime as before.</p>
+ *
+ * <p>The index is written into {@value ServiceRegistry#SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME} on the final round,
+ * e.g.
+ * <pre>{@code
+ * io.microsphere.convert.Converter/io.microsphere.convert.StringToIntegerConverter=java.lang.String,java.lang.Integer
+ * io.microsphere.io.serializer.Serializer/io.microsphere.io.serializer.StringSerializer=java.lang.String
+ * }</pre>
+ * The generated index is printed as the notes if the option {@value #DUMP_INDEX_OPTION} is <code>true</code>, e.g.
+ * <code>-Amicrosphere.service.type.arguments.dump=true</code>.
+ * </p>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ServiceRegistry
+ * @see ResourceProcessor
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes(value = "*")
+@SupportedOptions(value = ServiceTypeArgumentsIndexProcessor.DUMP_INDEX_OPTION)
+public class ServiceTypeArgumentsIndexProcessor extends AbstractProcessor {
+
+    /**
+     * The option name whether the generated index is printed as the notes
+     */
+    public static final String DUMP_INDEX_OPTION = "microsphere.service.type.arguments.dump";
+
+    /**
+     * The names of the indexed service types
+     */
+    public static final List<String> SERVICE_TYPE_NAMES = ofList(
+            Converter.class.getName(),
+            Serializer.class.getName(),
+            Deserializer.class.getName(),
+            EventListener.class.getName(),
+            ArtifactResourceResolver.class.getName()
+    );
+
+    /**
+     * The names of the methods resolving the type arguments per service type, the provider overriding any of them
+     * is not indexed
+     */
+    static final Map<String, List<String>> TYPE_RESOLVING_METHOD_NAMES = unmodifiableMap(ofMap(
+            Converter.class.getName(), ofList("getSourceType", "getTargetType")
+    ));
+
+    private static final Map<TypeKind, Character> PRIMITIVE_TYPE_DESCRIPTORS = unmodifiableMap(ofMap(
+            TypeKind.BOOLEAN, 'Z',
+            TypeKind.BYTE, 'B',
+            TypeKind.CHAR, 'C',
+            TypeKind.SHORT, 'S',
+            TypeKind.INT, 'I',
+            TypeKind.LONG, 'J',
+            TypeKind.FLOAT, 'F',
+            TypeKind.DOUBLE, 'D'
+    ));
+
+    private Messager messager;
+
+    private boolean dumpIndex;
+
+    private Elements elements;
+
+    private Types types;
+
+    private StringBuilder indexBuilder;
+
+    private ResourceProcessor classPathResourceProcessor;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.messager = processingEnv.getMessager();
+        this.dumpIndex = parseBoolean(processingEnv.getOptions().get(DUMP_INDEX_OPTION));
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.indexBuilder = new StringBuilder();
+        this.classPathResourceProcessor = new ResourceProcessor(processingEnv, CLASS_OUTPUT);
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        enter(processingEnv, roundEnv);
+        try {
+            if (roundEnv.processingOver()) {
+                writeIndex();
+            } else {
+                resolveIndex(roundEnv.getRootElements());
+            }
+        } finally {
+            // the cache must not outlive the invocation, or it keeps the javac context on the reused thread
+            exit();
+        }
+        return false;
+    }
+
+    void resolveIndex(Set<? extends Element> elements) {
+        for (Element element : elements) {
+            resolveIndex(element);
+        }
+    }
+
+    private void resolveIndex(Element element) {
+        if (!(element instanceof TypeElement)) {
+            return;
+        }
+        TypeElement typeElement = (TypeElement) element;
+        if (isProviderClass(typeElement)) {
+            for (String serviceTypeName : SERVICE_TYPE_NAMES) {
+                resolveIndex(typeElement, serviceTypeName);
+            }
+        }
+        // the member types
+        for (Element enclosedElement : typeElement.getEnclosedElements()) {
+            resolveIndex(enclosedElement);
+        }
+    }
+
+    private void resolveIndex(TypeElement providerType, String serviceTypeName) {
+        DeclaredType serviceType = findServiceType(providerType.asType(), serviceTypeName);
+        if (serviceType == null || overridesTypeResolvingMethods(providerType, serviceTypeName)) {
+            return;
+        }
+        List<? extends TypeMirror> typeArguments = serviceType.getTypeArguments();
+        if (typeArguments.isEmpty() && !((TypeElement) serviceType.asElement()).getTypeParameters().isEmpty()) {
+            // raw type
+            return;
+        }
+        int size = typeArguments.size();
+        String[] classNames = new String[size];
+        for (int i = 0; i < size; i++) {
+            String className = getClassName(typeArguments.get(i));
+            if (className == null) {
+                printNote(this.messager, "The type arguments of service[type : '{}'] can't be resolved from the provider[class : '{}'] : {}",
+                        serviceTypeName, providerType, typeArguments);
+                return;
+            }
+            classNames[i] = className;
+        }
+
+        indexBuilder.append(serviceTypeName)
+                .append(SLASH_CHAR)
+                .append(this.elements.getBinaryName(providerType))
+                .append(EQUAL_CHAR);
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                indexBuilder.append(COMMA_CHAR);
+            }
+            indexBuilder.append(classNames[i]);
+        }
+        indexBuilder.append(LINE_SEPARATOR);
+    }
+
+    private boolean isProviderClass(TypeElement typeElement) {
+        Set<Modifier> modifiers = typeElement.getModifiers();
+        return typeElement.getKind() == CLASS
+                && modifiers.contains(PUBLIC)
+                && !modifiers.contains(ABSTRACT)
+                && (typeElement.getNestingKind() == TOP_LEVEL || modifiers.contains(STATIC));
+    }
+
+    /**
+     * Find the parameterized service type from the super types of the specified type, the type arguments of the
+     * {@link Types#directSupertypes(TypeMirror) direct super types} are substituted by the ones of the sub-type.
+     *
+     * @param type            the type
+     * @param serviceTypeName the name of service type
+     * @return <code>null</code> if not found
+     */
+    DeclaredType findServiceType(TypeMirror type, String serviceTypeName) {
+        for (TypeMirror superType : this.types.directSupertypes(type)) {
+            if (superType.getKind() != DECLARED) {
+                continue;
+            }
+            DeclaredType declaredType = (DeclaredType) superType;
+            TypeElement superTypeElement = (TypeElement) declaredType.asElement();
+            if (superTypeElement.getQualifiedName().contentEquals(serviceTypeName)) {
+                return declaredType;
+            }
+            DeclaredType serviceType = findServiceType(declaredType, serviceTypeName);
+            if (serviceType != null) {
+                return serviceType;
+            }
+        }
+        return null;
+    }
+
+    private boolean overridesTypeResolvingMethods(TypeElement providerType, String serviceTypeName) {
+        List<String> methodNames = TYPE_RESOLVING_METHOD_NAMES.getOrDefault(serviceTypeName, emptyList());
+        if (methodNames.isEmpty()) {
+            return false;
+        }
+        return overridesTypeResolvingMethods(providerType.asType(), serviceTypeName, methodNames);
+    }
+
+    private boolean overridesTypeResolvingMethods(TypeMirror type, String serviceTypeName, List<String> methodNames) {
+        TypeElement typeElement = (TypeElement) this.types.asElement(type);
+        if (typeElement.getQualifiedName().contentEquals(serviceTypeName)) {
+            return false;
+        }
+        for (ExecutableElement method : methodsIn(typeElement.getEnclosedElements())) {
+            if (method.getParameters().isEmpty() && methodNames.contains(method.getSimpleName().toString())) {
+                return true;
+            }
+        }
+        for (TypeMirror superType : this.types.directSupertypes(type)) {
+            if (superType.getKind() == DECLARED && overridesTypeResolvingMethods(superType, serviceTypeName, methodNames)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Get the class name of the specified type argument that can be loaded by {@link ClassLoader}
+     *
+     * @param typeArgument the type argument
+     * @return <code>null</code> if the type argument is neither a class nor an array of primitive type, e.g. the
+     * type variable or the wildcard
+     */
+    String getClassName(TypeMirror typeArgument) {
+        TypeKind kind = typeArgument.getKind();
+        if (kind == DECLARED) {
+            TypeElement typeElement = (TypeElement) ((DeclaredType) typeArgument).asElement();
+            return this.elements.getBinaryName(typeElement).toString();
+        } else if (kind == ARRAY) {
+            Character descriptor = PRIMITIVE_TYPE_DESCRIPTORS.get(((ArrayType) typeArgument).getComponentType().getKind());
+            return descriptor == null ? null : LEFT_SQUARE_BRACKET + descriptor;
+        }
+        return null;
+    }
+
+    private void writeIndex() {
+        if (indexBuilder.length() == 0) {
+            return;
+        }
+        classPathResourceProcessor.processInResourceWriter(SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME, writer -> {
+            String index = indexBuilder.toString();
+            writer.write(index);
+            if (dumpIndex) {
+                printNote(this.messager, "The generated index of service type arguments : \n{}", index);
+            }
+        });
+    }
+
+    String toIndex() {
+        return indexBuilder.toString();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return latestSupported();
+    }
+}
@@ -17,12 +17,28 @@
 
 package io.microsphere.annotation.processor;
 
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.json.JSONArray;
+import io.microsphere.json.JSONException;
+import io.microsphere.json.JSONObject;
+import io.microsphere.metadata.ConfigurationPropertyIndex;
 import io.microsphere.test.annotation.processing.AbstractAnnotationProcessingTest;
-
+import io.microsphere.util.ServiceLoaderUtils;
 import org.junit.jupiter.api.Test;
 
-import static io.microsphere.util.Assert.assertNotNull;
+import javax.lang.model.element.TypeElement;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Set;
+
+import static io.microsphere.annotation.processor.ConfigurationPropertyAnnotationProcessor.DUMP_METADATA_OPTION;
+import static io.microsphere.annotation.processor.ConfigurationPropertyAnnotationProcessor.INDENT_SPACES;
+import static io.microsphere.collection.SetUtils.ofSet;
+import static java.nio.ByteBuffer.wrap;
 import static java.util.Collections.emptySet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link ConfigurationPropertyAnnotationProcessor} Test
@@ -33,12 +49,90 @@ import static java.util.Collections.emptySet;
  */
 class ConfigurationPropertyAnnotationProcessorTest extends AbstractAnnotationProcessingTest {
 
+    @Override
+    protected void addCompiledClasses(Set<Class<?>> compiledClasses) {
+        compiledClasses.add(ServiceLoaderUtils.class);
+        compiledClasses.add(ConfigurationProperty.class);
+    }
+
+    @Test
+    void testConstants() {
+        assertEquals("microsphere.metadata.dump", DUMP_METADATA_OPTION);
+        assertEquals(2, INDENT_SPACES);
+    }
+
     @Test
     void testResolveMetadataOnEmptySet() {
+        ConfigurationPropertyAnnotationProcessor processor = newProcessor();
+        StringWriter writer = new StringWriter();
+        processor.openMetadata(writer);
+        processor.resolveMetadata(emptySet());
+        processor.closeMetadata();
+        assertEquals("[]", writer.toString());
+    }
+
+    @Test
+    void testResolveMetadata() throws JSONException {
+        ConfigurationPropertyAnnotationProcessor processor = newProcessor();
+        StringWriter writer = new StringWriter();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        processor.openMetadata(writer);
+        processor.openIndex(outputStream);
+        processor.resolveMetadata(ofSet(getTypeElement(ServiceLoaderUtils.class)));
+        processor.resolveMetadata(ofSet(getTypeElement(String.class)));
+        processor.closeMetadata();
+
+        String json = writer.toString();
+        JSONArray metadata = new JSONArray(json);
+        assertEquals(1, metadata.length());
+        JSONObject configurationProperty = metadata.getJSONObject(0);
+        assertEquals("microsphere.service-loader.cached", configurationProperty.getString("name"));
+        assertEquals(ServiceLoaderUtils.class.getName(), configurationProperty.getJSONObject("metadata").getString("declaredClass"));
+        assertEquals(metadata.toString(INDENT_SPACES), json);
+
+        ConfigurationPropertyIndex index = ConfigurationPropertyIndex.of(wrap(outputStream.toByteArray()));
+        assertEquals(1, index.size());
+        assertEquals(ServiceLoaderUtils.class.getName(), index.getConfigurationProperty("microsphere.service-loader.cached")
+                .getMetadata().getDeclaredClass());
+    }
+
+    @Test
+    void testIsRetained() throws JSONException {
+        ConfigurationPropertyAnnotationProcessor processor = newProcessor();
+        JSONObject configurationProperty = newConfigurationProperty(ServiceLoaderUtils.class.getName(), "SERVICE_LOADER_CACHED");
+        assertTrue(processor.isRetained(configurationProperty));
+
+        // the field without @ConfigurationProperty
+        assertFalse(processor.isRetained(newConfigurationProperty(ServiceLoaderUtils.class.getName(), "SERVICE_LOADER_CACHED_PROPERTY_NAME")));
+        // the entry loaded by ConfigurationPropertyLoader SPI
+        assertFalse(processor.isRetained(newConfigurationProperty(TestConfigurationPropertyLoader.class.getName(), "configurationProperties")));
+        // the removed class
+        assertFalse(processor.isRetained(newConfigurationProperty("io.microsphere.NotFound", "field")));
+        assertFalse(processor.isRetained(new JSONObject().put("name", "test")));
+        assertFalse(processor.isRetained(null));
+
+        // the class compiled again
+        processor.openMetadata(new StringWriter());
+        processor.resolveMetadata(ofSet(getTypeElement(ServiceLoaderUtils.class)));
+        assertFalse(processor.isRetained(configurationProperty));
+    }
+
+    private JSONObject newConfigurationProperty(String declaredClass, String declaredField) throws JSONException {
+        JSONObject metadata = new JSONObject()
+                .put("declaredClass", declaredClass)
+                .put("declaredField", declaredField);
+        return new JSONObject()
+                .put("name", "test")
+                .put("metadata", metadata);
+    }
+
+    private ConfigurationPropertyAnnotationProcessor newProcessor() {
         ConfigurationPropertyAnnotationProcessor processor = new ConfigurationPropertyAnnotationProcessor();
         processor.init(super.processingEnv);
-        processor.resolveMetadata(emptySet());
-        String json = processor.toJSON();
-        assertNotNull("[]", json);
+        return processor;
+    }
+
+    private TypeElement getTypeElement(Class<?> type) {
+        return super.elements.getTypeElement(type.getCanonicalName());
     }
 }
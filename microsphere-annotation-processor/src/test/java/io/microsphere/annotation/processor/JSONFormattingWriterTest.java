@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.annotation.processor;
+
+import io.microsphere.json.JSONArray;
+import io.microsphere.json.JSONException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link JSONFormattingWriter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONFormattingWriter
+ * @since 1.0.0
+ */
+class JSONFormattingWriterTest {
+
+    private static final String JSON = "[{\"name\":\"a\\\"[b],{c}:d\",\"value\":1,\"required\":true,\"metadata\":" +
+            "{\"sources\":[\"x\",\"y\"],\"targets\":[],\"extra\":{}}},{\"name\":null}]";
+
+    @Test
+    void testWrite() throws IOException, JSONException {
+        assertEquals(new JSONArray(JSON).toString(2), format(JSON, 2));
+        assertEquals(new JSONArray(JSON).toString(4), format(JSON, 4));
+        assertEquals("[]", format("[ ]", 2));
+        assertEquals("{}", format("{}", 2));
+    }
+
+    @Test
+    void testWriteInChunks() throws IOException, JSONException {
+        StringWriter out = new StringWriter();
+        try (Writer writer = new JSONFormattingWriter(out, 2)) {
+            for (int i = 0; i < JSON.length(); i += 3) {
+                writer.write(JSON.toCharArray(), i, Math.min(3, JSON.length() - i));
+            }
+        }
+        assertEquals(new JSONArray(JSON).toString(2), out.toString());
+    }
+
+    private String format(String json, int indentSpaces) throws IOException {
+        StringWriter out = new StringWriter();
+        try (Writer writer = new JSONFormattingWriter(out, indentSpaces)) {
+            writer.write(json);
+        }
+        return out.toString();
+    }
+}
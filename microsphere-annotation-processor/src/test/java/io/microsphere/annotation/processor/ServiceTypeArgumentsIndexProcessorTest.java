@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.annotation.processor;
+
+import io.microsphere.convert.Converter;
+import io.microsphere.convert.StringToCharArrayConverter;
+import io.microsphere.convert.StringToIntegerConverter;
+import io.microsphere.convert.multiple.StringToListConverter;
+import io.microsphere.io.serializer.EnumSerializer;
+import io.microsphere.io.serializer.Serializer;
+import io.microsphere.io.serializer.StringDeserializer;
+import io.microsphere.io.serializer.StringSerializer;
+import io.microsphere.test.annotation.processing.AbstractAnnotationProcessingTest;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+
+import static io.microsphere.annotation.processor.ServiceTypeArgumentsIndexProcessor.DUMP_INDEX_OPTION;
+import static io.microsphere.collection.SetUtils.ofSet;
+import static io.microsphere.lang.model.util.ModelQueryCache.current;
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static java.util.Collections.emptySet;
+import static javax.lang.model.SourceVersion.isName;
+import static javax.lang.model.type.TypeKind.INT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ServiceTypeArgumentsIndexProcessor} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ServiceTypeArgumentsIndexProcessor
+ * @since 1.0.0
+ */
+class ServiceTypeArgumentsIndexProcessorTest extends AbstractAnnotationProcessingTest {
+
+    @Test
+    void testConstants() {
+        assertEquals("microsphere.service.type.arguments.dump", DUMP_INDEX_OPTION);
+        // javac rejects the supported options which are not the qualified names
+        assertTrue(isName(DUMP_INDEX_OPTION));
+    }
+
+    @Test
+    void testResolveIndexOnEmptySet() {
+        ServiceTypeArgumentsIndexProcessor processor = newProcessor();
+        processor.resolveIndex(emptySet());
+        assertEquals("", processor.toIndex());
+    }
+
+    @Test
+    void testResolveIndex() {
+        ServiceTypeArgumentsIndexProcessor processor = newProcessor();
+        processor.resolveIndex(ofSet(getTypeElement(StringToIntegerConverter.class), getTypeElement(StringToCharArrayConverter.class),
+                getTypeElement(StringSerializer.class), getTypeElement(StringDeserializer.class),
+                getTypeElement(EnumSerializer.class), getTypeElement(StringToListConverter.class)));
+        String index = processor.toIndex();
+        assertTrue(index.contains("io.microsphere.convert.Converter/io.microsphere.convert.StringToIntegerConverter=java.lang.String,java.lang.Integer"));
+        assertTrue(index.contains("io.microsphere.convert.Converter/io.microsphere.convert.StringToCharArrayConverter=java.lang.String,[C"));
+        assertTrue(index.contains("io.microsphere.io.serializer.Serializer/io.microsphere.io.serializer.StringSerializer=java.lang.String"));
+        assertTrue(index.contains("io.microsphere.io.serializer.Deserializer/io.microsphere.io.serializer.StringDeserializer=java.lang.String"));
+        // the type variable
+        assertFalse(index.contains(EnumSerializer.class.getName()));
+        // the overridden type-resolving method
+        assertFalse(index.contains(StringToListConverter.class.getName()));
+    }
+
+    @Test
+    void testFindServiceType() {
+        ServiceTypeArgumentsIndexProcessor processor = newProcessor();
+        TypeMirror type = getTypeElement(StringToIntegerConverter.class).asType();
+        assertNotNull(processor.findServiceType(type, Converter.class.getName()));
+        assertNull(processor.findServiceType(type, Serializer.class.getName()));
+    }
+
+    @Test
+    void testGetClassName() {
+        ServiceTypeArgumentsIndexProcessor processor = newProcessor();
+        assertEquals("java.lang.String", processor.getClassName(getTypeElement(String.class).asType()));
+        assertEquals("[I", processor.getClassName(types.getArrayType(types.getPrimitiveType(INT))));
+        assertNull(processor.getClassName(types.getArrayType(getTypeElement(String.class).asType())));
+        assertNull(processor.getClassName(types.getWildcardType(null, null)));
+    }
+
+    @Test
+    void testProcessExitsModelQueryCache() {
+        ServiceTypeArgumentsIndexProcessor processor = newProcessor();
+        assertFalse(processor.process(emptySet(), newRoundEnvironment(null)));
+        assertNull(current());
+
+        RuntimeException exception = new RuntimeException("For testing");
+        assertSame(exception, assertThrows(RuntimeException.class, () -> processor.process(emptySet(), newRoundEnvironment(exception))));
+        assertNull(current());
+    }
+
+    /**
+     * @param exception the exception thrown by {@link RoundEnvironment#getRootElements()} if not <code>null</code>
+     */
+    private RoundEnvironment newRoundEnvironment(RuntimeException exception) {
+        return (RoundEnvironment) newProxyInstance(getClass().getClassLoader(), new Class[]{RoundEnvironment.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "processingOver":
+                        case "errorRaised":
+                            return false;
+                        case "getRootElements":
+                            if (exception != null) {
+                                throw exception;
+                            }
+                            return emptySet();
+                        default:
+                            return method.invoke(roundEnv, args);
+                    }
+                });
+    }
+
+    private ServiceTypeArgumentsIndexProcessor newProcessor() {
+        ServiceTypeArgumentsIndexProcessor processor = new ServiceTypeArgumentsIndexProcessor();
+        processor.init(super.processingEnv);
+        return processor;
+    }
+
+    private TypeElement getTypeElement(Class<?> type) {
+        return super.elements.getTypeElement(type.getCanonicalName());
+    }
+}
@@ -44,9 +44,11 @@ import java.util.Set;
 import java.util.function.Predicate;
 
 /**
- * Abstract {@link Annotation} Processing Test case
+ * Abstract {@link Annotation} Processing Test case, the sources are compiled for each test method unless the test class
+ * is annotated by {@link CompileOnce @CompileOnce}.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see CompileOnce
  * @since 1.0.0
  */
 @ExtendWith(CompilerInvocationInterceptor.class)
@@ -132,6 +134,14 @@ public abstract class AbstractAnnotationProcessingTest {
     protected void addCompiledClasses(Set<Class<?>> compiledClasses) {
     }
 
+    void init(ProcessingEnvironment processingEnv, RoundEnvironment roundEnv, Class<?> testClass) {
+        this.roundEnv = roundEnv;
+        this.processingEnv = processingEnv;
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        initTestClass(testClass);
+    }
+
     protected void initTestClass(Class<?> testClass) {
         this.testClass = testClass;
         this.testClassName = testClass.getName();
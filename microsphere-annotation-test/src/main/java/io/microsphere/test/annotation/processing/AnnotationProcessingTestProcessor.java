@@ -21,13 +21,10 @@ import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 
 import javax.annotation.processing.AbstractProcessor;
-import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.util.Elements;
-import javax.lang.model.util.Types;
 import java.lang.reflect.Method;
 import java.util.Set;
 
@@ -64,20 +61,9 @@ class AnnotationProcessingTestProcessor extends AbstractProcessor {
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
-        ReflectiveInvocationContext<Method> invocationContext = this.invocationContext;
-        ExtensionContext extensionContext = this.extensionContext;
         if (!roundEnv.processingOver()) {
             prepare(roundEnv);
-            Object result = null;
-            Throwable failure = null;
-            abstractAnnotationProcessingTest.beforeTest(invocationContext, extensionContext);
-            try {
-                result = invocation.proceed();
-            } catch (Throwable throwable) {
-                failure = throwable;
-            } finally {
-                abstractAnnotationProcessingTest.afterTest(invocationContext, extensionContext, result, failure);
-            }
+            Throwable failure = invokeTest(abstractAnnotationProcessingTest, invocation, invocationContext, extensionContext);
             if (failure != null) {
                 Throwable cause = getRootCause(failure);
                 throw wrap(cause, Error.class);
@@ -87,16 +73,32 @@ class AnnotationProcessingTestProcessor extends AbstractProcessor {
     }
 
     void prepare(RoundEnvironment roundEnv) {
-        ProcessingEnvironment processingEnv = super.processingEnv;
-        Elements elements = processingEnv.getElementUtils();
-        Types types = processingEnv.getTypeUtils();
-        Class<?> testClass = this.invocationContext.getTargetClass();
+        abstractAnnotationProcessingTest.init(super.processingEnv, roundEnv, this.invocationContext.getTargetClass());
+    }
 
-        abstractAnnotationProcessingTest.roundEnv = roundEnv;
-        abstractAnnotationProcessingTest.processingEnv = processingEnv;
-        abstractAnnotationProcessingTest.elements = elements;
-        abstractAnnotationProcessingTest.types = types;
-        abstractAnnotationProcessingTest.initTestClass(testClass);
+    /**
+     * Invoke the test method between {@link AbstractAnnotationProcessingTest#beforeTest} and
+     * {@link AbstractAnnotationProcessingTest#afterTest}
+     *
+     * @param test              {@link AbstractAnnotationProcessingTest}
+     * @param invocation        the invocation of the test method
+     * @param invocationContext {@link ReflectiveInvocationContext}
+     * @param extensionContext  {@link ExtensionContext}
+     * @return the failure of the test method if failed, or <code>null</code>
+     */
+    static Throwable invokeTest(AbstractAnnotationProcessingTest test, Invocation<Void> invocation,
+                                ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) {
+        Object result = null;
+        Throwable failure = null;
+        test.beforeTest(invocationContext, extensionContext);
+        try {
+            result = invocation.proceed();
+        } catch (Throwable throwable) {
+            failure = throwable;
+        } finally {
+            test.afterTest(invocationContext, extensionContext, result, failure);
+        }
+        return failure;
     }
 
     @Override
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.test.annotation.processing;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Indicates the sources of the annotated {@link AbstractAnnotationProcessingTest} class are compiled once, all test
+ * methods are executed in the single processing round sharing the same {@link javax.annotation.processing.ProcessingEnvironment}
+ * and {@link javax.annotation.processing.RoundEnvironment}, rather than compiling the sources for each test method.
+ *
+ * <p>The compile time and the test time are published as the report entry of the test class once all test methods
+ * have been executed.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * @CompileOnce
+ * class MyProcessorTest extends AbstractAnnotationProcessingTest {
+ *
+ *     @Test
+ *     void test() {
+ *         TypeElement typeElement = elements.getTypeElement("java.lang.String");
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see AbstractAnnotationProcessingTest
+ * @see CompilerInvocationInterceptor
+ * @since 1.0.0
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+@Inherited
+@Documented
+public @interface CompileOnce {
+}
@@ -17,7 +17,10 @@
 package io.microsphere.test.annotation.processing;
 
 import io.microsphere.jdk.tools.compiler.Compiler;
+import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 
@@ -29,37 +32,74 @@ import java.util.ServiceLoader;
 
 import static io.microsphere.collection.SetUtils.newLinkedHashSet;
 import static io.microsphere.util.ArrayUtils.EMPTY_CLASS_ARRAY;
+import static java.util.Arrays.asList;
 import static java.util.ServiceLoader.load;
+import static org.junit.jupiter.api.extension.ExtensionContext.Namespace.create;
 
 /**
- * {@link InvocationInterceptor} based on Java {@link Compiler}
+ * {@link InvocationInterceptor} based on Java {@link Compiler}, the sources are compiled for each test method by
+ * default, or once per test class annotated by {@link CompileOnce @CompileOnce}.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see CompileOnce
  * @since 1.0.0
  */
-class CompilerInvocationInterceptor implements InvocationInterceptor {
+class CompilerInvocationInterceptor implements InvocationInterceptor, AfterAllCallback {
+
+    private static final Namespace NAMESPACE = create(CompilerInvocationInterceptor.class);
 
     @Override
     public void interceptTestMethod(Invocation<Void> invocation, ReflectiveInvocationContext<Method> invocationContext,
                                     ExtensionContext extensionContext) throws Throwable {
-        LinkedHashSet<Class<?>> compiledClassesSet = newLinkedHashSet();
         AbstractAnnotationProcessingTest test = (AbstractAnnotationProcessingTest) invocationContext.getTarget().get();
         Class<?> testClass = extensionContext.getTestClass().get();
-        ClassLoader classLoader = testClass.getClassLoader();
+        Class<?>[] compiledClasses = getCompiledClasses(test, testClass);
+
+        if (testClass.isAnnotationPresent(CompileOnce.class)) {
+            Store store = extensionContext.getParent().get().getStore(NAMESPACE);
+            SharedCompilation compilation = store.getOrComputeIfAbsent(testClass, type ->
+                    new SharedCompilation(testClass, newCompiler(compiledClasses), compiledClasses, loadProcessors(testClass)), SharedCompilation.class);
+            compilation.execute(test, invocation, invocationContext, extensionContext);
+            return;
+        }
+
+        Compiler compiler = newCompiler(compiledClasses);
+
+        LinkedList<Processor> processors = new LinkedList<>();
+        processors.add(new AnnotationProcessingTestProcessor(test, invocation, invocationContext, extensionContext));
+        processors.addAll(asList(loadProcessors(testClass)));
+        compiler.processors(processors.toArray(new Processor[0]));
+        compiler.compile(compiledClasses);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext extensionContext) throws Exception {
+        Class<?> testClass = extensionContext.getRequiredTestClass();
+        SharedCompilation compilation = extensionContext.getStore(NAMESPACE).remove(testClass, SharedCompilation.class);
+        if (compilation != null) {
+            compilation.close();
+            extensionContext.publishReportEntry(compilation.getReport());
+        }
+    }
+
+    private Class<?>[] getCompiledClasses(AbstractAnnotationProcessingTest test, Class<?> testClass) {
+        LinkedHashSet<Class<?>> compiledClassesSet = newLinkedHashSet();
         compiledClassesSet.add(testClass);
         test.addCompiledClasses(compiledClassesSet);
+        return compiledClassesSet.toArray(EMPTY_CLASS_ARRAY);
+    }
 
-        Class<?>[] compiledClasses = compiledClassesSet.toArray(EMPTY_CLASS_ARRAY);
-
+    private Compiler newCompiler(Class<?>[] compiledClasses) {
         Compiler compiler = new Compiler();
         compiler.sourcePaths(compiledClasses);
+        return compiler;
+    }
 
+    private Processor[] loadProcessors(Class<?> testClass) {
         LinkedList<Processor> processors = new LinkedList<>();
-        processors.add(new AnnotationProcessingTestProcessor(test, invocation, invocationContext, extensionContext));
         // Loads the SPI instances of Processor
-        ServiceLoader<Processor> loadedProcessors = load(Processor.class, classLoader);
+        ServiceLoader<Processor> loadedProcessors = load(Processor.class, testClass.getClassLoader());
         loadedProcessors.forEach(processors::add);
-        compiler.processors(processors.toArray(new Processor[0]));
-        compiler.compile(compiledClasses);
+        return processors.toArray(new Processor[0]);
     }
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.test.annotation.processing;
+
+import io.microsphere.jdk.tools.compiler.Compiler;
+import io.microsphere.logging.Logger;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
+import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeoutException;
+
+import static io.microsphere.constants.SymbolConstants.WILDCARD;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.test.annotation.processing.AnnotationProcessingTestProcessor.invokeTest;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static javax.lang.model.SourceVersion.latestSupported;
+
+/**
+ * The compilation shared by all test methods of a {@link CompileOnce @CompileOnce} test class, the sources are
+ * compiled once in a dedicated thread whose first processing round is retained, the test methods submitted by
+ * {@link #execute} are executed in that round one by one until this compilation is {@link #close() closed}.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see CompileOnce
+ * @see CompilerInvocationInterceptor
+ * @since 1.0.0
+ */
+class SharedCompilation implements CloseableResource {
+
+    private static final Logger logger = getLogger(SharedCompilation.class);
+
+    /**
+     * The report entry key of the time in milliseconds for the compilation excluding the test methods
+     */
+    static final String COMPILE_TIME_KEY = "compileTime(ms)";
+
+    /**
+     * The report entry key of the time in milliseconds for the execution of the test methods
+     */
+    static final String TEST_TIME_KEY = "testTime(ms)";
+
+    /**
+     * The report entry key of the number of the test methods executed
+     */
+    static final String TESTS_KEY = "tests";
+
+    private static final Runnable END = () -> {
+    };
+
+    private final Class<?> testClass;
+
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+    private final CompletableFuture<Void> roundStarted = new CompletableFuture<>();
+
+    private final Thread thread;
+
+    private final long startTime;
+
+    private volatile long endTime;
+
+    private volatile long testNanos;
+
+    private volatile int tests;
+
+    private volatile ProcessingEnvironment processingEnv;
+
+    private volatile RoundEnvironment roundEnv;
+
+    private boolean closed;
+
+    SharedCompilation(Class<?> testClass, Compiler compiler, Class<?>[] compiledClasses, Processor[] processors) {
+        this.testClass = testClass;
+        Processor[] allProcessors = new Processor[processors.length + 1];
+        allProcessors[0] = new RoundProcessor();
+        System.arraycopy(processors, 0, allProcessors, 1, processors.length);
+        compiler.processors(allProcessors);
+        this.thread = new Thread(() -> compile(compiler, compiledClasses), "compilation-" + testClass.getSimpleName());
+        this.thread.setDaemon(true);
+        this.startTime = nanoTime();
+        this.thread.start();
+    }
+
+    /**
+     * Execute the test method in the shared processing round, and wait for its completion
+     *
+     * @param test              {@link AbstractAnnotationProcessingTest}
+     * @param invocation        the invocation of the test method
+     * @param invocationContext {@link ReflectiveInvocationContext}
+     * @param extensionContext  {@link ExtensionContext}
+     * @throws Throwable the failure of the compilation or the test method
+     */
+    void execute(AbstractAnnotationProcessingTest test, Invocation<Void> invocation,
+                 ReflectiveInvocationContext<Method> invocationContext, ExtensionContext extensionContext) throws Throwable {
+        await(roundStarted);
+        FutureTask<Throwable> task = new FutureTask<>(() -> {
+            long start = nanoTime();
+            try {
+                test.init(processingEnv, roundEnv, invocationContext.getTargetClass());
+                return invokeTest(test, invocation, invocationContext, extensionContext);
+            } finally {
+                testNanos += nanoTime() - start;
+                tests++;
+            }
+        });
+        tasks.put(task);
+        Throwable failure = await(task);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Leave the shared processing round and wait for the rest of the compilation
+     */
+    @Override
+    public synchronized void close() throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        tasks.put(END);
+        thread.join();
+        logger.info("The sources of {} were compiled once for {} test method(s) : {}", testClass.getName(), tests, getReport());
+    }
+
+    /**
+     * @return the report entries of the compile time and the test time
+     */
+    Map<String, String> getReport() {
+        long totalNanos = (endTime == 0L ? nanoTime() : endTime) - startTime;
+        long testNanos = this.testNanos;
+        Map<String, String> report = new LinkedHashMap<>(4);
+        report.put(COMPILE_TIME_KEY, String.valueOf(NANOSECONDS.toMillis(totalNanos - testNanos)));
+        report.put(TEST_TIME_KEY, String.valueOf(NANOSECONDS.toMillis(testNanos)));
+        report.put(TESTS_KEY, String.valueOf(tests));
+        return report;
+    }
+
+    private void compile(Compiler compiler, Class<?>[] compiledClasses) {
+        Throwable failure = null;
+        try {
+            compiler.compile(compiledClasses);
+        } catch (Throwable e) {
+            failure = e;
+        } finally {
+            endTime = nanoTime();
+            roundStarted.completeExceptionally(failure == null ?
+                    new IllegalStateException("The compilation of " + testClass.getName() + " has no processing round") : failure);
+        }
+    }
+
+    private void executeTasks() {
+        try {
+            Runnable task;
+            while ((task = tasks.take()) != END) {
+                task.run();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> T await(Future<T> future) throws Throwable {
+        while (true) {
+            try {
+                return future.get(1, SECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause();
+            } catch (TimeoutException e) {
+                if (!thread.isAlive() && !future.isDone()) {
+                    throw new IllegalStateException("The compilation of " + testClass.getName() + " has been terminated");
+                }
+            }
+        }
+    }
+
+    @SupportedAnnotationTypes(WILDCARD)
+    private class RoundProcessor extends AbstractProcessor {
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (!roundEnv.processingOver() && !roundStarted.isDone()) {
+                SharedCompilation.this.processingEnv = super.processingEnv;
+                SharedCompilation.this.roundEnv = roundEnv;
+                roundStarted.complete(null);
+                executeTasks();
+            }
+            return false;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return latestSupported();
+        }
+    }
+}
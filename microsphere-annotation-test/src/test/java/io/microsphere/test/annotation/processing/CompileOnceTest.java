@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.test.annotation.processing;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CompileOnce} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see CompileOnce
+ * @see SharedCompilation
+ * @since 1.0.0
+ */
+@CompileOnce
+class CompileOnceTest extends AbstractAnnotationProcessingTest implements TestExecutionExceptionHandler {
+
+    private static ProcessingEnvironment sharedProcessingEnv;
+
+    private static RoundEnvironment sharedRoundEnv;
+
+    private static Thread compilationThread;
+
+    @Test
+    void testSharedEnvironment() {
+        assertSharedEnvironment();
+    }
+
+    @Test
+    void testSharedEnvironmentAgain() {
+        assertSharedEnvironment();
+    }
+
+    @Test
+    void testElementsAndTypes() {
+        assertSharedEnvironment();
+        assertEquals(testClassName, testTypeElement.getQualifiedName().toString());
+        assertTrue(types.isSameType(testTypeMirror, elements.getTypeElement(CompileOnceTest.class.getName()).asType()));
+        assertFalse(roundEnv.processingOver());
+    }
+
+    @Test
+    @ExtendWith(CompileOnceTest.class)
+    void testOnFailure() {
+        throw new UnsupportedOperationException("For testing");
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        Method method = context.getTestMethod().get();
+        if (!"testOnFailure".equals(method.getName()) || !(throwable instanceof UnsupportedOperationException)) {
+            // the original failure rather than the wrapped one is expected
+            throw throwable;
+        }
+    }
+
+    private void assertSharedEnvironment() {
+        assertNotNull(processingEnv);
+        synchronized (CompileOnceTest.class) {
+            if (sharedProcessingEnv == null) {
+                sharedProcessingEnv = processingEnv;
+                sharedRoundEnv = roundEnv;
+                compilationThread = Thread.currentThread();
+            }
+        }
+        assertSame(sharedProcessingEnv, processingEnv);
+        assertSame(sharedRoundEnv, roundEnv);
+        assertSame(compilationThread, Thread.currentThread());
+    }
+}
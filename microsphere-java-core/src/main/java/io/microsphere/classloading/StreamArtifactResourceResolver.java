@@ -17,27 +17,27 @@
 package io.microsphere.classloading;
 
 import io.microsphere.annotation.Nullable;
-import io.microsphere.io.FastByteArrayInputStream;
+import io.microsphere.io.ChunkedByteArrayOutputStream;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Path;
 import java.util.List;
-import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.stream.Stream;
 
-import static io.microsphere.collection.CollectionUtils.first;
 import static io.microsphere.collection.ListUtils.first;
 import static io.microsphere.io.FileUtils.resolveRelativePath;
 import static io.microsphere.io.IOUtils.close;
-import static io.microsphere.io.IOUtils.toByteArray;
 import static io.microsphere.io.scanner.SimpleFileScanner.INSTANCE;
 import static io.microsphere.net.URLUtils.resolveArchiveFile;
 import static io.microsphere.util.Assert.assertNotNull;
 import static io.microsphere.util.jar.JarUtils.filter;
+import static java.lang.Integer.MAX_VALUE;
 
 /**
  * An abstract base class for implementing {@link ArtifactResourceResolver} that provides a
@@ -157,10 +157,16 @@ public abstract class StreamArtifactResourceResolver extends AbstractArtifactRes
                 }
                 return null;
             }
-            // Buffer the entire content so the JarFile can be closed safely
+            // Buffer the entire content in the pooled chunks so the JarFile can be closed safely,
+            // the chunks are released when the returned InputStream is closed
+            ChunkedByteArrayOutputStream outputStream = new ChunkedByteArrayOutputStream();
             try (InputStream inputStream = jarFile.getInputStream(jarEntry)) {
-                return new FastByteArrayInputStream(toByteArray(inputStream));
+                outputStream.readFrom(inputStream);
+            } catch (IOException e) {
+                outputStream.close();
+                throw e;
             }
+            return outputStream.toInputStream();
         }
     }
 
@@ -182,8 +188,10 @@ public abstract class StreamArtifactResourceResolver extends AbstractArtifactRes
     }
 
     protected File findArtifactMetadata(File directory) throws IOException {
-        Set<File> files = INSTANCE.scan(directory, true, file -> isArtifactMetadataFile(directory, file));
-        return first(files);
+        // stop scanning at the first artifact metadata file
+        try (Stream<Path> paths = INSTANCE.stream(directory.toPath(), MAX_VALUE, null, file -> isArtifactMetadataFile(directory, file))) {
+            return paths.findFirst().map(Path::toFile).orElse(null);
+        }
     }
 
     protected boolean isArtifactMetadataEntry(JarEntry jarEntry) {
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+import static io.microsphere.collection.ImmutableArraySet.unsupportedOperationException;
+import static java.util.Arrays.copyOf;
+
+/**
+ * The compact immutable {@link List} backed by an array, whose hash code is computed once on demand.
+ *
+ * <p>The <code>null</code> element is permitted, as {@link java.util.Arrays#asList(Object[])} does. Unlike the
+ * {@link java.util.Collections#unmodifiableList(List) unmodifiable view} of {@link java.util.Arrays#asList(Object[])},
+ * it's a single object over a private copy of the elements.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * List<String> list = ImmutableArrayList.of(new Object[]{"a", "b"});
+ * list.get(1);         // "b"
+ * list.add("c");       // throws UnsupportedOperationException
+ * }</pre>
+ *
+ * @param <E> the type of elements
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ListUtils#ofList(Object[])
+ * @see Lists#ofList(Object[])
+ * @since 1.0.0
+ */
+@Immutable
+final class ImmutableArrayList<E> extends AbstractList<E> implements RandomAccess, Serializable {
+
+    private static final long serialVersionUID = 4915730204652427462L;
+
+    private final Object[] elements;
+
+    private transient int hashCode;
+
+    private ImmutableArrayList(Object[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Create an instance of {@link ImmutableArrayList} with a copy of the specified elements
+     *
+     * @param elements the elements, the array is not retained
+     * @param <E>      the type of elements
+     * @return non-null
+     */
+    @Nonnull
+    static <E> ImmutableArrayList<E> of(Object[] elements) {
+        return new ImmutableArrayList<>(copyOf(elements, elements.length, Object[].class));
+    }
+
+    /**
+     * Create an instance of {@link ImmutableArrayList} sharing the specified elements without copy
+     *
+     * @param elements the elements, the array must not be modified or published by the caller
+     * @param <E>      the type of elements
+     * @return non-null
+     */
+    @Nonnull
+    static <E> ImmutableArrayList<E> wrap(Object[] elements) {
+        return new ImmutableArrayList<>(elements);
+    }
+
+    @Override
+    public E get(int index) {
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        Object[] elements = this.elements;
+        for (int i = 0; i < elements.length; i++) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        Object[] elements = this.elements;
+        for (int i = elements.length - 1; i > -1; i--) {
+            if (Objects.equals(o, elements[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) > -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ImmutableArraySet.ArrayIterator<>(elements);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (Object element : elements) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return copyOf(elements, elements.length);
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            hashCode = 1;
+            for (Object element : elements) {
+                hashCode = 31 * hashCode + Objects.hashCode(element);
+            }
+            this.hashCode = hashCode;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public E set(int index, E element) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void add(int index, E element) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public E remove(int index) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupportedOperationException();
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static io.microsphere.collection.ImmutableArraySet.hash;
+import static io.microsphere.collection.ImmutableArraySet.index;
+import static io.microsphere.collection.ImmutableArraySet.indexOf;
+import static io.microsphere.collection.ImmutableArraySet.newTable;
+import static io.microsphere.collection.ImmutableArraySet.unsupportedOperationException;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.util.Arrays.copyOf;
+
+/**
+ * The compact immutable {@link Map} backed by the parallel arrays of the distinct keys and their values in the
+ * insertion order, whose hash code is computed once on creation. The keys are scanned linearly when the size is not
+ * greater than {@link ImmutableArraySet#LINEAR_SCAN_THRESHOLD}, otherwise they are indexed by an open-addressing table
+ * of the array positions.
+ *
+ * <p>The later value of the duplicated key replaces the former one, and the <code>null</code> key and values are
+ * permitted, as {@link java.util.LinkedHashMap} does. Unlike the
+ * {@link java.util.Collections#unmodifiableMap(Map) unmodifiable view}, no entry object is retained.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Map<String, Integer> map = ImmutableArrayMap.of(new Object[]{"one", 1, "two", 2});
+ * map.get("two");      // 2
+ * map.put("three", 3); // throws UnsupportedOperationException
+ * }</pre>
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MapUtils#ofMap(Object...)
+ * @see Maps#ofMap(Map.Entry[])
+ * @see ImmutableArraySet
+ * @since 1.0.0
+ */
+@Immutable
+final class ImmutableArrayMap<K, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final long serialVersionUID = 1254729373817382527L;
+
+    private final Object[] keys;
+
+    private final Object[] values;
+
+    private final int[] table;
+
+    private final int hashCode;
+
+    private transient Set<Entry<K, V>> entrySet;
+
+    private ImmutableArrayMap(Object[] keys, Object[] values, int[] table) {
+        this.keys = keys;
+        this.values = values;
+        this.table = table;
+        int hashCode = 0;
+        for (int i = 0; i < keys.length; i++) {
+            hashCode += hash(keys[i]) ^ hash(values[i]);
+        }
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Create an instance of {@link ImmutableArrayMap} with the specified key-value pairs
+     *
+     * @param keyValuePairs the consecutive key-value pairs, the array is not retained
+     * @param <K>           the type of keys
+     * @param <V>           the type of values
+     * @return non-null
+     * @throws IllegalArgumentException if the number of the arguments is odd
+     */
+    @Nonnull
+    static <K, V> ImmutableArrayMap<K, V> of(Object[] keyValuePairs) {
+        int length = keyValuePairs.length;
+        assertTrue(length % 2 == 0, () -> "The key-value pairs must be in pairs : " + length);
+        int size = length / 2;
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int[] table = newTable(size);
+        int count = 0;
+        for (int i = 0; i < length; ) {
+            count = put(keys, values, table, count, keyValuePairs[i++], keyValuePairs[i++]);
+        }
+        return newInstance(keys, values, table, count);
+    }
+
+    /**
+     * Create an instance of {@link ImmutableArrayMap} with the specified entries
+     *
+     * @param entries the entries, the array is not retained
+     * @param <K>     the type of keys
+     * @param <V>     the type of values
+     * @return non-null
+     */
+    @Nonnull
+    static <K, V> ImmutableArrayMap<K, V> of(Entry<? extends K, ? extends V>[] entries) {
+        int size = entries.length;
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int[] table = newTable(size);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            Entry<? extends K, ? extends V> entry = entries[i];
+            count = put(keys, values, table, count, entry.getKey(), entry.getValue());
+        }
+        return newInstance(keys, values, table, count);
+    }
+
+    private static int put(Object[] keys, Object[] values, int[] table, int count, Object key, Object value) {
+        int hash = hash(key);
+        int position = indexOf(keys, count, table, key, hash);
+        if (position < 0) {
+            keys[count] = key;
+            values[count] = value;
+            index(table, hash, count);
+            return count + 1;
+        }
+        values[position] = value;
+        return count;
+    }
+
+    private static <K, V> ImmutableArrayMap<K, V> newInstance(Object[] keys, Object[] values, int[] table, int count) {
+        if (count < keys.length) {
+            keys = copyOf(keys, count);
+            values = copyOf(values, count);
+        }
+        return new ImmutableArrayMap<>(keys, values, table);
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return position(key) > -1;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (Object v : values) {
+            if (Objects.equals(value, v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        int position = position(key);
+        return position < 0 ? null : (V) values[position];
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int position = position(key);
+        return position < 0 ? defaultValue : (V) values[position];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Object[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        Set<Entry<K, V>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V remove(Object key) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        throw unsupportedOperationException();
+    }
+
+    private int position(Object key) {
+        return indexOf(keys, keys.length, table, key, hash(key));
+    }
+
+    private class EntrySet extends AbstractSet<Entry<K, V>> {
+
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new Iterator<Entry<K, V>>() {
+
+                private int cursor;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < keys.length;
+                }
+
+                @Override
+                public Entry<K, V> next() {
+                    if (cursor >= keys.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = cursor++;
+                    return new SimpleImmutableEntry<>((K) keys[i], (V) values[i]);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> entry = (Entry<?, ?>) o;
+            int position = position(entry.getKey());
+            return position > -1 && Objects.equals(entry.getValue(), values[position]);
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import static io.microsphere.collection.PrimitiveHashing.mix;
+import static io.microsphere.collection.PrimitiveHashing.tableCapacity;
+import static java.util.Arrays.copyOf;
+
+/**
+ * The compact immutable {@link Set} backed by an array of the distinct elements in the insertion order, whose hash
+ * code is computed once on creation. The elements are scanned linearly when the size is not greater than
+ * {@link #LINEAR_SCAN_THRESHOLD}, otherwise they are indexed by an open-addressing table of the array positions.
+ *
+ * <p>The duplicated elements are ignored and the <code>null</code> element is permitted, as
+ * {@link java.util.LinkedHashSet} does. Unlike the {@link java.util.Collections#unmodifiableSet(Set) unmodifiable view},
+ * no backing collection is retained.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Set<String> set = ImmutableArraySet.of(new Object[]{"a", "b", "a"});
+ * set.size();          // 2
+ * set.contains("b");   // true
+ * set.add("c");        // throws UnsupportedOperationException
+ * }</pre>
+ *
+ * @param <E> the type of elements
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see SetUtils#ofSet(Object[])
+ * @see Sets#ofSet(Object[])
+ * @see ImmutableArrayMap
+ * @since 1.0.0
+ */
+@Immutable
+final class ImmutableArraySet<E> extends AbstractSet<E> implements Serializable {
+
+    private static final long serialVersionUID = -3548207393627839176L;
+
+    /**
+     * The maximum size of the elements or the keys to be scanned linearly without the index table
+     */
+    static final int LINEAR_SCAN_THRESHOLD = 8;
+
+    private final Object[] elements;
+
+    private final int[] table;
+
+    private final int hashCode;
+
+    private ImmutableArraySet(Object[] elements, int[] table, int hashCode) {
+        this.elements = elements;
+        this.table = table;
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Create an instance of {@link ImmutableArraySet} with the distinct elements of the specified array
+     *
+     * @param elements the elements, the array is not retained
+     * @param <E>      the type of elements
+     * @return non-null
+     */
+    @Nonnull
+    static <E> ImmutableArraySet<E> of(Object[] elements) {
+        int length = elements.length;
+        Object[] values = new Object[length];
+        int[] table = newTable(length);
+        int size = 0;
+        int hashCode = 0;
+        for (int i = 0; i < length; i++) {
+            Object element = elements[i];
+            int hash = hash(element);
+            if (indexOf(values, size, table, element, hash) < 0) {
+                values[size] = element;
+                index(table, hash, size++);
+                hashCode += hash;
+            }
+        }
+        return new ImmutableArraySet<>(size < length ? copyOf(values, size) : values, table, hashCode);
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return elements.length == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(elements, elements.length, table, o, hash(o)) > -1;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayIterator<>(elements);
+    }
+
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        for (Object element : elements) {
+            action.accept((E) element);
+        }
+    }
+
+    @Override
+    public Object[] toArray() {
+        return copyOf(elements, elements.length);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean add(E e) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw unsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw unsupportedOperationException();
+    }
+
+    /**
+     * @param o the object
+     * @return the hash code of the object, or <code>0</code> if it's <code>null</code>
+     */
+    static int hash(Object o) {
+        return o == null ? 0 : o.hashCode();
+    }
+
+    /**
+     * Create the index table for the specified number of the elements
+     *
+     * @param size the number of the elements
+     * @return <code>null</code> if the elements should be scanned linearly
+     */
+    static int[] newTable(int size) {
+        return size > LINEAR_SCAN_THRESHOLD ? new int[tableCapacity(size)] : null;
+    }
+
+    /**
+     * Index the position of the element in the table
+     *
+     * @param table    the index table, may be <code>null</code>
+     * @param hash     the hash of the element
+     * @param position the position of the element in the array
+     */
+    static void index(int[] table, int hash, int position) {
+        if (table != null) {
+            int mask = table.length - 1;
+            int index = mix(hash) & mask;
+            while (table[index] != 0) {
+                index = (index + 1) & mask;
+            }
+            // the slot stores the position + 1, 0 means empty
+            table[index] = position + 1;
+        }
+    }
+
+    /**
+     * Find the position of the element in the array
+     *
+     * @param array the array
+     * @param size  the number of the elements in the array
+     * @param table the index table, may be <code>null</code>
+     * @param o     the element to find
+     * @param hash  the hash of the element
+     * @return <code>-1</code> if not found
+     */
+    static int indexOf(Object[] array, int size, int[] table, Object o, int hash) {
+        if (table == null) {
+            for (int i = 0; i < size; i++) {
+                if (Objects.equals(o, array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int mask = table.length - 1;
+        int index = mix(hash) & mask;
+        int slot;
+        while ((slot = table[index]) != 0) {
+            int position = slot - 1;
+            if (Objects.equals(o, array[position])) {
+                return position;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    static UnsupportedOperationException unsupportedOperationException() {
+        return new UnsupportedOperationException("The immutable collection can't be modified");
+    }
+
+    static class ArrayIterator<E> implements Iterator<E> {
+
+        private final Object[] elements;
+
+        private int cursor;
+
+        ArrayIterator(Object[] elements) {
+            this.elements = elements;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < elements.length;
+        }
+
+        @Override
+        public E next() {
+            if (cursor >= elements.length) {
+                throw new NoSuchElementException();
+            }
+            return (E) elements[cursor++];
+        }
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+
+import static io.microsphere.collection.PrimitiveHashing.DEFAULT_EXPECTED_SIZE;
+import static io.microsphere.collection.PrimitiveHashing.MAX_CAPACITY;
+import static io.microsphere.collection.PrimitiveHashing.tableCapacity;
+import static io.microsphere.collection.PrimitiveHashing.mix;
+import static io.microsphere.collection.PrimitiveHashing.resizeThreshold;
+import static io.microsphere.collection.PrimitiveHashing.shouldShift;
+import static java.util.Arrays.fill;
+
+/**
+ * The hash set of the primitive <code>int</code> values based on the open addressing with the linear probing,
+ * which stores the values in a flat <code>int[]</code> rather than boxing them into the {@link Integer} entries as
+ * {@link java.util.HashSet} does.
+ *
+ * <p>The removal shifts the subsequent colliding values backward, so that no tombstone is left behind.
+ * This class is not thread-safe.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * IntHashSet ids = new IntHashSet(1024);
+ * ids.add(1);
+ * ids.add(2);
+ * ids.add(2);             // false
+ *
+ * ids.contains(1);        // true
+ * ids.size();             // 2
+ * ids.remove(1);          // true
+ * ids.forEach(System.out::println);
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see LongHashSet
+ * @see SetUtils#newIntHashSet()
+ * @since 1.0.0
+ */
+public class IntHashSet {
+
+    /**
+     * The marker of the empty slot, the value itself is tracked by {@link #containsEmptyValue}
+     */
+    private static final int EMPTY_VALUE = 0;
+
+    private int[] table;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    private int size;
+
+    private boolean containsEmptyValue;
+
+    public IntHashSet() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize the expected number of values to hold without resizing
+     * @throws IllegalArgumentException if <code>expectedSize</code> is negative
+     */
+    public IntHashSet(int expectedSize) {
+        allocate(tableCapacity(expectedSize));
+    }
+
+    /**
+     * Add the specified value to this set
+     *
+     * @param value the value
+     * @return <code>true</code> if this set did not already contain the value
+     */
+    public boolean add(int value) {
+        if (value == EMPTY_VALUE) {
+            if (containsEmptyValue) {
+                return false;
+            }
+            containsEmptyValue = true;
+            size++;
+            return true;
+        }
+        int[] table = this.table;
+        int mask = this.mask;
+        int index = mix(value) & mask;
+        int current;
+        while ((current = table[index]) != EMPTY_VALUE) {
+            if (current == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        table[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(table.length << 1);
+        }
+        return true;
+    }
+
+    /**
+     * Add all the specified values to this set
+     *
+     * @param values the values
+     * @return <code>true</code> if this set changed
+     */
+    public boolean addAll(int... values) {
+        boolean changed = false;
+        for (int value : values) {
+            changed |= add(value);
+        }
+        return changed;
+    }
+
+    /**
+     * Whether this set contains the specified value
+     *
+     * @param value the value
+     * @return <code>true</code> if contains
+     */
+    public boolean contains(int value) {
+        if (value == EMPTY_VALUE) {
+            return containsEmptyValue;
+        }
+        return indexOf(value) > -1;
+    }
+
+    /**
+     * Remove the specified value from this set
+     *
+     * @param value the value
+     * @return <code>true</code> if this set contained the value
+     */
+    public boolean remove(int value) {
+        if (value == EMPTY_VALUE) {
+            if (containsEmptyValue) {
+                containsEmptyValue = false;
+                size--;
+                return true;
+            }
+            return false;
+        }
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        table[index] = EMPTY_VALUE;
+        size--;
+        compactChain(index);
+        return true;
+    }
+
+    /**
+     * @return the number of values in this set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if this set contains no value
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all the values from this set, the capacity is retained
+     */
+    public void clear() {
+        if (size > 0) {
+            fill(table, EMPTY_VALUE);
+            containsEmptyValue = false;
+            size = 0;
+        }
+    }
+
+    /**
+     * Perform the specified action for each value of this set in no particular order
+     *
+     * @param action the action
+     */
+    public void forEach(IntConsumer action) {
+        int[] table = this.table;
+        for (int value : table) {
+            if (value != EMPTY_VALUE) {
+                action.accept(value);
+            }
+        }
+        if (containsEmptyValue) {
+            action.accept(EMPTY_VALUE);
+        }
+    }
+
+    /**
+     * @return the primitive iterator over the values of this set in no particular order
+     */
+    @Nonnull
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private final int[] table = IntHashSet.this.table;
+
+            private int index = nextIndex(0);
+
+            private boolean emptyValuePending = containsEmptyValue;
+
+            @Override
+            public boolean hasNext() {
+                return index < table.length || emptyValuePending;
+            }
+
+            @Override
+            public int nextInt() {
+                if (index < table.length) {
+                    int value = table[index];
+                    index = nextIndex(index + 1);
+                    return value;
+                }
+                if (emptyValuePending) {
+                    emptyValuePending = false;
+                    return EMPTY_VALUE;
+                }
+                throw new NoSuchElementException();
+            }
+
+            private int nextIndex(int index) {
+                int[] table = IntHashSet.this.table;
+                while (index < table.length && table[index] == EMPTY_VALUE) {
+                    index++;
+                }
+                return index;
+            }
+        };
+    }
+
+    /**
+     * @return the new array containing all the values of this set in no particular order
+     */
+    @Nonnull
+    public int[] toArray() {
+        int[] values = new int[size];
+        int i = 0;
+        for (int value : table) {
+            if (value != EMPTY_VALUE) {
+                values[i++] = value;
+            }
+        }
+        if (containsEmptyValue) {
+            values[i] = EMPTY_VALUE;
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntHashSet)) {
+            return false;
+        }
+        IntHashSet that = (IntHashSet) o;
+        if (size != that.size || containsEmptyValue != that.containsEmptyValue) {
+            return false;
+        }
+        for (int value : table) {
+            if (value != EMPTY_VALUE && !that.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // consistent with java.util.Set#hashCode() of the boxed values
+        int hashCode = 0;
+        for (int value : table) {
+            hashCode += Integer.hashCode(value);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        forEach(value -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(value);
+        });
+        return builder.append(']').toString();
+    }
+
+    int capacity() {
+        return table.length;
+    }
+
+    private int indexOf(int value) {
+        int[] table = this.table;
+        int mask = this.mask;
+        int index = mix(value) & mask;
+        int current;
+        while ((current = table[index]) != EMPTY_VALUE) {
+            if (current == value) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void compactChain(int deleteIndex) {
+        int[] table = this.table;
+        int mask = this.mask;
+        int index = deleteIndex;
+        int value;
+        while ((value = table[index = (index + 1) & mask]) != EMPTY_VALUE) {
+            if (shouldShift(deleteIndex, index, mix(value) & mask)) {
+                table[deleteIndex] = value;
+                table[index] = EMPTY_VALUE;
+                deleteIndex = index;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (table.length == MAX_CAPACITY) {
+            return;
+        }
+        int[] oldTable = this.table;
+        allocate(newCapacity);
+        int[] table = this.table;
+        int mask = this.mask;
+        for (int value : oldTable) {
+            if (value != EMPTY_VALUE) {
+                int index = mix(value) & mask;
+                while (table[index] != EMPTY_VALUE) {
+                    index = (index + 1) & mask;
+                }
+                table[index] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.table = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = resizeThreshold(capacity);
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Math.max;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
+import static java.util.Arrays.copyOfRange;
+
+/**
+ * The growable list of the primitive <code>int</code> values backed by an <code>int[]</code>, which avoids boxing
+ * the elements into {@link Integer} objects as {@link java.util.ArrayList} does.
+ *
+ * <p>This class is not thread-safe.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * IntList list = new IntList();
+ * list.add(1);
+ * list.add(2);
+ * list.add(3);
+ *
+ * list.get(1);            // 2
+ * list.contains(3);       // true
+ * list.removeAt(0);       // 1
+ * list.forEach(System.out::println);
+ * int sum = list.stream().sum(); // 5
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see LongList
+ * @see ListUtils#newIntList()
+ * @since 1.0.0
+ */
+public class IntList {
+
+    static final int DEFAULT_CAPACITY = 10;
+
+    private static final int[] EMPTY_ELEMENTS = new int[0];
+
+    private int[] elements;
+
+    private int size;
+
+    public IntList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IntList(int initialCapacity) {
+        assertTrue(initialCapacity >= 0, () -> "The initial capacity must not be negative : " + initialCapacity);
+        this.elements = initialCapacity == 0 ? EMPTY_ELEMENTS : new int[initialCapacity];
+    }
+
+    /**
+     * Append the specified value to the end of this list
+     *
+     * @param value the value
+     */
+    public void add(int value) {
+        int size = this.size;
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        elements[size] = value;
+        this.size = size + 1;
+    }
+
+    /**
+     * Insert the specified value at the specified position in this list
+     *
+     * @param index the index at which the value is to be inserted
+     * @param value the value
+     * @throws IndexOutOfBoundsException if the index is out of range (<code>index < 0 || index > size()</code>)
+     */
+    public void add(int index, int value) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMessage(index));
+        }
+        if (size == elements.length) {
+            grow(size + 1);
+        }
+        arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = value;
+        size++;
+    }
+
+    /**
+     * Append all the specified values to the end of this list
+     *
+     * @param values the values
+     */
+    public void addAll(int... values) {
+        int length = values.length;
+        if (length == 0) {
+            return;
+        }
+        ensureCapacity(size + length);
+        arraycopy(values, 0, elements, size, length);
+        size += length;
+    }
+
+    /**
+     * Get the value at the specified position in this list
+     *
+     * @param index the index of the value
+     * @return the value
+     * @throws IndexOutOfBoundsException if the index is out of range (<code>index < 0 || index >= size()</code>)
+     */
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    /**
+     * Replace the value at the specified position in this list
+     *
+     * @param index the index of the value
+     * @param value the new value
+     * @return the previous value
+     * @throws IndexOutOfBoundsException if the index is out of range (<code>index < 0 || index >= size()</code>)
+     */
+    public int set(int index, int value) {
+        checkIndex(index);
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Remove the value at the specified position in this list
+     *
+     * @param index the index of the value
+     * @return the removed value
+     * @throws IndexOutOfBoundsException if the index is out of range (<code>index < 0 || index >= size()</code>)
+     */
+    public int removeAt(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            arraycopy(elements, index + 1, elements, index, moved);
+        }
+        size--;
+        return removed;
+    }
+
+    /**
+     * Remove the first occurrence of the specified value from this list
+     *
+     * @param value the value
+     * @return <code>true</code> if this list contained the value
+     */
+    public boolean removeValue(int value) {
+        int index = indexOf(value);
+        if (index < 0) {
+            return false;
+        }
+        removeAt(index);
+        return true;
+    }
+
+    /**
+     * Get the index of the first occurrence of the specified value in this list
+     *
+     * @param value the value
+     * @return <code>-1</code> if this list does not contain the value
+     */
+    public int indexOf(int value) {
+        int[] elements = this.elements;
+        for (int i = 0, size = this.size; i < size; i++) {
+            if (elements[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether this list contains the specified value
+     *
+     * @param value the value
+     * @return <code>true</code> if contains
+     */
+    public boolean contains(int value) {
+        return indexOf(value) > -1;
+    }
+
+    /**
+     * @return the number of values in this list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if this list contains no value
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all the values from this list, the capacity is retained
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Sort the values in this list into ascending numerical order
+     */
+    public void sort() {
+        Arrays.sort(elements, 0, size);
+    }
+
+    /**
+     * Increase the capacity of this list if necessary to hold at least the specified number of values
+     *
+     * @param minCapacity the desired minimum capacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > elements.length) {
+            grow(minCapacity);
+        }
+    }
+
+    /**
+     * Trim the capacity of this list to be its current size
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            elements = size == 0 ? EMPTY_ELEMENTS : copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Perform the specified action for each value of this list in order
+     *
+     * @param action the action
+     */
+    public void forEach(IntConsumer action) {
+        int[] elements = this.elements;
+        for (int i = 0, size = this.size; i < size; i++) {
+            action.accept(elements[i]);
+        }
+    }
+
+    /**
+     * @return the primitive iterator over the values of this list in order
+     */
+    @Nonnull
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                return elements[cursor++];
+            }
+        };
+    }
+
+    /**
+     * @return the sequential {@link IntStream} over the values of this list
+     */
+    @Nonnull
+    public IntStream stream() {
+        return Arrays.stream(elements, 0, size);
+    }
+
+    /**
+     * @return the new array containing all the values of this list in order
+     */
+    @Nonnull
+    public int[] toArray() {
+        return copyOfRange(elements, 0, size);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof IntList)) {
+            return false;
+        }
+        IntList that = (IntList) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < size; i++) {
+            if (elements[i] != that.elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (int i = 0; i < size; i++) {
+            hashCode = 31 * hashCode + Integer.hashCode(elements[i]);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(elements[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private void grow(int minCapacity) {
+        int oldCapacity = elements.length;
+        int newCapacity = max(max(oldCapacity + (oldCapacity >> 1), DEFAULT_CAPACITY), minCapacity);
+        elements = copyOf(elements, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(outOfBoundsMessage(index));
+        }
+    }
+
+    private String outOfBoundsMessage(int index) {
+        return "Index: " + index + ", Size: " + size;
+    }
+}
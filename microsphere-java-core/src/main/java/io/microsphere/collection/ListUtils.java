@@ -38,7 +38,6 @@ import static io.microsphere.util.ArrayUtils.isEmpty;
 import static io.microsphere.util.ArrayUtils.length;
 import static io.microsphere.util.Assert.assertTrue;
 import static io.microsphere.util.ClassUtils.isAssignableFrom;
-import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 
@@ -168,8 +167,8 @@ public abstract class ListUtils implements Utils {
      * Creates an immutable list from the given array of elements.
      *
      * <p>This method is typically used to create a list from an array or varargs input.
-     * If the provided array is empty, it returns an empty list. The returned list is
-     * unmodifiable, meaning any attempt to modify it will throw an
+     * If the provided array is empty, it returns an empty list. The returned list is a compact
+     * immutable copy of the array, meaning any attempt to modify it will throw an
      * {@link UnsupportedOperationException}.</p>
      *
      * <h3>Example Usage</h3>
@@ -192,7 +191,7 @@ public abstract class ListUtils implements Utils {
         if (isEmpty(elements)) {
             return emptyList();
         }
-        return unmodifiableList(asList(elements));
+        return ImmutableArrayList.of(elements);
     }
 
     /**
@@ -263,8 +262,7 @@ public abstract class ListUtils implements Utils {
      * Creates an immutable list from the specified {@link Iterator}.
      *
      * <p>If the given iterator is {@code null}, an empty list will be returned.
-     * Otherwise, the elements will be copied into a new list using the underlying iteration,
-     * and the result will be wrapped in an unmodifiable list.</p>
+     * Otherwise, the elements will be copied into a compact immutable list using the underlying iteration.</p>
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -285,11 +283,14 @@ public abstract class ListUtils implements Utils {
         if (iterator == null) {
             return emptyList();
         }
-        LinkedList<E> list = newLinkedList();
+        if (!iterator.hasNext()) {
+            return emptyList();
+        }
+        ArrayList<E> list = newArrayList();
         while (iterator.hasNext()) {
             list.add(iterator.next());
         }
-        return unmodifiableList(list);
+        return ImmutableArrayList.of(list.toArray());
     }
 
     /**
@@ -733,6 +734,114 @@ public abstract class ListUtils implements Utils {
         return new CopyOnWriteArrayList<>(elements);
     }
 
+    /**
+     * Creates a new empty {@link IntList} instance with the default initial capacity.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntList list = ListUtils.newIntList();
+     *     list.add(1);
+     *     System.out.println(list); // Output: [1]
+     * }</pre>
+     *
+     * @return a new empty {@link IntList}
+     */
+    @Nonnull
+    public static IntList newIntList() {
+        return new IntList();
+    }
+
+    /**
+     * Creates a new empty {@link IntList} instance with the specified initial capacity.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntList list = ListUtils.newIntList(1024);
+     *     System.out.println(list.size()); // Output: 0
+     * }</pre>
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @return a new empty {@link IntList}
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    @Nonnull
+    public static IntList newIntList(int initialCapacity) {
+        return new IntList(initialCapacity);
+    }
+
+    /**
+     * Creates a new {@link IntList} instance containing the specified values in order.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntList list = ListUtils.ofIntList(1, 2, 3);
+     *     System.out.println(list); // Output: [1, 2, 3]
+     * }</pre>
+     *
+     * @param values the values to add
+     * @return a new {@link IntList} containing the values
+     */
+    @Nonnull
+    public static IntList ofIntList(int... values) {
+        IntList list = new IntList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
+    /**
+     * Creates a new empty {@link LongList} instance with the default initial capacity.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongList list = ListUtils.newLongList();
+     *     list.add(1L);
+     *     System.out.println(list); // Output: [1]
+     * }</pre>
+     *
+     * @return a new empty {@link LongList}
+     */
+    @Nonnull
+    public static LongList newLongList() {
+        return new LongList();
+    }
+
+    /**
+     * Creates a new empty {@link LongList} instance with the specified initial capacity.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongList list = ListUtils.newLongList(1024);
+     *     System.out.println(list.size()); // Output: 0
+     * }</pre>
+     *
+     * @param initialCapacity the initial capacity of the list
+     * @return a new empty {@link LongList}
+     * @throws IllegalArgumentException if the initial capacity is negative
+     */
+    @Nonnull
+    public static LongList newLongList(int initialCapacity) {
+        return new LongList(initialCapacity);
+    }
+
+    /**
+     * Creates a new {@link LongList} instance containing the specified values in order.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongList list = ListUtils.ofLongList(1L, 2L, 3L);
+     *     System.out.println(list); // Output: [1, 2, 3]
+     * }</pre>
+     *
+     * @param values the values to add
+     * @return a new {@link LongList} containing the values
+     */
+    @Nonnull
+    public static LongList ofLongList(long... values) {
+        LongList list = new LongList(values.length);
+        list.addAll(values);
+        return list;
+    }
+
     private ListUtils() {
     }
 }
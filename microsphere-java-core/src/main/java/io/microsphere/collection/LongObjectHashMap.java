@@ -0,0 +1,378 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.lang.function.LongObjectConsumer;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.LongFunction;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.PrimitiveHashing.DEFAULT_EXPECTED_SIZE;
+import static io.microsphere.collection.PrimitiveHashing.MAX_CAPACITY;
+import static io.microsphere.collection.PrimitiveHashing.tableCapacity;
+import static io.microsphere.collection.PrimitiveHashing.mix;
+import static io.microsphere.collection.PrimitiveHashing.resizeThreshold;
+import static io.microsphere.collection.PrimitiveHashing.shouldShift;
+import static io.microsphere.util.Assert.assertNotNull;
+import static java.util.Arrays.fill;
+
+/**
+ * The hash map from the primitive <code>long</code> keys to the object values based on the open addressing with
+ * the linear probing, which stores the keys and the values in the parallel flat arrays rather than boxing the keys
+ * into the {@link Long} objects and allocating an entry per mapping as {@link java.util.HashMap} does.
+ *
+ * <p>The <code>null</code> value is not permitted, it's used as the marker of the empty slot. The removal shifts the
+ * subsequent colliding mappings backward, so that no tombstone is left behind. This class is not thread-safe.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * LongObjectHashMap<String> names = new LongObjectHashMap<>();
+ * names.put(1L, "one");
+ * names.put(2L, "two");
+ *
+ * names.get(1L);                          // "one"
+ * names.getOrDefault(3L, "none");         // "none"
+ * names.computeIfAbsent(3L, String::valueOf); // "3"
+ * names.remove(2L);                       // "two"
+ * names.forEach((key, value) -> System.out.println(key + " = " + value));
+ * }</pre>
+ *
+ * @param <V> the type of the values
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntObjectHashMap
+ * @see ObjectIntHashMap
+ * @see MapUtils#newLongObjectHashMap()
+ * @since 1.0.0
+ */
+public class LongObjectHashMap<V> {
+
+    private long[] keys;
+
+    private Object[] values;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    private int size;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize the expected number of mappings to hold without resizing
+     * @throws IllegalArgumentException if <code>expectedSize</code> is negative
+     */
+    public LongObjectHashMap(int expectedSize) {
+        allocate(tableCapacity(expectedSize));
+    }
+
+    /**
+     * Get the value to which the specified key is mapped
+     *
+     * @param key the key
+     * @return <code>null</code> if this map contains no mapping for the key
+     */
+    @Nullable
+    public V get(long key) {
+        int index = indexOf(key);
+        return index < 0 ? null : value(index);
+    }
+
+    /**
+     * Get the value to which the specified key is mapped, or the default value if absent
+     *
+     * @param key          the key
+     * @param defaultValue the default value
+     * @return the mapped value if present, or <code>defaultValue</code>
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : value(index);
+    }
+
+    /**
+     * Whether this map contains the mapping for the specified key
+     *
+     * @param key the key
+     * @return <code>true</code> if contains
+     */
+    public boolean containsKey(long key) {
+        return indexOf(key) > -1;
+    }
+
+    /**
+     * Associate the specified value with the specified key in this map
+     *
+     * @param key   the key
+     * @param value the non-null value
+     * @return the previous value associated with the key, or <code>null</code> if there was no mapping
+     * @throws IllegalArgumentException if <code>value</code> is <code>null</code>
+     */
+    @Nullable
+    public V put(long key, V value) {
+        assertNotNull(value, "The 'value' must not be null");
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        int index = mix(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                V previous = value(index);
+                values[index] = value;
+                return previous;
+            }
+            index = (index + 1) & mask;
+        }
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(values.length << 1);
+        }
+        return null;
+    }
+
+    /**
+     * Get the value to which the specified key is mapped, or compute and associate it by the mapping function if
+     * absent.
+     *
+     * @param key             the key
+     * @param mappingFunction the function to compute the value, whose <code>null</code> result will not be associated
+     * @return the current (existing or computed) value, or <code>null</code> if the computed value is <code>null</code>
+     */
+    @Nullable
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        int index = indexOf(key);
+        if (index > -1) {
+            return value(index);
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Remove the mapping for the specified key from this map
+     *
+     * @param key the key
+     * @return the previous value associated with the key, or <code>null</code> if there was no mapping
+     */
+    @Nullable
+    public V remove(long key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return null;
+        }
+        V previous = value(index);
+        values[index] = null;
+        size--;
+        compactChain(index);
+        return previous;
+    }
+
+    /**
+     * @return the number of mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if this map contains no mapping
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all the mappings from this map, the capacity is retained
+     */
+    public void clear() {
+        if (size > 0) {
+            fill(values, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Perform the specified action for each mapping of this map in no particular order
+     *
+     * @param action the action
+     */
+    public void forEach(LongObjectConsumer<? super V> action) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                action.accept(keys[i], (V) value);
+            }
+        }
+    }
+
+    /**
+     * @return the new array containing all the keys of this map in no particular order
+     */
+    @Nonnull
+    public long[] keys() {
+        long[] keys = new long[size];
+        int n = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                keys[n++] = this.keys[i];
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return the new {@link List} containing all the values of this map in no particular order
+     */
+    @Nonnull
+    public List<V> values() {
+        List<V> values = newArrayList(size);
+        for (Object value : this.values) {
+            if (value != null) {
+                values.add((V) value);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LongObjectHashMap)) {
+            return false;
+        }
+        LongObjectHashMap<?> that = (LongObjectHashMap<?>) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null && !Objects.equals(value, that.get(keys[i]))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // consistent with java.util.Map#hashCode() of the boxed keys
+        int hashCode = 0;
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                hashCode += Long.hashCode(keys[i]) ^ value.hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    int capacity() {
+        return values.length;
+    }
+
+    private V value(int index) {
+        return (V) values[index];
+    }
+
+    private int indexOf(long key) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        int index = mix(key) & mask;
+        while (values[index] != null) {
+            if (keys[index] == key) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void compactChain(int deleteIndex) {
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        int index = deleteIndex;
+        Object value;
+        while ((value = values[index = (index + 1) & mask]) != null) {
+            long key = keys[index];
+            if (shouldShift(deleteIndex, index, mix(key) & mask)) {
+                keys[deleteIndex] = key;
+                values[deleteIndex] = value;
+                values[index] = null;
+                deleteIndex = index;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (values.length == MAX_CAPACITY) {
+            return;
+        }
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+        allocate(newCapacity);
+        long[] keys = this.keys;
+        Object[] values = this.values;
+        int mask = this.mask;
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                long key = oldKeys[i];
+                int index = mix(key) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = resizeThreshold(capacity);
+    }
+}
@@ -365,7 +365,8 @@ public abstract class MapUtils implements Utils {
      * Creates an immutable map from the provided array of {@link Map.Entry} objects.
      *
      * <p>This method offers a convenient way to construct a small, read-only map using pre-defined entries.
-     * The resulting map is thread-safe and cannot be modified after creation.</p>
+     * The resulting map is thread-safe and cannot be modified after creation, it keeps the entries in the
+     * insertion order within the compact arrays rather than wrapping a {@link LinkedHashMap}.</p>
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -390,12 +391,7 @@ public abstract class MapUtils implements Utils {
         if (length < 1) {
             return emptyMap();
         }
-        LinkedHashMap<K, V> map = newFixedLinkedHashMap(length);
-        for (int i = 0; i < length; i++) {
-            Map.Entry<? extends K, ? extends V> entry = entries[i];
-            map.put(entry.getKey(), entry.getValue());
-        }
-        return unmodifiableMap(map);
+        return ImmutableArrayMap.of(entries);
     }
 
     /**
@@ -428,7 +424,8 @@ public abstract class MapUtils implements Utils {
      * <p>This method provides a convenient way to create a small, read-only map with multiple entries.
      * The arguments must be provided in consecutive key-value pairs. For example:
      * {@code MapUtils.ofMap("key1", "value1", "key2", "value2")}.
-     * The resulting map is thread-safe and cannot be modified after creation.</p>
+     * The resulting map is thread-safe and cannot be modified after creation, it keeps the entries in the
+     * insertion order within the compact arrays rather than wrapping a {@link LinkedHashMap}.</p>
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -450,12 +447,7 @@ public abstract class MapUtils implements Utils {
         if (length < 1) {
             return emptyMap();
         }
-        int size = length / 2;
-        Map map = newFixedLinkedHashMap(size);
-        for (int i = 0; i < length; ) {
-            map.put(keyValuePairs[i++], keyValuePairs[i++]);
-        }
-        return unmodifiableMap(map);
+        return ImmutableArrayMap.of(keyValuePairs);
     }
 
     /**
@@ -1439,6 +1431,117 @@ public abstract class MapUtils implements Utils {
         return new IdentityHashMap<>(map);
     }
 
+    /**
+     * Creates a new empty {@link IntObjectHashMap} instance with the default expected size.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntObjectHashMap<String> map = MapUtils.newIntObjectHashMap();
+     *     map.put(1, "one");
+     *     System.out.println(map.get(1)); // Output: one
+     * }</pre>
+     *
+     * @param <V> the type of the values
+     * @return a new empty {@link IntObjectHashMap}
+     */
+    @Nonnull
+    public static <V> IntObjectHashMap<V> newIntObjectHashMap() {
+        return new IntObjectHashMap<>();
+    }
+
+    /**
+     * Creates a new empty {@link IntObjectHashMap} instance which holds the expected number of mappings without resizing.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntObjectHashMap<String> map = MapUtils.newIntObjectHashMap(1024);
+     *     System.out.println(map.isEmpty()); // Output: true
+     * }</pre>
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <V>          the type of the values
+     * @return a new empty {@link IntObjectHashMap}
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    @Nonnull
+    public static <V> IntObjectHashMap<V> newIntObjectHashMap(int expectedSize) {
+        return new IntObjectHashMap<>(expectedSize);
+    }
+
+    /**
+     * Creates a new empty {@link LongObjectHashMap} instance with the default expected size.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongObjectHashMap<String> map = MapUtils.newLongObjectHashMap();
+     *     map.put(1L, "one");
+     *     System.out.println(map.get(1L)); // Output: one
+     * }</pre>
+     *
+     * @param <V> the type of the values
+     * @return a new empty {@link LongObjectHashMap}
+     */
+    @Nonnull
+    public static <V> LongObjectHashMap<V> newLongObjectHashMap() {
+        return new LongObjectHashMap<>();
+    }
+
+    /**
+     * Creates a new empty {@link LongObjectHashMap} instance which holds the expected number of mappings without resizing.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongObjectHashMap<String> map = MapUtils.newLongObjectHashMap(1024);
+     *     System.out.println(map.isEmpty()); // Output: true
+     * }</pre>
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <V>          the type of the values
+     * @return a new empty {@link LongObjectHashMap}
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    @Nonnull
+    public static <V> LongObjectHashMap<V> newLongObjectHashMap(int expectedSize) {
+        return new LongObjectHashMap<>(expectedSize);
+    }
+
+    /**
+     * Creates a new empty {@link ObjectIntHashMap} instance with the default expected size.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     ObjectIntHashMap<String> map = MapUtils.newObjectIntHashMap();
+     *     map.put("one", 1);
+     *     System.out.println(map.get("one")); // Output: one
+     * }</pre>
+     *
+     * @param <K> the type of the keys
+     * @return a new empty {@link ObjectIntHashMap}
+     */
+    @Nonnull
+    public static <K> ObjectIntHashMap<K> newObjectIntHashMap() {
+        return new ObjectIntHashMap<>();
+    }
+
+    /**
+     * Creates a new empty {@link ObjectIntHashMap} instance which holds the expected number of mappings without resizing.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     ObjectIntHashMap<String> map = MapUtils.newObjectIntHashMap(1024);
+     *     System.out.println(map.isEmpty()); // Output: true
+     * }</pre>
+     *
+     * @param expectedSize the expected number of mappings
+     * @param <K>          the type of the keys
+     * @return a new empty {@link ObjectIntHashMap}
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    @Nonnull
+    public static <K> ObjectIntHashMap<K> newObjectIntHashMap(int expectedSize) {
+        return new ObjectIntHashMap<>(expectedSize);
+    }
+
     private MapUtils() {
     }
 
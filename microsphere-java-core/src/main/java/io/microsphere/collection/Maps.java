@@ -20,17 +20,16 @@ import io.microsphere.annotation.Immutable;
 import io.microsphere.annotation.Nonnull;
 import io.microsphere.util.Utils;
 
-import java.lang.invoke.MethodHandle;
 import java.util.Map;
 
 import static io.microsphere.collection.MapUtils.of;
-import static io.microsphere.invoke.MethodHandlesLookupUtils.findPublicStatic;
 import static io.microsphere.util.ArrayUtils.length;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonMap;
 
 /**
- * The utility class for {@link Map} for Modern JDK(9+), which supports the feedback if Java Runtime is below JDK 9.
+ * The utility class for {@link Map} in the style of the Modern JDK(9+) factory methods, which return the compact
+ * immutable maps keeping the insertion order on every Java version.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @see MapUtils
@@ -38,66 +37,6 @@ import static java.util.Collections.singletonMap;
  */
 public abstract class Maps implements Utils {
 
-    /**
-     * The {@link MethodHandle} of {@link Map#of()} since JDK 9
-     */
-    private static final MethodHandle of0MethodHandle = findPublicStatic(Map.class, "of");
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of1MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of2MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of3MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of4MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of5MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of6MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of7MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of8MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of9MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of10MethodHandle = findPublicStatic(Map.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Map#ofEntries(Map.Entry...)} since JDK 9
-     */
-    private static final MethodHandle ofEntriesMethodHandle = findPublicStatic(Map.class, "ofEntries", Map.Entry[].class);
-
     /**
      * Returns an unmodifiable empty map.  See {@link Map#of()} for details.
      *
@@ -109,23 +48,12 @@ public abstract class Maps implements Utils {
      * @param <K> the key type of the empty map
      * @param <V> the value type of the empty map
      * @return an empty map that throws {@code UnsupportedOperationException} on attempts to modify it
-     * @apiNote This method is designed as a convenient alternative to {@link java.util.Collections#emptyMap()} with support for JDK 9+ Map features.
+     * @apiNote This method is designed as a convenient alternative to {@link java.util.Collections#emptyMap()}.
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap() {
-        return ofMap0(of0MethodHandle);
-    }
-
-    static <K, V> Map<K, V> ofMap0(MethodHandle methodHandle) {
-        if (methodHandle == null) {
-            return emptyMap();
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact();
-        } catch (Throwable e) {
-            return emptyMap();
-        }
+        return emptyMap();
     }
 
     /**
@@ -141,25 +69,13 @@ public abstract class Maps implements Utils {
      * @param k1  the mapping's key
      * @param v1  the mapping's value
      * @return a {@code Map} containing the specified mapping
-     * @throws NullPointerException if the key or value is {@code null}
      * @apiNote This method provides a convenient way to create a single-entry map,
      * especially useful for initializing maps in a concise manner.
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1) {
-        return ofMap1(of1MethodHandle, k1, v1);
-    }
-
-    static <K, V> Map<K, V> ofMap1(MethodHandle methodHandle, K k1, V v1) {
-        if (methodHandle == null) {
-            return singletonMap(k1, v1);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1);
-        } catch (Throwable e) {
-            return singletonMap(k1, v1);
-        }
+        return singletonMap(k1, v1);
     }
 
     /**
@@ -177,24 +93,11 @@ public abstract class Maps implements Utils {
      * @param k2  the second mapping's key
      * @param v2  the second mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if the keys are duplicates
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2) {
-        return ofMap2(of2MethodHandle, k1, v1, k2, v2);
-    }
-
-    static <K, V> Map<K, V> ofMap2(MethodHandle methodHandle, K k1, V v1, K k2, V v2) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2});
     }
 
     /**
@@ -214,24 +117,11 @@ public abstract class Maps implements Utils {
      * @param k3  the third mapping's key
      * @param v3  the third mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3) {
-        return ofMap3(of3MethodHandle, k1, v1, k2, v2, k3, v3);
-    }
-
-    static <K, V> Map<K, V> ofMap3(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3});
     }
 
     /**
@@ -253,24 +143,11 @@ public abstract class Maps implements Utils {
      * @param k4  the fourth mapping's key
      * @param v4  the fourth mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4) {
-        return ofMap4(of4MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4);
-    }
-
-    static <K, V> Map<K, V> ofMap4(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4});
     }
 
     /**
@@ -294,24 +171,11 @@ public abstract class Maps implements Utils {
      * @param k5  the fifth mapping's key
      * @param v5  the fifth mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5) {
-        return ofMap5(of5MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4, k5, v5);
-    }
-
-    static <K, V> Map<K, V> ofMap5(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5});
     }
 
     /**
@@ -337,24 +201,11 @@ public abstract class Maps implements Utils {
      * @param k6  the sixth mapping's key
      * @param v6  the sixth mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6) {
-        return ofMap6(of6MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6);
-    }
-
-    static <K, V> Map<K, V> ofMap6(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6});
     }
 
     /**
@@ -383,24 +234,11 @@ public abstract class Maps implements Utils {
      * @param k7  the seventh mapping's key
      * @param v7  the seventh mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7) {
-        return ofMap7(of7MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7);
-    }
-
-    static <K, V> Map<K, V> ofMap7(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7});
     }
 
     /**
@@ -431,26 +269,12 @@ public abstract class Maps implements Utils {
      * @param k8  the eighth mapping's key
      * @param v8  the eighth mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
                                          K k8, V v8) {
-        return ofMap8(of8MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8);
-    }
-
-    static <K, V> Map<K, V> ofMap8(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
-                                   K k8, V v8) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8});
     }
 
     /**
@@ -483,26 +307,12 @@ public abstract class Maps implements Utils {
      * @param k9  the ninth mapping's key
      * @param v9  the ninth mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
                                          K k8, V v8, K k9, V v9) {
-        return ofMap9(of9MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9);
-    }
-
-    static <K, V> Map<K, V> ofMap9(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
-                                   K k8, V v8, K k9, V v9) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9});
     }
 
     /**
@@ -538,26 +348,12 @@ public abstract class Maps implements Utils {
      * @param k10 the tenth mapping's key
      * @param v10 the tenth mapping's value
      * @return a {@code Map} containing the specified mappings
-     * @throws IllegalArgumentException if there are any duplicate keys
-     * @throws NullPointerException     if any key or value is {@code null}
      */
     @Nonnull
     @Immutable
     public static <K, V> Map<K, V> ofMap(K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
                                          K k8, V v8, K k9, V v9, K k10, V v10) {
-        return ofMap10(of10MethodHandle, k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
-    }
-
-    static <K, V> Map<K, V> ofMap10(MethodHandle methodHandle, K k1, V v1, K k2, V v2, K k3, V v3, K k4, V v4, K k5, V v5, K k6, V v6, K k7, V v7,
-                                    K k8, V v8, K k9, V v9, K k10, V v10) {
-        if (methodHandle == null) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
-        } catch (Throwable e) {
-            return of(k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10);
-        }
+        return ImmutableArrayMap.of(new Object[]{k1, v1, k2, v2, k3, v3, k4, v4, k5, v5, k6, v6, k7, v7, k8, v8, k9, v9, k10, v10});
     }
 
     /**
@@ -575,7 +371,6 @@ public abstract class Maps implements Utils {
      * @param <V>     the {@code Map}'s value type
      * @param entries the entries to be added to the map
      * @return a {@code Map} containing the specified entries
-     * @throws NullPointerException if any entry or its key/value is {@code null}
      * @apiNote This method provides a convenient way to create maps with multiple entries,
      * especially useful for test data setup or static initialization.
      */
@@ -586,18 +381,7 @@ public abstract class Maps implements Utils {
         if (length(entries) < 1) {
             return emptyMap();
         }
-        return ofMapEntries(ofEntriesMethodHandle, entries);
-    }
-
-    static <K, V> Map<K, V> ofMapEntries(MethodHandle methodHandle, Map.Entry<? extends K, ? extends V>[] entries) {
-        if (methodHandle == null) {
-            return of(entries);
-        }
-        try {
-            return (Map<K, V>) methodHandle.invokeExact(entries);
-        } catch (Throwable e) {
-            return of(entries);
-        }
+        return of(entries);
     }
 
     private Maps() {
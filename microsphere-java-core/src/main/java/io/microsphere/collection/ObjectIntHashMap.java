@@ -0,0 +1,413 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.PrimitiveHashing.DEFAULT_EXPECTED_SIZE;
+import static io.microsphere.collection.PrimitiveHashing.MAX_CAPACITY;
+import static io.microsphere.collection.PrimitiveHashing.tableCapacity;
+import static io.microsphere.collection.PrimitiveHashing.mix;
+import static io.microsphere.collection.PrimitiveHashing.resizeThreshold;
+import static io.microsphere.collection.PrimitiveHashing.shouldShift;
+import static io.microsphere.util.Assert.assertNotNull;
+import static java.util.Arrays.fill;
+
+/**
+ * The hash map from the object keys to the primitive <code>int</code> values based on the open addressing with
+ * the linear probing, which stores the keys and the values in the parallel flat arrays rather than boxing the values
+ * into the {@link Integer} objects and allocating an entry per mapping as {@link java.util.HashMap} does, it fits
+ * the counters and the indexes well.
+ *
+ * <p>The <code>null</code> key is not permitted, it's used as the marker of the empty slot. The absent mapping is
+ * represented by the {@link #getMissingValue() missing value}, which is <code>0</code> by default. The removal shifts
+ * the subsequent colliding mappings backward, so that no tombstone is left behind. This class is not thread-safe.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ObjectIntHashMap<String> counters = new ObjectIntHashMap<>();
+ * counters.addTo("a", 1);
+ * counters.addTo("a", 2);                 // 3
+ * counters.put("b", 5);
+ *
+ * counters.get("a");                      // 3
+ * counters.get("c");                      // 0, the missing value
+ * counters.remove("b");                   // 5
+ * counters.forEach((key, value) -> System.out.println(key + " = " + value));
+ * }</pre>
+ *
+ * @param <K> the type of the keys
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntObjectHashMap
+ * @see MapUtils#newObjectIntHashMap()
+ * @since 1.0.0
+ */
+public class ObjectIntHashMap<K> {
+
+    /**
+     * The default missing value
+     */
+    public static final int DEFAULT_MISSING_VALUE = 0;
+
+    private final int missingValue;
+
+    private Object[] keys;
+
+    private int[] values;
+
+    private int mask;
+
+    private int resizeThreshold;
+
+    private int size;
+
+    public ObjectIntHashMap() {
+        this(DEFAULT_EXPECTED_SIZE);
+    }
+
+    /**
+     * @param expectedSize the expected number of mappings to hold without resizing
+     * @throws IllegalArgumentException if <code>expectedSize</code> is negative
+     */
+    public ObjectIntHashMap(int expectedSize) {
+        this(expectedSize, DEFAULT_MISSING_VALUE);
+    }
+
+    /**
+     * @param expectedSize the expected number of mappings to hold without resizing
+     * @param missingValue the value to represent the absent mapping
+     * @throws IllegalArgumentException if <code>expectedSize</code> is negative
+     */
+    public ObjectIntHashMap(int expectedSize, int missingValue) {
+        this.missingValue = missingValue;
+        allocate(tableCapacity(expectedSize));
+    }
+
+    /**
+     * Get the value to which the specified key is mapped
+     *
+     * @param key the key
+     * @return the {@link #getMissingValue() missing value} if this map contains no mapping for the key
+     */
+    public int get(Object key) {
+        return getOrDefault(key, missingValue);
+    }
+
+    /**
+     * Get the value to which the specified key is mapped, or the default value if absent
+     *
+     * @param key          the key
+     * @param defaultValue the default value
+     * @return the mapped value if present, or <code>defaultValue</code>
+     */
+    public int getOrDefault(Object key, int defaultValue) {
+        int index = indexOf(key);
+        return index < 0 ? defaultValue : values[index];
+    }
+
+    /**
+     * Whether this map contains the mapping for the specified key
+     *
+     * @param key the key
+     * @return <code>true</code> if contains
+     */
+    public boolean containsKey(Object key) {
+        return indexOf(key) > -1;
+    }
+
+    /**
+     * Associate the specified value with the specified key in this map
+     *
+     * @param key   the non-null key
+     * @param value the value
+     * @return the previous value associated with the key, or the {@link #getMissingValue() missing value} if there
+     * was no mapping
+     * @throws IllegalArgumentException if <code>key</code> is <code>null</code>
+     */
+    public int put(K key, int value) {
+        int index = insertionIndex(key);
+        if (index < 0) {
+            index = -index - 1;
+            int previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        insert(index, key, value);
+        return missingValue;
+    }
+
+    /**
+     * Add the specified delta to the value associated with the specified key, the absent value is regarded as
+     * the {@link #getMissingValue() missing value}.
+     *
+     * @param key   the non-null key
+     * @param delta the delta
+     * @return the new value associated with the key
+     * @throws IllegalArgumentException if <code>key</code> is <code>null</code>
+     */
+    public int addTo(K key, int delta) {
+        int index = insertionIndex(key);
+        if (index < 0) {
+            index = -index - 1;
+            return values[index] += delta;
+        }
+        int value = missingValue + delta;
+        insert(index, key, value);
+        return value;
+    }
+
+    /**
+     * Remove the mapping for the specified key from this map
+     *
+     * @param key the key
+     * @return the previous value associated with the key, or the {@link #getMissingValue() missing value} if there
+     * was no mapping
+     */
+    public int remove(Object key) {
+        int index = indexOf(key);
+        if (index < 0) {
+            return missingValue;
+        }
+        int previous = values[index];
+        keys[index] = null;
+        size--;
+        compactChain(index);
+        return previous;
+    }
+
+    /**
+     * @return the value to represent the absent mapping
+     */
+    public int getMissingValue() {
+        return missingValue;
+    }
+
+    /**
+     * @return the number of mappings in this map
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return <code>true</code> if this map contains no mapping
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all the mappings from this map, the capacity is retained
+     */
+    public void clear() {
+        if (size > 0) {
+            fill(keys, null);
+            size = 0;
+        }
+    }
+
+    /**
+     * Perform the specified action for each mapping of this map in no particular order
+     *
+     * @param action the action
+     */
+    public void forEach(ObjIntConsumer<? super K> action) {
+        Object[] keys = this.keys;
+        int[] values = this.values;
+        for (int i = 0; i < keys.length; i++) {
+            Object key = keys[i];
+            if (key != null) {
+                action.accept((K) key, values[i]);
+            }
+        }
+    }
+
+    /**
+     * @return the new {@link List} containing all the keys of this map in no particular order
+     */
+    @Nonnull
+    public List<K> keys() {
+        List<K> keys = newArrayList(size);
+        for (Object key : this.keys) {
+            if (key != null) {
+                keys.add((K) key);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @return the new array containing all the values of this map in no particular order
+     */
+    @Nonnull
+    public int[] values() {
+        int[] values = new int[size];
+        int n = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != null) {
+                values[n++] = this.values[i];
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ObjectIntHashMap)) {
+            return false;
+        }
+        ObjectIntHashMap<?> that = (ObjectIntHashMap<?>) o;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < keys.length; i++) {
+            Object key = keys[i];
+            if (key != null) {
+                int index = that.indexOf(key);
+                if (index < 0 || that.values[index] != values[i]) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        // consistent with java.util.Map#hashCode() of the boxed values
+        int hashCode = 0;
+        for (int i = 0; i < keys.length; i++) {
+            Object key = keys[i];
+            if (key != null) {
+                hashCode += key.hashCode() ^ Integer.hashCode(values[i]);
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    private int indexOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        Object[] keys = this.keys;
+        int mask = this.mask;
+        int index = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[index]) != null) {
+            if (current == key || current.equals(key)) {
+                return index;
+            }
+            index = (index + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the index of the empty slot to insert the key, or <code>-(index + 1)</code> if the key is present
+     */
+    private int insertionIndex(K key) {
+        assertNotNull(key, "The 'key' must not be null");
+        Object[] keys = this.keys;
+        int mask = this.mask;
+        int index = mix(key.hashCode()) & mask;
+        Object current;
+        while ((current = keys[index]) != null) {
+            if (current == key || current.equals(key)) {
+                return -index - 1;
+            }
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void insert(int index, K key, int value) {
+        keys[index] = key;
+        values[index] = value;
+        if (++size > resizeThreshold) {
+            rehash(keys.length << 1);
+        }
+    }
+
+    private void compactChain(int deleteIndex) {
+        Object[] keys = this.keys;
+        int[] values = this.values;
+        int mask = this.mask;
+        int index = deleteIndex;
+        Object key;
+        while ((key = keys[index = (index + 1) & mask]) != null) {
+            if (shouldShift(deleteIndex, index, mix(key.hashCode()) & mask)) {
+                keys[deleteIndex] = key;
+                values[deleteIndex] = values[index];
+                keys[index] = null;
+                deleteIndex = index;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        if (keys.length == MAX_CAPACITY) {
+            return;
+        }
+        Object[] oldKeys = this.keys;
+        int[] oldValues = this.values;
+        allocate(newCapacity);
+        Object[] keys = this.keys;
+        int[] values = this.values;
+        int mask = this.mask;
+        for (int i = 0; i < oldKeys.length; i++) {
+            Object key = oldKeys[i];
+            if (key != null) {
+                int index = mix(key.hashCode()) & mask;
+                while (keys[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new Object[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        this.resizeThreshold = resizeThreshold(capacity);
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Integer.highestOneBit;
+
+/**
+ * The hashing helpers shared by the primitive-specialized open-addressing collections, which
+ * store the keys in the power-of-two sized arrays and resolve the collisions by the linear probing.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntHashSet
+ * @see LongHashSet
+ * @see IntObjectHashMap
+ * @see LongObjectHashMap
+ * @see ObjectIntHashMap
+ * @since 1.0.0
+ */
+abstract class PrimitiveHashing {
+
+    /**
+     * The default expected size of the open-addressing collections
+     */
+    static final int DEFAULT_EXPECTED_SIZE = 16;
+
+    /**
+     * The load factor of the open-addressing tables
+     */
+    static final float LOAD_FACTOR = 0.65f;
+
+    /**
+     * The minimum capacity of the open-addressing tables
+     */
+    static final int MIN_CAPACITY = 8;
+
+    /**
+     * The maximum capacity of the open-addressing tables
+     */
+    static final int MAX_CAPACITY = 1 << 30;
+
+    /**
+     * The golden ratio constant for the 32 bits multiplicative hashing
+     */
+    private static final int INT_PHI = 0x9E3779B9;
+
+    /**
+     * The golden ratio constant for the 64 bits multiplicative hashing
+     */
+    private static final long LONG_PHI = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Scramble the bits of the specified value, so that the sequential keys are spread across the table
+     *
+     * @param value the value
+     * @return the scrambled hash
+     */
+    static int mix(int value) {
+        int hash = value * INT_PHI;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Scramble the bits of the specified value, so that the sequential keys are spread across the table
+     *
+     * @param value the value
+     * @return the scrambled hash
+     */
+    static int mix(long value) {
+        long hash = value * LONG_PHI;
+        return mix((int) (hash ^ (hash >>> 32)));
+    }
+
+    /**
+     * Calculate the power-of-two capacity of the table to hold the expected size of elements without resizing
+     *
+     * @param expectedSize the expected size of elements
+     * @return the power-of-two capacity
+     * @throws IllegalArgumentException if <code>expectedSize</code> is negative
+     */
+    static int tableCapacity(int expectedSize) {
+        assertTrue(expectedSize >= 0, () -> "The expected size must not be negative : " + expectedSize);
+        long minCapacity = (long) Math.ceil(expectedSize / (double) LOAD_FACTOR) + 1;
+        if (minCapacity >= MAX_CAPACITY) {
+            return MAX_CAPACITY;
+        }
+        int capacity = highestOneBit((int) minCapacity);
+        if (capacity < minCapacity) {
+            capacity <<= 1;
+        }
+        return Math.max(capacity, MIN_CAPACITY);
+    }
+
+    /**
+     * Calculate the size threshold to resize the table
+     *
+     * @param capacity the capacity of table
+     * @return the resize threshold
+     */
+    static int resizeThreshold(int capacity) {
+        return capacity == MAX_CAPACITY ? MAX_CAPACITY - 1 : (int) (capacity * LOAD_FACTOR);
+    }
+
+    /**
+     * Whether the entry at the specified index should be moved into the deleted slot during the backward-shift
+     * deletion, that is, the deleted slot lies cyclically between the home slot of the entry and its current index.
+     *
+     * @param deleteIndex the index of the deleted slot
+     * @param index       the current index of the entry
+     * @param homeIndex   the home index of the entry
+     * @return <code>true</code> if the entry should be moved
+     */
+    static boolean shouldShift(int deleteIndex, int index, int homeIndex) {
+        if (deleteIndex <= index) {
+            return homeIndex <= deleteIndex || homeIndex > index;
+        }
+        return homeIndex <= deleteIndex && homeIndex > index;
+    }
+
+    private PrimitiveHashing() {
+    }
+}
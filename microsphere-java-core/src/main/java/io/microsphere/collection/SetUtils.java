@@ -21,6 +21,7 @@ import io.microsphere.annotation.Nonnull;
 import io.microsphere.annotation.Nullable;
 import io.microsphere.util.Utils;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Enumeration;
@@ -37,9 +38,10 @@ import static io.microsphere.collection.CollectionUtils.size;
 import static io.microsphere.collection.MapUtils.FIXED_LOAD_FACTOR;
 import static io.microsphere.util.ArrayUtils.length;
 import static io.microsphere.util.ClassUtils.isAssignableFrom;
+import static java.lang.System.arraycopy;
+import static java.util.Arrays.copyOf;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
-import static java.util.Collections.unmodifiableSet;
 
 /**
  * The utilities class for Java {@link Set}
@@ -101,7 +103,7 @@ public abstract class SetUtils implements Utils {
      * Creates an unmodifiable {@link Set} from the given varargs array of elements.
      *
      * <p>This method converts the provided array into a set to eliminate duplicates,
-     * and returns it as an unmodifiable view. If the input array is null or empty,
+     * and returns it as a compact immutable set in the insertion order. If the input array is null or empty,
      * an empty set is returned.</p>
      *
      * <h3>Example Usage</h3>
@@ -130,7 +132,7 @@ public abstract class SetUtils implements Utils {
      * Creates an unmodifiable {@link Set} from the given varargs array of elements.
      *
      * <p>This method converts the provided array into a set to eliminate duplicates,
-     * and returns it as an unmodifiable view. If the input array is null or empty,
+     * and returns it as a compact immutable set in the insertion order. If the input array is null or empty,
      * an empty set is returned.</p>
      *
      * <h3>Example Usage</h3>
@@ -159,20 +161,14 @@ public abstract class SetUtils implements Utils {
         } else if (size == 1) {
             return singleton(elements[0]);
         }
-
-        LinkedHashSet<E> set = newFixedLinkedHashSet(size);
-
-        for (int i = 0; i < size; i++) {
-            set.add(elements[i]);
-        }
-        return unmodifiableSet(set);
+        return ImmutableArraySet.of(elements);
     }
 
     /**
      * Creates an unmodifiable {@link Set} from the given {@link Enumeration}.
      *
      * <p>This method iterates through the provided enumeration and adds each element to a new set,
-     * ensuring uniqueness, and returns it as an unmodifiable view. If the enumeration is null or has no elements,
+     * ensuring uniqueness, and returns it as a compact immutable set in the insertion order. If the enumeration is null or has no elements,
      * an empty set is returned.</p>
      *
      * <h3>Example Usage</h3>
@@ -200,19 +196,19 @@ public abstract class SetUtils implements Utils {
             return emptySet();
         }
 
-        LinkedHashSet<E> set = newLinkedHashSet();
+        ArrayList<E> list = new ArrayList<>();
         while (elements.hasMoreElements()) {
-            set.add(elements.nextElement());
+            list.add(elements.nextElement());
         }
 
-        return unmodifiableSet(set);
+        return ImmutableArraySet.of(list.toArray());
     }
 
     /**
      * Creates an unmodifiable {@link Set} from the given {@link Iterable}.
      *
      * <p>This method iterates through the provided iterable and adds each element to a new set,
-     * ensuring uniqueness, and returns it as an unmodifiable view. If the iterable is null or empty,
+     * ensuring uniqueness, and returns it as a compact immutable set in the insertion order. If the iterable is null or empty,
      * an empty set is returned.</p>
      *
      * <h3>Example Usage</h3>
@@ -238,14 +234,18 @@ public abstract class SetUtils implements Utils {
         if (elements instanceof Collection) {
             return ofSet((Collection) elements);
         }
-        return unmodifiableSet(newLinkedHashSet(elements));
+        ArrayList<E> list = new ArrayList<>();
+        for (E element : elements) {
+            list.add(element);
+        }
+        return list.isEmpty() ? emptySet() : ImmutableArraySet.of(list.toArray());
     }
 
     /**
      * Creates an unmodifiable {@link Set} from the given {@link Collection}.
      *
      * <p>This method adds all elements from the provided collection to a new set, ensuring uniqueness,
-     * and returns it as an unmodifiable view. If the collection is null or empty, an empty set is returned.</p>
+     * and returns it as a compact immutable set in the insertion order. If the collection is null or empty, an empty set is returned.</p>
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -271,7 +271,7 @@ public abstract class SetUtils implements Utils {
      * Creates an unmodifiable {@link Set} from the given {@link Collection} and additional varargs elements.
      *
      * <p>This method combines all elements from the provided collection and the varargs array into a new set,
-     * ensuring uniqueness, and returns it as an unmodifiable view. If both the collection and varargs array are null or empty,
+     * ensuring uniqueness, and returns it as a compact immutable set in the insertion order. If both the collection and varargs array are null or empty,
      * an empty set is returned.</p>
      *
      * <h3>Example Usage</h3>
@@ -305,16 +305,13 @@ public abstract class SetUtils implements Utils {
 
         int size = valuesSize + othersSize;
 
-        LinkedHashSet<T> set = newFixedLinkedHashSet(size);
-        // add elements
-        set.addAll(elements);
-
+        Object[] array = copyOf(elements.toArray(), size, Object[].class);
         // add others
-        for (int i = 0; i < othersSize; i++) {
-            set.add(others[i]);
+        if (othersSize > 0) {
+            arraycopy(others, 0, array, valuesSize, othersSize);
         }
 
-        return unmodifiableSet(set);
+        return ImmutableArraySet.of(array);
     }
 
     /**
@@ -885,6 +882,114 @@ public abstract class SetUtils implements Utils {
         return new ConcurrentSkipListSet<>(sortedSet);
     }
 
+    /**
+     * Creates a new empty {@link IntHashSet} instance with the default expected size.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntHashSet set = SetUtils.newIntHashSet();
+     *     set.add(1);
+     *     System.out.println(set.contains(1)); // Output: true
+     * }</pre>
+     *
+     * @return a new empty {@link IntHashSet}
+     */
+    @Nonnull
+    public static IntHashSet newIntHashSet() {
+        return new IntHashSet();
+    }
+
+    /**
+     * Creates a new empty {@link IntHashSet} instance which holds the expected number of values without resizing.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntHashSet set = SetUtils.newIntHashSet(1024);
+     *     System.out.println(set.isEmpty()); // Output: true
+     * }</pre>
+     *
+     * @param expectedSize the expected number of values
+     * @return a new empty {@link IntHashSet}
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    @Nonnull
+    public static IntHashSet newIntHashSet(int expectedSize) {
+        return new IntHashSet(expectedSize);
+    }
+
+    /**
+     * Creates a new {@link IntHashSet} instance containing the specified values.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     IntHashSet set = SetUtils.ofIntHashSet(1, 2, 2);
+     *     System.out.println(set.size()); // Output: 2
+     * }</pre>
+     *
+     * @param values the values to add
+     * @return a new {@link IntHashSet} containing the distinct values
+     */
+    @Nonnull
+    public static IntHashSet ofIntHashSet(int... values) {
+        IntHashSet set = new IntHashSet(values.length);
+        set.addAll(values);
+        return set;
+    }
+
+    /**
+     * Creates a new empty {@link LongHashSet} instance with the default expected size.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongHashSet set = SetUtils.newLongHashSet();
+     *     set.add(1L);
+     *     System.out.println(set.contains(1L)); // Output: true
+     * }</pre>
+     *
+     * @return a new empty {@link LongHashSet}
+     */
+    @Nonnull
+    public static LongHashSet newLongHashSet() {
+        return new LongHashSet();
+    }
+
+    /**
+     * Creates a new empty {@link LongHashSet} instance which holds the expected number of values without resizing.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongHashSet set = SetUtils.newLongHashSet(1024);
+     *     System.out.println(set.isEmpty()); // Output: true
+     * }</pre>
+     *
+     * @param expectedSize the expected number of values
+     * @return a new empty {@link LongHashSet}
+     * @throws IllegalArgumentException if the expected size is negative
+     */
+    @Nonnull
+    public static LongHashSet newLongHashSet(int expectedSize) {
+        return new LongHashSet(expectedSize);
+    }
+
+    /**
+     * Creates a new {@link LongHashSet} instance containing the specified values.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     *     LongHashSet set = SetUtils.ofLongHashSet(1L, 2L, 2L);
+     *     System.out.println(set.size()); // Output: 2
+     * }</pre>
+     *
+     * @param values the values to add
+     * @return a new {@link LongHashSet} containing the distinct values
+     */
+    @Nonnull
+    public static LongHashSet ofLongHashSet(long... values) {
+        LongHashSet set = new LongHashSet(values.length);
+        set.addAll(values);
+        return set;
+    }
+
     private SetUtils() {
     }
 }
@@ -20,17 +20,16 @@ import io.microsphere.annotation.Immutable;
 import io.microsphere.annotation.Nonnull;
 import io.microsphere.util.Utils;
 
-import java.lang.invoke.MethodHandle;
 import java.util.Set;
 
 import static io.microsphere.collection.SetUtils.of;
-import static io.microsphere.invoke.MethodHandlesLookupUtils.findPublicStatic;
 import static io.microsphere.util.ArrayUtils.length;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 
 /**
- * The utility class for {@link Set} for Modern JDK(9+), which supports the feedback if Java Runtime is below JDK 9.
+ * The utility class for {@link Set} in the style of the Modern JDK(9+) factory methods, which return the compact
+ * immutable sets keeping the insertion order on every Java version.
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
  * @see SetUtils
@@ -38,73 +37,11 @@ import static java.util.Collections.singleton;
  */
 public abstract class Sets implements Utils {
 
-    /**
-     * The {@link MethodHandle} of {@link Set#of()} since JDK 9
-     */
-    private static final MethodHandle of0MethodHandle = findPublicStatic(Set.class, "of");
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object)} since JDK 9
-     */
-    private static final MethodHandle of1MethodHandle = findPublicStatic(Set.class, "of", Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of2MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of3MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of4MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of5MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of6MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of7MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of8MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of9MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} since JDK 9
-     */
-    private static final MethodHandle of10MethodHandle = findPublicStatic(Set.class, "of", Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class, Object.class);
-
-    /**
-     * The {@link MethodHandle} of {@link Set#of(Object...)} since JDK 9
-     */
-    private static final MethodHandle ofMethodHandle = findPublicStatic(Set.class, "of", Object[].class);
-
     /**
      * Returns an empty unmodifiable set.
      *
-     * <p>Unlike the {@link java.util.Set#of()} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to returning an empty set via
-     * {@link java.util.Collections#emptySet()}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -119,27 +56,14 @@ public abstract class Sets implements Utils {
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet() {
-        return ofSet0(of0MethodHandle);
-    }
-
-    static <E> Set<E> ofSet0(MethodHandle methodHandle) {
-        if (methodHandle == null) {
-            return emptySet();
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact();
-        } catch (Throwable e) {
-            return emptySet();
-        }
+        return emptySet();
     }
 
     /**
      * Returns an unmodifiable set containing one element.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using
-     * {@link java.util.Collections#singleton(Object)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -149,34 +73,20 @@ public abstract class Sets implements Utils {
      * @param <E> the element type
      * @param e1  the single element
      * @return a {@code Set} containing the specified element
-     * @throws NullPointerException if the element is {@code null}
      * @see java.util.Set#of(Object)
      * @see java.util.Collections#singleton(Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1) {
-        return ofSet1(of1MethodHandle, e1);
-    }
-
-    static <E> Set<E> ofSet1(MethodHandle methodHandle, E e1) {
-        if (methodHandle == null) {
-            return singleton(e1);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1);
-        } catch (Throwable e) {
-            return singleton(e1);
-        }
+        return singleton(e1);
     }
 
     /**
      * Returns an unmodifiable set containing two elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -187,33 +97,19 @@ public abstract class Sets implements Utils {
      * @param e1  the first element
      * @param e2  the second element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2) {
-        return ofSet2(of2MethodHandle, e1, e2);
-    }
-
-    static <E> Set<E> ofSet2(MethodHandle methodHandle, E e1, E e2) {
-        if (methodHandle == null) {
-            return of(e1, e2);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2);
-        } catch (Throwable e) {
-            return of(e1, e2);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2});
     }
 
     /**
      * Returns an unmodifiable set containing three elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -225,33 +121,19 @@ public abstract class Sets implements Utils {
      * @param e2  the second element
      * @param e3  the third element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3) {
-        return ofSet3(of3MethodHandle, e1, e2, e3);
-    }
-
-    static <E> Set<E> ofSet3(MethodHandle methodHandle, E e1, E e2, E e3) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3);
-        } catch (Throwable e) {
-            return of(e1, e2, e3);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3});
     }
 
     /**
      * Returns an unmodifiable set containing four elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -264,24 +146,12 @@ public abstract class Sets implements Utils {
      * @param e3  the third element
      * @param e4  the fourth element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4) {
-        return ofSet4(of4MethodHandle, e1, e2, e3, e4);
-    }
-
-    static <E> Set<E> ofSet4(MethodHandle methodHandle, E e1, E e2, E e3, E e4) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4});
     }
 
     /**
@@ -294,32 +164,18 @@ public abstract class Sets implements Utils {
      * @param e4  the fourth element
      * @param e5  the fifth element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if an element is {@code null}
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4, E e5) {
-        return ofSet5(of5MethodHandle, e1, e2, e3, e4, e5);
-    }
-
-    static <E> Set<E> ofSet5(MethodHandle methodHandle, E e1, E e2, E e3, E e4, E e5) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4, e5);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4, e5);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4, e5);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4, e5});
     }
 
     /**
      * Returns an unmodifiable set containing six elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object, Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -334,33 +190,19 @@ public abstract class Sets implements Utils {
      * @param e5  the fifth element
      * @param e6  the sixth element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object, Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4, E e5, E e6) {
-        return ofSet6(of6MethodHandle, e1, e2, e3, e4, e5, e6);
-    }
-
-    static <E> Set<E> ofSet6(MethodHandle methodHandle, E e1, E e2, E e3, E e4, E e5, E e6) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4, e5, e6);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4, e5, e6);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4, e5, e6);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4, e5, e6});
     }
 
     /**
      * Returns an unmodifiable set containing seven elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object, Object, Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -376,32 +218,19 @@ public abstract class Sets implements Utils {
      * @param e6  the sixth element
      * @param e7  the seventh element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object, Object, Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-        return ofSet7(of7MethodHandle, e1, e2, e3, e4, e5, e6, e7);
-    }
-
-    static <E> Set<E> ofSet7(MethodHandle methodHandle, E e1, E e2, E e3, E e4, E e5, E e6, E e7) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4, e5, e6, e7);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4, e5, e6, e7);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4, e5, e6, e7);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4, e5, e6, e7});
     }
 
     /**
      * Returns an unmodifiable set containing eight elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object, Object, Object, Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      * {@link io.microsphere.collection.SetUtils#ofSet(Object...)}
      *
      * <h3>Example Usage</h3>
@@ -419,33 +248,19 @@ public abstract class Sets implements Utils {
      * @param e7  the seventh element
      * @param e8  the eighth element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object, Object, Object, Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-        return ofSet8(of8MethodHandle, e1, e2, e3, e4, e5, e6, e7, e8);
-    }
-
-    static <E> Set<E> ofSet8(MethodHandle methodHandle, E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4, e5, e6, e7, e8);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4, e5, e6, e7, e8);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4, e5, e6, e7, e8);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4, e5, e6, e7, e8});
     }
 
     /**
      * Returns an unmodifiable set containing nine elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object, Object, Object, Object, Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -463,33 +278,19 @@ public abstract class Sets implements Utils {
      * @param e8  the eighth element
      * @param e9  the ninth element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object, Object, Object, Object, Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-        return ofSet9(of9MethodHandle, e1, e2, e3, e4, e5, e6, e7, e8, e9);
-    }
-
-    static <E> Set<E> ofSet9(MethodHandle methodHandle, E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4, e5, e6, e7, e8, e9);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4, e5, e6, e7, e8, e9);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4, e5, e6, e7, e8, e9);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4, e5, e6, e7, e8, e9});
     }
 
     /**
      * Returns an unmodifiable set containing ten elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -508,33 +309,19 @@ public abstract class Sets implements Utils {
      * @param e9  the ninth element
      * @param e10 the tenth element
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object, Object, Object, Object, Object, Object, Object, Object, Object, Object)
      */
     @Nonnull
     @Immutable
     public static <E> Set<E> ofSet(E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-        return ofSet10(of10MethodHandle, e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
-    }
-
-    static <E> Set<E> ofSet10(MethodHandle methodHandle, E e1, E e2, E e3, E e4, E e5, E e6, E e7, E e8, E e9, E e10) {
-        if (methodHandle == null) {
-            return of(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
-        } catch (Throwable e) {
-            return of(e1, e2, e3, e4, e5, e6, e7, e8, e9, e10);
-        }
+        return ImmutableArraySet.of(new Object[]{e1, e2, e3, e4, e5, e6, e7, e8, e9, e10});
     }
 
     /**
      * Returns an unmodifiable set containing the provided elements.
      *
-     * <p>Unlike the {@link java.util.Set#of(Object...)} method introduced in JDK 9, this method
-     * provides a fallback behavior when running on older Java versions. If MethodHandle lookup
-     * for Set.of() fails, it gracefully degrades to using the internal utility method
-     * {@link io.microsphere.collection.SetUtils#of(Object...)}.
+     * <p>Unlike the {@link java.util.Set#of} methods introduced in JDK 9, this method behaves the same on every Java
+     * version, the duplicated elements are ignored and the <code>null</code> element is permitted.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -544,7 +331,6 @@ public abstract class Sets implements Utils {
      * @param <E>      the element type
      * @param elements the elements to include in the set
      * @return a {@code Set} containing the specified elements
-     * @throws NullPointerException if any element is {@code null}
      * @see java.util.Set#of(Object...)
      */
     @Nonnull
@@ -553,18 +339,7 @@ public abstract class Sets implements Utils {
         if (length(elements) < 1) {
             return ofSet();
         }
-        return ofSetElements(ofMethodHandle, elements);
-    }
-
-    static <E> Set<E> ofSetElements(MethodHandle methodHandle, E[] elements) {
-        if (methodHandle == null) {
-            return of(elements);
-        }
-        try {
-            return (Set<E>) methodHandle.invokeExact(elements);
-        } catch (Throwable e) {
-            return of(elements);
-        }
+        return of(elements);
     }
 
     private Sets() {
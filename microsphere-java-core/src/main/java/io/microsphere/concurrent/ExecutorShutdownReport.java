@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * The report of shutting down a group of {@link ExecutorService executors} via
+ * {@link ExecutorUtils#shutdownAll(long, java.util.concurrent.TimeUnit, java.util.concurrent.Executor...)},
+ * which tells the executors that were drained gracefully, the stragglers that failed to drain before the deadline
+ * and the count of tasks that were abandoned by {@link ExecutorService#shutdownNow()}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ExecutorShutdownReport report = ExecutorUtils.shutdownAll(5, TimeUnit.SECONDS, executor1, executor2);
+ * if (!report.isTerminated()) {
+ *     for (ExecutorService straggler : report.getStragglers()) {
+ *         int abandoned = report.getAbandonedTaskCount(straggler);
+ *         // ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ExecutorUtils
+ * @since 1.0.0
+ */
+@Immutable
+public final class ExecutorShutdownReport {
+
+    private final List<ExecutorService> terminated;
+
+    private final Map<ExecutorService, Integer> stragglers;
+
+    private final int abandonedTaskCount;
+
+    private final long elapsedNanos;
+
+    ExecutorShutdownReport(List<ExecutorService> terminated, Map<ExecutorService, Integer> stragglers, long elapsedNanos) {
+        this.terminated = unmodifiableList(terminated);
+        this.stragglers = unmodifiableMap(stragglers);
+        int abandonedTaskCount = 0;
+        for (Integer count : stragglers.values()) {
+            abandonedTaskCount += count;
+        }
+        this.abandonedTaskCount = abandonedTaskCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Whether all executors were terminated gracefully before the deadline
+     *
+     * @return <code>true</code> if there is no straggler
+     */
+    public boolean isTerminated() {
+        return stragglers.isEmpty();
+    }
+
+    /**
+     * Get the executors that were terminated gracefully before the deadline
+     *
+     * @return non-null read-only {@link List}
+     */
+    @Nonnull
+    public List<ExecutorService> getTerminated() {
+        return terminated;
+    }
+
+    /**
+     * Get the executors that failed to drain before the deadline, which were forced by
+     * {@link ExecutorService#shutdownNow()}
+     *
+     * @return non-null read-only {@link Set}
+     */
+    @Nonnull
+    public Set<ExecutorService> getStragglers() {
+        return stragglers.keySet();
+    }
+
+    /**
+     * Get the count of tasks that were abandoned by the specified straggler
+     *
+     * @param executorService the straggler
+     * @return <code>0</code> if the specified executor is not a straggler
+     */
+    public int getAbandonedTaskCount(ExecutorService executorService) {
+        Integer count = stragglers.get(executorService);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Get the total count of tasks that were abandoned by all stragglers
+     *
+     * @return zero or positive
+     */
+    public int getAbandonedTaskCount() {
+        return abandonedTaskCount;
+    }
+
+    /**
+     * Get the elapsed time in milliseconds of shutting down
+     *
+     * @return zero or positive
+     */
+    public long getElapsedMillis() {
+        return NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "ExecutorShutdownReport{" +
+                "terminated=" + terminated.size() +
+                ", stragglers=" + stragglers +
+                ", abandonedTaskCount=" + abandonedTaskCount +
+                ", elapsedMillis=" + getElapsedMillis() +
+                '}';
+    }
+}
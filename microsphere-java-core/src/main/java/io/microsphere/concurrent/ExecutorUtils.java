@@ -16,17 +16,41 @@
  */
 package io.microsphere.concurrent;
 
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
 import io.microsphere.logging.Logger;
 import io.microsphere.util.ShutdownHookUtils;
 import io.microsphere.util.Utils;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.ListUtils.newLinkedList;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
 import static io.microsphere.logging.LoggerFactory.getLogger;
-import static io.microsphere.util.ArrayUtils.forEach;
+import static io.microsphere.util.ArrayUtils.length;
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACK_TIMEOUT;
 import static io.microsphere.util.ShutdownHookUtils.addShutdownHookCallback;
+import static java.lang.Integer.getInteger;
+import static java.lang.Integer.parseInt;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.newSetFromMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * {@link Executor} Utilities class
@@ -41,12 +65,43 @@ public abstract class ExecutorUtils implements Utils {
 
     private static final Logger logger = getLogger(ExecutorUtils.class);
 
+    /**
+     * The System property name of the timeout in milliseconds of shutting down the executors on JVM exit :
+     * {@code "microsphere.executor.shutdown-timeout"}
+     */
+    public static final String EXECUTOR_SHUTDOWN_TIMEOUT_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "executor.shutdown-timeout";
+
+    /**
+     * The default property value of the timeout in milliseconds of shutting down the executors on JVM exit : {@code "5000"}
+     */
+    public static final String DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT_PROPERTY_VALUE = "5000";
+
+    /**
+     * The default value of the timeout in milliseconds of shutting down the executors on JVM exit : {@code 5000}
+     */
+    public static final int DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT = parseInt(DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT_PROPERTY_VALUE);
+
+    /**
+     * The timeout in milliseconds of shutting down the executors on JVM exit, which is shared by all executors
+     * registered by an invocation of {@link #shutdownOnExit(Executor, Executor...)}, it should be less than
+     * {@link ShutdownHookUtils#SHUTDOWN_HOOK_CALLBACK_TIMEOUT} if the latter is enabled
+     */
+    @ConfigurationProperty(
+            name = EXECUTOR_SHUTDOWN_TIMEOUT_PROPERTY_NAME,
+            defaultValue = DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT_PROPERTY_VALUE,
+            description = "The timeout in milliseconds of shutting down the executors on JVM exit",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int EXECUTOR_SHUTDOWN_TIMEOUT = getInteger(EXECUTOR_SHUTDOWN_TIMEOUT_PROPERTY_NAME, DEFAULT_EXECUTOR_SHUTDOWN_TIMEOUT);
+
     /**
      * Registers a shutdown hook to gracefully shut down the given {@link Executor} instances when the JVM exits.
      *
      * <p>
      * This method adds a JVM shutdown hook using {@link ShutdownHookUtils#addShutdownHookCallback(Runnable)},
-     * ensuring that all provided executors are shut down properly upon application exit.
+     * ensuring that all provided executors are shut down properly upon application exit. The executors are shut down
+     * as a group by {@link #shutdownAll(long, TimeUnit, Executor...)} against the shared deadline of
+     * {@link #EXECUTOR_SHUTDOWN_TIMEOUT}, and the stragglers are reported in the log.
      * </p>
      *
      * <h3>Example Usage</h3>
@@ -61,12 +116,132 @@ public abstract class ExecutorUtils implements Utils {
      * @param others additional {@link Executor} instances to shut down; may be empty or {@code null}
      */
     public static void shutdownOnExit(Executor one, Executor... others) {
+        Executor[] executors = new Executor[length(others) + 1];
+        executors[0] = one;
+        if (others != null) {
+            arraycopy(others, 0, executors, 1, others.length);
+        }
+        long timeout = SHUTDOWN_HOOK_CALLBACK_TIMEOUT > 0 ? min(EXECUTOR_SHUTDOWN_TIMEOUT, SHUTDOWN_HOOK_CALLBACK_TIMEOUT) :
+                EXECUTOR_SHUTDOWN_TIMEOUT;
         addShutdownHookCallback(() -> {
-            shutdown(one);
-            forEach(others, other -> shutdown(other));
+            ExecutorShutdownReport report = shutdownAll(timeout, MILLISECONDS, executors);
+            if (!report.isTerminated()) {
+                logger.warn("The executors failed to terminate in {} ms : {}", timeout, report);
+            }
         });
     }
 
+    /**
+     * Shuts down a group of {@link Executor executors} gracefully in bounded time :
+     * <ol>
+     *     <li>{@link ExecutorService#shutdown() Shut down} all {@link ExecutorService executors} first, so that
+     *     they drain their queued tasks concurrently</li>
+     *     <li>Await the termination of all executors against one shared deadline, so the total waiting time is
+     *     bounded by the specified timeout rather than the sum of per-executor timeouts</li>
+     *     <li>{@link ExecutorService#shutdownNow() Shut down the stragglers forcibly}, whose queued tasks are
+     *     abandoned</li>
+     * </ol>
+     *
+     * <p>
+     * The executors that are not {@link ExecutorService} or <code>null</code> are ignored, and the duplicated ones
+     * are shut down only once. If the current thread is interrupted while awaiting, the remaining executors are
+     * shut down forcibly at once, and the interrupted status is restored.
+     * </p>
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * ExecutorShutdownReport report = ExecutorUtils.shutdownAll(5, TimeUnit.SECONDS, executor1, executor2);
+     * report.isTerminated();          // true if all executors were drained in 5 seconds
+     * report.getStragglers();         // the executors that failed to drain
+     * report.getAbandonedTaskCount(); // the count of queued tasks that were abandoned
+     * }</pre>
+     *
+     * @param timeout   the maximum time to wait for all executors
+     * @param unit      the {@link TimeUnit} of timeout
+     * @param executors the {@link Executor executors}
+     * @return non-null {@link ExecutorShutdownReport}
+     * @throws IllegalArgumentException if <code>unit</code> is <code>null</code>
+     */
+    @Nonnull
+    public static ExecutorShutdownReport shutdownAll(long timeout, TimeUnit unit, @Nullable Executor... executors)
+            throws IllegalArgumentException {
+        int length = length(executors);
+        List<Executor> executorList = newArrayList(length);
+        for (int i = 0; i < length; i++) {
+            executorList.add(executors[i]);
+        }
+        return shutdownAll(executorList, timeout, unit);
+    }
+
+    /**
+     * Shuts down a group of {@link Executor executors} gracefully in bounded time.
+     *
+     * @param executors the {@link Executor executors}
+     * @param timeout   the maximum time to wait for all executors
+     * @param unit      the {@link TimeUnit} of timeout
+     * @return non-null {@link ExecutorShutdownReport}
+     * @throws IllegalArgumentException if <code>unit</code> is <code>null</code>
+     * @see #shutdownAll(long, TimeUnit, Executor...)
+     */
+    @Nonnull
+    public static ExecutorShutdownReport shutdownAll(@Nullable Collection<? extends Executor> executors, long timeout,
+                                                     TimeUnit unit) throws IllegalArgumentException {
+        assertNotNull(unit, () -> "The 'unit' must not be null");
+        long startTime = nanoTime();
+        long deadline = startTime + unit.toNanos(timeout);
+
+        // Phase 1 : shutdown all executors
+        Set<ExecutorService> executorServices = newSetFromMap(newLinkedHashMap());
+        if (executors != null) {
+            for (Executor executor : executors) {
+                if (executor instanceof ExecutorService) {
+                    ExecutorService executorService = (ExecutorService) executor;
+                    if (executorServices.add(executorService)) {
+                        shutdown(executorService);
+                    }
+                }
+            }
+        }
+
+        // Phase 2 : await all executors against the shared deadline
+        List<ExecutorService> terminated = newArrayList(executorServices.size());
+        List<ExecutorService> stragglers = newLinkedList();
+        boolean interrupted = false;
+        for (ExecutorService executorService : executorServices) {
+            if (!interrupted) {
+                try {
+                    if (executorService.awaitTermination(deadline - nanoTime(), NANOSECONDS)) {
+                        terminated.add(executorService);
+                        continue;
+                    }
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            } else if (executorService.isTerminated()) {
+                terminated.add(executorService);
+                continue;
+            }
+            stragglers.add(executorService);
+        }
+
+        // Phase 3 : shutdown the stragglers forcibly
+        Map<ExecutorService, Integer> abandonedTaskCounts = newLinkedHashMap(stragglers.size());
+        for (ExecutorService straggler : stragglers) {
+            List<Runnable> abandonedTasks = straggler.shutdownNow();
+            abandonedTaskCounts.put(straggler, abandonedTasks.size());
+            if (logger.isTraceEnabled()) {
+                logger.trace("The ExecutorService({}) failed to terminate before the deadline, {} tasks were abandoned",
+                        straggler, abandonedTasks.size());
+            }
+        }
+
+        if (interrupted) {
+            currentThread().interrupt();
+        }
+
+        return new ExecutorShutdownReport(terminated, abandonedTaskCounts, nanoTime() - startTime);
+    }
+
     /**
      * Attempts to shut down the given {@link Executor} if it is an instance of {@link ExecutorService}.
      *
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+/**
+ * The bounded lock-free multi-producer/single-consumer {@link RingBufferQueue}, the producers claim the slots by CAS
+ * on the producer index and check the free space against a cached limit, so that the consumer index is read only
+ * when the cached limit is reached.
+ *
+ * <p>Any number of threads may offer concurrently, while at most one thread may poll at any time, the dispatch of the
+ * events from many publishers to a single handler thread is the typical use case.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * MpscArrayQueue<Event> queue = new MpscArrayQueue<>(1024);
+ * // any publisher thread
+ * queue.offer(event);
+ * // the dispatcher thread
+ * queue.drain(listener::onEvent, 256);
+ * }</pre>
+ *
+ * @param <E> the type of elements
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see RingBufferQueue
+ * @see SpscArrayQueue
+ * @since 1.0.0
+ */
+public class MpscArrayQueue<E> extends RingBufferQueue<E> {
+
+    private final PaddedAtomicLong producerLimit;
+
+    /**
+     * @param capacity the expected capacity, rounded up to the power of two
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or greater than {@link #MAX_CAPACITY}
+     */
+    public MpscArrayQueue(int capacity) {
+        super(capacity);
+        this.producerLimit = new PaddedAtomicLong(this.capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        long limit = producerLimit.get();
+        long index;
+        do {
+            index = producerIndex.get();
+            if (index >= limit) {
+                limit = consumerIndex.get() + capacity;
+                if (index >= limit) {
+                    // full
+                    return false;
+                }
+                producerLimit.lazySet(limit);
+            }
+        } while (!producerIndex.compareAndSet(index, index + 1));
+        buffer.lazySet(offset(index), e);
+        signalConsumer();
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long index = consumerIndex.get();
+        int offset = offset(index);
+        E e = buffer.get(offset);
+        if (e == null) {
+            if (index == producerIndex.get()) {
+                return null;
+            }
+            // the slot has been claimed by a producer, but not yet published
+            e = spinLoad(offset);
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        signalProducers();
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long index = consumerIndex.get();
+        int offset = offset(index);
+        E e = buffer.get(offset);
+        if (e == null && index != producerIndex.get()) {
+            e = spinLoad(offset);
+        }
+        return e;
+    }
+
+    private E spinLoad(int offset) {
+        E e;
+        do {
+            e = buffer.get(offset);
+        } while (e == null);
+        return e;
+    }
+}
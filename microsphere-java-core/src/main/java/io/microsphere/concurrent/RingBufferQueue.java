@@ -0,0 +1,382 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.interrupted;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+/**
+ * The bounded lock-free {@link BlockingQueue} backed by a power-of-two ring buffer of the elements, whose producer and
+ * consumer indexes are padded against the false sharing. The subclasses define how many producers may
+ * {@link #offer(Object) offer} concurrently, while there is always a single consumer thread allowed to
+ * {@link #poll() poll}, {@link #drain(Consumer, int) drain} or {@link #clear() clear} the elements.
+ *
+ * <p>The blocking operations spin and yield for a short while, then register the calling thread as a waiter and park
+ * it with the progressive backoff from {@link #PARK_NANOS} up to {@link #MAX_PARK_NANOS}, the waiters are unparked
+ * as soon as an element is offered or removed, so that the idle threads do not burn the CPU. Hence the non-blocking
+ * operations pay one volatile read to check the waiters. The {@link #iterator() iterator} is weakly consistent and
+ * read-only, thus {@link #remove(Object)} is not supported, and the <code>null</code> element is not permitted.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * RingBufferQueue<String> queue = new MpscArrayQueue<>(1024);
+ * queue.offer("a");                                   // any producer thread
+ * queue.put("b");                                     // blocks while the queue is full
+ *
+ * // the consumer thread handles the elements in batches
+ * queue.drain(element -> handle(element), 256);
+ * }</pre>
+ *
+ * @param <E> the type of elements
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see SpscArrayQueue
+ * @see MpscArrayQueue
+ * @since 1.0.0
+ */
+public abstract class RingBufferQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * The maximum capacity of {@link RingBufferQueue}
+     */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    static final int SPIN_TIMES = 100;
+
+    static final int YIELD_TIMES = 100;
+
+    /**
+     * The initial nanoseconds to park the waiter, doubled per idle round
+     */
+    static final long PARK_NANOS = 1000L;
+
+    /**
+     * The maximum nanoseconds to park the waiter, which bounds the latency if a signal races with the registration
+     * of the waiter
+     */
+    static final long MAX_PARK_NANOS = 10_000_000L;
+
+    final int capacity;
+
+    final int mask;
+
+    final AtomicReferenceArray<E> buffer;
+
+    final PaddedAtomicLong producerIndex = new PaddedAtomicLong();
+
+    final PaddedAtomicLong consumerIndex = new PaddedAtomicLong();
+
+    /**
+     * The consumer thread waiting for the elements
+     */
+    volatile Thread consumerWaiter;
+
+    /**
+     * The producer threads waiting for the free slots
+     */
+    final Queue<Thread> producerWaiters = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param capacity the expected capacity, rounded up to the power of two
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or greater than {@link #MAX_CAPACITY}
+     */
+    protected RingBufferQueue(int capacity) {
+        assertTrue(capacity > 0 && capacity <= MAX_CAPACITY,
+                () -> "The 'capacity' must be in (0, " + MAX_CAPACITY + "] : " + capacity);
+        this.capacity = 1 << (32 - numberOfLeadingZeros(capacity - 1));
+        this.mask = this.capacity - 1;
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+    }
+
+    /**
+     * Remove the available elements up to the limit and pass them to the consumer in the FIFO order, the consumer
+     * index is published once per batch. It must be invoked by the consumer thread.
+     *
+     * @param consumer the consumer of the elements
+     * @param limit    the maximum number of the elements to remove
+     * @return the number of the elements removed
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        assertNotNull(consumer, "The 'consumer' must not be null");
+        long index = consumerIndex.get();
+        int count = 0;
+        try {
+            while (count < limit) {
+                int offset = offset(index);
+                E e = buffer.get(offset);
+                if (e == null) {
+                    // empty, or the slot has been claimed but not yet published
+                    break;
+                }
+                buffer.lazySet(offset, null);
+                index++;
+                count++;
+                consumer.accept(e);
+            }
+        } finally {
+            consumerIndex.lazySet(index);
+            if (count > 0) {
+                signalProducers();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the capacity of the ring buffer, the power of two
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public int size() {
+        long after = consumerIndex.get();
+        while (true) {
+            long before = after;
+            long producer = producerIndex.get();
+            after = consumerIndex.get();
+            if (before == after) {
+                return (int) min(producer - after, capacity);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return consumerIndex.get() == producerIndex.get();
+    }
+
+    /**
+     * The removal of an arbitrary element is not supported, because only the head of the ring buffer can be released
+     * by the consumer.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean remove(Object o) throws UnsupportedOperationException {
+        throw new UnsupportedOperationException("The arbitrary element can't be removed from " + getClass().getSimpleName());
+    }
+
+    /**
+     * The weakly consistent iterator over the elements at the time of the creation, which never throws
+     * {@link java.util.ConcurrentModificationException} and does not support {@link Iterator#remove()}.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    @Override
+    public Iterator<E> iterator() {
+        return new RingBufferIterator();
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        awaitOffer(e, false, 0L);
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitOffer(e, true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        return awaitPoll(false, 0L);
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        return awaitPoll(true, unit.toNanos(timeout));
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        if (c == null) {
+            throw new NullPointerException("The 'collection' must not be null");
+        }
+        assertTrue(c != this, "The queue can't be drained to itself");
+        return drain(c::add, maxElements);
+    }
+
+    final int offset(long index) {
+        return (int) index & mask;
+    }
+
+    /**
+     * Unpark the waiting consumer, it must be invoked after an element is offered
+     */
+    final void signalConsumer() {
+        Thread waiter = consumerWaiter;
+        if (waiter != null) {
+            unpark(waiter);
+        }
+    }
+
+    /**
+     * Unpark the waiting producers, it must be invoked after the elements are removed
+     */
+    final void signalProducers() {
+        if (!producerWaiters.isEmpty()) {
+            for (Thread waiter : producerWaiters) {
+                unpark(waiter);
+            }
+        }
+    }
+
+    private boolean awaitOffer(E e, boolean timed, long nanos) throws InterruptedException {
+        long deadline = timed ? nanoTime() + nanos : 0L;
+        Thread waiter = null;
+        try {
+            for (int idles = 0; !offer(e); idles++) {
+                long remainingNanos = timed ? deadline - nanoTime() : MAX_PARK_NANOS;
+                if (remainingNanos <= 0L) {
+                    return false;
+                }
+                if (waiter == null && idles >= SPIN_TIMES + YIELD_TIMES) {
+                    // register before parking, then check again
+                    waiter = currentThread();
+                    producerWaiters.add(waiter);
+                    continue;
+                }
+                idle(idles, remainingNanos);
+            }
+            return true;
+        } finally {
+            if (waiter != null) {
+                producerWaiters.remove(waiter);
+            }
+        }
+    }
+
+    private E awaitPoll(boolean timed, long nanos) throws InterruptedException {
+        long deadline = timed ? nanoTime() + nanos : 0L;
+        boolean waiting = false;
+        try {
+            E e;
+            for (int idles = 0; (e = poll()) == null; idles++) {
+                long remainingNanos = timed ? deadline - nanoTime() : MAX_PARK_NANOS;
+                if (remainingNanos <= 0L) {
+                    return null;
+                }
+                if (!waiting && idles >= SPIN_TIMES + YIELD_TIMES) {
+                    // register before parking, then check again
+                    consumerWaiter = currentThread();
+                    waiting = true;
+                    continue;
+                }
+                idle(idles, remainingNanos);
+            }
+            return e;
+        } finally {
+            if (waiting) {
+                consumerWaiter = null;
+            }
+        }
+    }
+
+    static void checkElement(Object e) {
+        if (e == null) {
+            throw new NullPointerException("The null element is not permitted");
+        }
+    }
+
+    final void idle(int idles, long remainingNanos) throws InterruptedException {
+        if (interrupted()) {
+            throw new InterruptedException();
+        }
+        if (idles < SPIN_TIMES) {
+            // busy spin
+        } else if (idles < SPIN_TIMES + YIELD_TIMES) {
+            Thread.yield();
+        } else {
+            parkNanos(this, min(backoffNanos(idles - SPIN_TIMES - YIELD_TIMES), remainingNanos));
+        }
+    }
+
+    /**
+     * @param parks the number of parks so far
+     * @return the nanoseconds of the next park, doubled per park up to {@link #MAX_PARK_NANOS}
+     */
+    static long backoffNanos(int parks) {
+        return parks >= 30 ? MAX_PARK_NANOS : min(PARK_NANOS << parks, MAX_PARK_NANOS);
+    }
+
+    private class RingBufferIterator implements Iterator<E> {
+
+        private final long limit = producerIndex.get();
+
+        private long index = consumerIndex.get();
+
+        private E next = advance();
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            E e = next;
+            if (e == null) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return e;
+        }
+
+        private E advance() {
+            while (index < limit) {
+                E e = buffer.get(offset(index++));
+                if (e != null) {
+                    return e;
+                }
+            }
+            return null;
+        }
+    }
+}
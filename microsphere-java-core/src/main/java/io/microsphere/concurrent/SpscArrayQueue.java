@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+/**
+ * The bounded lock-free single-producer/single-consumer {@link RingBufferQueue}, a slot is published by the producer
+ * and released by the consumer with the ordered writes only, neither side executes any CAS.
+ *
+ * <p>At most one thread may offer and at most one thread may poll at any time, the handoff between two dedicated
+ * threads, e.g. a reader of the process output and its handler, is the typical use case.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * SpscArrayQueue<String> queue = new SpscArrayQueue<>(1024);
+ * // the producer thread
+ * queue.offer("line");
+ * // the consumer thread
+ * String line = queue.poll();
+ * }</pre>
+ *
+ * @param <E> the type of elements
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see RingBufferQueue
+ * @see MpscArrayQueue
+ * @since 1.0.0
+ */
+public class SpscArrayQueue<E> extends RingBufferQueue<E> {
+
+    /**
+     * @param capacity the expected capacity, rounded up to the power of two
+     * @throws IllegalArgumentException if <code>capacity</code> is not positive or greater than {@link #MAX_CAPACITY}
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    @Override
+    public boolean offer(E e) {
+        checkElement(e);
+        long index = producerIndex.get();
+        int offset = offset(index);
+        if (buffer.get(offset) != null) {
+            // full, the slot has not been released by the consumer
+            return false;
+        }
+        buffer.lazySet(offset, e);
+        producerIndex.lazySet(index + 1);
+        signalConsumer();
+        return true;
+    }
+
+    @Override
+    public E poll() {
+        long index = consumerIndex.get();
+        int offset = offset(index);
+        E e = buffer.get(offset);
+        if (e == null) {
+            return null;
+        }
+        buffer.lazySet(offset, null);
+        consumerIndex.lazySet(index + 1);
+        signalProducers();
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        return buffer.get(offset(consumerIndex.get()));
+    }
+}
@@ -47,6 +47,11 @@ public interface ResourceConstants {
      */
     String ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_FILE_NAME = "additional-configuration-properties.json";
 
+    /**
+     * The file name of the binary index of {@link ConfigurationProperty configuration properties} Metadata
+     */
+    String CONFIGURATION_PROPERTY_METADATA_INDEX_FILE_NAME = "configuration-properties.idx";
+
     /**
      * The resource location of {@link ConfigurationProperty configuration properties} metadata :
      * "META-INF/microsphere/configuration-properties.json"
@@ -58,4 +63,10 @@ public interface ResourceConstants {
      * "META-INF/microsphere/additional-configuration-properties.json"
      */
     String ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_RESOURCE = MICROSPHERE_METADATA_RESOURCE + ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_FILE_NAME;
+
+    /**
+     * The resource location of the binary index of {@link ConfigurationProperty configuration properties} metadata :
+     * "META-INF/microsphere/configuration-properties.idx"
+     */
+    String CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE = MICROSPHERE_METADATA_RESOURCE + CONFIGURATION_PROPERTY_METADATA_INDEX_FILE_NAME;
 }
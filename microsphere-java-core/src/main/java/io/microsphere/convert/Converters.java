@@ -17,6 +17,7 @@
 
 package io.microsphere.convert;
 
+import io.microsphere.util.ServiceRegistry;
 import io.microsphere.util.Utils;
 
 import java.util.List;
@@ -30,6 +31,7 @@ import static io.microsphere.collection.ListUtils.newArrayList;
 import static io.microsphere.collection.MapUtils.immutableEntry;
 import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
 import static io.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static io.microsphere.util.ServiceRegistry.getInstance;
 import static io.microsphere.util.ServiceLoaderUtils.loadServicesList;
 
 /**
@@ -48,17 +50,34 @@ class Converters implements Utils {
     static ConcurrentMap<Entry<Class<?>, Class<?>>, List<Converter>> initConvertersCache() {
         // sorted and cached converters
         List<Converter> convertersList = loadConvertersList();
+        ServiceRegistry serviceRegistry = getInstance(classLoader);
         int size = convertersList.size();
         ConcurrentHashMap<Entry<Class<?>, Class<?>>, List<Converter>> convertersCache = newConcurrentHashMap(size);
         for (int i = 0; i < size; i++) {
             Converter converter = convertersList.get(i);
-            Entry<Class<?>, Class<?>> key = immutableEntry(converter.getSourceType(), converter.getTargetType());
+            Entry<Class<?>, Class<?>> key = resolveKey(serviceRegistry, converter);
             List<Converter> converters = convertersCache.computeIfAbsent(key, k -> newArrayList(4));
             converters.add(converter);
         }
         return convertersCache;
     }
 
+    /**
+     * Resolve the key of the specified {@link Converter} from the build-time index if present, or
+     * {@link Converter#getSourceType()} and {@link Converter#getTargetType()}.
+     *
+     * @param serviceRegistry {@link ServiceRegistry}
+     * @param converter       {@link Converter}
+     * @return the entry of the source type and target type
+     */
+    static Entry<Class<?>, Class<?>> resolveKey(ServiceRegistry serviceRegistry, Converter converter) {
+        List<Class<?>> typeArguments = serviceRegistry.getTypeArguments(Converter.class, converter.getClass());
+        if (typeArguments == null || typeArguments.size() != 2) {
+            return immutableEntry(converter.getSourceType(), converter.getTargetType());
+        }
+        return immutableEntry(typeArguments.get(0), typeArguments.get(1));
+    }
+
     static <S, T> Converter<S, T> findConverter(Class<S> sourceType, Class<T> targetType) {
         Entry<Class<?>, Class<?>> key = immutableEntry(sourceType, targetType);
         List<Converter> converters = convertersCache.computeIfAbsent(key, k -> loadConvertersList()
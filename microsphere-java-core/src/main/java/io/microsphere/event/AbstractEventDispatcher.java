@@ -19,6 +19,7 @@ package io.microsphere.event;
 import io.microsphere.annotation.Immutable;
 import io.microsphere.lang.Prioritized;
 import io.microsphere.logging.Logger;
+import io.microsphere.util.ServiceRegistry;
 
 import java.util.Collection;
 import java.util.LinkedList;
@@ -40,6 +41,7 @@ import static io.microsphere.logging.LoggerFactory.getLogger;
 import static io.microsphere.util.Assert.assertNotNull;
 import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
 import static io.microsphere.util.ServiceLoaderUtils.loadServicesList;
+import static io.microsphere.util.ServiceRegistry.getInstance;
 import static java.util.Collections.sort;
 import static java.util.Collections.unmodifiableList;
 
@@ -212,9 +214,27 @@ public abstract class AbstractEventDispatcher implements EventDispatcher {
      * @see ServiceLoader#load(Class)
      */
     protected void loadEventListenerInstances() {
-        execute(() -> loadServicesList(EventListener.class, getDefaultClassLoader(), true)
+        ClassLoader classLoader = getDefaultClassLoader();
+        ServiceRegistry serviceRegistry = getInstance(classLoader);
+        execute(() -> loadServicesList(EventListener.class, classLoader, true)
                 .stream()
                 .sorted()
-                .forEach(this::addEventListener), e -> logger.trace(e.getMessage()));
+                .forEach(listener -> addEventListener(serviceRegistry, listener)), e -> logger.trace(e.getMessage()));
+    }
+
+    /**
+     * Add the {@link EventListener} whose event type is resolved from the build-time index if present, or
+     * {@link EventListener#findEventType(EventListener)}
+     *
+     * @param serviceRegistry {@link ServiceRegistry}
+     * @param listener        {@link EventListener}
+     */
+    void addEventListener(ServiceRegistry serviceRegistry, EventListener<?> listener) {
+        Class<? extends Event> eventType = serviceRegistry.getTypeArgument(EventListener.class, listener.getClass(), 0);
+        if (eventType == null) {
+            addEventListener(listener);
+        } else {
+            doInListener(eventType, listeners -> addIfAbsent(listeners, listener));
+        }
     }
 }
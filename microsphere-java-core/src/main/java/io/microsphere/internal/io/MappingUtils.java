@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.internal.io;
+
+import io.microsphere.annotation.Nullable;
+import io.microsphere.util.Utils;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import static io.microsphere.constants.PathConstants.SLASH;
+import static io.microsphere.constants.ProtocolConstants.FILE_PROTOCOL;
+import static io.microsphere.constants.ProtocolConstants.JAR_PROTOCOL;
+import static io.microsphere.net.URLUtils.decode;
+import static io.microsphere.util.jar.JarUtils.mapStoredEntry;
+import static java.lang.Integer.MAX_VALUE;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * The internal utility class for mapping the resources into the memory, which is not a part of public API.
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MappedByteBuffer
+ * @see io.microsphere.util.jar.JarUtils#mapStoredEntry(File, String)
+ * @since 1.0.0
+ */
+public abstract class MappingUtils implements Utils {
+
+    /**
+     * Map the resource into memory if it is a file or stored without compression in a JAR file
+     *
+     * @param urlConnection the {@link URLConnection} of the resource's location
+     * @return <code>null</code> if the resource can't be mapped, e.g. the directory, the compressed entry in JAR or
+     * the file larger than {@link Integer#MAX_VALUE} bytes
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    public static ByteBuffer map(URLConnection urlConnection) throws IOException {
+        URL url = urlConnection.getURL();
+        String protocol = url.getProtocol();
+        if (FILE_PROTOCOL.equals(protocol)) {
+            File file = toFile(url);
+            return file.isFile() ? mapFile(file) : null;
+        } else if (JAR_PROTOCOL.equals(protocol) && urlConnection instanceof JarURLConnection) {
+            JarURLConnection jarURLConnection = (JarURLConnection) urlConnection;
+            URL jarFileURL = jarURLConnection.getJarFileURL();
+            String entryName = jarURLConnection.getEntryName();
+            if (entryName == null || entryName.endsWith(SLASH) || !FILE_PROTOCOL.equals(jarFileURL.getProtocol())) {
+                return null;
+            }
+            File jarFile = toFile(jarFileURL);
+            return jarFile.isFile() ? mapStoredEntry(jarFile, entryName) : null;
+        }
+        return null;
+    }
+
+    static ByteBuffer mapFile(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), READ)) {
+            long size = channel.size();
+            if (size > MAX_VALUE) {
+                return null;
+            }
+            return channel.map(READ_ONLY, 0, size).asReadOnlyBuffer();
+        }
+    }
+
+    static File toFile(URL fileURL) {
+        return new File(decode(fileURL.getPath()));
+    }
+
+    private MappingUtils() {
+    }
+}
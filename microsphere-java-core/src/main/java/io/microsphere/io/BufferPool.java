@@ -0,0 +1,478 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.io;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.logging.Logger;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.numberOfLeadingZeros;
+import static java.lang.Integer.numberOfTrailingZeros;
+import static java.lang.Math.max;
+import static java.lang.System.getProperty;
+import static java.lang.System.identityHashCode;
+import static java.nio.ByteBuffer.allocateDirect;
+
+/**
+ * The lightweight pool of the heap byte arrays and the direct {@link ByteBuffer ByteBuffers} in the size classes of
+ * the powers of two from {@link #MIN_POOLED_SIZE} to {@link #MAX_POOLED_SIZE}. The buffer is acquired from the cache
+ * of the current thread first, then from the bounded pool shared by all threads, or allocated finally, and it's
+ * released in the reverse order, the buffer is dropped if both are full. The buffers cached by a thread are bounded
+ * by {@link #THREAD_LOCAL_CACHE_BYTES} in total, across the size classes of both the heap and the direct buffers. The
+ * requests larger than {@link #MAX_POOLED_SIZE} are allocated without pooling.
+ *
+ * <p>In the leak detection mode, for debugging, the acquired buffers are tracked by the weak references with the
+ * stack traces of the acquisitions, the buffers garbage collected without being released and the buffers released
+ * twice are reported by the logger. Otherwise, the buffer released twice in a row by a thread is ignored, and if the
+ * assertions are enabled, the buffer already cached by the current thread or the shared pool is ignored too.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * BufferPool bufferPool = BufferPool.DEFAULT_BUFFER_POOL;
+ * byte[] buffer = bufferPool.acquire(8192);
+ * try {
+ *     int bytesRead = inputStream.read(buffer);
+ *     // ...
+ * } finally {
+ *     bufferPool.release(buffer);
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ChunkedByteArrayOutputStream
+ * @since 1.0.0
+ */
+public class BufferPool {
+
+    private static final Logger logger = getLogger(BufferPool.class);
+
+    /**
+     * The property name of whether the leak detection of the default {@link BufferPool} is enabled :
+     * {@code "microsphere.io.buffer-pool.leak-detection"}
+     */
+    public static final String LEAK_DETECTION_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "io.buffer-pool.leak-detection";
+
+    /**
+     * The default property value of whether the leak detection of the default {@link BufferPool} is enabled :
+     * {@code "false"}
+     */
+    public static final String DEFAULT_LEAK_DETECTION_PROPERTY_VALUE = "false";
+
+    /**
+     * Whether the leak detection of the default {@link BufferPool} is enabled
+     */
+    @ConfigurationProperty(
+            name = LEAK_DETECTION_PROPERTY_NAME,
+            defaultValue = DEFAULT_LEAK_DETECTION_PROPERTY_VALUE,
+            description = "Whether the leak detection of the default buffer pool is enabled",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final boolean LEAK_DETECTION = parseBoolean(getProperty(LEAK_DETECTION_PROPERTY_NAME, DEFAULT_LEAK_DETECTION_PROPERTY_VALUE));
+
+    /**
+     * The min size of the pooled buffers
+     */
+    public static final int MIN_POOLED_SIZE = 256;
+
+    /**
+     * The max size of the pooled buffers
+     */
+    public static final int MAX_POOLED_SIZE = 1 << 20;
+
+    /**
+     * The max bytes of the buffers cached by a thread in total, across the size classes and the kinds of buffers
+     */
+    static final int THREAD_LOCAL_CACHE_BYTES = 1 << 18;
+
+    /**
+     * The max bytes of the buffers per size class shared by the threads
+     */
+    static final int SHARED_POOL_BYTES = 1 << 22;
+
+    private static final int MIN_SHIFT = numberOfTrailingZeros(MIN_POOLED_SIZE);
+
+    static final int SIZE_CLASSES = numberOfTrailingZeros(MAX_POOLED_SIZE) - MIN_SHIFT + 1;
+
+    /**
+     * The default {@link BufferPool}
+     */
+    public static final BufferPool DEFAULT_BUFFER_POOL = new BufferPool(LEAK_DETECTION);
+
+    private final Pool<byte[]> heapPool;
+
+    private final Pool<ByteBuffer> directPool;
+
+    private final LeakDetector leakDetector;
+
+    public BufferPool() {
+        this(false);
+    }
+
+    /**
+     * @param leakDetection whether the leak detection is enabled
+     */
+    public BufferPool(boolean leakDetection) {
+        this(leakDetection, BufferPool.class.desiredAssertionStatus());
+    }
+
+    /**
+     * @param leakDetection      whether the leak detection is enabled
+     * @param checkDoubleRelease whether the buffers pooled are checked on release, which is slow
+     */
+    BufferPool(boolean leakDetection, boolean checkDoubleRelease) {
+        // the bytes cached by the current thread are shared by the heap and direct pools
+        ThreadLocal<int[]> threadLocalCachedBytes = ThreadLocal.withInitial(() -> new int[1]);
+        // the leak detector has reported the buffers released twice
+        boolean checkPooled = checkDoubleRelease && !leakDetection;
+        this.heapPool = new Pool<>(byte[]::new, buffer -> buffer.length, threadLocalCachedBytes, checkPooled);
+        this.directPool = new Pool<>(size -> allocateDirect(size), ByteBuffer::capacity, threadLocalCachedBytes, checkPooled);
+        this.leakDetector = leakDetection ? new LeakDetector() : null;
+    }
+
+    /**
+     * Acquires a heap byte array whose length is not less than the specified capacity, which should be
+     * {@link #release(byte[]) released} after use.
+     *
+     * @param minCapacity the min capacity
+     * @return non-null, the content is undefined
+     * @throws IllegalArgumentException if <code>minCapacity</code> is negative
+     */
+    @Nonnull
+    public byte[] acquire(int minCapacity) throws IllegalArgumentException {
+        return track(heapPool.acquire(minCapacity));
+    }
+
+    /**
+     * Releases the heap byte array acquired, which must not be used after release.
+     *
+     * @param buffer the heap byte array
+     */
+    public void release(byte[] buffer) {
+        if (untrack(buffer)) {
+            heapPool.release(buffer);
+        }
+    }
+
+    /**
+     * Acquires a cleared direct {@link ByteBuffer} whose capacity is not less than the specified capacity, which
+     * should be {@link #releaseDirect(ByteBuffer) released} after use.
+     *
+     * @param minCapacity the min capacity
+     * @return non-null
+     * @throws IllegalArgumentException if <code>minCapacity</code> is negative
+     */
+    @Nonnull
+    public ByteBuffer acquireDirect(int minCapacity) throws IllegalArgumentException {
+        ByteBuffer buffer = directPool.acquire(minCapacity);
+        buffer.clear();
+        return track(buffer);
+    }
+
+    /**
+     * Releases the direct {@link ByteBuffer} acquired, which must not be used after release.
+     *
+     * @param buffer the direct {@link ByteBuffer}, neither a slice nor a duplicate
+     */
+    public void releaseDirect(ByteBuffer buffer) {
+        if (buffer.isDirect() && untrack(buffer)) {
+            directPool.release(buffer);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the leak detection is enabled
+     */
+    public boolean isLeakDetection() {
+        return leakDetector != null;
+    }
+
+    /**
+     * @return the count of the leaked buffers detected, or 0 if the leak detection is disabled
+     */
+    public long getLeakCount() {
+        LeakDetector leakDetector = this.leakDetector;
+        if (leakDetector == null) {
+            return 0;
+        }
+        leakDetector.detect();
+        return leakDetector.leakCount.get();
+    }
+
+    /**
+     * @return the count of the buffers acquired but not released yet, or 0 if the leak detection is disabled
+     */
+    public int getAcquiredCount() {
+        LeakDetector leakDetector = this.leakDetector;
+        return leakDetector == null ? 0 : leakDetector.trackers.size();
+    }
+
+    /**
+     * Get the index of the size class
+     *
+     * @param minCapacity the min capacity
+     * @return -1 if it's larger than {@link #MAX_POOLED_SIZE}
+     */
+    static int sizeClass(int minCapacity) {
+        if (minCapacity <= MIN_POOLED_SIZE) {
+            return 0;
+        }
+        if (minCapacity > MAX_POOLED_SIZE) {
+            return -1;
+        }
+        // ceil(log2(minCapacity)) - MIN_SHIFT
+        return 32 - numberOfLeadingZeros(minCapacity - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * Get the index of the size class of the buffer being released
+     *
+     * @param capacity the capacity of buffer
+     * @return -1 if the capacity is not one of the size classes
+     */
+    static int releasedSizeClass(int capacity) {
+        if (capacity < MIN_POOLED_SIZE || capacity > MAX_POOLED_SIZE || (capacity & (capacity - 1)) != 0) {
+            return -1;
+        }
+        return numberOfTrailingZeros(capacity) - MIN_SHIFT;
+    }
+
+    static int classSize(int sizeClass) {
+        return 1 << (sizeClass + MIN_SHIFT);
+    }
+
+    static int threadLocalCacheCapacity(int sizeClass) {
+        return THREAD_LOCAL_CACHE_BYTES / classSize(sizeClass);
+    }
+
+    static int sharedPoolCapacity(int sizeClass) {
+        return max(1, SHARED_POOL_BYTES / classSize(sizeClass));
+    }
+
+    private <B> B track(B buffer) {
+        LeakDetector leakDetector = this.leakDetector;
+        if (leakDetector != null) {
+            leakDetector.track(buffer);
+        }
+        return buffer;
+    }
+
+    private boolean untrack(Object buffer) {
+        LeakDetector leakDetector = this.leakDetector;
+        return leakDetector == null || leakDetector.untrack(buffer);
+    }
+
+    /**
+     * The two-tier pool of the buffers of a kind
+     *
+     * @param <B> the type of buffers
+     */
+    static class Pool<B> {
+
+        private final IntFunction<B> allocator;
+
+        private final ToIntFunction<B> capacityFunction;
+
+        private final ArrayBlockingQueue<B>[] sharedQueues;
+
+        private final ThreadLocal<Object[][]> threadLocalCaches;
+
+        private final ThreadLocal<int[]> threadLocalCounts;
+
+        private final ThreadLocal<int[]> threadLocalCachedBytes;
+
+        private final boolean checkPooled;
+
+        Pool(IntFunction<B> allocator, ToIntFunction<B> capacityFunction, ThreadLocal<int[]> threadLocalCachedBytes,
+             boolean checkPooled) {
+            this.allocator = allocator;
+            this.capacityFunction = capacityFunction;
+            this.sharedQueues = new ArrayBlockingQueue[SIZE_CLASSES];
+            for (int i = 0; i < SIZE_CLASSES; i++) {
+                this.sharedQueues[i] = new ArrayBlockingQueue<>(sharedPoolCapacity(i));
+            }
+            // the caches of size classes are created on demand
+            this.threadLocalCaches = ThreadLocal.withInitial(() -> new Object[SIZE_CLASSES][]);
+            this.threadLocalCounts = ThreadLocal.withInitial(() -> new int[SIZE_CLASSES]);
+            this.threadLocalCachedBytes = threadLocalCachedBytes;
+            this.checkPooled = checkPooled;
+        }
+
+        B acquire(int minCapacity) {
+            assertTrue(minCapacity >= 0, () -> "The min capacity must not be negative : " + minCapacity);
+            int sizeClass = sizeClass(minCapacity);
+            if (sizeClass < 0) {
+                return allocator.apply(minCapacity);
+            }
+            int[] counts = threadLocalCounts.get();
+            int count = counts[sizeClass];
+            if (count > 0) {
+                Object[] cache = threadLocalCaches.get()[sizeClass];
+                counts[sizeClass] = --count;
+                B buffer = (B) cache[count];
+                cache[count] = null;
+                threadLocalCachedBytes.get()[0] -= classSize(sizeClass);
+                return buffer;
+            }
+            B buffer = sharedQueues[sizeClass].poll();
+            return buffer == null ? allocator.apply(classSize(sizeClass)) : buffer;
+        }
+
+        void release(B buffer) {
+            int sizeClass = releasedSizeClass(capacityFunction.applyAsInt(buffer));
+            if (sizeClass < 0) {
+                return;
+            }
+            int[] counts = threadLocalCounts.get();
+            int count = counts[sizeClass];
+            Object[][] caches = threadLocalCaches.get();
+            Object[] cache = caches[sizeClass];
+            if (isPooled(buffer, sizeClass, cache, count)) {
+                logger.warn("The buffer[class : '{}' , capacity : {}] is released twice, ignored",
+                        buffer.getClass().getName(), classSize(sizeClass));
+                return;
+            }
+            int size = classSize(sizeClass);
+            int[] cachedBytes = threadLocalCachedBytes.get();
+            if (cachedBytes[0] + size <= THREAD_LOCAL_CACHE_BYTES) {
+                if (cache == null) {
+                    cache = caches[sizeClass] = new Object[threadLocalCacheCapacity(sizeClass)];
+                }
+                cache[count] = buffer;
+                counts[sizeClass] = count + 1;
+                cachedBytes[0] += size;
+                return;
+            }
+            sharedQueues[sizeClass].offer(buffer);
+        }
+
+        /**
+         * Whether the buffer is pooled already, the last one cached by the current thread is always checked, the
+         * others cached by the current thread and the shared pool are checked only if {@link #checkPooled} is on.
+         */
+        boolean isPooled(B buffer, int sizeClass, Object[] cache, int count) {
+            if (count > 0 && cache[count - 1] == buffer) {
+                return true;
+            }
+            if (!checkPooled) {
+                return false;
+            }
+            for (int i = 0; i < count - 1; i++) {
+                if (cache[i] == buffer) {
+                    return true;
+                }
+            }
+            for (B pooled : sharedQueues[sizeClass]) {
+                if (pooled == buffer) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * The detector of the buffers leaked
+     */
+    static class LeakDetector {
+
+        private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+
+        private final ConcurrentMap<Tracker, Tracker> trackers = newConcurrentHashMap();
+
+        private final AtomicLong leakCount = new AtomicLong();
+
+        void track(Object buffer) {
+            detect();
+            Tracker tracker = new Tracker(buffer, referenceQueue);
+            trackers.put(tracker, tracker);
+        }
+
+        boolean untrack(Object buffer) {
+            Tracker tracker = trackers.remove(new Tracker(buffer, null));
+            if (tracker == null) {
+                logger.warn("The buffer[class : '{}' , capacity : {}] is released twice or not acquired from the pool, ignored",
+                        buffer.getClass().getName(), capacity(buffer));
+                return false;
+            }
+            tracker.clear();
+            return true;
+        }
+
+        void detect() {
+            Tracker tracker;
+            while ((tracker = (Tracker) referenceQueue.poll()) != null) {
+                if (trackers.remove(tracker) != null) {
+                    leakCount.incrementAndGet();
+                    logger.warn("The buffer acquired was garbage collected without being released", tracker.acquisition);
+                }
+            }
+        }
+
+        static int capacity(Object buffer) {
+            return buffer instanceof byte[] ? ((byte[]) buffer).length : ((ByteBuffer) buffer).capacity();
+        }
+    }
+
+    /**
+     * The weak reference of the acquired buffer compared by the identity
+     */
+    static class Tracker extends WeakReference<Object> {
+
+        private final int hashCode;
+
+        private final Throwable acquisition;
+
+        Tracker(Object buffer, ReferenceQueue<Object> referenceQueue) {
+            super(buffer, referenceQueue);
+            this.hashCode = identityHashCode(buffer);
+            this.acquisition = referenceQueue == null ? null :
+                    new Throwable("The buffer[capacity : " + LeakDetector.capacity(buffer) + "] was acquired here");
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof Tracker)) {
+                return false;
+            }
+            Object buffer = get();
+            return buffer != null && buffer == ((Tracker) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
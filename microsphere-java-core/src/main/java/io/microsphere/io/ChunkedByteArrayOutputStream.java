@@ -0,0 +1,410 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.io;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+
+import static io.microsphere.io.BufferPool.DEFAULT_BUFFER_POOL;
+import static io.microsphere.io.FastByteArrayOutputStream.MAX_ARRAY_SIZE;
+import static io.microsphere.io.IOUtils.BUFFER_SIZE;
+import static io.microsphere.util.ArrayUtils.EMPTY_BYTE_ARRAY;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.nio.ByteBuffer.wrap;
+import static java.util.Arrays.copyOf;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The non-thread-safe {@link OutputStream} buffering the bytes in the chunks acquired from the {@link BufferPool},
+ * which are never copied as the stream grows, the size of the chunk is doubled from the initial size up to
+ * {@link #MAX_CHUNK_SIZE}. The bytes are handed out as the read-only {@link ByteBuffer ByteBuffers},
+ * {@link #writeTo(GatheringByteChannel) written to a channel} in a gathering way, or
+ * {@link #toInputStream() transferred to an InputStream} without copy.
+ *
+ * <p>The chunks are released to the {@link BufferPool} on {@link #reset()} or {@link #close()}, after which the
+ * stream is reusable, so it should be closed after use.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * try (ChunkedByteArrayOutputStream outputStream = new ChunkedByteArrayOutputStream()) {
+ *     outputStream.readFrom(inputStream);
+ *     outputStream.writeTo(fileChannel);
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BufferPool
+ * @see FastByteArrayOutputStream
+ * @since 1.0.0
+ */
+public class ChunkedByteArrayOutputStream extends OutputStream {
+
+    /**
+     * The max size of the chunk
+     */
+    public static final int MAX_CHUNK_SIZE = 1 << 16;
+
+    private static final byte[][] EMPTY_CHUNKS = new byte[0][];
+
+    private final BufferPool bufferPool;
+
+    private final int initialChunkSize;
+
+    private byte[][] chunks = EMPTY_CHUNKS;
+
+    private int chunkCount;
+
+    /**
+     * The count of bytes in the current(last) chunk
+     */
+    private int position;
+
+    /**
+     * The count of bytes in the chunks before the current one
+     */
+    private long completedSize;
+
+    public ChunkedByteArrayOutputStream() {
+        this(BUFFER_SIZE);
+    }
+
+    /**
+     * @param initialChunkSize the size of the first chunk
+     * @throws IllegalArgumentException if <code>initialChunkSize</code> is not positive
+     */
+    public ChunkedByteArrayOutputStream(int initialChunkSize) throws IllegalArgumentException {
+        this(initialChunkSize, DEFAULT_BUFFER_POOL);
+    }
+
+    /**
+     * @param initialChunkSize the size of the first chunk
+     * @param bufferPool       the {@link BufferPool} of the chunks
+     * @throws IllegalArgumentException if <code>initialChunkSize</code> is not positive
+     */
+    public ChunkedByteArrayOutputStream(int initialChunkSize, BufferPool bufferPool) throws IllegalArgumentException {
+        assertTrue(initialChunkSize > 0, () -> "The initial chunk size must be positive : " + initialChunkSize);
+        this.initialChunkSize = min(initialChunkSize, MAX_CHUNK_SIZE);
+        this.bufferPool = requireNonNull(bufferPool, "No BufferPool specified");
+    }
+
+    @Override
+    public void write(int b) {
+        byte[] chunk = currentChunk();
+        chunk[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        if (off < 0 || len < 0 || off > b.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            byte[] chunk = currentChunk();
+            int count = min(len, chunk.length - position);
+            arraycopy(b, off, chunk, position, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Read all bytes from the specified {@link InputStream} into the chunks directly, the {@link InputStream} remains
+     * open.
+     *
+     * @param in the {@link InputStream}
+     * @return the count of bytes read
+     * @throws IOException if an I/O error occurs
+     */
+    public long readFrom(InputStream in) throws IOException {
+        requireNonNull(in, "No InputStream specified");
+        long count = 0;
+        int bytesRead;
+        do {
+            byte[] chunk = currentChunk();
+            bytesRead = in.read(chunk, position, chunk.length - position);
+            if (bytesRead > 0) {
+                position += bytesRead;
+                count += bytesRead;
+            }
+        } while (bytesRead != -1);
+        return count;
+    }
+
+    /**
+     * @return the count of bytes written
+     */
+    public long size() {
+        return completedSize + position;
+    }
+
+    /**
+     * Copy the bytes written into a new byte array
+     *
+     * @return non-null
+     * @throws OutOfMemoryError if the size exceeds the max size of array
+     */
+    @Nonnull
+    public byte[] toByteArray() throws OutOfMemoryError {
+        long size = size();
+        if (size == 0) {
+            return EMPTY_BYTE_ARRAY;
+        }
+        if (size > MAX_ARRAY_SIZE) {
+            throw new OutOfMemoryError("The size of bytes exceeds the max size of array : " + size);
+        }
+        byte[] bytes = new byte[(int) size];
+        int offset = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            int length = lengthOf(i);
+            arraycopy(chunks[i], 0, bytes, offset, length);
+            offset += length;
+        }
+        return bytes;
+    }
+
+    /**
+     * Get the read-only {@link ByteBuffer ByteBuffers} sharing the chunks without copy, which are valid until
+     * {@link #reset()} or {@link #close()}.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public ByteBuffer[] toByteBuffers() {
+        int chunkCount = this.chunkCount;
+        ByteBuffer[] byteBuffers = new ByteBuffer[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            byteBuffers[i] = wrap(chunks[i], 0, lengthOf(i)).asReadOnlyBuffer();
+        }
+        return byteBuffers;
+    }
+
+    /**
+     * Write all bytes to the specified blocking {@link GatheringByteChannel} in the gathering way
+     *
+     * @param channel the blocking {@link GatheringByteChannel}
+     * @return the count of bytes written
+     * @throws IOException if an I/O error occurs
+     */
+    public long writeTo(GatheringByteChannel channel) throws IOException {
+        requireNonNull(channel, "No GatheringByteChannel specified");
+        ByteBuffer[] byteBuffers = toByteBuffers();
+        int length = byteBuffers.length;
+        int offset = 0;
+        long count = 0;
+        while (offset < length) {
+            count += channel.write(byteBuffers, offset, length - offset);
+            while (offset < length && !byteBuffers[offset].hasRemaining()) {
+                offset++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Write all bytes to the specified {@link OutputStream}, the {@link OutputStream} remains open.
+     *
+     * @param out the {@link OutputStream}
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        requireNonNull(out, "No OutputStream specified");
+        for (int i = 0; i < chunkCount; i++) {
+            out.write(chunks[i], 0, lengthOf(i));
+        }
+    }
+
+    /**
+     * Transfer the chunks to a new {@link InputStream} without copy, which releases the chunks when it's closed,
+     * this stream becomes empty afterward.
+     *
+     * @return non-null
+     */
+    @Nonnull
+    public InputStream toInputStream() {
+        ChunkedInputStream inputStream = new ChunkedInputStream(bufferPool, chunks, chunkCount, position);
+        this.chunks = EMPTY_CHUNKS;
+        this.chunkCount = 0;
+        this.position = 0;
+        this.completedSize = 0;
+        return inputStream;
+    }
+
+    /**
+     * Release the chunks to the {@link BufferPool}, the stream becomes empty and reusable.
+     */
+    public void reset() {
+        byte[][] chunks = this.chunks;
+        for (int i = 0; i < chunkCount; i++) {
+            bufferPool.release(chunks[i]);
+            chunks[i] = null;
+        }
+        this.chunkCount = 0;
+        this.position = 0;
+        this.completedSize = 0;
+    }
+
+    /**
+     * Same as {@link #reset()}
+     */
+    @Override
+    public void close() {
+        reset();
+    }
+
+    private byte[] currentChunk() {
+        int chunkCount = this.chunkCount;
+        if (chunkCount > 0) {
+            byte[] chunk = chunks[chunkCount - 1];
+            if (position < chunk.length) {
+                return chunk;
+            }
+            completedSize += position;
+        }
+        return addChunk(chunkCount);
+    }
+
+    private byte[] addChunk(int chunkCount) {
+        int chunkSize = chunkCount == 0 ? initialChunkSize : min(chunks[chunkCount - 1].length << 1, MAX_CHUNK_SIZE);
+        if (chunkCount == chunks.length) {
+            chunks = copyOf(chunks, chunkCount == 0 ? 4 : chunkCount << 1);
+        }
+        byte[] chunk = bufferPool.acquire(chunkSize);
+        chunks[chunkCount] = chunk;
+        this.chunkCount = chunkCount + 1;
+        this.position = 0;
+        return chunk;
+    }
+
+    private int lengthOf(int index) {
+        return index == chunkCount - 1 ? position : chunks[index].length;
+    }
+
+    /**
+     * The {@link InputStream} reading the chunks transferred from {@link ChunkedByteArrayOutputStream}
+     */
+    static class ChunkedInputStream extends InputStream {
+
+        private final BufferPool bufferPool;
+
+        private final byte[][] chunks;
+
+        private final int chunkCount;
+
+        private final int lastLength;
+
+        private int index;
+
+        private int position;
+
+        private long remaining;
+
+        ChunkedInputStream(BufferPool bufferPool, byte[][] chunks, int chunkCount, int lastLength) {
+            this.bufferPool = bufferPool;
+            this.chunks = chunks;
+            this.chunkCount = chunkCount;
+            this.lastLength = lastLength;
+            long size = lastLength;
+            for (int i = 0; i < chunkCount - 1; i++) {
+                size += chunks[i].length;
+            }
+            this.remaining = chunkCount == 0 ? 0 : size;
+        }
+
+        @Override
+        public int read() {
+            byte[] chunk = currentChunk();
+            if (chunk == null) {
+                return -1;
+            }
+            remaining--;
+            return chunk[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (off < 0 || len < 0 || off > b.length - len) {
+                throw new IndexOutOfBoundsException();
+            }
+            if (len == 0) {
+                return 0;
+            }
+            int count = 0;
+            byte[] chunk;
+            while (count < len && (chunk = currentChunk()) != null) {
+                int n = min(len - count, lengthOf(index) - position);
+                arraycopy(chunk, position, b, off + count, n);
+                position += n;
+                count += n;
+            }
+            remaining -= count;
+            return count == 0 ? -1 : count;
+        }
+
+        @Override
+        public long skip(long n) {
+            long count = 0;
+            while (count < n && currentChunk() != null) {
+                int skipped = (int) min(n - count, lengthOf(index) - position);
+                position += skipped;
+                count += skipped;
+            }
+            remaining -= count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return (int) min(remaining, Integer.MAX_VALUE);
+        }
+
+        @Override
+        public void close() {
+            for (int i = 0; i < chunkCount; i++) {
+                byte[] chunk = chunks[i];
+                if (chunk != null) {
+                    bufferPool.release(chunk);
+                    chunks[i] = null;
+                }
+            }
+            this.index = chunkCount;
+            this.remaining = 0;
+        }
+
+        private byte[] currentChunk() {
+            while (index < chunkCount) {
+                if (position < lengthOf(index)) {
+                    return chunks[index];
+                }
+                index++;
+                position = 0;
+            }
+            return null;
+        }
+
+        private int lengthOf(int index) {
+            return index == chunkCount - 1 ? lastLength : chunks[index].length;
+        }
+    }
+}
@@ -23,11 +23,19 @@ import io.microsphere.util.StringUtils;
 import io.microsphere.util.Utils;
 
 import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
@@ -35,14 +43,17 @@ import java.nio.file.Paths;
 import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
 import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
 import static io.microsphere.constants.SeparatorConstants.LINE_SEPARATOR;
+import static io.microsphere.io.BufferPool.DEFAULT_BUFFER_POOL;
 import static io.microsphere.logging.LoggerFactory.getLogger;
 import static io.microsphere.nio.charset.CharsetUtils.DEFAULT_CHARSET;
 import static io.microsphere.util.ArrayUtils.EMPTY_BYTE_ARRAY;
 import static io.microsphere.util.ObjectUtils.defaultIfNull;
 import static io.microsphere.util.StringUtils.split;
 import static io.microsphere.util.SystemUtils.FILE_ENCODING;
+import static java.lang.Integer.MAX_VALUE;
 import static java.lang.Integer.getInteger;
 import static java.lang.Integer.parseInt;
+import static java.lang.Math.min;
 import static java.nio.charset.Charset.forName;
 import static java.util.Objects.requireNonNull;
 
@@ -90,6 +101,11 @@ public abstract class IOUtils implements Utils {
     )
     public static final int BUFFER_SIZE = getInteger(BUFFER_SIZE_PROPERTY_NAME, DEFAULT_BUFFER_SIZE);
 
+    /**
+     * The max count of bytes transferred by {@link FileChannel#transferTo} or {@link FileChannel#transferFrom} once
+     */
+    static final long TRANSFER_SIZE = 1L << 23;
+
     /**
      * Reads all lines from the given {@link InputStream} and returns them as an array of strings,
      * using the default character set for decoding.
@@ -209,9 +225,10 @@ public abstract class IOUtils implements Utils {
         if (in == null) {
             return EMPTY_BYTE_ARRAY;
         }
-        FastByteArrayOutputStream out = new FastByteArrayOutputStream(BUFFER_SIZE);
-        copy(in, out);
-        return out.toByteArray();
+        try (ChunkedByteArrayOutputStream out = new ChunkedByteArrayOutputStream(BUFFER_SIZE)) {
+            out.readFrom(in);
+            return out.toByteArray();
+        }
     }
 
     /**
@@ -432,8 +449,11 @@ public abstract class IOUtils implements Utils {
     /**
      * Copies all data from the given {@link InputStream} to the specified {@link OutputStream}.
      * <p>
-     * This method uses a buffer of size {@link #BUFFER_SIZE} for efficient copying.
-     * Both streams remain open after this operation. The total number of bytes copied is returned.
+     * This method uses a buffer of size {@link #BUFFER_SIZE} acquired from the {@link BufferPool} for efficient copying,
+     * or transfers the bytes between the {@link FileChannel FileChannels} without copying them into the Java heap if
+     * the streams are exactly {@link FileInputStream} and {@link FileOutputStream}, and the source is a regular file.
+     * Both streams remain open after this operation. The total number of bytes copied is returned, or -1 if it's
+     * larger than {@link Integer#MAX_VALUE}.
      * </p>
      *
      * <p>If either stream is {@code null}, an {@link IllegalArgumentException} will be thrown.</p>
@@ -449,24 +469,160 @@ public abstract class IOUtils implements Utils {
      *
      * @param in  the source InputStream to read from; must not be {@code null}
      * @param out the target OutputStream to write to; must not be {@code null}
-     * @return the number of bytes copied from the input stream to the output stream
+     * @return the number of bytes copied from the input stream to the output stream, or -1 if it's larger than
+     * {@link Integer#MAX_VALUE}
      * @throws IOException if an I/O error occurs while reading or writing
      */
     public static int copy(InputStream in, OutputStream out) throws IOException {
         requireNonNull(in, "No InputStream specified");
         requireNonNull(out, "No OutputStream specified");
 
-        int byteCount = 0;
-        byte[] buffer = new byte[BUFFER_SIZE];
-        int bytesRead;
-        while ((bytesRead = in.read(buffer)) != -1) {
-            out.write(buffer, 0, bytesRead);
-            byteCount += bytesRead;
+        long byteCount;
+        FileChannel sourceChannel;
+        if (in.getClass() == FileInputStream.class && out.getClass() == FileOutputStream.class
+                && isRegularFile(sourceChannel = ((FileInputStream) in).getChannel())) {
+            // the subclasses may override the read or write methods, so only the exact types are transferred
+            byteCount = transferTo(sourceChannel, ((FileOutputStream) out).getChannel());
+        } else {
+            byteCount = copyByBuffer(in, out);
         }
         out.flush();
         if (logger.isTraceEnabled()) {
             logger.trace("Copied {} bytes[buffer size : {}] from InputStream[{}] to OutputStream[{}]", byteCount, BUFFER_SIZE, in, out);
         }
+        return byteCount > MAX_VALUE ? -1 : (int) byteCount;
+    }
+
+    /**
+     * Copies all bytes from the current position of the given {@link ReadableByteChannel} to the specified
+     * {@link WritableByteChannel}, the non-blocking channels are polled until all bytes are copied.
+     * <p>
+     * If the source is a {@link FileChannel} of a regular file, the bytes are transferred by
+     * {@link FileChannel#transferTo}, which may be
+     * zero-copy if the target is a {@link FileChannel} or a {@link java.nio.channels.SocketChannel}. Otherwise, if the
+     * source is a blocking channel other than {@link FileChannel} and the target is a {@link FileChannel}, the bytes
+     * are transferred by {@link FileChannel#transferFrom}. Otherwise, e.g. the special files(the files in "/proc", the
+     * devices and FIFOs) or the non-blocking sources, a direct buffer acquired from the {@link BufferPool} is used.
+     * The positions of the {@link FileChannel FileChannels} are advanced by the count of bytes copied, both channels
+     * remain open after this operation.
+     * </p>
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * try (FileChannel fileChannel = FileChannel.open(path, READ);
+     *      SocketChannel socketChannel = SocketChannel.open(address)) {
+     *     long byteCount = IOUtils.copy(fileChannel, socketChannel);
+     * }
+     * }</pre>
+     *
+     * @param source the source channel to read from; must not be {@code null}
+     * @param target the target channel to write to; must not be {@code null}
+     * @return the number of bytes copied
+     * @throws IOException if an I/O error occurs while reading or writing
+     */
+    public static long copy(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        requireNonNull(source, "No ReadableByteChannel specified");
+        requireNonNull(target, "No WritableByteChannel specified");
+
+        long byteCount;
+        if (source instanceof FileChannel) {
+            // FileChannel#transferFrom stops at the size of the source FileChannel, which is 0 for the special files
+            FileChannel sourceChannel = (FileChannel) source;
+            byteCount = isRegularFile(sourceChannel) ? transferTo(sourceChannel, target) : copyByBuffer(source, target);
+        } else if (target instanceof FileChannel && isBlocking(source)
+                && ((FileChannel) target).position() <= ((FileChannel) target).size()) {
+            byteCount = transferFrom(source, (FileChannel) target);
+        } else {
+            byteCount = copyByBuffer(source, target);
+        }
+        if (logger.isTraceEnabled()) {
+            logger.trace("Copied {} bytes from ReadableByteChannel[{}] to WritableByteChannel[{}]", byteCount, source, target);
+        }
+        return byteCount;
+    }
+
+    /**
+     * Whether the {@link FileChannel} is of a regular file, the sizes of the special files(e.g. the files in "/proc",
+     * the devices and FIFOs) are reported as 0, whose content can't be transferred by the position and size.
+     *
+     * @param channel {@link FileChannel}
+     * @return <code>true</code> if the size of file is positive
+     * @throws IOException if an I/O error occurs
+     */
+    static boolean isRegularFile(FileChannel channel) throws IOException {
+        return channel.size() > 0;
+    }
+
+    /**
+     * Whether the channel is blocking, the channels other than {@link SelectableChannel} are always blocking
+     *
+     * @param channel {@link Channel}
+     * @return <code>true</code> if it's blocking
+     */
+    static boolean isBlocking(Channel channel) {
+        return !(channel instanceof SelectableChannel) || ((SelectableChannel) channel).isBlocking();
+    }
+
+    static long transferTo(FileChannel source, WritableByteChannel target) throws IOException {
+        long position = source.position();
+        long end = source.size();
+        long byteCount = 0;
+        // FileChannel#transferTo returns 0 if the non-blocking target is full, so loop until the end of file
+        while (position + byteCount < end) {
+            long transferred = source.transferTo(position + byteCount, min(TRANSFER_SIZE, end - position - byteCount), target);
+            if (transferred > 0) {
+                byteCount += transferred;
+            } else {
+                // the file may be truncated
+                end = min(end, source.size());
+            }
+        }
+        source.position(position + byteCount);
+        return byteCount;
+    }
+
+    static long transferFrom(ReadableByteChannel source, FileChannel target) throws IOException {
+        long position = target.position();
+        long byteCount = 0;
+        long transferred;
+        // FileChannel#transferFrom returns 0 once the blocking source reaches the end of stream, the non-blocking
+        // sources are copied by the buffer because it returns 0 too if no bytes are available
+        while ((transferred = target.transferFrom(source, position + byteCount, TRANSFER_SIZE)) > 0) {
+            byteCount += transferred;
+        }
+        target.position(position + byteCount);
+        return byteCount;
+    }
+
+    static long copyByBuffer(InputStream in, OutputStream out) throws IOException {
+        long byteCount = 0;
+        byte[] buffer = DEFAULT_BUFFER_POOL.acquire(BUFFER_SIZE);
+        try {
+            int bytesRead;
+            while ((bytesRead = in.read(buffer, 0, BUFFER_SIZE)) != -1) {
+                out.write(buffer, 0, bytesRead);
+                byteCount += bytesRead;
+            }
+        } finally {
+            DEFAULT_BUFFER_POOL.release(buffer);
+        }
+        return byteCount;
+    }
+
+    static long copyByBuffer(ReadableByteChannel source, WritableByteChannel target) throws IOException {
+        long byteCount = 0;
+        ByteBuffer buffer = DEFAULT_BUFFER_POOL.acquireDirect(BUFFER_SIZE);
+        try {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    byteCount += target.write(buffer);
+                }
+                buffer.clear();
+            }
+        } finally {
+            DEFAULT_BUFFER_POOL.releaseDirect(buffer);
+        }
         return byteCount;
     }
 
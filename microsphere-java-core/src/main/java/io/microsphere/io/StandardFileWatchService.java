@@ -42,7 +42,8 @@ import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_
 import static io.microsphere.collection.MapUtils.newTreeMap;
 import static io.microsphere.collection.SetUtils.newTreeSet;
 import static io.microsphere.concurrent.CustomizedThreadFactory.newThreadFactory;
-import static io.microsphere.concurrent.ExecutorUtils.shutdown;
+import static io.microsphere.concurrent.ExecutorUtils.EXECUTOR_SHUTDOWN_TIMEOUT;
+import static io.microsphere.concurrent.ExecutorUtils.shutdownAll;
 import static io.microsphere.concurrent.ExecutorUtils.shutdownOnExit;
 import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
 import static io.microsphere.event.EventDispatcher.DIRECT_EXECUTOR;
@@ -185,11 +186,12 @@ public class StandardFileWatchService implements FileWatchService, AutoCloseable
 
     public void stop() throws Exception {
         // set the flag "started" to false
-        while (this.started.compareAndSet(true, false)) {
-            // wait for the event loop to complete
-            this.eventLoopExecutor.awaitTermination(100, MILLISECONDS);
-            // if the event loop is not done, try to cancel the task
-            this.eventLoopFuture.cancel(true);
+        if (this.started.compareAndSet(true, false)) {
+            // the event loop is blocked in WatchService.take(), interrupt it rather than polling for its completion
+            Future eventLoopFuture = this.eventLoopFuture;
+            if (eventLoopFuture != null) {
+                eventLoopFuture.cancel(true);
+            }
         }
     }
 
@@ -202,8 +204,7 @@ public class StandardFileWatchService implements FileWatchService, AutoCloseable
         this.stop();
         IOUtils.close(this.watchService);
         this.fileChangedMetadataCache.clear();
-        shutdown(this.eventLoopExecutor);
-        shutdown(this.eventHandlerExecutor);
+        shutdownAll(EXECUTOR_SHUTDOWN_TIMEOUT, MILLISECONDS, this.eventLoopExecutor, this.eventHandlerExecutor);
     }
 
     private void dispatchFileChangedEvents(WatchService watchService) {
@@ -17,6 +17,8 @@
 package io.microsphere.io.filter;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * This filter accepts {@link File} objects that are directories.
@@ -53,4 +55,9 @@ public class DirectoryFileFilter implements IOFileFilter {
     public boolean accept(File file) {
         return file != null && file.isDirectory();
     }
+
+    @Override
+    public boolean accept(Path path, BasicFileAttributes attributes) {
+        return attributes == null ? IOFileFilter.super.accept(path, null) : attributes.isDirectory();
+    }
 }
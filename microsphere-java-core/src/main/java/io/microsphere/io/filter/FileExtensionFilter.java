@@ -19,6 +19,8 @@ package io.microsphere.io.filter;
 import io.microsphere.io.FileUtils;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import static io.microsphere.constants.SymbolConstants.DOT;
 import static io.microsphere.io.FileUtils.getFileExtension;
@@ -70,8 +72,21 @@ public class FileExtensionFilter implements IOFileFilter {
         if (file == null || file.isDirectory()) {
             return false;
         }
+        return acceptName(file.getName());
+    }
+
+    @Override
+    public boolean accept(Path path, BasicFileAttributes attributes) {
+        if (attributes == null) {
+            return IOFileFilter.super.accept(path, null);
+        }
+        if (attributes.isDirectory()) {
+            return false;
+        }
+        return acceptName(path.toFile().getName());
+    }
 
-        String fileName = file.getName();
+    private boolean acceptName(String fileName) {
         String fileExtension = getFileExtension(fileName);
         if (isBlank(fileExtension)) {
             return false;
@@ -21,6 +21,8 @@ import io.microsphere.filter.Filter;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FilenameFilter;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * A compound interface that combines the functionalities of {@link FileFilter} and
@@ -59,4 +61,17 @@ public interface IOFileFilter extends FileFilter, FilenameFilter {
     default boolean accept(File dir, String name) {
         return accept(new File(dir, name));
     }
+
+    /**
+     * Tests whether the specified {@link Path} should be accepted, the {@link BasicFileAttributes} that were read by
+     * the caller (e.g. during walking the file tree) could be reused by the implementation to avoid the extra file
+     * system calls.
+     *
+     * @param path       the {@link Path} to test
+     * @param attributes the {@link BasicFileAttributes} of the path, or <code>null</code> if they can't be read
+     * @return <code>true</code> if accepted
+     */
+    default boolean accept(Path path, BasicFileAttributes attributes) {
+        return accept(path.toFile());
+    }
 }
@@ -17,6 +17,8 @@
 package io.microsphere.io.filter;
 
 import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 /**
  * {@link IOFileFilter} implementation always returns <code>true</code>
@@ -44,4 +46,9 @@ public class TrueFileFilter implements IOFileFilter {
     public boolean accept(File dir, String name) {
         return true;
     }
+
+    @Override
+    public boolean accept(Path path, BasicFileAttributes attributes) {
+        return true;
+    }
 }
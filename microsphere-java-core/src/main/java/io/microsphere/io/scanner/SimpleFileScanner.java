@@ -2,18 +2,61 @@ package io.microsphere.io.scanner;
 
 import io.microsphere.annotation.Immutable;
 import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.io.IOUtils;
 import io.microsphere.io.filter.IOFileFilter;
 import io.microsphere.io.filter.TrueFileFilter;
 
+import java.io.Closeable;
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.ListUtils.newLinkedList;
 import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Integer.MAX_VALUE;
+import static java.nio.file.FileVisitOption.FOLLOW_LINKS;
+import static java.nio.file.FileVisitResult.CONTINUE;
+import static java.nio.file.FileVisitResult.SKIP_SUBTREE;
+import static java.nio.file.FileVisitResult.TERMINATE;
+import static java.nio.file.Files.newDirectoryStream;
+import static java.nio.file.Files.readAttributes;
+import static java.nio.file.Files.walkFileTree;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Spliterator.DISTINCT;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.concurrent.ForkJoinPool.commonPool;
 
 /**
- * Simple File Scanner (Single-Thread)
+ * Simple File Scanner
  *
  * <p>
  * This class provides a simple mechanism to scan files and directories using customizable filters.
@@ -23,8 +66,16 @@ import static java.util.Collections.unmodifiableSet;
  * <h3>Features</h3>
  * <ul>
  *     <li>Scans files and directories based on provided filters.</li>
- *     <li>Supports recursive scanning of subdirectories.</li>
- *     <li>Returns an unmodifiable set of matched files, preserving order based on the underlying file system's implementation.</li>
+ *     <li>Supports recursive scanning of subdirectories, or scanning up to a maximum depth.</li>
+ *     <li>Prunes the subdirectories that are not accepted by the directory filter, which are never opened.</li>
+ *     <li>Walks the file tree by NIO, the {@link BasicFileAttributes} of every entry are read once and reused by
+ *     the {@link IOFileFilter#accept(Path, BasicFileAttributes) filters}.</li>
+ *     <li>Offers the lazy {@link #stream(Path, int, IOFileFilter, IOFileFilter) Stream} and the
+ *     {@link #visit(Path, int, IOFileFilter, IOFileFilter, Predicate) visitor} APIs with early termination.</li>
+ *     <li>Scans the wide trees in {@link #parallelScan(Path, int, IOFileFilter, IOFileFilter, ForkJoinPool) parallel}
+ *     based on the fork/join framework.</li>
+ *     <li>Returns an unmodifiable set of matched files in the pre-order of the tree, the order of siblings is based on
+ *     the underlying file system's implementation.</li>
  * </ul>
  *
  * <h3>Example Usage</h3>
@@ -42,6 +93,16 @@ import static java.util.Collections.unmodifiableSet;
  *     }
  * };
  * Set<File> txtFiles = SimpleFileScanner.INSTANCE.scan(new File("/your/path"), true, filter);
+ *
+ * // Scan the class files in two levels, skipping the ".git" directories
+ * IOFileFilter notGit = file -> !".git".equals(file.getName());
+ * Set<Path> classFiles = SimpleFileScanner.INSTANCE.scan(Paths.get("/your/path"), 2, notGit, FileExtensionFilter.of("class"));
+ *
+ * // Find the first class file lazily
+ * try (Stream<Path> paths = SimpleFileScanner.INSTANCE.stream(Paths.get("/your/path"), Integer.MAX_VALUE, null,
+ *         FileExtensionFilter.of("class"))) {
+ *     Optional<Path> first = paths.findFirst();
+ * }
  * }</pre>
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
@@ -52,11 +113,28 @@ import static java.util.Collections.unmodifiableSet;
 public class SimpleFileScanner {
 
     /**
-     * Singleton
+     * Singleton, which follows the symbolic links as {@link File#isDirectory()} does
      */
     public final static SimpleFileScanner INSTANCE = new SimpleFileScanner();
 
+    private static final LinkOption[] FOLLOW_LINK_OPTIONS = new LinkOption[0];
+
+    private static final LinkOption[] NOFOLLOW_LINK_OPTIONS = new LinkOption[]{NOFOLLOW_LINKS};
+
+    private final boolean followLinks;
+
+    private final Set<FileVisitOption> fileVisitOptions;
+
     public SimpleFileScanner() {
+        this(true);
+    }
+
+    /**
+     * @param followLinks whether to follow the symbolic links, the loops of links are detected and not descended
+     */
+    public SimpleFileScanner(boolean followLinks) {
+        this.followLinks = followLinks;
+        this.fileVisitOptions = followLinks ? EnumSet.of(FOLLOW_LINKS) : EnumSet.noneOf(FileVisitOption.class);
     }
 
     /**
@@ -64,7 +142,7 @@ public class SimpleFileScanner {
      *
      * @param rootDirectory Root directory
      * @param recursive     is recursive on sub directories
-     * @return Read-only {@link Set} , and the order be dependent on {@link File#listFiles()} implementation
+     * @return Read-only {@link Set} , and the order be dependent on {@link DirectoryStream} implementation
      * @see IOFileFilter
      */
     @Nonnull
@@ -79,32 +157,418 @@ public class SimpleFileScanner {
      * @param rootDirectory Root directory
      * @param recursive     is recursive on sub directories
      * @param ioFileFilter  {@link IOFileFilter}
-     * @return Read-only {@link Set} , and the order be dependent on {@link File#listFiles()} implementation
+     * @return Read-only {@link Set} , and the order be dependent on {@link DirectoryStream} implementation
      * @see IOFileFilter
      */
     @Nonnull
     @Immutable
     public Set<File> scan(File rootDirectory, boolean recursive, IOFileFilter ioFileFilter) {
+        LinkedHashSet<File> filesSet = newLinkedHashSet();
+        visit(rootDirectory.toPath(), recursive ? MAX_VALUE : 1, null, ioFileFilter, path -> {
+            filesSet.add(path.toFile());
+            return true;
+        });
+        return unmodifiableSet(filesSet);
+    }
 
-        final LinkedHashSet<File> filesSet = newLinkedHashSet();
+    /**
+     * Scan all {@link Path} {@link Set} that are accepted by {@link IOFileFilter} under root directory
+     *
+     * @param root            Root directory or file
+     * @param maxDepth        the maximum number of directory levels to visit, <code>0</code> means only the root
+     * @param directoryFilter the {@link IOFileFilter} to prune the subdirectories that should not be descended,
+     *                        <code>null</code> means all subdirectories will be descended
+     * @param filter          the {@link IOFileFilter} to accept the result
+     * @return Read-only {@link Set} in the pre-order of the tree
+     * @throws IllegalArgumentException if <code>maxDepth</code> is negative
+     */
+    @Nonnull
+    @Immutable
+    public Set<Path> scan(Path root, int maxDepth, @Nullable IOFileFilter directoryFilter, IOFileFilter filter)
+            throws IllegalArgumentException {
+        LinkedHashSet<Path> pathsSet = newLinkedHashSet();
+        visit(root, maxDepth, directoryFilter, filter, path -> {
+            pathsSet.add(path);
+            return true;
+        });
+        return unmodifiableSet(pathsSet);
+    }
+
+    /**
+     * Visit the {@link Path paths} that are accepted by {@link IOFileFilter} under root directory in the pre-order of
+     * the tree until the visitor returns <code>false</code>.
+     *
+     * @param root            Root directory or file
+     * @param maxDepth        the maximum number of directory levels to visit, <code>0</code> means only the root
+     * @param directoryFilter the {@link IOFileFilter} to prune the subdirectories that should not be descended,
+     *                        <code>null</code> means all subdirectories will be descended
+     * @param filter          the {@link IOFileFilter} to accept the paths
+     * @param visitor         the visitor of accepted paths, returns <code>false</code> to terminate the scanning
+     * @throws IllegalArgumentException if <code>maxDepth</code> is negative
+     */
+    public void visit(Path root, int maxDepth, @Nullable IOFileFilter directoryFilter, IOFileFilter filter,
+                      Predicate<? super Path> visitor) throws IllegalArgumentException {
+        assertArguments(root, maxDepth, filter);
+        assertNotNull(visitor, "The 'visitor' must not be null");
+        try {
+            walkFileTree(root, fileVisitOptions, maxDepth, new ScanningFileVisitor(directoryFilter, filter, visitor));
+        } catch (IOException e) {
+            // never happens, the I/O errors are tolerated by ScanningFileVisitor
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Scan the {@link Path paths} that are accepted by {@link IOFileFilter} under root directory lazily, the
+     * directories are opened on demand while the {@link Stream} is consumed, thus the short-circuiting operations
+     * (e.g. {@link Stream#findFirst()}) terminate the scanning early.
+     *
+     * <p>
+     * The returned {@link Stream} should be closed (e.g. try-with-resources) to release the opened directories if it
+     * was not consumed completely.
+     * </p>
+     *
+     * @param root            Root directory or file
+     * @param maxDepth        the maximum number of directory levels to visit, <code>0</code> means only the root
+     * @param directoryFilter the {@link IOFileFilter} to prune the subdirectories that should not be descended,
+     *                        <code>null</code> means all subdirectories will be descended
+     * @param filter          the {@link IOFileFilter} to accept the paths
+     * @return non-null sequential {@link Stream} in the pre-order of the tree
+     * @throws IllegalArgumentException if <code>maxDepth</code> is negative
+     */
+    @Nonnull
+    public Stream<Path> stream(Path root, int maxDepth, @Nullable IOFileFilter directoryFilter, IOFileFilter filter)
+            throws IllegalArgumentException {
+        assertArguments(root, maxDepth, filter);
+        FileTreeIterator iterator = new FileTreeIterator(root, maxDepth, directoryFilter, filter);
+        return StreamSupport.stream(spliteratorUnknownSize(iterator, ORDERED | DISTINCT | NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Scan all {@link Path} {@link Set} that are accepted by {@link IOFileFilter} under root directory in parallel
+     * on the {@link ForkJoinPool#commonPool() common pool}
+     *
+     * @param root            Root directory or file
+     * @param maxDepth        the maximum number of directory levels to visit, <code>0</code> means only the root
+     * @param directoryFilter the {@link IOFileFilter} to prune the subdirectories that should not be descended,
+     *                        <code>null</code> means all subdirectories will be descended
+     * @param filter          the {@link IOFileFilter} to accept the result, must be thread-safe
+     * @return Read-only {@link Set} in the pre-order of the tree
+     * @throws IllegalArgumentException if <code>maxDepth</code> is negative
+     * @see #parallelScan(Path, int, IOFileFilter, IOFileFilter, ForkJoinPool)
+     */
+    @Nonnull
+    @Immutable
+    public Set<Path> parallelScan(Path root, int maxDepth, @Nullable IOFileFilter directoryFilter, IOFileFilter filter)
+            throws IllegalArgumentException {
+        return parallelScan(root, maxDepth, directoryFilter, filter, commonPool());
+    }
 
-        if (ioFileFilter.accept(rootDirectory)) {
-            filesSet.add(rootDirectory);
+    /**
+     * Scan all {@link Path} {@link Set} that are accepted by {@link IOFileFilter} under root directory in parallel,
+     * every subdirectory is scanned by a forked task, which fits the wide trees (e.g. the exploded class-path
+     * directories). The result is identical to {@link #scan(Path, int, IOFileFilter, IOFileFilter)}.
+     *
+     * @param root            Root directory or file
+     * @param maxDepth        the maximum number of directory levels to visit, <code>0</code> means only the root
+     * @param directoryFilter the {@link IOFileFilter} to prune the subdirectories that should not be descended,
+     *                        <code>null</code> means all subdirectories will be descended
+     * @param filter          the {@link IOFileFilter} to accept the result, must be thread-safe
+     * @param forkJoinPool    the {@link ForkJoinPool} to execute the tasks
+     * @return Read-only {@link Set} in the pre-order of the tree
+     * @throws IllegalArgumentException if <code>maxDepth</code> is negative
+     */
+    @Nonnull
+    @Immutable
+    public Set<Path> parallelScan(Path root, int maxDepth, @Nullable IOFileFilter directoryFilter, IOFileFilter filter,
+                                  ForkJoinPool forkJoinPool) throws IllegalArgumentException {
+        assertArguments(root, maxDepth, filter);
+        assertNotNull(forkJoinPool, "The 'forkJoinPool' must not be null");
+        LinkedHashSet<Path> pathsSet = newLinkedHashSet();
+        BasicFileAttributes attributes = readAttributesQuietly(root);
+        if (filter.accept(root, attributes)) {
+            pathsSet.add(root);
+        }
+        if (attributes != null && attributes.isDirectory() && maxDepth > 0) {
+            pathsSet.addAll(forkJoinPool.invoke(new ScanTask(root, attributes, 0, maxDepth, directoryFilter, filter, null)));
         }
+        return unmodifiableSet(pathsSet);
+    }
 
-        File[] subFiles = rootDirectory.listFiles();
+    private static void assertArguments(Path root, int maxDepth, IOFileFilter filter) {
+        assertNotNull(root, "The 'root' must not be null");
+        assertNotNull(filter, "The 'filter' must not be null");
+        assertTrue(maxDepth >= 0, () -> "The 'maxDepth' must not be negative : " + maxDepth);
+    }
 
-        if (subFiles != null) {
-            for (File subFile : subFiles) {
-                if (ioFileFilter.accept(subFile)) {
-                    filesSet.add(subFile);
+    @Nullable
+    BasicFileAttributes readAttributesQuietly(Path path) {
+        try {
+            return readAttributes(path, BasicFileAttributes.class, followLinks ? FOLLOW_LINK_OPTIONS : NOFOLLOW_LINK_OPTIONS);
+        } catch (IOException e) {
+            if (followLinks) {
+                // the broken link
+                try {
+                    return readAttributes(path, BasicFileAttributes.class, NOFOLLOW_LINK_OPTIONS);
+                } catch (IOException ignored) {
                 }
-                if (recursive && subFile.isDirectory()) {
-                    filesSet.addAll(scan(subFile, recursive, ioFileFilter));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Whether the directory should be descended
+     */
+    boolean isDescendable(Path directory, BasicFileAttributes attributes, int depth, int maxDepth,
+                          @Nullable IOFileFilter directoryFilter, @Nullable Ancestor ancestor) {
+        if (attributes == null || !attributes.isDirectory() || depth >= maxDepth) {
+            return false;
+        }
+        if (directoryFilter != null && !directoryFilter.accept(directory, attributes)) {
+            return false;
+        }
+        return !followLinks || ancestor == null || !ancestor.contains(attributes.fileKey());
+    }
+
+    /**
+     * The chain of the ancestor directories to detect the loops of symbolic links
+     */
+    static class Ancestor {
+
+        private final Object fileKey;
+
+        private final Ancestor parent;
+
+        Ancestor(BasicFileAttributes attributes, Ancestor parent) {
+            this.fileKey = attributes.fileKey();
+            this.parent = parent;
+        }
+
+        boolean contains(Object fileKey) {
+            if (fileKey == null) {
+                return false;
+            }
+            Ancestor ancestor = this;
+            while (ancestor != null) {
+                if (Objects.equals(fileKey, ancestor.fileKey)) {
+                    return true;
                 }
+                ancestor = ancestor.parent;
             }
+            return false;
         }
-        return unmodifiableSet(filesSet);
     }
 
+    private static class ScanningFileVisitor extends SimpleFileVisitor<Path> {
+
+        private final IOFileFilter directoryFilter;
+
+        private final IOFileFilter filter;
+
+        private final Predicate<? super Path> visitor;
+
+        private boolean started;
+
+        ScanningFileVisitor(IOFileFilter directoryFilter, IOFileFilter filter, Predicate<? super Path> visitor) {
+            this.directoryFilter = directoryFilter;
+            this.filter = filter;
+            this.visitor = visitor;
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (filter.accept(dir, attrs) && !visitor.test(dir)) {
+                return TERMINATE;
+            }
+            if (!started) {
+                // the root directory is always descended
+                started = true;
+                return CONTINUE;
+            }
+            return directoryFilter == null || directoryFilter.accept(dir, attrs) ? CONTINUE : SKIP_SUBTREE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            return filter.accept(file, attrs) && !visitor.test(file) ? TERMINATE : CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exc) {
+            // the attributes of file can't be read, or the directory can't be opened
+            return filter.accept(file, null) && !visitor.test(file) ? TERMINATE : CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) {
+            return CONTINUE;
+        }
+    }
+
+    private class FileTreeIterator implements Iterator<Path>, Closeable {
+
+        private final int maxDepth;
+
+        private final IOFileFilter directoryFilter;
+
+        private final IOFileFilter filter;
+
+        private final Deque<DirectoryNode> stack = new ArrayDeque<>();
+
+        private Path next;
+
+        FileTreeIterator(Path root, int maxDepth, IOFileFilter directoryFilter, IOFileFilter filter) {
+            this.maxDepth = maxDepth;
+            this.directoryFilter = directoryFilter;
+            this.filter = filter;
+            BasicFileAttributes attributes = readAttributesQuietly(root);
+            if (attributes != null && attributes.isDirectory() && maxDepth > 0) {
+                open(root, attributes, 0, null);
+            }
+            if (filter.accept(root, attributes)) {
+                this.next = root;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = advance();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Path path = next;
+            next = null;
+            return path;
+        }
+
+        private Path advance() {
+            DirectoryNode node;
+            while ((node = stack.peek()) != null) {
+                Path entry = node.nextEntry();
+                if (entry == null) {
+                    IOUtils.close(stack.pop().directoryStream);
+                    continue;
+                }
+                BasicFileAttributes attributes = readAttributesQuietly(entry);
+                int depth = node.depth + 1;
+                if (isDescendable(entry, attributes, depth, maxDepth, directoryFilter, node.ancestor)) {
+                    // pushed before the entry is returned, so that its children follow it in the pre-order
+                    open(entry, attributes, depth, node.ancestor);
+                }
+                if (filter.accept(entry, attributes)) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+
+        private void open(Path directory, BasicFileAttributes attributes, int depth, Ancestor parent) {
+            try {
+                stack.push(new DirectoryNode(newDirectoryStream(directory), depth, new Ancestor(attributes, parent)));
+            } catch (IOException ignored) {
+                // the directory can't be opened
+            }
+        }
+
+        @Override
+        public void close() {
+            DirectoryNode node;
+            while ((node = stack.poll()) != null) {
+                IOUtils.close(node.directoryStream);
+            }
+        }
+    }
+
+    private static class DirectoryNode {
+
+        private final DirectoryStream<Path> directoryStream;
+
+        private final Iterator<Path> iterator;
+
+        private final int depth;
+
+        private final Ancestor ancestor;
+
+        DirectoryNode(DirectoryStream<Path> directoryStream, int depth, Ancestor ancestor) {
+            this.directoryStream = directoryStream;
+            this.iterator = directoryStream.iterator();
+            this.depth = depth;
+            this.ancestor = ancestor;
+        }
+
+        Path nextEntry() {
+            try {
+                return iterator.hasNext() ? iterator.next() : null;
+            } catch (DirectoryIteratorException e) {
+                // the directory can't be read any more
+                return null;
+            }
+        }
+    }
+
+    private class ScanTask extends RecursiveTask<List<Path>> {
+
+        private final Path directory;
+
+        private final int depth;
+
+        private final int maxDepth;
+
+        private final IOFileFilter directoryFilter;
+
+        private final IOFileFilter filter;
+
+        private final Ancestor ancestor;
+
+        ScanTask(Path directory, BasicFileAttributes attributes, int depth, int maxDepth, IOFileFilter directoryFilter,
+                 IOFileFilter filter, Ancestor parent) {
+            this.directory = directory;
+            this.depth = depth;
+            this.maxDepth = maxDepth;
+            this.directoryFilter = directoryFilter;
+            this.filter = filter;
+            this.ancestor = new Ancestor(attributes, parent);
+        }
+
+        @Override
+        protected List<Path> compute() {
+            // the accepted paths and the forked tasks in the pre-order
+            List<Object> parts = newLinkedList();
+            int depth = this.depth + 1;
+            try (DirectoryStream<Path> directoryStream = newDirectoryStream(directory)) {
+                for (Path entry : directoryStream) {
+                    BasicFileAttributes attributes = readAttributesQuietly(entry);
+                    if (filter.accept(entry, attributes)) {
+                        parts.add(entry);
+                    }
+                    if (isDescendable(entry, attributes, depth, maxDepth, directoryFilter, ancestor)) {
+                        ScanTask task = new ScanTask(entry, attributes, depth, maxDepth, directoryFilter, filter, ancestor);
+                        task.fork();
+                        parts.add(task);
+                    }
+                }
+            } catch (IOException | DirectoryIteratorException ignored) {
+                // the directory can't be opened or read
+            }
+
+            List<Path> paths = newArrayList(parts.size());
+            for (Object part : parts) {
+                if (part instanceof ScanTask) {
+                    paths.addAll(((ScanTask) part).join());
+                } else {
+                    paths.add((Path) part);
+                }
+            }
+            return paths;
+        }
+    }
 }
@@ -16,7 +16,7 @@
  */
 package io.microsphere.io.serializer;
 
-import io.microsphere.io.FastByteArrayOutputStream;
+import io.microsphere.io.ChunkedByteArrayOutputStream;
 
 import java.io.IOException;
 import java.io.ObjectOutputStream;
@@ -51,11 +51,12 @@ public class DefaultSerializer implements Serializer<Object> {
     @Override
     public byte[] serialize(Object source) throws IOException {
         byte[] bytes = null;
-        try (FastByteArrayOutputStream outputStream = new FastByteArrayOutputStream();
+        try (ChunkedByteArrayOutputStream outputStream = new ChunkedByteArrayOutputStream();
              ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)
         ) {
             // Key -> byte[]
             objectOutputStream.writeObject(source);
+            objectOutputStream.flush();
             bytes = outputStream.toByteArray();
         }
         return bytes;
@@ -17,6 +17,7 @@
 package io.microsphere.io.serializer;
 
 import io.microsphere.annotation.Nonnull;
+import io.microsphere.util.ServiceRegistry;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -28,6 +29,7 @@ import static io.microsphere.collection.MapUtils.newHashMap;
 import static io.microsphere.reflect.TypeUtils.resolveTypeArgumentClasses;
 import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
 import static io.microsphere.util.ServiceLoaderUtils.loadServicesList;
+import static io.microsphere.util.ServiceRegistry.getInstance;
 import static java.util.Collections.emptyList;
 
 /**
@@ -70,14 +72,24 @@ public class Deserializers {
     }
 
     public void loadSPI() {
+        ServiceRegistry serviceRegistry = getInstance(classLoader);
         for (Deserializer deserializer : loadServicesList(Deserializer.class, classLoader)) {
-            List<Class<?>> typeArguments = resolveTypeArgumentClasses(deserializer.getClass());
-            Class<?> targetClass = first(typeArguments);
+            Class<?> targetClass = resolveTargetClass(serviceRegistry, deserializer);
             List<Deserializer> deserializers = typedDeserializers.computeIfAbsent(targetClass, k -> new LinkedList());
             deserializers.add(deserializer);
         }
     }
 
+    private Class<?> resolveTargetClass(ServiceRegistry serviceRegistry, Deserializer deserializer) {
+        Class<?> deserializerClass = deserializer.getClass();
+        Class<?> targetClass = serviceRegistry.getTypeArgument(Deserializer.class, deserializerClass, 0);
+        if (targetClass == null) {
+            List<Class<?>> typeArguments = resolveTypeArgumentClasses(deserializerClass);
+            targetClass = first(typeArguments);
+        }
+        return targetClass;
+    }
+
     /**
      * Get the most compatible instance of {@link Deserializer} by the specified deserialized type
      *
@@ -17,6 +17,7 @@
 package io.microsphere.io.serializer;
 
 import io.microsphere.annotation.Nonnull;
+import io.microsphere.util.ServiceRegistry;
 
 import java.util.LinkedList;
 import java.util.List;
@@ -28,6 +29,7 @@ import static io.microsphere.collection.MapUtils.newHashMap;
 import static io.microsphere.reflect.TypeUtils.resolveTypeArgumentClasses;
 import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
 import static io.microsphere.util.ServiceLoaderUtils.loadServicesList;
+import static io.microsphere.util.ServiceRegistry.getInstance;
 import static java.util.Collections.emptyList;
 
 /**
@@ -70,14 +72,24 @@ public class Serializers {
     }
 
     public void loadSPI() {
+        ServiceRegistry serviceRegistry = getInstance(classLoader);
         for (Serializer serializer : loadServicesList(Serializer.class, classLoader, true)) {
-            List<Class<?>> typeArguments = resolveTypeArgumentClasses(serializer.getClass());
-            Class<?> targetClass = first(typeArguments);
+            Class<?> targetClass = resolveTargetClass(serviceRegistry, serializer);
             List<Serializer> serializers = typedSerializers.computeIfAbsent(targetClass, k -> new LinkedList());
             serializers.add(serializer);
         }
     }
 
+    private Class<?> resolveTargetClass(ServiceRegistry serviceRegistry, Serializer serializer) {
+        Class<?> serializerClass = serializer.getClass();
+        Class<?> targetClass = serviceRegistry.getTypeArgument(Serializer.class, serializerClass, 0);
+        if (targetClass == null) {
+            List<Class<?>> typeArguments = resolveTypeArgumentClasses(serializerClass);
+            targetClass = first(typeArguments);
+        }
+        return targetClass;
+    }
+
     /**
      * Get the most compatible instance of {@link Serializer} by the specified deserialized type
      *
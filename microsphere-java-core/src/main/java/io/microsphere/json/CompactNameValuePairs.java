@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.json;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+
+/**
+ * The compact name/value pairs of {@link JSONObject} backed by the parallel arrays of the names and the values in the
+ * insertion order for the small objects, the names are scanned linearly and compared by the identity first, since
+ * they are interned by the compact {@link JSONTokener#JSONTokener(String, boolean) tokener}. Once the size exceeds
+ * {@link #MAX_COMPACT_SIZE}, the pairs are moved into a {@link java.util.LinkedHashMap}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Map<String, Object> nameValuePairs = new CompactNameValuePairs();
+ * nameValuePairs.put("name", "a");
+ * nameValuePairs.get("name"); // "a"
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONObject
+ * @since 1.0.0
+ */
+final class CompactNameValuePairs extends AbstractMap<String, Object> {
+
+    /**
+     * The max size of the array-backed pairs
+     */
+    static final int MAX_COMPACT_SIZE = 8;
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private static final String[] EMPTY_NAMES = new String[0];
+
+    private static final Object[] EMPTY_VALUES = new Object[0];
+
+    private String[] names;
+
+    private Object[] values;
+
+    private int size;
+
+    private Map<String, Object> map;
+
+    private transient Set<Entry<String, Object>> entrySet;
+
+    CompactNameValuePairs() {
+        this.names = EMPTY_NAMES;
+        this.values = EMPTY_VALUES;
+    }
+
+    @Override
+    public int size() {
+        Map<String, Object> map = this.map;
+        return map == null ? size : map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Map<String, Object> map = this.map;
+        return map == null ? indexOf(key) > -1 : map.containsKey(key);
+    }
+
+    @Override
+    public Object get(Object key) {
+        Map<String, Object> map = this.map;
+        if (map != null) {
+            return map.get(key);
+        }
+        int index = indexOf(key);
+        return index > -1 ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Map<String, Object> map = this.map;
+        if (map != null) {
+            return map.put(key, value);
+        }
+        int index = indexOf(key);
+        if (index > -1) {
+            Object oldValue = values[index];
+            values[index] = value;
+            return oldValue;
+        }
+        int size = this.size;
+        if (size == MAX_COMPACT_SIZE) {
+            map = newLinkedHashMap(MAX_COMPACT_SIZE * 2);
+            for (int i = 0; i < size; i++) {
+                map.put(names[i], values[i]);
+            }
+            map.put(key, value);
+            this.map = map;
+            this.names = null;
+            this.values = null;
+            this.size = 0;
+            return null;
+        }
+        if (size == names.length) {
+            int capacity = size == 0 ? INITIAL_CAPACITY : min(size * 2, MAX_COMPACT_SIZE);
+            names = copyOf(names, capacity);
+            values = copyOf(values, capacity);
+        }
+        names[size] = key;
+        values[size] = value;
+        this.size = size + 1;
+        return null;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Map<String, Object> map = this.map;
+        if (map != null) {
+            return map.remove(key);
+        }
+        int index = indexOf(key);
+        return index > -1 ? removeAt(index) : null;
+    }
+
+    @Override
+    public void clear() {
+        Map<String, Object> map = this.map;
+        if (map != null) {
+            map.clear();
+        } else {
+            for (int i = 0; i < size; i++) {
+                names[i] = null;
+                values[i] = null;
+            }
+            size = 0;
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Set<Entry<String, Object>> entrySet = this.entrySet;
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+            this.entrySet = entrySet;
+        }
+        return entrySet;
+    }
+
+    /**
+     * Trims the capacities of the arrays to the size.
+     */
+    void trimToSize() {
+        int size = this.size;
+        if (map == null && size < names.length) {
+            this.names = size == 0 ? EMPTY_NAMES : copyOf(names, size);
+            this.values = size == 0 ? EMPTY_VALUES : copyOf(values, size);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the pairs are backed by the arrays
+     */
+    boolean isCompact() {
+        return map == null;
+    }
+
+    private int indexOf(Object key) {
+        String[] names = this.names;
+        int size = this.size;
+        // the interned names are matched by the identity
+        for (int i = 0; i < size; i++) {
+            if (names[i] == key) {
+                return i;
+            }
+        }
+        if (key != null) {
+            for (int i = 0; i < size; i++) {
+                if (key.equals(names[i])) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private Object removeAt(int index) {
+        Object oldValue = values[index];
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(names, index + 1, names, index, moved);
+            System.arraycopy(values, index + 1, values, index, moved);
+        }
+        size--;
+        names[size] = null;
+        values[size] = null;
+        return oldValue;
+    }
+
+    private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            Map<String, Object> map = CompactNameValuePairs.this.map;
+            return map == null ? new ArrayIterator() : map.entrySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactNameValuePairs.this.size();
+        }
+    }
+
+    private class ArrayIterator implements Iterator<Entry<String, Object>> {
+
+        private int cursor;
+
+        private int lastIndex = -1;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            int index = cursor++;
+            lastIndex = index;
+            return new ArrayEntry(index);
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0) {
+                throw new IllegalStateException();
+            }
+            removeAt(lastIndex);
+            cursor = lastIndex;
+            lastIndex = -1;
+        }
+    }
+
+    private class ArrayEntry extends SimpleEntry<String, Object> {
+
+        private static final long serialVersionUID = 2315834418423185216L;
+
+        private final int index;
+
+        private ArrayEntry(int index) {
+            super(names[index], values[index]);
+            this.index = index;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            values[index] = value;
+            return super.setValue(value);
+        }
+    }
+}
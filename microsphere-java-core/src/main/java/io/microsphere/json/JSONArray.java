@@ -19,6 +19,7 @@ package io.microsphere.json;
 import io.microsphere.json.JSONStringer.Scope;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 
@@ -227,6 +228,15 @@ public class JSONArray {
         return this;
     }
 
+    /**
+     * Trims the capacity of the values to the size.
+     */
+    void trimToSize() {
+        if (this.values instanceof ArrayList) {
+            ((ArrayList<Object>) this.values).trimToSize();
+        }
+    }
+
     /**
      * Sets the value at {@code index} to {@code value}, null padding this array to the
      * required length if necessary. If a value already exists at {@code
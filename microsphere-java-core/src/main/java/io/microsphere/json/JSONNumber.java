@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.json;
+
+import static io.microsphere.json.JSONTokener.parseNumber;
+
+/**
+ * The {@link Number} value parsed lazily from the literal in the JSON source by the compact
+ * {@link JSONTokener#JSONTokener(String, boolean) tokener}, it's resolved on the first access as an {@link Integer},
+ * a {@link Long} or a {@link Double} as {@link JSONTokener#readLiteral()} does, the decimal integers are parsed from
+ * the source characters directly without the substring. The reference of the source is dropped once the value is
+ * resolved, so that the retained numbers do not pin the source, and the resolved value is serialized instead of it.
+ *
+ * <p>It only {@link #equals(Object) equals} another {@link JSONNumber} with the equal resolved value, as
+ * {@link Integer}, {@link Long} and {@link Double} only equal the instances of their own types.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * JSONObject object = new JSONObject(new JSONTokener("{\"port\":8080}", true));
+ * Object port = object.get("port"); // JSONNumber, not parsed yet
+ * object.getInt("port");           // 8080
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONTokener#JSONTokener(String, boolean)
+ * @since 1.0.0
+ */
+final class JSONNumber extends Number {
+
+    private static final long serialVersionUID = -4365612108735409346L;
+
+    /**
+     * The max count of the decimal digits that a long value always holds
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private transient String source;
+
+    private final transient int start;
+
+    private final transient int end;
+
+    private volatile Number value;
+
+    JSONNumber(String source, int start, int end) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return the resolved {@link Integer}, {@link Long} or {@link Double}
+     */
+    Number getValue() {
+        Number value = this.value;
+        if (value == null) {
+            synchronized (this) {
+                value = this.value;
+                if (value == null) {
+                    value = resolve(source, start, end);
+                    this.value = value;
+                    // release the source to avoid leaking
+                    this.source = null;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @return <code>true</code> if the value has been resolved
+     */
+    boolean isResolved() {
+        return value != null;
+    }
+
+    /**
+     * Resolves the number from the characters of the source as {@link JSONTokener#parseNumber(String)} does
+     *
+     * @param source the source
+     * @param start  the start index, inclusive
+     * @param end    the end index, exclusive
+     * @return the {@link Integer}, {@link Long} or {@link Double}
+     */
+    static Number resolve(String source, int start, int end) {
+        boolean negative = source.charAt(start) == '-';
+        int digitsStart = negative ? start + 1 : start;
+        int digits = end - digitsStart;
+        if (digits > 0 && digits <= MAX_LONG_DIGITS && (digits == 1 || source.charAt(digitsStart) != '0')) {
+            long longValue = 0;
+            for (int i = digitsStart; i < end; i++) {
+                char c = source.charAt(i);
+                if (c < '0' || c > '9') {
+                    return parseNumber(source.substring(start, end));
+                }
+                longValue = longValue * 10 + (c - '0');
+            }
+            longValue = negative ? -longValue : longValue;
+            return longValue <= Integer.MAX_VALUE && longValue >= Integer.MIN_VALUE ? (Number) (int) longValue : (Number) longValue;
+        }
+        return parseNumber(source.substring(start, end));
+    }
+
+    @Override
+    public int intValue() {
+        return getValue().intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return getValue().longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return getValue().floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return getValue().doubleValue();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof JSONNumber)) {
+            return false;
+        }
+        return getValue().equals(((JSONNumber) o).getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getValue().toString();
+    }
+
+    /**
+     * Serializes the resolved {@link Integer}, {@link Long} or {@link Double} instead of the source
+     *
+     * @return the resolved value
+     */
+    private Object writeReplace() {
+        return getValue();
+    }
+}
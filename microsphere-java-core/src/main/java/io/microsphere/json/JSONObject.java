@@ -122,6 +122,24 @@ public class JSONObject {
         this.nameValuePairs = newLinkedHashMap();
     }
 
+    /**
+     * Creates a {@code JSONObject} backed by the arrays for the compact mode of {@link JSONTokener}.
+     *
+     * @param nameValuePairs the empty {@link CompactNameValuePairs}
+     */
+    JSONObject(CompactNameValuePairs nameValuePairs) {
+        this.nameValuePairs = nameValuePairs;
+    }
+
+    /**
+     * Trims the capacities of the compact name/value pairs to the size.
+     */
+    void trimToSize() {
+        if (this.nameValuePairs instanceof CompactNameValuePairs) {
+            ((CompactNameValuePairs) this.nameValuePairs).trimToSize();
+        }
+    }
+
     /**
      * Creates a new {@code JSONObject} by copying all name/value mappings from the given
      * map.
@@ -0,0 +1,706 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.json;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static io.microsphere.beans.BeanUtils.getBeanMetadata;
+import static io.microsphere.collection.EnumerationUtils.isEnumeration;
+import static io.microsphere.collection.EnumerationUtils.ofEnumeration;
+import static io.microsphere.collection.ListUtils.isList;
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.QueueUtils.isQueue;
+import static io.microsphere.collection.SetUtils.isSet;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.json.JSON.toBoolean;
+import static io.microsphere.json.JSON.toDouble;
+import static io.microsphere.json.JSON.toInteger;
+import static io.microsphere.json.JSON.toLong;
+import static io.microsphere.json.JSON.typeMismatch;
+import static io.microsphere.json.JSONObject.NULL;
+import static io.microsphere.json.JSONUtils.convertValue;
+import static io.microsphere.json.JSONUtils.isJSONObject;
+import static io.microsphere.reflect.ConstructorUtils.newInstance;
+import static io.microsphere.reflect.MethodUtils.invokeMethod;
+import static io.microsphere.reflect.TypeUtils.asClass;
+import static io.microsphere.util.ClassUtils.isArray;
+import static io.microsphere.util.ClassUtils.isAssignableFrom;
+import static io.microsphere.util.ClassUtils.isCharSequence;
+import static io.microsphere.util.ClassUtils.isEnum;
+import static io.microsphere.util.ClassUtils.isNumber;
+import static io.microsphere.util.ClassUtils.isPrimitive;
+import static io.microsphere.util.ClassUtils.isSimpleType;
+import static io.microsphere.util.IterableUtils.isIterable;
+import static java.lang.reflect.Array.newInstance;
+import static java.lang.reflect.Array.set;
+import static java.util.Arrays.copyOf;
+
+/**
+ * The reader compiled per target {@link Type} decoding the JSON straight from the tokens of {@link JSONTokener} into
+ * the destination, without the intermediate {@link JSONObject} or {@link JSONArray} tree, and without the lookup of
+ * {@link io.microsphere.convert.Converter} per element. The readers of the elements, the values and the properties of
+ * beans are resolved once when compiled.
+ *
+ * <p>The supported target types :
+ * <ul>
+ * <li>The arrays, the <code>int[]</code>, <code>long[]</code> and <code>double[]</code> are filled without boxing</li>
+ * <li>{@link java.util.List}, {@link java.util.Set}, {@link java.util.Queue}, {@link java.util.Enumeration} and
+ * {@link Iterable} with the element type</li>
+ * <li>{@link Map} with the value type</li>
+ * <li>{@link String}, the primitive types and their wrapper types, the numbers and the enums by the names</li>
+ * <li>The Java Beans whose properties are written by the setters</li>
+ * <li>{@link Object}, the value is read as {@link JSONUtils#readValueAsMap(JSONObject)} does</li>
+ * </ul>
+ * The value can't be decoded to the target type straightly, e.g. a string for {@link java.util.List}, is converted
+ * as {@link JSONUtils#readValue(String, Class)} does.
+ * </p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * JSONReader<int[]> reader = JSONReader.of(int[].class);
+ * int[] values = reader.read("[1, 2, 3]");
+ *
+ * Type type = ParameterizedTypeImpl.of(Map.class, String.class, User.class);
+ * Map<String, User> users = JSONReader.<Map<String, User>>of(type).read("{\"mercy\":{\"name\":\"Mercy\"}}");
+ * }</pre>
+ *
+ * @param <T> the target type
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONTokener
+ * @see JSONUtils#readValue(String, Type)
+ * @since 1.0.0
+ */
+public abstract class JSONReader<T> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final ConcurrentMap<Type, JSONReader<?>> readersCache = newConcurrentHashMap();
+
+    private final Type type;
+
+    JSONReader(Type type) {
+        this.type = type;
+    }
+
+    /**
+     * Get the compiled {@link JSONReader} of the specified target type, which is cached
+     *
+     * @param type the target type
+     * @param <T>  the target type
+     * @return non-null
+     */
+    @Nonnull
+    public static <T> JSONReader<T> of(Type type) {
+        JSONReader<?> reader = readersCache.get(type);
+        if (reader == null) {
+            // the readers of the nested types are compiled recursively, so computeIfAbsent is not used
+            reader = compile(type);
+            JSONReader<?> existedReader = readersCache.putIfAbsent(type, reader);
+            if (existedReader != null) {
+                reader = existedReader;
+            }
+        }
+        return (JSONReader<T>) reader;
+    }
+
+    /**
+     * Reads the next value from the {@link JSONTokener}
+     *
+     * @param tokener {@link JSONTokener}
+     * @return <code>null</code> if the value is the JSON null
+     * @throws JSONException if the JSON is malformed or mismatches the target type
+     */
+    @Nullable
+    public abstract T read(JSONTokener tokener) throws JSONException;
+
+    /**
+     * Reads the JSON string
+     *
+     * @param json the JSON string
+     * @return <code>null</code> if the value is the JSON null
+     * @throws JSONException if the JSON is malformed or mismatches the target type
+     */
+    @Nullable
+    public T read(String json) throws JSONException {
+        return read(new JSONTokener(json));
+    }
+
+    /**
+     * @return the target type
+     */
+    @Nonnull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Reads the value which can't be decoded straightly, and converts it to the target type.
+     */
+    T convert(JSONTokener tokener) throws JSONException {
+        return (T) convertValue(tokener.nextValue(), type);
+    }
+
+    static JSONReader<?> compile(Type type) {
+        if (type instanceof GenericArrayType) {
+            return new ArrayReader(type, ((GenericArrayType) type).getGenericComponentType());
+        }
+        Class<?> rawClass = asClass(resolveBound(type));
+        if (rawClass == null || rawClass == Object.class) {
+            return new ObjectReader(type);
+        }
+        if (isArray(rawClass)) {
+            Class<?> componentType = rawClass.getComponentType();
+            if (componentType == int.class) {
+                return new IntArrayReader(type);
+            } else if (componentType == long.class) {
+                return new LongArrayReader(type);
+            } else if (componentType == double.class) {
+                return new DoubleArrayReader(type);
+            }
+            return new ArrayReader(type, componentType);
+        }
+        if (rawClass == String.class) {
+            return new StringReader(type);
+        } else if (rawClass == int.class || rawClass == Integer.class) {
+            return new IntegerReader(type);
+        } else if (rawClass == long.class || rawClass == Long.class) {
+            return new LongReader(type);
+        } else if (rawClass == double.class || rawClass == Double.class) {
+            return new DoubleReader(type);
+        } else if (rawClass == boolean.class || rawClass == Boolean.class) {
+            return new BooleanReader(type);
+        } else if (isEnum(rawClass)) {
+            return new EnumReader(type, rawClass);
+        } else if (isPrimitive(rawClass) || isSimpleType(rawClass) || isCharSequence(rawClass) || isNumber(rawClass)) {
+            return new ValueReader(type);
+        }
+        if (isAssignableFrom(Map.class, rawClass)) {
+            return new MapReader(type, of(getTypeArgument(type, 1)));
+        }
+        // consistent with JSONUtils.readValues(JSONArray, Class, Class)
+        if (isList(rawClass)) {
+            return new CollectionReader(type, ArrayList::new);
+        } else if (isSet(rawClass)) {
+            return new CollectionReader(type, () -> newLinkedHashSet());
+        } else if (isQueue(rawClass)) {
+            return new CollectionReader(type, ArrayDeque::new);
+        } else if (isEnumeration(rawClass)) {
+            return new EnumerationReader(type);
+        } else if (isIterable(rawClass)) {
+            return new CollectionReader(type, ArrayList::new);
+        }
+        return new BeanReader(type, rawClass);
+    }
+
+    static Type resolveBound(Type type) {
+        if (type instanceof WildcardType) {
+            return resolveBound(((WildcardType) type).getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable) {
+            return resolveBound(((TypeVariable<?>) type).getBounds()[0]);
+        }
+        return type;
+    }
+
+    static Type getTypeArgument(Type type, int index) {
+        Type resolvedType = resolveBound(type);
+        if (resolvedType instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) resolvedType).getActualTypeArguments();
+            if (index < typeArguments.length) {
+                return typeArguments[index];
+            }
+        }
+        return Object.class;
+    }
+
+    /**
+     * Reads the number without the allocation of the literal if possible
+     *
+     * @return <code>null</code> if the next value is not a numeric literal
+     */
+    static Number readNumber(JSONTokener tokener) throws JSONException {
+        int c = tokener.peek();
+        if ((c >= '0' && c <= '9') || c == '-') {
+            return tokener.readNumber();
+        }
+        return null;
+    }
+
+    /**
+     * Consumes the opening brace if present
+     */
+    static boolean consume(JSONTokener tokener, char brace) throws JSONException {
+        if (tokener.peek() == brace) {
+            tokener.nextCleanInternal();
+            return true;
+        }
+        return false;
+    }
+
+    static int readInt(JSONTokener tokener) throws JSONException {
+        Integer value = readInteger(tokener);
+        if (value == null) {
+            throw typeMismatch(null, "int");
+        }
+        return value;
+    }
+
+    static Integer readInteger(JSONTokener tokener) throws JSONException {
+        Number number = readNumber(tokener);
+        if (number != null) {
+            return number.intValue();
+        }
+        Object value = tokener.nextValue();
+        if (value == NULL) {
+            return null;
+        }
+        Integer intValue = toInteger(value);
+        if (intValue == null) {
+            throw typeMismatch(value, "int");
+        }
+        return intValue;
+    }
+
+    static long readLong(JSONTokener tokener) throws JSONException {
+        Long value = readLongValue(tokener);
+        if (value == null) {
+            throw typeMismatch(null, "long");
+        }
+        return value;
+    }
+
+    static Long readLongValue(JSONTokener tokener) throws JSONException {
+        Number number = readNumber(tokener);
+        if (number != null) {
+            return number.longValue();
+        }
+        Object value = tokener.nextValue();
+        if (value == NULL) {
+            return null;
+        }
+        Long longValue = toLong(value);
+        if (longValue == null) {
+            throw typeMismatch(value, "long");
+        }
+        return longValue;
+    }
+
+    static double readDouble(JSONTokener tokener) throws JSONException {
+        Double value = readDoubleValue(tokener);
+        if (value == null) {
+            throw typeMismatch(null, "double");
+        }
+        return value;
+    }
+
+    static Double readDoubleValue(JSONTokener tokener) throws JSONException {
+        Number number = readNumber(tokener);
+        if (number != null) {
+            return number.doubleValue();
+        }
+        Object value = tokener.nextValue();
+        if (value == NULL) {
+            return null;
+        }
+        Double doubleValue = toDouble(value);
+        if (doubleValue == null) {
+            throw typeMismatch(value, "double");
+        }
+        return doubleValue;
+    }
+
+    /**
+     * The {@link JSONReader} for {@link Object}
+     */
+    static class ObjectReader extends JSONReader<Object> {
+
+        ObjectReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public Object read(JSONTokener tokener) throws JSONException {
+            Object value = tokener.nextValue();
+            // consistent with JSONUtils.readValueAsMap(JSONObject)
+            return convertValue(value, isJSONObject(value) ? Map.class : Object.class);
+        }
+    }
+
+    /**
+     * The {@link JSONReader} for the values converted by {@link JSONUtils#convertValue(Object, Type)}
+     */
+    static class ValueReader extends JSONReader<Object> {
+
+        ValueReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public Object read(JSONTokener tokener) throws JSONException {
+            return convert(tokener);
+        }
+    }
+
+    static class StringReader extends JSONReader<String> {
+
+        StringReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public String read(JSONTokener tokener) throws JSONException {
+            int c = tokener.peek();
+            if (c == '"' || c == '\'') {
+                tokener.nextCleanInternal();
+                return tokener.nextString((char) c);
+            }
+            Object value = tokener.nextValue();
+            return value == NULL ? null : JSON.toString(value);
+        }
+    }
+
+    static class IntegerReader extends JSONReader<Integer> {
+
+        IntegerReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public Integer read(JSONTokener tokener) throws JSONException {
+            return readInteger(tokener);
+        }
+    }
+
+    static class LongReader extends JSONReader<Long> {
+
+        LongReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public Long read(JSONTokener tokener) throws JSONException {
+            return readLongValue(tokener);
+        }
+    }
+
+    static class DoubleReader extends JSONReader<Double> {
+
+        DoubleReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public Double read(JSONTokener tokener) throws JSONException {
+            return readDoubleValue(tokener);
+        }
+    }
+
+    static class BooleanReader extends JSONReader<Boolean> {
+
+        BooleanReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public Boolean read(JSONTokener tokener) throws JSONException {
+            Object value = tokener.nextValue();
+            if (value == NULL) {
+                return null;
+            }
+            Boolean booleanValue = toBoolean(value);
+            if (booleanValue == null) {
+                throw typeMismatch(value, "boolean");
+            }
+            return booleanValue;
+        }
+    }
+
+    static class EnumReader extends JSONReader<Enum<?>> {
+
+        private final Class<? extends Enum> enumClass;
+
+        EnumReader(Type type, Class<?> enumClass) {
+            super(type);
+            this.enumClass = (Class<? extends Enum>) enumClass;
+        }
+
+        @Override
+        public Enum<?> read(JSONTokener tokener) throws JSONException {
+            Object value = tokener.nextValue();
+            if (value == NULL) {
+                return null;
+            }
+            if (value instanceof String) {
+                try {
+                    return Enum.valueOf(enumClass, (String) value);
+                } catch (IllegalArgumentException ignored) {
+                }
+            }
+            throw typeMismatch(value, enumClass.getName());
+        }
+    }
+
+    static class IntArrayReader extends JSONReader<int[]> {
+
+        IntArrayReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public int[] read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '[')) {
+                return convert(tokener);
+            }
+            int[] values = new int[INITIAL_CAPACITY];
+            int size = 0;
+            for (; tokener.nextElement(size); size++) {
+                if (size == values.length) {
+                    values = copyOf(values, size * 2);
+                }
+                values[size] = readInt(tokener);
+            }
+            return size == values.length ? values : copyOf(values, size);
+        }
+    }
+
+    static class LongArrayReader extends JSONReader<long[]> {
+
+        LongArrayReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public long[] read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '[')) {
+                return convert(tokener);
+            }
+            long[] values = new long[INITIAL_CAPACITY];
+            int size = 0;
+            for (; tokener.nextElement(size); size++) {
+                if (size == values.length) {
+                    values = copyOf(values, size * 2);
+                }
+                values[size] = readLong(tokener);
+            }
+            return size == values.length ? values : copyOf(values, size);
+        }
+    }
+
+    static class DoubleArrayReader extends JSONReader<double[]> {
+
+        DoubleArrayReader(Type type) {
+            super(type);
+        }
+
+        @Override
+        public double[] read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '[')) {
+                return convert(tokener);
+            }
+            double[] values = new double[INITIAL_CAPACITY];
+            int size = 0;
+            for (; tokener.nextElement(size); size++) {
+                if (size == values.length) {
+                    values = copyOf(values, size * 2);
+                }
+                values[size] = readDouble(tokener);
+            }
+            return size == values.length ? values : copyOf(values, size);
+        }
+    }
+
+    static class ArrayReader extends JSONReader<Object> {
+
+        private final Class<?> componentClass;
+
+        private final JSONReader<?> componentReader;
+
+        ArrayReader(Type type, Type componentType) {
+            super(type);
+            Class<?> componentClass = asClass(resolveBound(componentType));
+            this.componentClass = componentClass == null ? Object.class : componentClass;
+            this.componentReader = of(componentType);
+        }
+
+        @Override
+        public Object read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '[')) {
+                return convert(tokener);
+            }
+            ArrayList<Object> values = newArrayList(INITIAL_CAPACITY);
+            for (int i = 0; tokener.nextElement(i); i++) {
+                values.add(componentReader.read(tokener));
+            }
+            int size = values.size();
+            Object array = newInstance(componentClass, size);
+            for (int i = 0; i < size; i++) {
+                set(array, i, values.get(i));
+            }
+            return array;
+        }
+    }
+
+    static class CollectionReader extends JSONReader<Collection<Object>> {
+
+        private final Supplier<Collection<Object>> collectionFactory;
+
+        private final JSONReader<?> elementReader;
+
+        CollectionReader(Type type, Supplier<Collection<Object>> collectionFactory) {
+            super(type);
+            this.collectionFactory = collectionFactory;
+            this.elementReader = of(getTypeArgument(type, 0));
+        }
+
+        @Override
+        public Collection<Object> read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '[')) {
+                return convert(tokener);
+            }
+            Collection<Object> values = collectionFactory.get();
+            for (int i = 0; tokener.nextElement(i); i++) {
+                values.add(elementReader.read(tokener));
+            }
+            return values;
+        }
+    }
+
+    static class EnumerationReader extends JSONReader<Object> {
+
+        private final CollectionReader listReader;
+
+        EnumerationReader(Type type) {
+            super(type);
+            this.listReader = new CollectionReader(type, ArrayList::new);
+        }
+
+        @Override
+        public Object read(JSONTokener tokener) throws JSONException {
+            if (tokener.peek() != '[') {
+                return convert(tokener);
+            }
+            return ofEnumeration(listReader.read(tokener).toArray());
+        }
+    }
+
+    static class MapReader extends JSONReader<Map<String, Object>> {
+
+        private final JSONReader<?> valueReader;
+
+        MapReader(Type type, JSONReader<?> valueReader) {
+            super(type);
+            this.valueReader = valueReader;
+        }
+
+        @Override
+        public Map<String, Object> read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '{')) {
+                return convert(tokener);
+            }
+            Map<String, Object> map = newLinkedHashMap();
+            String name;
+            for (int i = 0; (name = tokener.nextEntryName(i)) != null; i++) {
+                map.put(name, valueReader.read(tokener));
+            }
+            return map;
+        }
+    }
+
+    static class BeanReader extends JSONReader<Object> {
+
+        private final Class<?> beanClass;
+
+        /**
+         * The writers of the properties are resolved lazily, since the types of properties may refer to the bean
+         */
+        private volatile Map<String, PropertyWriter> propertyWriters;
+
+        BeanReader(Type type, Class<?> beanClass) {
+            super(type);
+            this.beanClass = beanClass;
+        }
+
+        @Override
+        public Object read(JSONTokener tokener) throws JSONException {
+            if (!consume(tokener, '{')) {
+                return convert(tokener);
+            }
+            Map<String, PropertyWriter> propertyWriters = getPropertyWriters();
+            Object bean = newInstance(true, beanClass);
+            String name;
+            for (int i = 0; (name = tokener.nextEntryName(i)) != null; i++) {
+                PropertyWriter propertyWriter = propertyWriters.get(name);
+                if (propertyWriter == null) {
+                    // skip the unknown property
+                    tokener.nextValue();
+                    continue;
+                }
+                Object value = propertyWriter.reader.read(tokener);
+                if (value != null) {
+                    invokeMethod(bean, propertyWriter.writeMethod, value);
+                }
+            }
+            return bean;
+        }
+
+        Map<String, PropertyWriter> getPropertyWriters() {
+            Map<String, PropertyWriter> propertyWriters = this.propertyWriters;
+            if (propertyWriters == null) {
+                Map<String, PropertyDescriptor> propertyDescriptors = getBeanMetadata(beanClass).getPropertyDescriptorsMap();
+                propertyWriters = newHashMap(propertyDescriptors.size());
+                for (PropertyDescriptor propertyDescriptor : propertyDescriptors.values()) {
+                    Method writeMethod = propertyDescriptor.getWriteMethod();
+                    if (writeMethod != null) {
+                        JSONReader<?> reader = of(writeMethod.getGenericParameterTypes()[0]);
+                        propertyWriters.put(propertyDescriptor.getName(), new PropertyWriter(writeMethod, reader));
+                    }
+                }
+                this.propertyWriters = propertyWriters;
+            }
+            return propertyWriters;
+        }
+    }
+
+    static class PropertyWriter {
+
+        final Method writeMethod;
+
+        final JSONReader<?> reader;
+
+        PropertyWriter(Method writeMethod, JSONReader<?> reader) {
+            this.writeMethod = writeMethod;
+            this.reader = reader;
+        }
+    }
+}
@@ -69,6 +69,21 @@ import static java.lang.Long.parseLong;
  */
 public class JSONTokener {
 
+    /**
+     * The characters terminating the literal
+     */
+    private static final String LITERAL_EXCLUDED = "{}[]/\\:,=;# \t\f";
+
+    /**
+     * The max length of the lazy number, whose value is always finite
+     */
+    static final int MAX_LAZY_NUMBER_LENGTH = 256;
+
+    /**
+     * The size of the table of the interned names, must be a power of 2
+     */
+    static final int NAMES_TABLE_SIZE = 256;
+
     /**
      * The input JSON.
      */
@@ -80,16 +95,48 @@ public class JSONTokener {
      */
     private int pos;
 
+    /**
+     * Whether the compact mode is enabled
+     */
+    private final boolean compact;
+
+    /**
+     * The bounded table of the interned names in the compact mode, indexed by the hash of the characters
+     */
+    private String[] names;
+
     /**
      * @param in JSON encoded string. Null is not permitted and will yield a tokener that
      *           throws {@code NullPointerExceptions} when methods are called.
      */
     public JSONTokener(String in) {
+        this(in, false);
+    }
+
+    /**
+     * In the compact mode, which fits the large documents repeating the same names, such as the metadata:
+     * <ul>
+     * <li>The names of objects are interned by a bounded table, so the same names share one String instance, and
+     * the known names are matched against the input without the allocation.
+     * <li>The numeric literals complying with RFC 4627 without the exponent are parsed lazily on the first access
+     * from the input characters.
+     * <li>The small objects are backed by the arrays rather than the {@link java.util.LinkedHashMap}, and the
+     * capacities of the arrays are trimmed.
+     * </ul>
+     * The lazy numbers are not the instances of {@link Integer}, {@link Long} or {@link Double} until accessed by
+     * {@link JSONObject#getInt(String)} and so on, and they retain the input.
+     *
+     * @param in      JSON encoded string. Null is not permitted and will yield a tokener that
+     *                throws {@code NullPointerExceptions} when methods are called.
+     * @param compact whether the compact mode is enabled
+     */
+    public JSONTokener(String in, boolean compact) {
         // consume an optional byte order mark (BOM) if it exists
         if (in != null && in.startsWith("\ufeff")) {
             in = in.substring(1);
         }
         this.in = in;
+        this.compact = compact;
     }
 
     /**
@@ -239,6 +286,59 @@ public class JSONTokener {
         throw syntaxError("Unterminated string");
     }
 
+    /**
+     * Returns the name of the object in the compact mode or for {@link JSONReader}. The name quoted by the double
+     * quotes without escape sequences is interned, otherwise it's resolved by {@link #nextValue()}.
+     *
+     * @return the name
+     * @throws JSONException if processing of json failed
+     */
+    Object nextName() throws JSONException {
+        int c = nextCleanInternal();
+        if (c != '"') {
+            this.pos--;
+            return nextValue();
+        }
+        String in = this.in;
+        int start = this.pos;
+        int end = start;
+        int length = in.length();
+        int hash = 0;
+        for (; end < length; end++) {
+            char ch = in.charAt(end);
+            if (ch == '"') {
+                break;
+            }
+            if (ch == '\\') {
+                return nextString('"');
+            }
+            hash = 31 * hash + ch;
+        }
+        if (end == length) {
+            return nextString('"');
+        }
+        this.pos = end + 1;
+        return intern(start, end, hash);
+    }
+
+    private String intern(int start, int end, int hash) {
+        String[] names = this.names;
+        if (names == null) {
+            names = new String[NAMES_TABLE_SIZE];
+            this.names = names;
+        }
+        int index = (hash ^ (hash >>> 16)) & (NAMES_TABLE_SIZE - 1);
+        String name = names[index];
+        int nameLength = end - start;
+        if (name != null && name.length() == nameLength && name.regionMatches(0, this.in, start, nameLength)) {
+            return name;
+        }
+        // a new string avoids leaking memory, and replaces the colliding one
+        name = new String(this.in.substring(start, end));
+        names[index] = name;
+        return name;
+    }
+
     /**
      * Unescapes the character identified by the character or characters that immediately
      * follow a backslash. The backslash '\' should have already been read. This supports
@@ -290,7 +390,12 @@ public class JSONTokener {
      * @throws JSONException if processing of json failed
      */
     public Object readLiteral() throws JSONException {
-        String literal = nextToInternal("{}[]/\\:,=;# \t\f");
+        int start = this.pos;
+        int end = nextToIndex(LITERAL_EXCLUDED);
+        if (this.compact && isLazyNumber(start, end)) {
+            return new JSONNumber(this.in, start, end);
+        }
+        String literal = this.in.substring(start, end);
 
         if (literal.isEmpty()) {
             throw syntaxError("Expected literal value");
@@ -302,6 +407,22 @@ public class JSONTokener {
             return FALSE;
         }
 
+        Number number = parseNumber(literal);
+        if (number != null) {
+            return number;
+        }
+
+        /* ... finally give up. We have an unquoted string */
+        return new String(literal); // a new string avoids leaking memory
+    }
+
+    /**
+     * Parses the literal as an Integer, Long, or Double, in that order of preference.
+     *
+     * @param literal the literal
+     * @return <code>null</code> if the literal is not a number
+     */
+    static Number parseNumber(String literal) {
         /* try to parse as an integral type... */
         if (literal.indexOf('.') == -1) {
             int base = 10;
@@ -334,9 +455,68 @@ public class JSONTokener {
             return valueOf(literal);
         } catch (NumberFormatException ignored) {
         }
+        return null;
+    }
 
-        /* ... finally give up. We have an unquoted string */
-        return new String(literal); // a new string avoids leaking memory
+    /**
+     * Reads a numeric literal as an Integer, Long, or Double, in that order of preference, the decimal integers are
+     * parsed from the input characters directly.
+     *
+     * @return <code>null</code> if the next literal is not a number, and the position is not moved
+     */
+    Number readNumber() {
+        int start = this.pos;
+        int end = nextToIndex(LITERAL_EXCLUDED);
+        if (isLazyNumber(start, end)) {
+            return JSONNumber.resolve(this.in, start, end);
+        }
+        Number number = end > start ? parseNumber(this.in.substring(start, end)) : null;
+        if (number == null) {
+            this.pos = start;
+        }
+        return number;
+    }
+
+    /**
+     * Whether the literal is a finite number complying with RFC 4627 without the exponent, which is parsed as the
+     * same value by {@link #parseNumber(String)} lazily
+     *
+     * @param start the start index of the literal, inclusive
+     * @param end   the end index of the literal, exclusive
+     * @return <code>true</code> if it can be parsed lazily
+     */
+    boolean isLazyNumber(int start, int end) {
+        if (end - start > MAX_LAZY_NUMBER_LENGTH) {
+            return false;
+        }
+        String in = this.in;
+        int i = start;
+        if (i < end && in.charAt(i) == '-') {
+            i++;
+        }
+        int digitsStart = i;
+        while (i < end && isDigit(in.charAt(i))) {
+            i++;
+        }
+        int digits = i - digitsStart;
+        // no leading zeros, which are octal
+        if (digits == 0 || (digits > 1 && in.charAt(digitsStart) == '0')) {
+            return false;
+        }
+        if (i < end && in.charAt(i) == '.') {
+            int fractionStart = ++i;
+            while (i < end && isDigit(in.charAt(i))) {
+                i++;
+            }
+            if (i == fractionStart) {
+                return false;
+            }
+        }
+        return i == end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
     }
 
     /**
@@ -348,13 +528,22 @@ public class JSONTokener {
      */
     String nextToInternal(String excluded) {
         int start = this.pos;
+        return this.in.substring(start, nextToIndex(excluded));
+    }
+
+    /**
+     * Moves to the index of any of the given characters or a newline character.
+     *
+     * @return the index of any of the given characters or a newline character, or the length of input
+     */
+    int nextToIndex(String excluded) {
         for (; hasNext(); this.pos++) {
             char c = currentChar();
             if (c == '\r' || c == '\n' || excluded.indexOf(c) != -1) {
-                return this.in.substring(start, this.pos);
+                return this.pos;
             }
         }
-        return this.in.substring(start);
+        return this.pos;
     }
 
     /**
@@ -365,18 +554,18 @@ public class JSONTokener {
      * @throws JSONException if processing of json failed
      */
     public JSONObject readObject() throws JSONException {
-        JSONObject result = new JSONObject();
+        JSONObject result = this.compact ? new JSONObject(new CompactNameValuePairs()) : new JSONObject();
 
         /* Peek to see if this is the empty object. */
         int first = nextCleanInternal();
         if (first == '}') {
-            return result;
+            return trimToSize(result);
         } else if (first != -1) {
             this.pos--;
         }
 
         while (true) {
-            Object name = nextValue();
+            Object name = this.compact ? nextName() : nextValue();
             if (!(name instanceof String)) {
                 if (name == NULL) {
                     throw syntaxError("Names cannot be null");
@@ -398,11 +587,17 @@ public class JSONTokener {
                 this.pos++;
             }
 
-            result.put((String) name, nextValue());
+            Object value = nextValue();
+            if (value instanceof JSONNumber) {
+                // the lazy number is always finite
+                result.doPut((String) name, value);
+            } else {
+                result.put((String) name, value);
+            }
 
             switch (nextCleanInternal()) {
                 case '}':
-                    return result;
+                    return trimToSize(result);
                 case ';':
                 case ',':
                     continue;
@@ -434,7 +629,7 @@ public class JSONTokener {
                     if (hasTrailingSeparator) {
                         result.put(null);
                     }
-                    return result;
+                    return trimToSize(result);
                 case ',':
                 case ';':
                     /* A separator without a value first means "null". */
@@ -449,7 +644,7 @@ public class JSONTokener {
 
             switch (nextCleanInternal()) {
                 case ']':
-                    return result;
+                    return trimToSize(result);
                 case ',':
                 case ';':
                     hasTrailingSeparator = true;
@@ -460,6 +655,97 @@ public class JSONTokener {
         }
     }
 
+    /**
+     * Moves to the next element of the array for {@link JSONReader}. The opening brace '[' should have already been
+     * read, the separators and the closing brace ']' are consumed.
+     *
+     * @param index the index of the next element
+     * @return <code>true</code> if the next element is present, or <code>false</code> if the array ends
+     * @throws JSONException if processing of json failed
+     */
+    boolean nextElement(int index) throws JSONException {
+        int c = nextCleanInternal();
+        if (index > 0 && c != ']') {
+            if (c != ',' && c != ';') {
+                throw syntaxError("Unterminated array");
+            }
+            c = nextCleanInternal();
+        }
+        if (c == ']') {
+            return false;
+        }
+        if (c == -1) {
+            throw syntaxError("Unterminated array");
+        }
+        this.pos--;
+        return true;
+    }
+
+    /**
+     * Reads the name and the name/value separator of the next entry of the object for {@link JSONReader}. The opening
+     * brace '{' should have already been read, the separators and the closing brace '}' are consumed.
+     *
+     * @param index the index of the next entry
+     * @return the name, or <code>null</code> if the object ends
+     * @throws JSONException if processing of json failed
+     */
+    String nextEntryName(int index) throws JSONException {
+        int c = nextCleanInternal();
+        if (index > 0 && c != '}') {
+            if (c != ',' && c != ';') {
+                throw syntaxError("Unterminated object");
+            }
+            c = nextCleanInternal();
+        }
+        if (c == '}') {
+            return null;
+        }
+        if (c == -1) {
+            throw syntaxError("Unterminated object");
+        }
+        this.pos--;
+        Object name = nextName();
+        if (!(name instanceof String)) {
+            throw syntaxError("Names must be strings, but " + name + " is of type " + name.getClass().getName());
+        }
+        int separator = nextCleanInternal();
+        if (separator != ':' && separator != '=') {
+            throw syntaxError("Expected ':' after " + name);
+        }
+        if (hasNext() && currentChar() == '>') {
+            this.pos++;
+        }
+        return (String) name;
+    }
+
+    /**
+     * Returns the next clean character without consuming it.
+     *
+     * @return the next clean character, or -1 if the input is exhausted
+     * @throws JSONException if processing of json failed
+     */
+    int peek() throws JSONException {
+        int c = nextCleanInternal();
+        if (c != -1) {
+            this.pos--;
+        }
+        return c;
+    }
+
+    private JSONObject trimToSize(JSONObject object) {
+        if (this.compact) {
+            object.trimToSize();
+        }
+        return object;
+    }
+
+    private JSONArray trimToSize(JSONArray array) {
+        if (this.compact) {
+            array.trimToSize();
+        }
+        return array;
+    }
+
     /**
      * Returns an exception containing the given message plus the current position and the
      * entire input string.
@@ -21,6 +21,7 @@ import io.microsphere.annotation.Nonnull;
 import io.microsphere.annotation.Nullable;
 import io.microsphere.beans.BeanMetadata;
 import io.microsphere.reflect.ConstructorUtils;
+import io.microsphere.reflect.generics.ParameterizedTypeImpl;
 import io.microsphere.util.CharSequenceUtils;
 import io.microsphere.util.Utils;
 
@@ -854,8 +855,8 @@ public abstract class JSONUtils implements Utils {
     /**
      * Reads a JSON string and converts it into an instance of the specified target type.
      * <p>
-     * This method parses the provided JSON string into a {@link JSONObject} and then maps its properties
-     * to a new instance of the target type. It supports nested objects, collections, and type conversion
+     * This method decodes the provided JSON string straight into a new instance of the target type by the
+     * {@link JSONReader} compiled for the target type. It supports nested objects, collections, and type conversion
      * where necessary.
      * </p>
      *
@@ -878,11 +879,41 @@ public abstract class JSONUtils implements Utils {
      * @return an instance of the target type populated with data from the JSON string
      * @throws IllegalArgumentException if the JSON string is invalid or cannot be converted to the target type
      * @see JSONObject
-     * @see #readValue(JSONObject, Class)
+     * @see #readValue(String, Type)
      */
     @Nonnull
     public static <V> V readValue(String json, Class<V> targetType) {
-        return readValue(jsonObject(json), targetType);
+        return readValue(json, (Type) targetType);
+    }
+
+    /**
+     * Reads a JSON string and decodes it into an instance of the specified target type by the {@link JSONReader}
+     * compiled for the target type, straight from the tokens without the intermediate {@link JSONObject} or
+     * {@link JSONArray}.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * int[] values = JSONUtils.readValue("[1, 2, 3]", int[].class);
+     *
+     * Type type = ParameterizedTypeImpl.of(Map.class, String.class, Person.class);
+     * Map<String, Person> persons = JSONUtils.readValue("{\"john\":{\"name\":\"John Doe\",\"age\":30}}", type);
+     * // persons.get("john").getAge() returns 30
+     * }</pre>
+     *
+     * @param json       the JSON string to parse and decode
+     * @param targetType the target type, e.g. an array, a parameterized {@link Collection} or {@link Map}, or a bean
+     * @param <V>        the type of the target object
+     * @return an instance of the target type, or <code>null</code> if the JSON is null
+     * @throws IllegalArgumentException if the JSON string is invalid or cannot be decoded to the target type
+     * @see JSONReader#of(Type)
+     */
+    @Nullable
+    public static <V> V readValue(String json, Type targetType) {
+        try {
+            return (V) JSONReader.of(targetType).read(json);
+        } catch (JSONException e) {
+            throw wrap(e, IllegalArgumentException.class);
+        }
     }
 
     /**
@@ -1009,9 +1040,9 @@ public abstract class JSONUtils implements Utils {
     /**
      * Reads a JSON array string and converts it into an instance of the specified collection or array type.
      * <p>
-     * This method parses the provided JSON array string into a {@link JSONArray} and then maps its elements
-     * to a new instance of the specified collection or array type. It supports arrays, {@link List}, {@link Set},
-     * {@link Queue}, and {@link java.util.Enumeration}.
+     * This method decodes the provided JSON array string straight into a new instance of the specified collection or
+     * array type by the {@link JSONReader} compiled for the parameterized type. It supports arrays, {@link List},
+     * {@link Set}, {@link Queue}, and {@link java.util.Enumeration}.
      * </p>
      *
      * <h3>Example Usage</h3>
@@ -1039,7 +1070,15 @@ public abstract class JSONUtils implements Utils {
      */
     @Nullable
     public static <V> V readValues(String json, Class<V> multipleClass, Class<?> elementClass) {
-        return readValues(jsonArray(json), multipleClass, elementClass);
+        final Type multipleType;
+        if (isArray(multipleClass)) {
+            multipleType = multipleClass;
+        } else if (isIterable(multipleClass) || isEnumeration(multipleClass)) {
+            multipleType = ParameterizedTypeImpl.of(multipleClass, elementClass);
+        } else {
+            return null;
+        }
+        return readValue(json, multipleType);
     }
 
     /**
@@ -1143,8 +1182,8 @@ public abstract class JSONUtils implements Utils {
     /**
      * Reads a JSON array string and converts it into an array of the specified component type.
      * <p>
-     * This method parses the provided JSON array string into a {@link JSONArray} and then maps its elements
-     * to a new array of the specified component type. It supports arrays of any type, including primitives
+     * This method decodes the provided JSON array string straight into a new array of the specified component type
+     * by the {@link JSONReader} compiled for the array type. It supports arrays of any type, including primitives
      * and their wrapper classes.
      * </p>
      *
@@ -1170,7 +1209,7 @@ public abstract class JSONUtils implements Utils {
      * @see #readArray(JSONArray, Class)
      */
     public static <E> E[] readArray(String json, Class<E> componentType) {
-        return readArray(jsonArray(json), componentType);
+        return readValue(json, (Type) newInstance(componentType, 0).getClass());
     }
 
     /**
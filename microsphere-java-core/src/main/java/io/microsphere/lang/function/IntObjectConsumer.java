@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.lang.function;
+
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Represents an operation that accepts a primitive <code>int</code> argument and an object-valued argument,
+ * and returns no result, which avoids boxing the <code>int</code> argument as {@link BiConsumer} does.
+ *
+ * <p>This is the <code>(int, reference)</code> specialization of {@link BiConsumer} whose functional method is
+ * {@link #accept(int, Object)}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * IntObjectConsumer<String> printer = (key, value) -> System.out.println(key + " = " + value);
+ * printer.accept(1, "one"); // Outputs: 1 = one
+ *
+ * IntObjectConsumer<String> combined = printer.andThen((key, value) -> System.out.println("done"));
+ * }</pre>
+ *
+ * @param <V> the type of the object argument to the operation
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BiConsumer
+ * @see ObjIntConsumer
+ * @see io.microsphere.collection.IntObjectHashMap#forEach(IntObjectConsumer)
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntObjectConsumer<V> {
+
+    /**
+     * Performs this operation on the given arguments.
+     *
+     * @param key   the <code>int</code> argument
+     * @param value the object argument
+     */
+    void accept(int key, V value);
+
+    /**
+     * Returns a composed {@link IntObjectConsumer} that performs, in sequence, this operation followed by the
+     * <code>after</code> operation.
+     *
+     * @param after the operation to perform after this operation
+     * @return the composed {@link IntObjectConsumer}
+     * @throws NullPointerException if {@code after} is null
+     */
+    default IntObjectConsumer<V> andThen(IntObjectConsumer<? super V> after) {
+        requireNonNull(after);
+        return (key, value) -> {
+            accept(key, value);
+            after.accept(key, value);
+        };
+    }
+}
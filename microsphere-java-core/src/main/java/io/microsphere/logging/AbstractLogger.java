@@ -56,6 +56,17 @@ import static io.microsphere.util.ArrayUtils.length;
  * This behavior is handled internally by the {@link #log(Consumer, BiConsumer, String, Object...)} method.
  * </p>
  *
+ * <h3>Level Guard</h3>
+ * <p>
+ * The formatted logging methods check whether the corresponding level is enabled before the message is resolved,
+ * so the arguments are never formatted for a disabled level. The fixed-arity variants (one, two or three arguments)
+ * additionally avoid the allocation of the varargs array at the call site:
+ * </p>
+ * <pre>{@code
+ * // No message is built and no array is allocated if DEBUG is disabled
+ * logger.debug("Resolved {} candidates for {}", count, type);
+ * }</pre>
+ *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @see Logger
  * @since 1.0.0
@@ -75,27 +86,142 @@ public abstract class AbstractLogger implements Logger {
 
     @Override
     public void trace(String format, Object... arguments) {
-        log(this::trace, this::trace, format, arguments);
+        if (isTraceEnabled()) {
+            log(this::trace, this::trace, format, arguments);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg) {
+        if (isTraceEnabled()) {
+            log(this::trace, this::trace, format, arg);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2) {
+        if (isTraceEnabled()) {
+            log(this::trace, this::trace, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void trace(String format, Object arg1, Object arg2, Object arg3) {
+        if (isTraceEnabled()) {
+            log(this::trace, this::trace, format, arg1, arg2, arg3);
+        }
     }
 
     @Override
     public void debug(String format, Object... arguments) {
-        log(this::debug, this::debug, format, arguments);
+        if (isDebugEnabled()) {
+            log(this::debug, this::debug, format, arguments);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg) {
+        if (isDebugEnabled()) {
+            log(this::debug, this::debug, format, arg);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2) {
+        if (isDebugEnabled()) {
+            log(this::debug, this::debug, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (isDebugEnabled()) {
+            log(this::debug, this::debug, format, arg1, arg2, arg3);
+        }
     }
 
     @Override
     public void info(String format, Object... arguments) {
-        log(this::info, this::info, format, arguments);
+        if (isInfoEnabled()) {
+            log(this::info, this::info, format, arguments);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg) {
+        if (isInfoEnabled()) {
+            log(this::info, this::info, format, arg);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2) {
+        if (isInfoEnabled()) {
+            log(this::info, this::info, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (isInfoEnabled()) {
+            log(this::info, this::info, format, arg1, arg2, arg3);
+        }
     }
 
     @Override
     public void warn(String format, Object... arguments) {
-        log(this::warn, this::warn, format, arguments);
+        if (isWarnEnabled()) {
+            log(this::warn, this::warn, format, arguments);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg) {
+        if (isWarnEnabled()) {
+            log(this::warn, this::warn, format, arg);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2) {
+        if (isWarnEnabled()) {
+            log(this::warn, this::warn, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void warn(String format, Object arg1, Object arg2, Object arg3) {
+        if (isWarnEnabled()) {
+            log(this::warn, this::warn, format, arg1, arg2, arg3);
+        }
     }
 
     @Override
     public void error(String format, Object... arguments) {
-        log(this::error, this::error, format, arguments);
+        if (isErrorEnabled()) {
+            log(this::error, this::error, format, arguments);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg) {
+        if (isErrorEnabled()) {
+            log(this::error, this::error, format, arg);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2) {
+        if (isErrorEnabled()) {
+            log(this::error, this::error, format, arg1, arg2);
+        }
+    }
+
+    @Override
+    public void error(String format, Object arg1, Object arg2, Object arg3) {
+        if (isErrorEnabled()) {
+            log(this::error, this::error, format, arg1, arg2, arg3);
+        }
     }
 
     /**
@@ -114,6 +240,7 @@ public abstract class AbstractLogger implements Logger {
             Object lastArgument = arguments[length - 1];
             if (lastArgument instanceof Throwable) {
                 messageThrowableHandler.accept(message, (Throwable) lastArgument);
+                return;
             }
         }
         messageHandler.accept(message);
@@ -97,6 +97,54 @@ public interface Logger {
      */
     void trace(String format, Object... arguments);
 
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and argument.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the TRACE level if it's overridden, the default implementation
+     * delegates to {@link #trace(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    default void trace(String format, Object arg) {
+        trace(format, new Object[]{arg});
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the TRACE level if it's overridden, the default implementation
+     * delegates to {@link #trace(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    default void trace(String format, Object arg1, Object arg2) {
+        trace(format, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * Log a message at the TRACE level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the TRACE level if it's overridden, the default implementation
+     * delegates to {@link #trace(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     * @param arg3   the third argument
+     */
+    default void trace(String format, Object arg1, Object arg2, Object arg3) {
+        trace(format, new Object[]{arg1, arg2, arg3});
+    }
+
     /**
      * Log an exception (throwable) at the TRACE level with an
      * accompanying message.
@@ -130,6 +178,54 @@ public interface Logger {
      */
     void debug(String format, Object... arguments);
 
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and argument.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the DEBUG level if it's overridden, the default implementation
+     * delegates to {@link #debug(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    default void debug(String format, Object arg) {
+        debug(format, new Object[]{arg});
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the DEBUG level if it's overridden, the default implementation
+     * delegates to {@link #debug(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    default void debug(String format, Object arg1, Object arg2) {
+        debug(format, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * Log a message at the DEBUG level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the DEBUG level if it's overridden, the default implementation
+     * delegates to {@link #debug(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     * @param arg3   the third argument
+     */
+    default void debug(String format, Object arg1, Object arg2, Object arg3) {
+        debug(format, new Object[]{arg1, arg2, arg3});
+    }
+
     /**
      * Log an exception (throwable) at the DEBUG level with an
      * accompanying message.
@@ -163,6 +259,54 @@ public interface Logger {
      */
     void info(String format, Object... arguments);
 
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and argument.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the INFO level if it's overridden, the default implementation
+     * delegates to {@link #info(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    default void info(String format, Object arg) {
+        info(format, new Object[]{arg});
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the INFO level if it's overridden, the default implementation
+     * delegates to {@link #info(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    default void info(String format, Object arg1, Object arg2) {
+        info(format, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * Log a message at the INFO level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the INFO level if it's overridden, the default implementation
+     * delegates to {@link #info(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     * @param arg3   the third argument
+     */
+    default void info(String format, Object arg1, Object arg2, Object arg3) {
+        info(format, new Object[]{arg1, arg2, arg3});
+    }
+
     /**
      * Log an exception (throwable) at the INFO level with an
      * accompanying message.
@@ -196,6 +340,54 @@ public interface Logger {
      */
     void warn(String format, Object... arguments);
 
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and argument.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the WARN level if it's overridden, the default implementation
+     * delegates to {@link #warn(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    default void warn(String format, Object arg) {
+        warn(format, new Object[]{arg});
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the WARN level if it's overridden, the default implementation
+     * delegates to {@link #warn(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    default void warn(String format, Object arg1, Object arg2) {
+        warn(format, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * Log a message at the WARN level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the WARN level if it's overridden, the default implementation
+     * delegates to {@link #warn(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     * @param arg3   the third argument
+     */
+    default void warn(String format, Object arg1, Object arg2, Object arg3) {
+        warn(format, new Object[]{arg1, arg2, arg3});
+    }
+
     /**
      * Log an exception (throwable) at the WARN level with an
      * accompanying message.
@@ -229,6 +421,54 @@ public interface Logger {
      */
     void error(String format, Object... arguments);
 
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and argument.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the ERROR level if it's overridden, the default implementation
+     * delegates to {@link #error(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg    the argument
+     */
+    default void error(String format, Object arg) {
+        error(format, new Object[]{arg});
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the ERROR level if it's overridden, the default implementation
+     * delegates to {@link #error(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     */
+    default void error(String format, Object arg1, Object arg2) {
+        error(format, new Object[]{arg1, arg2});
+    }
+
+    /**
+     * Log a message at the ERROR level according to the specified format
+     * and arguments.
+     * <p/>
+     * <p>This form avoids superfluous object creation when the logger
+     * is disabled for the ERROR level if it's overridden, the default implementation
+     * delegates to {@link #error(String, Object...)}.
+     *
+     * @param format the format string
+     * @param arg1   the first argument
+     * @param arg2   the second argument
+     * @param arg3   the third argument
+     */
+    default void error(String format, Object arg1, Object arg2, Object arg3) {
+        error(format, new Object[]{arg1, arg2, arg3});
+    }
+
     /**
      * Log an exception (throwable) at the ERROR level with an
      * accompanying message.
@@ -84,6 +84,23 @@ public class Sfl4jLoggerFactory extends LoggerFactory {
             logger.trace(format, arguments);
         }
 
+        @Override
+        public void trace(String format, Object arg) {
+            logger.trace(format, arg);
+        }
+
+        @Override
+        public void trace(String format, Object arg1, Object arg2) {
+            logger.trace(format, arg1, arg2);
+        }
+
+        @Override
+        public void trace(String format, Object arg1, Object arg2, Object arg3) {
+            if (logger.isTraceEnabled()) {
+                logger.trace(format, arg1, arg2, arg3);
+            }
+        }
+
         @Override
         public void trace(String message, Throwable t) {
             logger.trace(message, t);
@@ -104,6 +121,23 @@ public class Sfl4jLoggerFactory extends LoggerFactory {
             logger.debug(format, arguments);
         }
 
+        @Override
+        public void debug(String format, Object arg) {
+            logger.debug(format, arg);
+        }
+
+        @Override
+        public void debug(String format, Object arg1, Object arg2) {
+            logger.debug(format, arg1, arg2);
+        }
+
+        @Override
+        public void debug(String format, Object arg1, Object arg2, Object arg3) {
+            if (logger.isDebugEnabled()) {
+                logger.debug(format, arg1, arg2, arg3);
+            }
+        }
+
         @Override
         public void debug(String message, Throwable t) {
             logger.debug(message, t);
@@ -124,6 +158,23 @@ public class Sfl4jLoggerFactory extends LoggerFactory {
             logger.info(format, arguments);
         }
 
+        @Override
+        public void info(String format, Object arg) {
+            logger.info(format, arg);
+        }
+
+        @Override
+        public void info(String format, Object arg1, Object arg2) {
+            logger.info(format, arg1, arg2);
+        }
+
+        @Override
+        public void info(String format, Object arg1, Object arg2, Object arg3) {
+            if (logger.isInfoEnabled()) {
+                logger.info(format, arg1, arg2, arg3);
+            }
+        }
+
         @Override
         public void info(String message, Throwable t) {
             logger.info(message, t);
@@ -144,6 +195,23 @@ public class Sfl4jLoggerFactory extends LoggerFactory {
             logger.warn(format, arguments);
         }
 
+        @Override
+        public void warn(String format, Object arg) {
+            logger.warn(format, arg);
+        }
+
+        @Override
+        public void warn(String format, Object arg1, Object arg2) {
+            logger.warn(format, arg1, arg2);
+        }
+
+        @Override
+        public void warn(String format, Object arg1, Object arg2, Object arg3) {
+            if (logger.isWarnEnabled()) {
+                logger.warn(format, arg1, arg2, arg3);
+            }
+        }
+
         @Override
         public void warn(String message, Throwable t) {
             logger.warn(message, t);
@@ -164,6 +232,23 @@ public class Sfl4jLoggerFactory extends LoggerFactory {
             logger.error(format, arguments);
         }
 
+        @Override
+        public void error(String format, Object arg) {
+            logger.error(format, arg);
+        }
+
+        @Override
+        public void error(String format, Object arg1, Object arg2) {
+            logger.error(format, arg1, arg2);
+        }
+
+        @Override
+        public void error(String format, Object arg1, Object arg2, Object arg3) {
+            if (logger.isErrorEnabled()) {
+                logger.error(format, arg1, arg2, arg3);
+            }
+        }
+
         @Override
         public void error(String message, Throwable t) {
             logger.error(message, t);
@@ -81,6 +81,7 @@ import static javax.management.ImmutableDescriptor.EMPTY_DESCRIPTOR;
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @see MBeanAttribute
+ * @see MBeanSnapshotter
  * @see Utils
  * @since 1.0.0
  */
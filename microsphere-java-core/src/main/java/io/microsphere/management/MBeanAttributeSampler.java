@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Double.NaN;
+import static java.lang.Double.isNaN;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The periodic sampler of the numeric attributes of the MBeans matching an {@link ObjectName} pattern, each
+ * attribute's values are stored in a {@link MBeanAttributeSamples ring buffer}. The {@link Number} values are sampled
+ * as is, the {@link Boolean} values are sampled as <code>1</code> or <code>0</code>, the others are ignored. The samples
+ * of the MBeans which are no longer matched are removed.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * MBeanSnapshotter snapshotter = new MBeanSnapshotter(ManagementFactory.getPlatformMBeanServer());
+ * MBeanAttributeSampler sampler = new MBeanAttributeSampler(snapshotter, new ObjectName("java.lang:type=MemoryPool,*"), 60);
+ * sampler.start(scheduledExecutorService, 10, TimeUnit.SECONDS);
+ * ...
+ * MBeanAttributeSamples samples = sampler.getSamples(objectName, "CollectionUsageThreshold");
+ * ...
+ * sampler.close();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanSnapshotter
+ * @see MBeanAttributeSamples
+ * @since 1.0.0
+ */
+public class MBeanAttributeSampler implements AutoCloseable {
+
+    private static final Logger logger = getLogger(MBeanAttributeSampler.class);
+
+    private final MBeanSnapshotter snapshotter;
+
+    private final ObjectName pattern;
+
+    private final int capacity;
+
+    private final ConcurrentMap<ObjectName, ConcurrentMap<String, MBeanAttributeSamples>> samplesMap = newConcurrentHashMap();
+
+    private ScheduledFuture<?> future;
+
+    /**
+     * @param snapshotter {@link MBeanSnapshotter}
+     * @param pattern     the {@link ObjectName} or its pattern
+     * @param capacity    the max count of the samples per attribute
+     */
+    public MBeanAttributeSampler(MBeanSnapshotter snapshotter, ObjectName pattern, int capacity) {
+        assertTrue(capacity > 0, () -> "The 'capacity' must be positive : " + capacity);
+        this.snapshotter = snapshotter;
+        this.pattern = pattern;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Sample the attributes periodically
+     *
+     * @param scheduler {@link ScheduledExecutorService}
+     * @param period    the period between the samples
+     * @param unit      the {@link TimeUnit} of period
+     * @return this
+     * @throws IllegalStateException if it has been started
+     */
+    public synchronized MBeanAttributeSampler start(ScheduledExecutorService scheduler, long period, TimeUnit unit)
+            throws IllegalStateException {
+        if (future != null) {
+            throw new IllegalStateException("The sampler[pattern : '" + pattern + "'] has been started!");
+        }
+        future = scheduler.scheduleAtFixedRate(this::sampleQuietly, 0, period, unit);
+        return this;
+    }
+
+    /**
+     * Sample the attributes of the matched MBeans once, the MBean whose snapshot can't be taken is skipped, and the
+     * samples of the MBeans which are no longer matched are removed only if the MBeans were queried successfully, so
+     * that a transient failure never wipes the history.
+     */
+    public void sample() {
+        Set<ObjectName> objectNames = snapshotter.queryNames(pattern);
+        if (objectNames == null) {
+            // The query failed, the samples are kept
+            return;
+        }
+        for (ObjectName objectName : objectNames) {
+            MBeanSnapshot snapshot = snapshotter.snapshot(objectName);
+            if (snapshot == null) {
+                continue;
+            }
+            long timestamp = snapshot.getTimestamp();
+            ConcurrentMap<String, MBeanAttributeSamples> attributeSamples = samplesMap.computeIfAbsent(objectName, n -> newConcurrentHashMap());
+            for (MBeanAttribute attribute : snapshot.getAttributes().values()) {
+                double value = toDouble(attribute.getValue());
+                if (isNaN(value)) {
+                    continue;
+                }
+                String attributeName = attribute.getName();
+                attributeSamples.computeIfAbsent(attributeName, n -> new MBeanAttributeSamples(objectName, n, capacity))
+                        .add(timestamp, value);
+            }
+        }
+        samplesMap.keySet().retainAll(objectNames);
+    }
+
+    /**
+     * Get the samples of the attribute
+     *
+     * @param objectName    the name of MBean
+     * @param attributeName the name of attribute
+     * @return <code>null</code> if not sampled
+     */
+    @Nullable
+    public MBeanAttributeSamples getSamples(ObjectName objectName, String attributeName) {
+        Map<String, MBeanAttributeSamples> attributeSamples = samplesMap.get(objectName);
+        return attributeSamples == null ? null : attributeSamples.get(attributeName);
+    }
+
+    /**
+     * Get the samples of all sampled attributes of MBean
+     *
+     * @param objectName the name of MBean
+     * @return non-null read-only {@link Map} whose keys are the names of attributes
+     */
+    @Nonnull
+    @Immutable
+    public Map<String, MBeanAttributeSamples> getSamples(ObjectName objectName) {
+        Map<String, MBeanAttributeSamples> attributeSamples = samplesMap.get(objectName);
+        return attributeSamples == null ? emptyMap() : unmodifiableMap(attributeSamples);
+    }
+
+    /**
+     * @return the {@link ObjectName} or its pattern
+     */
+    @Nonnull
+    public ObjectName getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Stop sampling, the samples are kept
+     */
+    @Override
+    public synchronized void close() {
+        ScheduledFuture<?> future = this.future;
+        if (future != null) {
+            future.cancel(false);
+            this.future = null;
+        }
+    }
+
+    static double toDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        } else if (value instanceof Boolean) {
+            return ((Boolean) value) ? 1 : 0;
+        }
+        return NaN;
+    }
+
+    private void sampleQuietly() {
+        try {
+            sample();
+        } catch (Throwable e) {
+            // keep the following samples being scheduled
+            logger.warn("The MBeans[pattern : '{}'] can't be sampled", pattern, e);
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Nonnull;
+
+import javax.management.ObjectName;
+
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Double.NaN;
+
+/**
+ * The fixed-capacity ring buffer of the numeric samples of a MBean attribute, the timestamps and values are stored in
+ * the primitive arrays, and the oldest samples are overwritten once it's full.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * MBeanAttributeSamples samples = new MBeanAttributeSamples(objectName, "LoadedClassCount", 60);
+ * samples.add(System.currentTimeMillis(), 1024);
+ * double latestValue = samples.getLatestValue();
+ * MBeanAttributeSamples.Snapshot snapshot = samples.snapshot();
+ * long[] timestamps = snapshot.getTimestamps(); // from the oldest to the latest
+ * double[] values = snapshot.getValues();       // the values of the same samples
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanAttributeSampler
+ * @since 1.0.0
+ */
+public class MBeanAttributeSamples {
+
+    private final ObjectName objectName;
+
+    private final String attributeName;
+
+    private final long[] timestamps;
+
+    private final double[] values;
+
+    /**
+     * The index of the next sample
+     */
+    private int next;
+
+    private int size;
+
+    public MBeanAttributeSamples(ObjectName objectName, String attributeName, int capacity) {
+        assertTrue(capacity > 0, () -> "The 'capacity' must be positive : " + capacity);
+        this.objectName = objectName;
+        this.attributeName = attributeName;
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Add a sample, the oldest one will be overwritten if it's full
+     *
+     * @param timestamp the time in milliseconds
+     * @param value     the value
+     */
+    public synchronized void add(long timestamp, double value) {
+        int next = this.next;
+        timestamps[next] = timestamp;
+        values[next] = value;
+        this.next = (next + 1) % values.length;
+        if (size < values.length) {
+            size++;
+        }
+    }
+
+    /**
+     * @return the latest value, or {@link Double#NaN} if empty
+     */
+    public synchronized double getLatestValue() {
+        return size == 0 ? NaN : values[latestIndex()];
+    }
+
+    /**
+     * @return the time in milliseconds of latest sample, or <code>-1</code> if empty
+     */
+    public synchronized long getLatestTimestamp() {
+        return size == 0 ? -1L : timestamps[latestIndex()];
+    }
+
+    /**
+     * Take the consistent snapshot of the samples, whose timestamps and values are copied at the same time
+     *
+     * @return non-null {@link Snapshot}
+     */
+    @Nonnull
+    public synchronized Snapshot snapshot() {
+        long[] timestampsCopy = new long[size];
+        double[] valuesCopy = new double[size];
+        int oldest = oldestIndex();
+        int capacity = values.length;
+        for (int i = 0; i < size; i++) {
+            int index = (oldest + i) % capacity;
+            timestampsCopy[i] = timestamps[index];
+            valuesCopy[i] = values[index];
+        }
+        return new Snapshot(timestampsCopy, valuesCopy);
+    }
+
+    /**
+     * @return the count of samples
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return the max count of samples
+     */
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * @return the name of MBean
+     */
+    @Nonnull
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * @return the name of attribute
+     */
+    @Nonnull
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    private int latestIndex() {
+        int capacity = values.length;
+        return (next - 1 + capacity) % capacity;
+    }
+
+    private int oldestIndex() {
+        return size < values.length ? 0 : next;
+    }
+
+    /**
+     * The snapshot of {@link MBeanAttributeSamples}, the timestamp and value at the same index belong to one sample
+     */
+    public static class Snapshot {
+
+        private final long[] timestamps;
+
+        private final double[] values;
+
+        Snapshot(long[] timestamps, double[] values) {
+            this.timestamps = timestamps;
+            this.values = values;
+        }
+
+        /**
+         * @return the copy of timestamps from the oldest to the latest
+         */
+        @Nonnull
+        public long[] getTimestamps() {
+            return timestamps.clone();
+        }
+
+        /**
+         * @return the copy of values from the oldest to the latest
+         */
+        @Nonnull
+        public double[] getValues() {
+            return values.clone();
+        }
+
+        /**
+         * @return the count of samples
+         */
+        public int size() {
+            return values.length;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MBeanAttributeSamples{" +
+                "objectName=" + objectName +
+                ", attributeName='" + attributeName + '\'' +
+                ", size=" + size() +
+                ", capacity=" + capacity() +
+                '}';
+    }
+}
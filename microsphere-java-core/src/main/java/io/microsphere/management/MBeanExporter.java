@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.logging.Logger;
+
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectInstance;
+import javax.management.ObjectName;
+import java.util.Set;
+
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+
+/**
+ * The exporter registers the plain objects as the MBeans without the MBean interfaces, the objects are wrapped by
+ * {@link ManagedBean} whose {@link javax.management.MBeanInfo} is derived once per class, the exported MBeans are
+ * unregistered when the exporter is {@link #close() closed}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * try (MBeanExporter exporter = new MBeanExporter(ManagementFactory.getPlatformMBeanServer())) {
+ *     for (TenantStats stats : tenantStatsList) {
+ *         exporter.export(stats, new ObjectName("com.acme:type=TenantStats,name=" + stats.getTenant()));
+ *     }
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ManagedBean
+ * @see ManagedBeanMetadata
+ * @see ManagedResource
+ * @see ManagedAttribute
+ * @see ManagedOperation
+ * @since 1.0.0
+ */
+public class MBeanExporter implements AutoCloseable {
+
+    private static final Logger logger = getLogger(MBeanExporter.class);
+
+    private final MBeanServer mBeanServer;
+
+    private final Set<ObjectName> exportedNames = newKeySet();
+
+    public MBeanExporter(MBeanServer mBeanServer) {
+        this.mBeanServer = mBeanServer;
+    }
+
+    /**
+     * Export the bean as the MBean, the {@link DynamicMBean} is registered as is, the others are wrapped by
+     * {@link ManagedBean}.
+     *
+     * @param bean       the bean
+     * @param objectName the name of MBean
+     * @return the {@link ObjectInstance} registered
+     * @throws JMException if the MBean can't be registered
+     */
+    @Nonnull
+    public ObjectInstance export(Object bean, ObjectName objectName) throws JMException {
+        Object mBean = bean instanceof DynamicMBean ? bean : new ManagedBean(bean);
+        ObjectInstance objectInstance = mBeanServer.registerMBean(mBean, objectName);
+        exportedNames.add(objectInstance.getObjectName());
+        return objectInstance;
+    }
+
+    /**
+     * Unexport the MBean exported by this exporter
+     *
+     * @param objectName the name of MBean
+     * @return <code>true</code> if the MBean was exported by this exporter and has been unregistered
+     * @throws JMException if the MBean can't be unregistered
+     */
+    public boolean unexport(ObjectName objectName) throws JMException {
+        if (exportedNames.remove(objectName)) {
+            if (mBeanServer.isRegistered(objectName)) {
+                mBeanServer.unregisterMBean(objectName);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the read-only {@link Set} of the names of exported MBeans
+     */
+    @Nonnull
+    @Immutable
+    public Set<ObjectName> getExportedNames() {
+        return unmodifiableSet(exportedNames);
+    }
+
+    /**
+     * @return the {@link MBeanServer}
+     */
+    @Nonnull
+    public MBeanServer getMBeanServer() {
+        return mBeanServer;
+    }
+
+    /**
+     * Unexport all MBeans exported by this exporter
+     */
+    @Override
+    public void close() {
+        for (ObjectName objectName : exportedNames) {
+            try {
+                unexport(objectName);
+            } catch (JMException e) {
+                logger.warn("The MBean[name : '{}'] can't be unexported", objectName, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import javax.management.MBeanInfo;
+import javax.management.ObjectName;
+import java.util.Map;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The immutable snapshot of the readable attributes of a MBean, which were fetched in one call.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * MBeanSnapshot snapshot = snapshotter.snapshot(new ObjectName("java.lang:type=ClassLoading"));
+ * long timestamp = snapshot.getTimestamp();
+ * Object loadedClassCount = snapshot.getValue("LoadedClassCount");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanSnapshotter
+ * @see MBeanAttribute
+ * @since 1.0.0
+ */
+@Immutable
+public class MBeanSnapshot {
+
+    private final ObjectName objectName;
+
+    private final MBeanInfo mBeanInfo;
+
+    private final long timestamp;
+
+    private final Map<String, MBeanAttribute> attributes;
+
+    public MBeanSnapshot(ObjectName objectName, MBeanInfo mBeanInfo, long timestamp, Map<String, MBeanAttribute> attributes) {
+        this.objectName = objectName;
+        this.mBeanInfo = mBeanInfo;
+        this.timestamp = timestamp;
+        this.attributes = unmodifiableMap(attributes);
+    }
+
+    /**
+     * @return the name of MBean
+     */
+    @Nonnull
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * @return the {@link MBeanInfo} of MBean
+     */
+    @Nonnull
+    public MBeanInfo getMBeanInfo() {
+        return mBeanInfo;
+    }
+
+    /**
+     * @return the time in milliseconds when the attributes were fetched
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return non-null read-only {@link Map} of the readable attributes whose keys are the names of attributes
+     */
+    @Nonnull
+    @Immutable
+    public Map<String, MBeanAttribute> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Get the {@link MBeanAttribute} by the name
+     *
+     * @param attributeName the name of attribute
+     * @return <code>null</code> if the attribute is absent or not readable
+     */
+    @Nullable
+    public MBeanAttribute getAttribute(String attributeName) {
+        return attributes.get(attributeName);
+    }
+
+    /**
+     * Get the value of attribute by the name
+     *
+     * @param attributeName the name of attribute
+     * @return <code>null</code> if the attribute is absent, not readable or failed to be fetched
+     */
+    @Nullable
+    public Object getValue(String attributeName) {
+        MBeanAttribute attribute = getAttribute(attributeName);
+        return attribute == null ? null : attribute.getValue();
+    }
+
+    @Override
+    public String toString() {
+        return "MBeanSnapshot{" +
+                "objectName=" + objectName +
+                ", timestamp=" + timestamp +
+                ", attributes=" + attributes.keySet() +
+                '}';
+    }
+}
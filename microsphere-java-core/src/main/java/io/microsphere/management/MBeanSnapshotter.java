@@ -0,0 +1,275 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.logging.Logger;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServerConnection;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.NotificationListener;
+import javax.management.ObjectName;
+import javax.management.relation.MBeanServerNotificationFilter;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.collection.MapUtils.newFixedHashMap;
+import static io.microsphere.collection.MapUtils.newFixedLinkedHashMap;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.emptyList;
+import static javax.management.MBeanServerDelegate.DELEGATE_NAME;
+import static javax.management.MBeanServerNotification.UNREGISTRATION_NOTIFICATION;
+
+/**
+ * The snapshotter of the MBeans' attributes, which caches the {@link MBeanInfo} per {@link ObjectName} until the MBean
+ * is unregistered, and fetches all readable attributes of a MBean by one
+ * {@link MBeanServerConnection#getAttributes(ObjectName, String[])} call rather than one call per attribute, thus
+ * the round trips are reduced significantly against the remote connectors.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * try (MBeanSnapshotter snapshotter = new MBeanSnapshotter(ManagementFactory.getPlatformMBeanServer())) {
+ *     MBeanSnapshot snapshot = snapshotter.snapshot(new ObjectName("java.lang:type=ClassLoading"));
+ *     List<MBeanSnapshot> snapshots = snapshotter.snapshots(new ObjectName("java.lang:type=MemoryPool,*"));
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanSnapshot
+ * @see MBeanAttributeSampler
+ * @see JmxUtils
+ * @since 1.0.0
+ */
+public class MBeanSnapshotter implements NotificationListener, AutoCloseable {
+
+    private static final Logger logger = getLogger(MBeanSnapshotter.class);
+
+    private final MBeanServerConnection connection;
+
+    private final ConcurrentMap<ObjectName, MBeanMetadata> metadataCache = newConcurrentHashMap();
+
+    /**
+     * Create an instance and listen the unregistration notifications of MBeans to invalidate the cache
+     *
+     * @param connection {@link MBeanServerConnection}, e.g, {@link javax.management.MBeanServer} or the remote one
+     * @throws IOException if the listener can't be added to the remote {@link MBeanServerConnection}
+     */
+    public MBeanSnapshotter(MBeanServerConnection connection) throws IOException {
+        this.connection = connection;
+        MBeanServerNotificationFilter filter = new MBeanServerNotificationFilter();
+        filter.disableAllTypes();
+        filter.enableType(UNREGISTRATION_NOTIFICATION);
+        filter.enableAllObjectNames();
+        try {
+            connection.addNotificationListener(DELEGATE_NAME, this, filter, null);
+        } catch (InstanceNotFoundException e) {
+            // never happen, the delegate MBean is always registered
+            logger.warn("The MBeanServerDelegate[name : '{}'] can't be found", DELEGATE_NAME, e);
+        }
+    }
+
+    /**
+     * Get the cached {@link MBeanInfo} of MBean
+     *
+     * @param objectName the name of MBean
+     * @return <code>null</code> if the MBean can't be found or introspected
+     */
+    @Nullable
+    public MBeanInfo getMBeanInfo(ObjectName objectName) {
+        MBeanMetadata metadata = getMetadata(objectName);
+        return metadata == null ? null : metadata.mBeanInfo;
+    }
+
+    /**
+     * Take the snapshot of the readable attributes of MBean
+     *
+     * @param objectName the name of MBean
+     * @return <code>null</code> if the MBean can't be found or the attributes can't be fetched
+     */
+    @Nullable
+    public MBeanSnapshot snapshot(ObjectName objectName) {
+        MBeanMetadata metadata = getMetadata(objectName);
+        if (metadata == null) {
+            return null;
+        }
+        MBeanAttributeInfo[] attributeInfos = metadata.readableAttributeInfos;
+        int length = attributeInfos.length;
+        AttributeList attributeList;
+        try {
+            attributeList = length == 0 ? new AttributeList() : connection.getAttributes(objectName, metadata.readableAttributeNames);
+        } catch (InstanceNotFoundException e) {
+            invalidate(objectName);
+            return null;
+        } catch (JMException | IOException e) {
+            logger.warn("The attributes of MBean[name : '{}'] can't be fetched", objectName, e);
+            return null;
+        }
+        long timestamp = currentTimeMillis();
+
+        Map<String, Object> values = newFixedHashMap(attributeList.size());
+        for (Attribute attribute : attributeList.asList()) {
+            values.put(attribute.getName(), attribute.getValue());
+        }
+
+        MBeanInfo mBeanInfo = metadata.mBeanInfo;
+        LinkedHashMap<String, MBeanAttribute> attributes = newFixedLinkedHashMap(length);
+        for (int i = 0; i < length; i++) {
+            MBeanAttributeInfo attributeInfo = attributeInfos[i];
+            String attributeName = attributeInfo.getName();
+            attributes.put(attributeName, new MBeanAttribute(mBeanInfo, attributeInfo, values.get(attributeName)));
+        }
+        return new MBeanSnapshot(objectName, mBeanInfo, timestamp, attributes);
+    }
+
+    /**
+     * Take the snapshots of the MBeans matching the {@link ObjectName} pattern
+     *
+     * @param pattern the {@link ObjectName} pattern, e.g. "java.lang:type=MemoryPool,*"
+     * @return non-null {@link List} of the snapshots
+     */
+    @Nonnull
+    public List<MBeanSnapshot> snapshots(ObjectName pattern) {
+        Set<ObjectName> objectNames = queryNames(pattern);
+        if (objectNames == null) {
+            return emptyList();
+        }
+        List<MBeanSnapshot> snapshots = newArrayList(objectNames.size());
+        for (ObjectName objectName : objectNames) {
+            MBeanSnapshot snapshot = snapshot(objectName);
+            if (snapshot != null) {
+                snapshots.add(snapshot);
+            }
+        }
+        return snapshots;
+    }
+
+    /**
+     * Invalidate the cached {@link MBeanInfo} of MBean
+     *
+     * @param objectName the name of MBean
+     */
+    public void invalidate(ObjectName objectName) {
+        metadataCache.remove(objectName);
+    }
+
+    /**
+     * Invalidate all cached {@link MBeanInfo MBeanInfos}
+     */
+    public void invalidateAll() {
+        metadataCache.clear();
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        if (notification instanceof MBeanServerNotification) {
+            invalidate(((MBeanServerNotification) notification).getMBeanName());
+        }
+    }
+
+    /**
+     * Stop listening the notifications and clear the cache
+     */
+    @Override
+    public void close() {
+        try {
+            connection.removeNotificationListener(DELEGATE_NAME, this);
+        } catch (JMException | IOException e) {
+            logger.warn("The listener can't be removed from the MBeanServerDelegate[name : '{}']", DELEGATE_NAME, e);
+        }
+        invalidateAll();
+    }
+
+    /**
+     * @return the {@link MBeanServerConnection}
+     */
+    @Nonnull
+    public MBeanServerConnection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Query the names of the MBeans matching the {@link ObjectName} pattern
+     *
+     * @param pattern the {@link ObjectName} pattern
+     * @return <code>null</code> if the query failed, which is different from no MBean matched
+     */
+    @Nullable
+    Set<ObjectName> queryNames(ObjectName pattern) {
+        try {
+            return connection.queryNames(pattern, null);
+        } catch (IOException e) {
+            logger.warn("The MBeans can't be queried by the pattern : '{}'", pattern, e);
+            return null;
+        }
+    }
+
+    private MBeanMetadata getMetadata(ObjectName objectName) {
+        MBeanMetadata metadata = metadataCache.get(objectName);
+        if (metadata == null) {
+            MBeanInfo mBeanInfo;
+            try {
+                mBeanInfo = connection.getMBeanInfo(objectName);
+            } catch (JMException | IOException e) {
+                logger.warn("The MBeanInfo[name : '{}'] can't be introspected", objectName, e);
+                return null;
+            }
+            metadata = new MBeanMetadata(mBeanInfo);
+            metadataCache.put(objectName, metadata);
+        }
+        return metadata;
+    }
+
+    private static class MBeanMetadata {
+
+        private final MBeanInfo mBeanInfo;
+
+        private final MBeanAttributeInfo[] readableAttributeInfos;
+
+        private final String[] readableAttributeNames;
+
+        MBeanMetadata(MBeanInfo mBeanInfo) {
+            List<MBeanAttributeInfo> readableAttributeInfos = newArrayList();
+            for (MBeanAttributeInfo attributeInfo : mBeanInfo.getAttributes()) {
+                if (attributeInfo.isReadable()) {
+                    readableAttributeInfos.add(attributeInfo);
+                }
+            }
+            int size = readableAttributeInfos.size();
+            this.mBeanInfo = mBeanInfo;
+            this.readableAttributeInfos = readableAttributeInfos.toArray(new MBeanAttributeInfo[size]);
+            this.readableAttributeNames = new String[size];
+            for (int i = 0; i < size; i++) {
+                this.readableAttributeNames[i] = this.readableAttributeInfos[i].getName();
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.management.ManagedBeanMetadata.AttributeAccessor;
+import io.microsphere.management.ManagedBeanMetadata.OperationInvoker;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.InvalidAttributeValueException;
+import javax.management.JMException;
+import javax.management.MBeanException;
+import javax.management.MBeanInfo;
+import javax.management.ReflectionException;
+import javax.management.RuntimeErrorException;
+import javax.management.RuntimeMBeanException;
+import java.lang.invoke.MethodHandle;
+
+import static io.microsphere.util.ArrayUtils.EMPTY_OBJECT_ARRAY;
+import static io.microsphere.util.Assert.assertNotNull;
+
+/**
+ * The {@link DynamicMBean} exports a plain object, whose {@link MBeanInfo} and accessors are shared by the
+ * {@link ManagedBeanMetadata} of its class, thus the creation is as cheap as an allocation, and the attributes are
+ * accessed by the {@link MethodHandle MethodHandles} without the reflection in bulk.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ManagedBean managedBean = new ManagedBean(new TenantStats("tenant-1"));
+ * mBeanServer.registerMBean(managedBean, new ObjectName("com.acme:type=TenantStats,name=tenant-1"));
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ManagedBeanMetadata
+ * @see MBeanExporter
+ * @see DynamicMBean
+ * @since 1.0.0
+ */
+public class ManagedBean implements DynamicMBean {
+
+    private final Object bean;
+
+    private final ManagedBeanMetadata metadata;
+
+    public ManagedBean(Object bean) {
+        assertNotNull(bean, () -> "The 'bean' must not be null");
+        this.bean = bean;
+        this.metadata = ManagedBeanMetadata.of(bean.getClass());
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException, MBeanException, ReflectionException {
+        MethodHandle getter = getGetter(attribute);
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException, InvalidAttributeValueException,
+            MBeanException, ReflectionException {
+        String attributeName = attribute.getName();
+        AttributeAccessor accessor = metadata.getAttributeAccessor(attributeName);
+        if (accessor == null || accessor.setter == null) {
+            throw new AttributeNotFoundException("The attribute[name : '" + attributeName + "'] is not writable");
+        }
+        Object value = attribute.getValue();
+        if (!accessor.isAssignable(value)) {
+            throw new InvalidAttributeValueException("The value[" + value + "] can't be assigned to the attribute[name : '"
+                    + attributeName + "' , type : '" + accessor.type.getName() + "']");
+        }
+        try {
+            accessor.setter.invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    /**
+     * Get the values of attributes in bulk, the absent, non-readable or failed attributes are omitted.
+     *
+     * @param attributes the names of attributes
+     * @return non-null
+     */
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        int length = attributes.length;
+        AttributeList attributeList = new AttributeList(length);
+        Object bean = this.bean;
+        for (int i = 0; i < length; i++) {
+            String attributeName = attributes[i];
+            AttributeAccessor accessor = metadata.getAttributeAccessor(attributeName);
+            if (accessor == null || accessor.getter == null) {
+                continue;
+            }
+            try {
+                attributeList.add(new Attribute(attributeName, (Object) accessor.getter.invokeExact(bean)));
+            } catch (Throwable ignored) {
+                // the failed attribute is omitted
+            }
+        }
+        return attributeList;
+    }
+
+    /**
+     * Set the values of attributes in bulk, the absent, non-writable or failed attributes are omitted.
+     *
+     * @param attributes the attributes
+     * @return non-null {@link AttributeList} of the attributes set
+     */
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        AttributeList attributeList = new AttributeList(attributes.size());
+        for (Attribute attribute : attributes.asList()) {
+            try {
+                setAttribute(attribute);
+                attributeList.add(attribute);
+            } catch (JMException | RuntimeException ignored) {
+                // the failed attribute is omitted
+            }
+        }
+        return attributeList;
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws MBeanException, ReflectionException {
+        OperationInvoker invoker = metadata.getOperationInvoker(actionName, signature);
+        if (invoker == null) {
+            throw new ReflectionException(new NoSuchMethodException(actionName), "The operation[name : '" + actionName + "'] can't be found");
+        }
+        Object[] args = params == null ? EMPTY_OBJECT_ARRAY : params;
+        try {
+            return (Object) invoker.methodHandle.invokeExact(bean, args);
+        } catch (Throwable e) {
+            throw wrap(e);
+        }
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        return metadata.getMBeanInfo();
+    }
+
+    /**
+     * @return the exported bean
+     */
+    @Nonnull
+    public Object getBean() {
+        return bean;
+    }
+
+    private MethodHandle getGetter(String attributeName) throws AttributeNotFoundException {
+        AttributeAccessor accessor = metadata.getAttributeAccessor(attributeName);
+        if (accessor == null || accessor.getter == null) {
+            throw new AttributeNotFoundException("The attribute[name : '" + attributeName + "'] is not readable");
+        }
+        return accessor.getter;
+    }
+
+    static MBeanException wrap(Throwable e) {
+        if (e instanceof RuntimeException) {
+            throw new RuntimeMBeanException((RuntimeException) e);
+        } else if (e instanceof Error) {
+            throw new RuntimeErrorException((Error) e);
+        }
+        return new MBeanException((Exception) e);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.beans.BeanMetadata;
+import io.microsphere.management.builder.MBeanInfoBuilder;
+
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanParameterInfo;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.beans.BeanUtils.getBeanMetadata;
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.management.builder.MBeanInfoBuilder.mbeanInfo;
+import static io.microsphere.reflect.AccessibleObjectUtils.trySetAccessible;
+import static io.microsphere.reflect.MethodUtils.isIsMethod;
+import static io.microsphere.util.ClassUtils.getTypeName;
+import static io.microsphere.util.ClassUtils.tryResolveWrapperType;
+import static io.microsphere.util.StringUtils.capitalize;
+import static io.microsphere.util.StringUtils.isBlank;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * The metadata of the class exported as the MBean, which is derived from the {@link BeanMetadata} and the annotations
+ * {@link ManagedResource}, {@link ManagedAttribute} and {@link ManagedOperation} once per class, the attributes and
+ * operations are bound to the {@link MethodHandle MethodHandles} adapted to the generic types, thus the instances of
+ * the same class share the metadata without introspection.
+ *
+ * <p>The attributes are named by the capitalized property names as {@link javax.management.StandardMBean} does, if
+ * none of the methods is annotated, all properties of the bean are exported as the attributes without any operation.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ManagedBeanMetadata metadata = ManagedBeanMetadata.of(TenantStats.class);
+ * MBeanInfo mBeanInfo = metadata.getMBeanInfo();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ManagedBean
+ * @see MBeanInfoBuilder
+ * @see BeanMetadata
+ * @since 1.0.0
+ */
+public class ManagedBeanMetadata {
+
+    static final MethodType GETTER_TYPE = methodType(Object.class, Object.class);
+
+    static final MethodType SETTER_TYPE = methodType(void.class, Object.class, Object.class);
+
+    static final MethodType OPERATION_TYPE = methodType(Object.class, Object.class, Object[].class);
+
+    private static final ConcurrentMap<Class<?>, ManagedBeanMetadata> managedBeanMetadataCache = newConcurrentHashMap();
+
+    private final Class<?> beanClass;
+
+    private final MBeanInfo mBeanInfo;
+
+    private final Map<String, AttributeAccessor> attributeAccessors;
+
+    private final Map<String, List<OperationInvoker>> operationInvokers;
+
+    protected ManagedBeanMetadata(Class<?> beanClass) {
+        BeanMetadata beanMetadata = getBeanMetadata(beanClass);
+        boolean annotated = isAnnotated(beanClass);
+        ManagedResource managedResource = beanClass.getAnnotation(ManagedResource.class);
+
+        MBeanInfoBuilder builder = mbeanInfo(getTypeName(beanClass))
+                .description(managedResource == null || isBlank(managedResource.description()) ?
+                        getTypeName(beanClass) : managedResource.description());
+
+        Map<String, AttributeAccessor> attributeAccessors = newHashMap();
+        for (PropertyDescriptor propertyDescriptor : beanMetadata.getPropertyDescriptors()) {
+            Method readMethod = propertyDescriptor.getReadMethod();
+            Method writeMethod = propertyDescriptor.getWriteMethod();
+            ManagedAttribute readAnnotation = readMethod == null ? null : readMethod.getAnnotation(ManagedAttribute.class);
+            ManagedAttribute writeAnnotation = writeMethod == null ? null : writeMethod.getAnnotation(ManagedAttribute.class);
+            if (annotated && readAnnotation == null && writeAnnotation == null) {
+                continue;
+            }
+            String attributeName = capitalize(propertyDescriptor.getName());
+            String description = resolveDescription(readAnnotation, writeAnnotation, attributeName);
+            MethodHandle getter = readMethod == null ? null : unreflect(readMethod).asType(GETTER_TYPE);
+            MethodHandle setter = writeMethod == null ? null : unreflect(writeMethod).asType(SETTER_TYPE);
+            attributeAccessors.put(attributeName, new AttributeAccessor(propertyDescriptor.getPropertyType(), getter, setter));
+            builder.attribute(attributeName, propertyDescriptor.getPropertyType(), attributeBuilder -> attributeBuilder
+                    .read(getter != null)
+                    .write(setter != null)
+                    .is(isIsMethod(readMethod))
+                    .description(description));
+        }
+
+        List<Method> operationMethods = newArrayList();
+        if (annotated) {
+            for (Method method : beanClass.getMethods()) {
+                ManagedOperation managedOperation = method.getAnnotation(ManagedOperation.class);
+                if (managedOperation == null || isStatic(method.getModifiers())) {
+                    continue;
+                }
+                operationMethods.add(method);
+                builder.operation(method.getName(), method.getReturnType(), operationBuilder -> operationBuilder
+                        .from(method)
+                        .impact(managedOperation.impact())
+                        .description(isBlank(managedOperation.description()) ? method.getName() : managedOperation.description()));
+            }
+        }
+
+        this.beanClass = beanClass;
+        this.mBeanInfo = builder.build();
+        this.attributeAccessors = unmodifiableMap(attributeAccessors);
+        this.operationInvokers = unmodifiableMap(buildOperationInvokers(mBeanInfo.getOperations(), operationMethods));
+    }
+
+    /**
+     * Get the {@link ManagedBeanMetadata} of the class, which is cached
+     *
+     * @param beanClass the class of bean
+     * @return non-null
+     */
+    @Nonnull
+    public static ManagedBeanMetadata of(Class<?> beanClass) {
+        return managedBeanMetadataCache.computeIfAbsent(beanClass, ManagedBeanMetadata::new);
+    }
+
+    /**
+     * @return the class of bean
+     */
+    @Nonnull
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * @return the shared {@link MBeanInfo}
+     */
+    @Nonnull
+    public MBeanInfo getMBeanInfo() {
+        return mBeanInfo;
+    }
+
+    @Nullable
+    AttributeAccessor getAttributeAccessor(String attributeName) {
+        return attributeAccessors.get(attributeName);
+    }
+
+    @Nullable
+    OperationInvoker getOperationInvoker(String operationName, String[] signature) {
+        List<OperationInvoker> invokers = operationInvokers.get(operationName);
+        if (invokers == null) {
+            return null;
+        }
+        for (int i = 0; i < invokers.size(); i++) {
+            OperationInvoker invoker = invokers.get(i);
+            if (invoker.matches(signature)) {
+                return invoker;
+            }
+        }
+        return null;
+    }
+
+    static boolean isAnnotated(Class<?> beanClass) {
+        for (Method method : beanClass.getMethods()) {
+            if (method.isAnnotationPresent(ManagedAttribute.class) || method.isAnnotationPresent(ManagedOperation.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static MethodHandle unreflect(Method method) {
+        trySetAccessible(method);
+        try {
+            return lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("The method[" + method + "] can't be accessed", e);
+        }
+    }
+
+    private static String resolveDescription(ManagedAttribute readAnnotation, ManagedAttribute writeAnnotation, String attributeName) {
+        if (readAnnotation != null && !isBlank(readAnnotation.description())) {
+            return readAnnotation.description();
+        }
+        if (writeAnnotation != null && !isBlank(writeAnnotation.description())) {
+            return writeAnnotation.description();
+        }
+        return attributeName;
+    }
+
+    private static Map<String, List<OperationInvoker>> buildOperationInvokers(MBeanOperationInfo[] operationInfos,
+                                                                              List<Method> operationMethods) {
+        int size = operationMethods.size();
+        Map<String, List<OperationInvoker>> operationInvokers = newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            Method method = operationMethods.get(i);
+            MBeanParameterInfo[] parameterInfos = operationInfos[i].getSignature();
+            int parameterCount = parameterInfos.length;
+            String[] signature = new String[parameterCount];
+            for (int j = 0; j < parameterCount; j++) {
+                signature[j] = parameterInfos[j].getType();
+            }
+            MethodHandle methodHandle = unreflect(method)
+                    .asSpreader(Object[].class, parameterCount)
+                    .asType(OPERATION_TYPE);
+            operationInvokers.computeIfAbsent(method.getName(), n -> newArrayList(1))
+                    .add(new OperationInvoker(signature, methodHandle));
+        }
+        return operationInvokers;
+    }
+
+    /**
+     * The accessor of attribute
+     */
+    static class AttributeAccessor {
+
+        /**
+         * The type of attribute, the primitive type is wrapped
+         */
+        final Class<?> type;
+
+        final boolean primitive;
+
+        /**
+         * The getter whose type is {@link #GETTER_TYPE}, or <code>null</code> if not readable
+         */
+        final MethodHandle getter;
+
+        /**
+         * The setter whose type is {@link #SETTER_TYPE}, or <code>null</code> if not writable
+         */
+        final MethodHandle setter;
+
+        AttributeAccessor(Class<?> type, MethodHandle getter, MethodHandle setter) {
+            this.type = tryResolveWrapperType(type);
+            this.primitive = type.isPrimitive();
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        boolean isAssignable(Object value) {
+            return value == null ? !primitive : type.isInstance(value);
+        }
+    }
+
+    /**
+     * The invoker of operation
+     */
+    static class OperationInvoker {
+
+        final String[] signature;
+
+        /**
+         * The spread {@link MethodHandle} whose type is {@link #OPERATION_TYPE}
+         */
+        final MethodHandle methodHandle;
+
+        OperationInvoker(String[] signature, MethodHandle methodHandle) {
+            this.signature = signature;
+            this.methodHandle = methodHandle;
+        }
+
+        boolean matches(String[] signature) {
+            String[] expected = this.signature;
+            if (signature == null) {
+                return expected.length == 0;
+            }
+            int length = expected.length;
+            if (length != signature.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!expected[i].equals(signature[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.management.builder.MBeanOperationInfoBuilder.Impact;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static io.microsphere.management.builder.MBeanOperationInfoBuilder.Impact.UNKNOWN;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * The annotation marks the public method as the MBean operation exported by {@link MBeanExporter}
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * public class TenantStats {
+ *
+ *     @ManagedOperation(description = "Reset the statistics", impact = Impact.ACTION)
+ *     public void reset() {
+ *         ...
+ *     }
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ManagedResource
+ * @see ManagedAttribute
+ * @see MBeanExporter
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(METHOD)
+public @interface ManagedOperation {
+
+    /**
+     * The description of operation
+     */
+    String description() default "";
+
+    /**
+     * The impact of operation
+     */
+    Impact impact() default UNKNOWN;
+}
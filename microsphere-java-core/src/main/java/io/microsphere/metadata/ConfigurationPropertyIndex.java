@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.metadata;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.beans.ConfigurationProperty;
+import io.microsphere.internal.io.MappingUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.internal.io.MappingUtils.map;
+import static io.microsphere.io.IOUtils.toByteArray;
+import static io.microsphere.json.JSONUtils.readValue;
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * The binary index of {@link ConfigurationProperty configuration properties} metadata, which is generated by the
+ * annotation processor besides the JSON metadata, and whose entries are sorted by the names, so that the
+ * {@link ConfigurationProperty configuration properties} are looked up by the name or the prefix with the binary search
+ * and materialized on demand, rather than reading the whole JSON metadata.
+ *
+ * <p>The layout in the big-endian order:
+ * <pre>
+ * entries : the UTF-8 JSON of the entries generated by {@link ConfigurationPropertyGenerator}
+ * names   : the UTF-8 names of the entries in the sorted order
+ * table   : (name offset, name length, entry offset, entry length) * count, 4 bytes each, sorted by the names
+ * footer  : table offset, count, {@link #VERSION version}, {@link #MAGIC magic}, 4 bytes each
+ * </pre>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ConfigurationPropertyIndex index = ConfigurationPropertyIndex.of(url);
+ * ConfigurationProperty property = index.getConfigurationProperty("microsphere.service-loader.cached");
+ * List<ConfigurationProperty> properties = index.getConfigurationProperties("microsphere.net.");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertyIndexWriter
+ * @see IndexedConfigurationPropertyLoader
+ * @since 1.0.0
+ */
+public final class ConfigurationPropertyIndex {
+
+    /**
+     * The magic number of the index : "MSCI"
+     */
+    public static final int MAGIC = 0x4D534349;
+
+    /**
+     * The version of the index layout
+     */
+    public static final int VERSION = 1;
+
+    static final int FOOTER_LENGTH = 16;
+
+    static final int TABLE_ENTRY_LENGTH = 16;
+
+    private static final DefaultConfigurationPropertyReader configurationPropertyReader = new DefaultConfigurationPropertyReader();
+
+    private final ByteBuffer buffer;
+
+    private final int tableOffset;
+
+    private final int size;
+
+    /**
+     * The materialized instances, which are published safely to the concurrent readers, and the first one wins
+     */
+    private final AtomicReferenceArray<ConfigurationProperty> configurationProperties;
+
+    private ConfigurationPropertyIndex(ByteBuffer buffer, int tableOffset, int size) {
+        this.buffer = buffer;
+        this.tableOffset = tableOffset;
+        this.size = size;
+        this.configurationProperties = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * Create an instance of {@link ConfigurationPropertyIndex} from the content of index
+     *
+     * @param buffer the content of index from the position to the limit, which must not be modified
+     * @return non-null
+     * @throws IllegalArgumentException if the content is not a valid index
+     */
+    @Nonnull
+    public static ConfigurationPropertyIndex of(ByteBuffer buffer) throws IllegalArgumentException {
+        assertNotNull(buffer, () -> "The 'buffer' argument must not be null");
+        ByteBuffer content = buffer.slice();
+        int limit = content.limit();
+        assertTrue(limit >= FOOTER_LENGTH && content.getInt(limit - 4) == MAGIC, "The content is not a valid index");
+        int version = content.getInt(limit - 8);
+        assertTrue(version == VERSION, () -> "The version of index is not supported : " + version);
+        int size = content.getInt(limit - 12);
+        int tableOffset = content.getInt(limit - 16);
+        assertTrue(size >= 0 && tableOffset >= 0 && tableOffset + (long) size * TABLE_ENTRY_LENGTH == limit - FOOTER_LENGTH,
+                "The table of index is corrupted");
+        return new ConfigurationPropertyIndex(content, tableOffset, size);
+    }
+
+    /**
+     * Create an instance of {@link ConfigurationPropertyIndex} from the resource, which is mapped into the memory if
+     * it's a file or stored without compression in a JAR file, or is read into the heap otherwise.
+     *
+     * @param url the {@link URL} of the index resource
+     * @return non-null
+     * @throws IOException              if an I/O error occurs
+     * @throws IllegalArgumentException if the content is not a valid index
+     * @see MappingUtils#map(URLConnection)
+     */
+    @Nonnull
+    public static ConfigurationPropertyIndex of(URL url) throws IOException, IllegalArgumentException {
+        assertNotNull(url, () -> "The 'url' argument must not be null");
+        URLConnection urlConnection = url.openConnection();
+        ByteBuffer buffer = map(urlConnection);
+        if (buffer == null) {
+            try (InputStream inputStream = urlConnection.getInputStream()) {
+                buffer = wrap(toByteArray(inputStream));
+            }
+        }
+        return of(buffer);
+    }
+
+    /**
+     * @return the count of the entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the first {@link ConfigurationProperty} with the specified name
+     *
+     * @param name the name of {@link ConfigurationProperty}
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    public ConfigurationProperty getConfigurationProperty(String name) {
+        int index = lowerBound(name);
+        return index < size && name.equals(getName(index)) ? getConfigurationProperty(index) : null;
+    }
+
+    /**
+     * Get the {@link ConfigurationProperty configuration properties} whose names start with the specified prefix
+     *
+     * @param prefix the prefix of names, the empty string matches all
+     * @return non-null read-only {@link List} sorted by the names
+     */
+    @Nonnull
+    @Immutable
+    public List<ConfigurationProperty> getConfigurationProperties(String prefix) {
+        List<ConfigurationProperty> configurationProperties = newArrayList();
+        for (int index = lowerBound(prefix); index < size && getName(index).startsWith(prefix); index++) {
+            configurationProperties.add(getConfigurationProperty(index));
+        }
+        return unmodifiableList(configurationProperties);
+    }
+
+    /**
+     * Get the name of the entry
+     *
+     * @param index the index of the sorted entries
+     * @return non-null
+     */
+    @Nonnull
+    String getName(int index) {
+        int entryOffset = tableOffset + index * TABLE_ENTRY_LENGTH;
+        return decode(buffer.getInt(entryOffset), buffer.getInt(entryOffset + 4));
+    }
+
+    /**
+     * Get the {@link ConfigurationProperty} of the entry, which is materialized at the first time
+     *
+     * @param index the index of the sorted entries
+     * @return non-null
+     */
+    @Nonnull
+    ConfigurationProperty getConfigurationProperty(int index) {
+        ConfigurationProperty configurationProperty = configurationProperties.get(index);
+        if (configurationProperty == null) {
+            int entryOffset = tableOffset + index * TABLE_ENTRY_LENGTH;
+            String json = decode(buffer.getInt(entryOffset + 8), buffer.getInt(entryOffset + 12));
+            configurationProperty = configurationPropertyReader.readConfigurationProperty(readValue(json, Map.class));
+            if (!configurationProperties.compareAndSet(index, null, configurationProperty)) {
+                // the mutable instance materialized by another thread is shared
+                configurationProperty = configurationProperties.get(index);
+            }
+        }
+        return configurationProperty;
+    }
+
+    /**
+     * The binary search for the index of the first entry whose name is not less than the specified key
+     *
+     * @param key the key
+     * @return {@link #size()} if all names are less than the key
+     */
+    int lowerBound(String key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getName(middle).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private String decode(int offset, int length) {
+        byte[] bytes = new byte[length];
+        // the duplicate keeps the position of the shared buffer for the concurrent readers
+        ByteBuffer buffer = this.buffer.duplicate();
+        buffer.position(offset);
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigurationPropertyIndex{size=" + size + '}';
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.metadata;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.beans.ConfigurationProperty;
+
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.MAGIC;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.VERSION;
+import static io.microsphere.util.Assert.assertNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The writer of the binary {@link ConfigurationPropertyIndex}, the JSON entries are written into the
+ * {@link OutputStream} as soon as they are {@link #add(String, String) added}, only the names and the offsets are kept
+ * until the sorted table is written on {@link #close()}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * try (ConfigurationPropertyIndexWriter writer = new ConfigurationPropertyIndexWriter(outputStream)) {
+ *     writer.add("server.port", "{\"name\":\"server.port\",\"type\":\"java.lang.Integer\",...}");
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertyIndex
+ * @since 1.0.0
+ */
+public class ConfigurationPropertyIndexWriter implements Closeable {
+
+    private final DataOutputStream outputStream;
+
+    private final List<Entry> entries;
+
+    public ConfigurationPropertyIndexWriter(OutputStream outputStream) {
+        assertNotNull(outputStream, () -> "The 'outputStream' argument must not be null");
+        this.outputStream = new DataOutputStream(outputStream);
+        this.entries = newArrayList();
+    }
+
+    /**
+     * Add the JSON entry of {@link ConfigurationProperty}
+     *
+     * @param name the name of {@link ConfigurationProperty}
+     * @param json the JSON of {@link ConfigurationProperty} generated by {@link ConfigurationPropertyGenerator}
+     * @return this
+     * @throws IOException if an I/O error occurs
+     */
+    @Nonnull
+    public ConfigurationPropertyIndexWriter add(String name, String json) throws IOException {
+        assertNotNull(name, () -> "The 'name' argument must not be null");
+        assertNotNull(json, () -> "The 'json' argument must not be null");
+        byte[] bytes = json.getBytes(UTF_8);
+        entries.add(new Entry(name, outputStream.size(), bytes.length));
+        outputStream.write(bytes);
+        return this;
+    }
+
+    /**
+     * @return the count of the added entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Write the names, the table sorted by the names and the footer, then close the {@link OutputStream}
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        DataOutputStream outputStream = this.outputStream;
+        List<Entry> entries = this.entries;
+        // the stable sort keeps the order of the same names
+        entries.sort(null);
+        for (Entry entry : entries) {
+            byte[] name = entry.name.getBytes(UTF_8);
+            entry.nameOffset = outputStream.size();
+            entry.nameLength = name.length;
+            outputStream.write(name);
+        }
+        int tableOffset = outputStream.size();
+        for (Entry entry : entries) {
+            outputStream.writeInt(entry.nameOffset);
+            outputStream.writeInt(entry.nameLength);
+            outputStream.writeInt(entry.offset);
+            outputStream.writeInt(entry.length);
+        }
+        outputStream.writeInt(tableOffset);
+        outputStream.writeInt(entries.size());
+        outputStream.writeInt(VERSION);
+        outputStream.writeInt(MAGIC);
+        outputStream.close();
+    }
+
+    private static class Entry implements Comparable<Entry> {
+
+        private final String name;
+
+        private final int offset;
+
+        private final int length;
+
+        private int nameOffset;
+
+        private int nameLength;
+
+        private Entry(String name, int offset, int length) {
+            this.name = name;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            return name.compareTo(o.name);
+        }
+    }
+}
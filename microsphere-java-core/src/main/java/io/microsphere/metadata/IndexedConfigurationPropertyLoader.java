@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.metadata;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.beans.ConfigurationProperty;
+import io.microsphere.constants.ResourceConstants;
+import io.microsphere.logging.Logger;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.List;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.Assert.assertNotEmpty;
+import static io.microsphere.util.ClassLoaderUtils.nullSafeClassLoader;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * {@link ConfigurationPropertyLoader} class to look up the configuration properties from all the binary
+ * {@link ConfigurationPropertyIndex indexes} at the {@link ResourceConstants#CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE
+ * resource location} in the Class-Path, the indexes are opened at the first lookup, and the
+ * {@link ConfigurationProperty configuration properties} are materialized only when they are looked up.
+ *
+ * <p>It's not registered as the SPI, because the indexes have the same entries as the JSON metadata loaded by
+ * {@link MetadataResourceConfigurationPropertyLoader}.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * IndexedConfigurationPropertyLoader loader = new IndexedConfigurationPropertyLoader();
+ * ConfigurationProperty property = loader.getConfigurationProperty("microsphere.service-loader.cached");
+ * List<ConfigurationProperty> properties = loader.getConfigurationProperties("microsphere.net.");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertyIndex
+ * @see ResourceConstants#CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE
+ * @since 1.0.0
+ */
+public class IndexedConfigurationPropertyLoader implements ConfigurationPropertyLoader {
+
+    private static final Logger logger = getLogger(IndexedConfigurationPropertyLoader.class);
+
+    private final String resourceName;
+
+    private final ClassLoader classLoader;
+
+    private volatile List<ConfigurationPropertyIndex> indexes;
+
+    public IndexedConfigurationPropertyLoader() {
+        this(null);
+    }
+
+    public IndexedConfigurationPropertyLoader(@Nullable ClassLoader classLoader) {
+        this(CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE, classLoader);
+    }
+
+    public IndexedConfigurationPropertyLoader(@Nonnull String resourceName, @Nullable ClassLoader classLoader) {
+        assertNotEmpty(resourceName, () -> "The Class-Path resource must not be empty: " + resourceName);
+        this.resourceName = resourceName;
+        this.classLoader = nullSafeClassLoader(classLoader);
+    }
+
+    /**
+     * Get the first {@link ConfigurationProperty} with the specified name in the Class-Path order
+     *
+     * @param name the name of {@link ConfigurationProperty}
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    public ConfigurationProperty getConfigurationProperty(String name) {
+        for (ConfigurationPropertyIndex index : getIndexes()) {
+            ConfigurationProperty configurationProperty = index.getConfigurationProperty(name);
+            if (configurationProperty != null) {
+                return configurationProperty;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the {@link ConfigurationProperty configuration properties} whose names start with the specified prefix
+     *
+     * @param prefix the prefix of names, the empty string matches all
+     * @return non-null read-only {@link List} sorted by the names per index in the Class-Path order
+     */
+    @Nonnull
+    @Immutable
+    public List<ConfigurationProperty> getConfigurationProperties(String prefix) {
+        List<ConfigurationProperty> configurationProperties = newArrayList();
+        for (ConfigurationPropertyIndex index : getIndexes()) {
+            configurationProperties.addAll(index.getConfigurationProperties(prefix));
+        }
+        return unmodifiableList(configurationProperties);
+    }
+
+    @Override
+    public List<ConfigurationProperty> load() {
+        return getConfigurationProperties("");
+    }
+
+    @Override
+    public int getPriority() {
+        return MIN_PRIORITY;
+    }
+
+    /**
+     * @return non-null read-only {@link List} of the indexes in the Class-Path, the invalid ones are skipped
+     */
+    @Nonnull
+    @Immutable
+    List<ConfigurationPropertyIndex> getIndexes() {
+        List<ConfigurationPropertyIndex> indexes = this.indexes;
+        if (indexes == null) {
+            synchronized (this) {
+                indexes = this.indexes;
+                if (indexes == null) {
+                    indexes = loadIndexes();
+                    this.indexes = indexes;
+                }
+            }
+        }
+        return indexes;
+    }
+
+    private List<ConfigurationPropertyIndex> loadIndexes() {
+        List<ConfigurationPropertyIndex> indexes = newArrayList();
+        try {
+            Enumeration<URL> urls = this.classLoader.getResources(this.resourceName);
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                try {
+                    indexes.add(ConfigurationPropertyIndex.of(url));
+                } catch (IOException | IllegalArgumentException e) {
+                    logger.warn("The index of configuration properties can't be opened : '{}'", url, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("The Class-Path resources can't be found : '{}' , ClassLoader : {}", this.resourceName, this.classLoader, e);
+        }
+        return unmodifiableList(indexes);
+    }
+}
@@ -24,10 +24,14 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import static io.microsphere.collection.ListUtils.newLinkedList;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
 import static io.microsphere.lang.Prioritized.COMPARATOR;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.sort;
+import static java.util.Collections.unmodifiableSet;
 
 /**
  * A composite implementation of {@link SubProtocolURLConnectionFactory} that combines multiple factories.
@@ -132,6 +136,24 @@ public class CompositeSubProtocolURLConnectionFactory implements SubProtocolURLC
         return factory.create(url, subProtocols, proxy);
     }
 
+    /**
+     * The union of the sub-protocols of all factories
+     *
+     * @return empty {@link Set} if any factory is probed for all {@link URL URLs}
+     */
+    @Override
+    public Set<String> getSubProtocols() {
+        Set<String> subProtocols = newLinkedHashSet();
+        for (SubProtocolURLConnectionFactory factory : this.factories) {
+            Set<String> factorySubProtocols = factory.getSubProtocols();
+            if (factorySubProtocols.isEmpty()) {
+                return emptySet();
+            }
+            subProtocols.addAll(factorySubProtocols);
+        }
+        return unmodifiableSet(subProtocols);
+    }
+
     SubProtocolURLConnectionFactory selectFactory(URL url, List<String> subProtocols) {
         int index = selectFactoryIndex(url, subProtocols);
         return factories.get(index);
@@ -16,6 +16,7 @@
  */
 package io.microsphere.net;
 
+import io.microsphere.annotation.ConfigurationProperty;
 import io.microsphere.annotation.Immutable;
 import io.microsphere.annotation.Nonnull;
 
@@ -25,16 +26,23 @@ import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
 import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
 import static io.microsphere.collection.SetUtils.ofSet;
 import static io.microsphere.constants.SymbolConstants.COLON_CHAR;
 import static io.microsphere.constants.SymbolConstants.DOT_CHAR;
 import static io.microsphere.constants.SymbolConstants.QUERY_STRING;
 import static io.microsphere.constants.SymbolConstants.QUOTE;
+import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
 import static io.microsphere.lang.Prioritized.COMPARATOR;
 import static io.microsphere.net.URLUtils.DEFAULT_HANDLER_PACKAGE_PREFIX;
 import static io.microsphere.net.URLUtils.HANDLER_CONVENTION_CLASS_NAME;
@@ -46,10 +54,17 @@ import static io.microsphere.net.URLUtils.registerURLStreamHandler;
 import static io.microsphere.text.FormatUtils.format;
 import static io.microsphere.util.StringUtils.isBlank;
 import static io.microsphere.util.StringUtils.split;
+import static java.lang.Integer.getInteger;
+import static java.lang.Integer.parseInt;
 import static java.lang.System.getProperty;
 import static java.lang.System.setProperty;
 import static java.net.Proxy.NO_PROXY;
+import static java.util.Collections.disjoint;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.sort;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 
 /**
  * Extendable Protocol {@link URLStreamHandler} class supports the sub-protocols,
@@ -68,6 +83,11 @@ import static java.util.Collections.sort;
  * If no {@link SubProtocolURLConnectionFactory} initialized or {@link URLConnection} open,
  * the {@link #openFallbackConnection(URL, Proxy) fallback strategy} will be applied.
  * <p>
+ * The {@link URL} is {@link #getParsedURL(URL) parsed} once and cached, and the {@link SubProtocolURLConnectionFactory
+ * factories} declaring {@link SubProtocolURLConnectionFactory#getSubProtocols() the sub-protocols} are dispatched by
+ * the sub-protocol directly, the dispatch table is rebuilt by {@link #init()} and
+ * {@link #customizeSubProtocolURLConnectionFactories(Consumer)}.
+ * <p>
  * If there is no requirement to support the sub-protocol, the subclass only needs to override {@link #openConnection(URL, Proxy)} method.
  * <p>
  * If an instance is instantiated by the default constructor, the implementation class must the obey conventions as follow:
@@ -131,10 +151,48 @@ import static java.util.Collections.sort;
  */
 public abstract class ExtendableProtocolURLStreamHandler extends URLStreamHandler {
 
+    /**
+     * The property name of the max size of parsed URLs cache : {@code "microsphere.net.parsed-urls.cache.size"}
+     */
+    public static final String PARSED_URLS_CACHE_SIZE_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "net.parsed-urls.cache.size";
+
+    /**
+     * The default property value of the max size of parsed URLs cache : {@code "256"}
+     */
+    public static final String DEFAULT_PARSED_URLS_CACHE_SIZE_PROPERTY_VALUE = "256";
+
+    /**
+     * The default max size of parsed URLs cache
+     */
+    public static final int DEFAULT_PARSED_URLS_CACHE_SIZE = parseInt(DEFAULT_PARSED_URLS_CACHE_SIZE_PROPERTY_VALUE);
+
+    /**
+     * The max size of parsed URLs cache per handler, the cache will be cleared once it's full
+     */
+    @ConfigurationProperty(
+            name = PARSED_URLS_CACHE_SIZE_PROPERTY_NAME,
+            defaultValue = DEFAULT_PARSED_URLS_CACHE_SIZE_PROPERTY_VALUE,
+            description = "The max size of parsed URLs cache per handler",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int PARSED_URLS_CACHE_SIZE = getInteger(PARSED_URLS_CACHE_SIZE_PROPERTY_NAME, DEFAULT_PARSED_URLS_CACHE_SIZE);
+
     private final String protocol;
 
     private final List<SubProtocolURLConnectionFactory> factories = newArrayList();
 
+    private final ConcurrentMap<URL, ParsedURL> parsedURLsCache = newConcurrentHashMap(PARSED_URLS_CACHE_SIZE);
+
+    /**
+     * The factories probed for all URLs
+     */
+    private volatile List<SubProtocolURLConnectionFactory> genericFactories = emptyList();
+
+    /**
+     * The factories keyed by the sub-protocol, including the generic ones in order
+     */
+    private volatile Map<String, List<SubProtocolURLConnectionFactory>> dispatchTable = emptyMap();
+
     /**
      * The default constructor must obey the following conventions:
      * <ul>
@@ -244,6 +302,7 @@ public abstract class ExtendableProtocolURLStreamHandler extends URLStreamHandle
         List<SubProtocolURLConnectionFactory> factories = this.factories;
         initSubProtocolURLConnectionFactories(factories);
         sort(factories, COMPARATOR);
+        buildDispatchTable();
     }
 
     /**
@@ -261,6 +320,97 @@ public abstract class ExtendableProtocolURLStreamHandler extends URLStreamHandle
      */
     public void customizeSubProtocolURLConnectionFactories(Consumer<List<SubProtocolURLConnectionFactory>> factoriesCustomizer) {
         factoriesCustomizer.accept(this.factories);
+        buildDispatchTable();
+    }
+
+    private void buildDispatchTable() {
+        List<SubProtocolURLConnectionFactory> factories = this.factories;
+        List<SubProtocolURLConnectionFactory> genericFactories = newArrayList(factories.size());
+        Set<String> subProtocols = newLinkedHashSet();
+        for (SubProtocolURLConnectionFactory factory : factories) {
+            Set<String> factorySubProtocols = factory.getSubProtocols();
+            if (factorySubProtocols.isEmpty()) {
+                genericFactories.add(factory);
+            } else {
+                subProtocols.addAll(factorySubProtocols);
+            }
+        }
+        Map<String, List<SubProtocolURLConnectionFactory>> dispatchTable = newHashMap(subProtocols.size());
+        for (String subProtocol : subProtocols) {
+            List<SubProtocolURLConnectionFactory> candidates = newArrayList();
+            for (SubProtocolURLConnectionFactory factory : factories) {
+                Set<String> factorySubProtocols = factory.getSubProtocols();
+                if (factorySubProtocols.isEmpty() || factorySubProtocols.contains(subProtocol)) {
+                    candidates.add(factory);
+                }
+            }
+            dispatchTable.put(subProtocol, unmodifiableList(candidates));
+        }
+        this.genericFactories = unmodifiableList(genericFactories);
+        this.dispatchTable = unmodifiableMap(dispatchTable);
+    }
+
+    /**
+     * Select the candidate factories in order for the specified sub-protocols
+     *
+     * @param subProtocols the sub-protocols of {@link URL}
+     * @return non-null
+     */
+    List<SubProtocolURLConnectionFactory> selectFactories(List<String> subProtocols) {
+        int size = subProtocols.size();
+        if (size == 0) {
+            return this.genericFactories;
+        } else if (size == 1) {
+            return this.dispatchTable.getOrDefault(subProtocols.get(0), this.genericFactories);
+        }
+        // rare case : multiple sub-protocols
+        List<SubProtocolURLConnectionFactory> candidates = newArrayList();
+        for (SubProtocolURLConnectionFactory factory : this.factories) {
+            Set<String> factorySubProtocols = factory.getSubProtocols();
+            if (factorySubProtocols.isEmpty() || !disjoint(factorySubProtocols, subProtocols)) {
+                candidates.add(factory);
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Get the {@link ParsedURL} of the specified {@link URL} from the cache, or parse it if absent
+     *
+     * @param url {@link URL}
+     * @return non-null
+     */
+    @Nonnull
+    public ParsedURL getParsedURL(URL url) {
+        ConcurrentMap<URL, ParsedURL> parsedURLsCache = this.parsedURLsCache;
+        ParsedURL parsedURL = parsedURLsCache.get(url);
+        if (parsedURL == null) {
+            parsedURL = parse(url);
+            if (parsedURLsCache.size() >= PARSED_URLS_CACHE_SIZE) {
+                parsedURLsCache.clear();
+            }
+            parsedURLsCache.put(url, parsedURL);
+        }
+        return parsedURL;
+    }
+
+    /**
+     * Parse the specified {@link URL} by {@link #resolveSubProtocols(URL)}, {@link #resolveAuthority(URL)} and
+     * {@link #resolvePath(URL)}
+     *
+     * @param url {@link URL}
+     * @return non-null
+     */
+    @Nonnull
+    protected ParsedURL parse(URL url) {
+        return new ParsedURL(url, toExternalForm(url), resolveSubProtocols(url), resolveAuthority(url), resolvePath(url));
+    }
+
+    /**
+     * Clear the cache of {@link ParsedURL parsed URLs}
+     */
+    public void clearParsedURLs() {
+        this.parsedURLsCache.clear();
     }
 
     @Override
@@ -270,7 +420,8 @@ public abstract class ExtendableProtocolURLStreamHandler extends URLStreamHandle
 
     @Override
     public URLConnection openConnection(URL u, Proxy p) throws IOException {
-        List<String> subProtocols = resolveSubProtocols(u);
+        List<String> subProtocols = getParsedURL(u).getSubProtocols();
+        List<SubProtocolURLConnectionFactory> factories = selectFactories(subProtocols);
         URLConnection urlConnection = null;
         int size = factories.size();
         for (int i = 0; i < size; i++) {
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.net;
+
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+
+import static io.microsphere.net.URLUtils.getFirst;
+import static io.microsphere.net.URLUtils.resolveAuthority;
+import static io.microsphere.net.URLUtils.resolveMatrixParameters;
+import static io.microsphere.net.URLUtils.resolvePath;
+import static io.microsphere.net.URLUtils.resolveQueryParameters;
+import static io.microsphere.net.URLUtils.resolveSubProtocols;
+import static java.util.Collections.emptyMap;
+
+/**
+ * The immutable descriptor of {@link URL} whose components are parsed once, including the protocol, the
+ * sub-protocols, the authority and the path without the matrix parameters, the matrix and query parameters.
+ *
+ * <p>{@link ExtendableProtocolURLStreamHandler} caches the instances per {@link URL}, so that opening the same
+ * {@link URL} repeatedly does not stringify and parse it again.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * URL url = new URL("test:text:json://localhost:8080/abc;charset=UTF-8?a=1");
+ * ParsedURL parsedURL = ParsedURL.of(url);
+ * parsedURL.getProtocol();                    // "test"
+ * parsedURL.getSubProtocols();                // ["text", "json"]
+ * parsedURL.getAuthority();                   // "localhost:8080"
+ * parsedURL.getMatrixParameter("charset");    // "UTF-8"
+ * parsedURL.getQueryParameter("a");           // "1"
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ExtendableProtocolURLStreamHandler#getParsedURL(URL)
+ * @see URLUtils
+ * @since 1.0.0
+ */
+@Immutable
+public final class ParsedURL {
+
+    private final URL url;
+
+    private final String externalForm;
+
+    private final List<String> subProtocols;
+
+    private final String authority;
+
+    private final String path;
+
+    private final Map<String, List<String>> matrixParameters;
+
+    private final Map<String, List<String>> queryParameters;
+
+    ParsedURL(URL url, String externalForm, List<String> subProtocols, String authority, String path) {
+        this.url = url;
+        this.externalForm = externalForm;
+        this.subProtocols = subProtocols;
+        this.authority = authority;
+        this.path = path;
+        this.matrixParameters = resolveMatrixParameters(externalForm);
+        this.queryParameters = url.getQuery() == null ? emptyMap() : resolveQueryParameters(externalForm);
+    }
+
+    /**
+     * Parse the specified {@link URL} by {@link URLUtils}
+     *
+     * @param url {@link URL}
+     * @return non-null
+     */
+    @Nonnull
+    public static ParsedURL of(URL url) {
+        String externalForm = url.toString();
+        return new ParsedURL(url, externalForm, resolveSubProtocols(externalForm), resolveAuthority(url), resolvePath(url));
+    }
+
+    /**
+     * @return the parsed {@link URL}
+     */
+    @Nonnull
+    public URL getURL() {
+        return url;
+    }
+
+    /**
+     * @return the protocol of {@link URL}
+     */
+    @Nonnull
+    public String getProtocol() {
+        return url.getProtocol();
+    }
+
+    /**
+     * @return non-null read-only {@link List} of the sub-protocols
+     */
+    @Nonnull
+    @Immutable
+    public List<String> getSubProtocols() {
+        return subProtocols;
+    }
+
+    /**
+     * @return the authority without the matrix parameters
+     */
+    @Nullable
+    public String getAuthority() {
+        return authority;
+    }
+
+    /**
+     * @return the path without the matrix parameters
+     */
+    @Nonnull
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return non-null read-only {@link Map} of the matrix parameters
+     */
+    @Nonnull
+    @Immutable
+    public Map<String, List<String>> getMatrixParameters() {
+        return matrixParameters;
+    }
+
+    /**
+     * Get the first value of the matrix parameter
+     *
+     * @param name the name of the matrix parameter
+     * @return <code>null</code> if absent
+     */
+    @Nullable
+    public String getMatrixParameter(String name) {
+        return getFirst(matrixParameters, name);
+    }
+
+    /**
+     * @return non-null read-only {@link Map} of the query parameters
+     */
+    @Nonnull
+    @Immutable
+    public Map<String, List<String>> getQueryParameters() {
+        return queryParameters;
+    }
+
+    /**
+     * Get the first value of the query parameter
+     *
+     * @param name the name of the query parameter
+     * @return <code>null</code> if absent
+     */
+    @Nullable
+    public String getQueryParameter(String name) {
+        return getFirst(queryParameters, name);
+    }
+
+    /**
+     * @return the external form of {@link URL}
+     */
+    @Override
+    public String toString() {
+        return externalForm;
+    }
+}
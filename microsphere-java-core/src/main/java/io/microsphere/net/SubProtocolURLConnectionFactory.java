@@ -16,11 +16,17 @@
  */
 package io.microsphere.net;
 
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+
 import java.io.IOException;
 import java.net.Proxy;
 import java.net.URL;
 import java.net.URLConnection;
 import java.util.List;
+import java.util.Set;
+
+import static java.util.Collections.emptySet;
 
 /**
  * A factory for creating {@link URLConnection} instances that handle sub-protocols.
@@ -89,4 +95,17 @@ public interface SubProtocolURLConnectionFactory {
      * @throws IOException If the process is failed
      */
     URLConnection create(URL url, List<String> subProtocols, Proxy proxy) throws IOException;
+
+    /**
+     * The sub-protocols that the current factory is dedicated to, which are used to build the dispatch table of
+     * {@link ExtendableProtocolURLStreamHandler}, so that {@link #supports(URL, List)} is only probed for the
+     * {@link URL URLs} having any of them.
+     *
+     * @return empty {@link Set} by default, which means the current factory is probed for all {@link URL URLs}
+     */
+    @Nonnull
+    @Immutable
+    default Set<String> getSubProtocols() {
+        return emptySet();
+    }
 }
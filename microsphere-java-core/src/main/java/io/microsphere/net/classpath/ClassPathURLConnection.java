@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.net.classpath;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.io.FastByteArrayInputStream;
+import io.microsphere.net.DelegatingURLConnection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+
+/**
+ * The {@link URLConnection} of "classpath" protocol in the cache mode, which serves the small resources from the
+ * in-memory bytes cached by {@link Handler}, and reads the resources as {@link ByteBuffer}.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * URL url = new URL(null, "classpath:/META-INF/test.properties", new Handler(true));
+ * ClassPathURLConnection urlConnection = (ClassPathURLConnection) url.openConnection();
+ * try (InputStream inputStream = urlConnection.getInputStream()) {
+ *     // read the content
+ * }
+ * ByteBuffer content = urlConnection.getByteBuffer();
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Handler
+ * @see DelegatingURLConnection
+ * @since 1.0.0
+ */
+public class ClassPathURLConnection extends DelegatingURLConnection {
+
+    private final URLConnection delegate;
+
+    private final String classPath;
+
+    private final Handler handler;
+
+    ClassPathURLConnection(URLConnection delegate, String classPath, Handler handler) {
+        super(delegate);
+        this.delegate = delegate;
+        this.classPath = classPath;
+        this.handler = handler;
+    }
+
+    /**
+     * @return the class path of resource, e.g. "META-INF/test.properties"
+     */
+    @Nonnull
+    public String getClassPath() {
+        return classPath;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        byte[] bytes = handler.getBytes(classPath, delegate);
+        return bytes == null ? delegate.getInputStream() : new FastByteArrayInputStream(bytes);
+    }
+
+    /**
+     * Read the content of resource as the read-only {@link ByteBuffer}, the small resources are served from the
+     * memory, the resources in the directories or stored without compression in the JAR files are mapped into the
+     * memory, or the others are read into the heap.
+     *
+     * @return non-null read-only {@link ByteBuffer}
+     * @throws IOException if an I/O error occurs
+     */
+    @Nonnull
+    public ByteBuffer getByteBuffer() throws IOException {
+        return handler.getByteBuffer(classPath, delegate);
+    }
+}
@@ -16,6 +16,9 @@
  */
 package io.microsphere.net.classpath;
 
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
 import io.microsphere.net.ExtendableProtocolURLStreamHandler;
 import io.microsphere.util.ClassLoaderUtils;
 
@@ -24,41 +27,282 @@ import java.net.Proxy;
 import java.net.URL;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentMap;
 
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
 import static io.microsphere.constants.PathConstants.SLASH_CHAR;
+import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
+import static io.microsphere.internal.io.MappingUtils.map;
+import static io.microsphere.io.IOUtils.toByteArray;
 import static io.microsphere.util.CharSequenceUtils.isNotEmpty;
 import static io.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Integer.getInteger;
+import static java.lang.Integer.parseInt;
+import static java.lang.System.getProperty;
+import static java.nio.ByteBuffer.wrap;
 
 /**
  * The "classpath" protocol {@link URLStreamHandler} based on {@link ClassLoader}
  *
+ * <p>If the {@link #CACHE_ENABLED cache mode} is enabled, the resolved locations of the class paths are cached, which
+ * can be {@link #invalidate(String) invalidated}, the {@link ClassPathURLConnection connection} serves the small
+ * resources whose length is not greater than {@link #BYTES_CACHE_THRESHOLD} from the in-memory bytes, and
+ * {@link ClassPathURLConnection#getByteBuffer()} reads the resources in the directories or stored without compression
+ * in the JAR files from the memory-mapped files directly.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Handler handler = new Handler(true);
+ * URL url = new URL(null, "classpath:/META-INF/test.properties", handler);
+ * ByteBuffer content = ((ClassPathURLConnection) url.openConnection()).getByteBuffer();
+ *
+ * // the resources were changed
+ * handler.invalidateAll();
+ * }</pre>
+ *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
  * @see ClassLoader#getResource(String)
  * @see ClassLoaderUtils#getDefaultClassLoader()
+ * @see ClassPathURLConnection
  * @since 1.0.0
  */
 public class Handler extends ExtendableProtocolURLStreamHandler {
 
+    /**
+     * The property name of the cache mode of "classpath" protocol : {@code "microsphere.net.classpath.cache.enabled"}
+     */
+    public static final String CACHE_ENABLED_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "net.classpath.cache.enabled";
+
+    /**
+     * The default property value of the cache mode of "classpath" protocol : {@code "false"}
+     */
+    public static final String DEFAULT_CACHE_ENABLED_PROPERTY_VALUE = "false";
+
+    /**
+     * Whether the cache mode of "classpath" protocol is enabled by default
+     */
+    @ConfigurationProperty(
+            name = CACHE_ENABLED_PROPERTY_NAME,
+            defaultValue = DEFAULT_CACHE_ENABLED_PROPERTY_VALUE,
+            description = "Whether the cache mode of \"classpath\" protocol is enabled",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final boolean CACHE_ENABLED = parseBoolean(getProperty(CACHE_ENABLED_PROPERTY_NAME, DEFAULT_CACHE_ENABLED_PROPERTY_VALUE));
+
+    /**
+     * The property name of the max size of the caches per handler : {@code "microsphere.net.classpath.cache.size"}
+     */
+    public static final String CACHE_SIZE_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "net.classpath.cache.size";
+
+    /**
+     * The default property value of the max size of the caches per handler : {@code "256"}
+     */
+    public static final String DEFAULT_CACHE_SIZE_PROPERTY_VALUE = "256";
+
+    /**
+     * The default max size of the caches per handler
+     */
+    public static final int DEFAULT_CACHE_SIZE = parseInt(DEFAULT_CACHE_SIZE_PROPERTY_VALUE);
+
+    /**
+     * The max size of the caches per handler, the cache will be cleared once it's full
+     */
+    @ConfigurationProperty(
+            name = CACHE_SIZE_PROPERTY_NAME,
+            defaultValue = DEFAULT_CACHE_SIZE_PROPERTY_VALUE,
+            description = "The max size of the caches of \"classpath\" protocol per handler",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int CACHE_SIZE = getInteger(CACHE_SIZE_PROPERTY_NAME, DEFAULT_CACHE_SIZE);
+
+    /**
+     * The property name of the max length of the resource cached in memory : {@code "microsphere.net.classpath.bytes-cache.threshold"}
+     */
+    public static final String BYTES_CACHE_THRESHOLD_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "net.classpath.bytes-cache.threshold";
+
+    /**
+     * The default property value of the max length of the resource cached in memory : {@code "8192"}
+     */
+    public static final String DEFAULT_BYTES_CACHE_THRESHOLD_PROPERTY_VALUE = "8192";
+
+    /**
+     * The default max length of the resource cached in memory
+     */
+    public static final int DEFAULT_BYTES_CACHE_THRESHOLD = parseInt(DEFAULT_BYTES_CACHE_THRESHOLD_PROPERTY_VALUE);
+
+    /**
+     * The max length of the resource cached in memory
+     */
+    @ConfigurationProperty(
+            name = BYTES_CACHE_THRESHOLD_PROPERTY_NAME,
+            defaultValue = DEFAULT_BYTES_CACHE_THRESHOLD_PROPERTY_VALUE,
+            description = "The max length in bytes of the resource of \"classpath\" protocol cached in memory",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int BYTES_CACHE_THRESHOLD = getInteger(BYTES_CACHE_THRESHOLD_PROPERTY_NAME, DEFAULT_BYTES_CACHE_THRESHOLD);
+
+    private final boolean cacheEnabled;
+
+    private final ConcurrentMap<String, URL> locationsCache;
+
+    private final ConcurrentMap<String, byte[]> bytesCache;
+
+    private final ConcurrentMap<String, ByteBuffer> byteBuffersCache;
+
+    public Handler() {
+        this(CACHE_ENABLED);
+    }
+
+    public Handler(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+        this.locationsCache = newConcurrentHashMap(CACHE_SIZE);
+        this.bytesCache = newConcurrentHashMap(CACHE_SIZE);
+        this.byteBuffersCache = newConcurrentHashMap(CACHE_SIZE);
+    }
+
     @Override
     public URLConnection openConnection(URL u, Proxy proxy) throws IOException {
-        String authority = u.getAuthority();
-        String path = u.getPath();
+        String classPath = resolveClassPath(u);
+        URL url = getResource(classPath);
+        if (url == null) {
+            throw new IOException("No Resource[classpath='" + classPath + "'] was not found!");
+        }
+        URLConnection urlConnection = url.openConnection();
+        return cacheEnabled ? new ClassPathURLConnection(urlConnection, classPath, this) : urlConnection;
+    }
+
+    /**
+     * Get the location of the resource by the class path
+     *
+     * @param classPath the class path of resource, e.g. "META-INF/test.properties"
+     * @return <code>null</code> if not found
+     */
+    @Nullable
+    public URL getResource(String classPath) {
+        if (!cacheEnabled) {
+            return getClassLoader(Handler.class).getResource(classPath);
+        }
+        URL url = locationsCache.get(classPath);
+        if (url == null) {
+            url = getClassLoader(Handler.class).getResource(classPath);
+            if (url != null) {
+                putInCache(locationsCache, classPath, url);
+            }
+        }
+        return url;
+    }
+
+    /**
+     * Invalidate the cached location and content of the resource
+     *
+     * @param classPath the class path of resource
+     */
+    public void invalidate(String classPath) {
+        locationsCache.remove(classPath);
+        bytesCache.remove(classPath);
+        byteBuffersCache.remove(classPath);
+    }
 
-        String classPath = path;
+    /**
+     * Invalidate all cached locations and contents of the resources
+     */
+    public void invalidateAll() {
+        locationsCache.clear();
+        bytesCache.clear();
+        byteBuffersCache.clear();
+    }
 
-        if (isNotEmpty(authority)) {
-            classPath = authority + path;
+    /**
+     * Is the cache mode enabled or not
+     *
+     * @return <code>true</code> if enabled
+     */
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+
+    /**
+     * Get the content of the small resource from the cache, or read and cache it from the {@link URLConnection}
+     * if its length is not greater than {@link #BYTES_CACHE_THRESHOLD}
+     *
+     * @param classPath     the class path of resource
+     * @param urlConnection the {@link URLConnection} of the resource's location
+     * @return <code>null</code> if the length of resource is unknown or greater than {@link #BYTES_CACHE_THRESHOLD}
+     * @throws IOException if an I/O error occurs
+     */
+    @Nullable
+    byte[] getBytes(String classPath, URLConnection urlConnection) throws IOException {
+        byte[] bytes = bytesCache.get(classPath);
+        if (bytes == null) {
+            long length = urlConnection.getContentLengthLong();
+            if (length < 0 || length > BYTES_CACHE_THRESHOLD) {
+                return null;
+            }
+            bytes = toByteArray(urlConnection.getInputStream());
+            putInCache(bytesCache, classPath, bytes);
         }
+        return bytes;
+    }
 
-        while (classPath.indexOf(SLASH_CHAR) == 0) {
-            classPath = classPath.substring(1);
+    /**
+     * Get the read-only {@link ByteBuffer} of the resource, which is resolved in order :
+     * <ol>
+     *     <li>The small resource cached in memory</li>
+     *     <li>The memory-mapped file in the directory or the entry stored without compression in the JAR file</li>
+     *     <li>The heap bytes read from the {@link URLConnection}</li>
+     * </ol>
+     *
+     * @param classPath     the class path of resource
+     * @param urlConnection the {@link URLConnection} of the resource's location
+     * @return non-null read-only {@link ByteBuffer}
+     * @throws IOException if an I/O error occurs
+     */
+    @Nonnull
+    ByteBuffer getByteBuffer(String classPath, URLConnection urlConnection) throws IOException {
+        byte[] bytes = getBytes(classPath, urlConnection);
+        if (bytes != null) {
+            return wrap(bytes).asReadOnlyBuffer();
+        }
+        ByteBuffer byteBuffer = byteBuffersCache.get(classPath);
+        if (byteBuffer == null) {
+            byteBuffer = map(urlConnection);
+            if (byteBuffer == null) {
+                return wrap(toByteArray(urlConnection.getInputStream())).asReadOnlyBuffer();
+            }
+            putInCache(byteBuffersCache, classPath, byteBuffer);
         }
+        // the position and limit are independent for each caller
+        return byteBuffer.duplicate();
+    }
 
-        ClassLoader classLoader = getClassLoader(Handler.class);
-        URL url = classLoader.getResource(classPath);
-        if (url == null) {
-            throw new IOException("No Resource[classpath='" + classPath + "'] was not found!");
+    /**
+     * Resolve the class path from the {@link URL} without the leading slashes
+     *
+     * @param url the {@link URL} of "classpath" protocol
+     * @return non-null
+     */
+    @Nonnull
+    static String resolveClassPath(URL url) {
+        String authority = url.getAuthority();
+        String path = url.getPath();
+
+        String classPath = isNotEmpty(authority) ? authority + path : path;
+
+        int length = classPath.length();
+        int beginIndex = 0;
+        while (beginIndex < length && classPath.charAt(beginIndex) == SLASH_CHAR) {
+            beginIndex++;
+        }
+        return beginIndex == 0 ? classPath : classPath.substring(beginIndex);
+    }
+
+    private static <V> void putInCache(ConcurrentMap<String, V> cache, String classPath, V value) {
+        if (cache.size() >= CACHE_SIZE) {
+            cache.clear();
         }
-        return url.openConnection();
+        cache.put(classPath, value);
     }
 }
@@ -21,14 +21,35 @@ import io.microsphere.annotation.Nonnull;
 import io.microsphere.io.IOUtils;
 import io.microsphere.util.Utils;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
+import static io.microsphere.io.BufferPool.DEFAULT_BUFFER_POOL;
+import static io.microsphere.io.IOUtils.BUFFER_SIZE;
 import static io.microsphere.nio.charset.CharsetUtils.DEFAULT_CHARSET;
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Math.min;
+import static java.lang.System.arraycopy;
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.channels.FileChannel.open;
 import static java.nio.file.Files.newInputStream;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Spliterator.NONNULL;
+import static java.util.Spliterator.ORDERED;
+import static java.util.Spliterators.spliteratorUnknownSize;
+import static java.util.stream.StreamSupport.stream;
 
 /**
  * The utilties class of {@link File} based on NIO
@@ -39,6 +60,11 @@ import static java.nio.file.Files.newInputStream;
  */
 public abstract class Files implements Utils {
 
+    /**
+     * The max size of the region mapped at once by {@link #lines(Path, Charset)}
+     */
+    static final int MAPPED_REGION_SIZE = 1 << 26;
+
     /**
      * Reads all lines from the given file and returns them as an array of strings,
      * using the default {@link Charset} for decoding.
@@ -169,6 +195,266 @@ public abstract class Files implements Utils {
         }
     }
 
+    /**
+     * Maps the entire content of the given file path into memory in the read-only mode.
+     *
+     * <p>The mapping remains valid after the file channel is closed, until the returned buffer is garbage collected,
+     * so it's suitable for reading the large files randomly or repeatedly without copying them into the Java heap.</p>
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * MappedByteBuffer buffer = Files.map(Paths.get("/example.bin"));
+     * int magic = buffer.getInt(0);
+     * }</pre>
+     *
+     * @param filePath the file path
+     * @return the read-only {@link MappedByteBuffer}
+     * @throws IOException              if an I/O error occurs during mapping the file
+     * @throws IllegalArgumentException if the size of file is larger than {@link Integer#MAX_VALUE}
+     * @see #map(Path, long, long)
+     */
+    @Nonnull
+    public static MappedByteBuffer map(Path filePath) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = open(filePath, READ)) {
+            return channel.map(READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Maps the region of the given file path into memory in the read-only mode.
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * MappedByteBuffer buffer = Files.map(Paths.get("/example.bin"), 1024, 4096);
+     * }</pre>
+     *
+     * @param filePath the file path
+     * @param position the position within the file at which the mapped region is to start; must be non-negative
+     * @param size     the size of the region to be mapped; must be non-negative and no greater than
+     *                 {@link Integer#MAX_VALUE}
+     * @return the read-only {@link MappedByteBuffer}
+     * @throws IOException              if an I/O error occurs during mapping the file
+     * @throws IllegalArgumentException if the preconditions on the parameters do not hold
+     * @see FileChannel#map(FileChannel.MapMode, long, long)
+     */
+    @Nonnull
+    public static MappedByteBuffer map(Path filePath, long position, long size) throws IOException, IllegalArgumentException {
+        try (FileChannel channel = open(filePath, READ)) {
+            return channel.map(READ_ONLY, position, size);
+        }
+    }
+
+    /**
+     * Reads the lines from the given file path lazily as a {@link Stream}, using the default {@link Charset}.
+     *
+     * @param filePath the file path
+     * @return the {@link Stream} of lines, which should be closed after use
+     * @throws IOException if an I/O error occurs during opening the file
+     * @see #lines(Path, Charset)
+     */
+    @Nonnull
+    public static Stream<String> lines(Path filePath) throws IOException {
+        return lines(filePath, DEFAULT_CHARSET);
+    }
+
+    /**
+     * Reads the lines from the given file path lazily as a {@link Stream}, using the specified {@link Charset}.
+     *
+     * <p>Unlike {@link #readLines(Path, Charset)}, the lines are not materialized all at once, the file is mapped into
+     * memory region by region, and each line is decoded when it's consumed. The special files reporting no size(e.g.
+     * the files in "/proc", the devices and FIFOs) can't be mapped, so they are read by a pooled buffer instead. The lines are terminated by
+     * <code>'\n'</code> or <code>"\r\n"</code>, so the {@link Charset} must encode <code>'\n'</code> as the single
+     * byte, e.g. UTF-8, US-ASCII or ISO-8859-1. The {@link UncheckedIOException} is thrown by the
+     * {@link Stream} if an I/O error occurs during reading.</p>
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * try (Stream<String> lines = Files.lines(Paths.get("/example.log"), StandardCharsets.UTF_8)) {
+     *     long errors = lines.filter(line -> line.contains("ERROR")).count();
+     * }
+     * }</pre>
+     *
+     * @param filePath the file path
+     * @param charset  the {@link Charset} to use for decoding the file content
+     * @return the {@link Stream} of lines, which should be closed after use
+     * @throws IOException              if an I/O error occurs during opening the file
+     * @throws IllegalArgumentException if the {@link Charset} does not encode <code>'\n'</code> as the single byte
+     */
+    @Nonnull
+    public static Stream<String> lines(Path filePath, Charset charset) throws IOException, IllegalArgumentException {
+        return lines(filePath, charset, MAPPED_REGION_SIZE);
+    }
+
+    static Stream<String> lines(Path filePath, Charset charset, int regionSize) throws IOException {
+        byte[] lineFeed = "\n".getBytes(charset);
+        assertTrue(lineFeed.length == 1 && lineFeed[0] == '\n',
+                () -> "The charset[" + charset + "] does not encode the line feed as the single byte");
+        MappedLineIterator iterator = new MappedLineIterator(open(filePath, READ), charset, regionSize);
+        return stream(spliteratorUnknownSize(iterator, ORDERED | NONNULL), false)
+                .onClose(iterator::close);
+    }
+
     private Files() {
     }
-}
\ No newline at end of file
+
+    /**
+     * The {@link Iterator} of the lines over the regions of file mapped in sequence, or over the content read by a
+     * pooled buffer if the file reports no size
+     */
+    static class MappedLineIterator implements Iterator<String>, Closeable {
+
+        private final FileChannel channel;
+
+        private final Charset charset;
+
+        private final int regionSize;
+
+        private final long size;
+
+        private long regionPosition;
+
+        private ByteBuffer region;
+
+        private byte[] readBuffer;
+
+        private byte[] lineBuffer;
+
+        private String next;
+
+        private boolean closed;
+
+        MappedLineIterator(FileChannel channel, Charset charset, int regionSize) throws IOException {
+            this.channel = channel;
+            this.charset = charset;
+            this.regionSize = regionSize;
+            try {
+                this.size = channel.size();
+            } catch (IOException e) {
+                IOUtils.close(channel);
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !closed) {
+                next = readLine();
+            }
+            return next != null;
+        }
+
+        @Override
+        public String next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String line = next;
+            next = null;
+            return line;
+        }
+
+        private String readLine() {
+            int length = 0;
+            boolean terminated = false;
+            ByteBuffer region;
+            try {
+                while (!terminated && (region = nextRegion()) != null) {
+                    int start = region.position();
+                    int limit = region.limit();
+                    int end = start;
+                    // '\n' is never a part of the multibyte sequences in the supported charsets
+                    while (end < limit && region.get(end) != '\n') {
+                        end++;
+                    }
+                    int count = end - start;
+                    ensureCapacity(length + count);
+                    region.get(lineBuffer, length, count);
+                    length += count;
+                    if (end < limit) {
+                        region.position(end + 1);
+                        terminated = true;
+                    }
+                }
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException(e);
+            }
+            if (!terminated && length == 0) {
+                close();
+                return null;
+            }
+            if (length > 0 && lineBuffer[length - 1] == '\r') {
+                length--;
+            }
+            return new String(lineBuffer, 0, length, charset);
+        }
+
+        private ByteBuffer nextRegion() throws IOException {
+            ByteBuffer region = this.region;
+            if (region != null && region.hasRemaining()) {
+                return region;
+            }
+            if (size == 0) {
+                return readRegion(region);
+            }
+            long position = region == null ? 0 : regionPosition + region.limit();
+            if (position >= size) {
+                return null;
+            }
+            region = channel.map(READ_ONLY, position, min(regionSize, size - position));
+            this.regionPosition = position;
+            this.region = region;
+            return region;
+        }
+
+        private ByteBuffer readRegion(ByteBuffer region) throws IOException {
+            if (region == null) {
+                this.readBuffer = DEFAULT_BUFFER_POOL.acquire(min(regionSize, BUFFER_SIZE));
+                region = wrap(readBuffer, 0, min(regionSize, readBuffer.length)).slice();
+                this.region = region;
+            }
+            region.clear();
+            int bytesRead;
+            do {
+                bytesRead = channel.read(region);
+            } while (bytesRead == 0);
+            if (bytesRead < 0) {
+                return null;
+            }
+            region.flip();
+            return region;
+        }
+
+        private void ensureCapacity(int capacity) {
+            byte[] lineBuffer = this.lineBuffer;
+            if (lineBuffer == null) {
+                this.lineBuffer = DEFAULT_BUFFER_POOL.acquire(capacity > BUFFER_SIZE ? capacity : BUFFER_SIZE);
+            } else if (capacity > lineBuffer.length) {
+                byte[] newLineBuffer = DEFAULT_BUFFER_POOL.acquire(capacity > lineBuffer.length << 1 ? capacity : lineBuffer.length << 1);
+                arraycopy(lineBuffer, 0, newLineBuffer, 0, lineBuffer.length);
+                DEFAULT_BUFFER_POOL.release(lineBuffer);
+                this.lineBuffer = newLineBuffer;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            this.closed = true;
+            this.region = null;
+            byte[] readBuffer = this.readBuffer;
+            if (readBuffer != null) {
+                this.readBuffer = null;
+                DEFAULT_BUFFER_POOL.release(readBuffer);
+            }
+            byte[] lineBuffer = this.lineBuffer;
+            if (lineBuffer != null) {
+                this.lineBuffer = null;
+                DEFAULT_BUFFER_POOL.release(lineBuffer);
+            }
+            IOUtils.close(channel);
+        }
+    }
+}
@@ -2,14 +2,15 @@ package io.microsphere.text;
 
 import io.microsphere.util.Utils;
 
+import static io.microsphere.text.MessageTemplate.ESCAPE_CHAR;
 import static io.microsphere.util.ArrayUtils.length;
 import static io.microsphere.util.StringUtils.isBlank;
-import static java.lang.String.valueOf;
 
 /**
  * The utility class of text format
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see MessageTemplate
  * @since 1.0.0
  */
 public abstract class FormatUtils implements Utils {
@@ -22,6 +23,8 @@ public abstract class FormatUtils implements Utils {
      *
      * <p>
      * If there are more placeholders in the pattern than arguments provided, extra placeholders will remain unchanged.
+     * A placeholder preceded by a backslash is kept as a literal, e.g. {@code format("\\{} is {}", "A")} returns
+     * {@code "{} is A"}.
      * </p>
      *
      * <h3>Example Usage</h3>
@@ -45,6 +48,12 @@ public abstract class FormatUtils implements Utils {
      *
      * <p>
      * If there are more placeholders in the pattern than arguments provided, extra placeholders will remain unchanged.
+     * A placeholder preceded by a backslash is kept as a literal, even if there is no argument.
+     * </p>
+     *
+     * <p>
+     * The pattern is compiled into a {@link MessageTemplate} that is rendered in a single pass, the templates of
+     * the {@link #DEFAULT_PLACEHOLDER default placeholder} are cached.
      * </p>
      *
      * <h3>Example Usage</h3>
@@ -63,22 +72,13 @@ public abstract class FormatUtils implements Utils {
         if (isBlank(pattern)) {
             return pattern;
         }
-        int argsLength = length(args);
-        if (argsLength == 0) {
+        if (length(args) == 0 && pattern.indexOf(ESCAPE_CHAR) < 0) {
+            // Neither a placeholder is replaced nor an escape is resolved
             return pattern;
         }
-        int offset = placeholder.length();
-        StringBuilder stringBuilder = new StringBuilder(pattern);
-        int index = -1;
-        for (int i = 0; i < argsLength; i++) {
-            index = stringBuilder.indexOf(placeholder);
-            if (index == -1) {
-                break;
-            }
-            String value = valueOf(args[i]);
-            stringBuilder.replace(index, index + offset, value);
-        }
-        return stringBuilder.toString();
+        MessageTemplate template = DEFAULT_PLACEHOLDER.equals(placeholder) ? MessageTemplate.of(pattern) :
+                MessageTemplate.compile(pattern, placeholder);
+        return template.render(args);
     }
 
     private FormatUtils() {
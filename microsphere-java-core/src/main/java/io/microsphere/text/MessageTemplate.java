@@ -0,0 +1,347 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.text;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Immutable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
+import static io.microsphere.text.FormatUtils.DEFAULT_PLACEHOLDER;
+import static io.microsphere.util.ArrayUtils.length;
+import static io.microsphere.util.Assert.assertNotEmpty;
+import static io.microsphere.util.Assert.assertNotNull;
+import static java.lang.Integer.getInteger;
+import static java.lang.Integer.parseInt;
+import static java.lang.String.valueOf;
+
+/**
+ * The compiled representation of a message pattern, which splits the pattern into the literal segments around
+ * the placeholders once, so that it can be rendered in a single pass without re-scanning the pattern.
+ *
+ * <p>
+ * The placeholders are bound to the arguments by their positions. If there are more placeholders than arguments,
+ * the extra placeholders remain unchanged, and the extra arguments are ignored, which is consistent with
+ * {@link FormatUtils#format(String, Object...)}.
+ * </p>
+ *
+ * <h3>Escaping</h3>
+ * <p>
+ * A placeholder preceded by a backslash is treated as a literal, and a double backslash before a placeholder
+ * renders a single backslash followed by the argument :
+ * </p>
+ * <pre>{@code
+ * MessageTemplate.of("Set \\{} is empty").render("x");   // "Set {} is empty"
+ * MessageTemplate.of("C:\\\\{}").render("temp");         // "C:\temp"
+ * }</pre>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * MessageTemplate template = MessageTemplate.of("{} + {} = {}");
+ * template.render(1, 2, 3); // "1 + 2 = 3"
+ *
+ * StringBuilder builder = new StringBuilder("Result : ");
+ * template.appendTo(builder, 2, 2, 4); // "Result : 2 + 2 = 4"
+ * }</pre>
+ *
+ * <p>
+ * The templates created by {@link #of(String)} are cached per pattern, the size of cache is bounded by
+ * {@link #MESSAGE_TEMPLATE_CACHE_SIZE}, the patterns beyond the bound are compiled on every call without caching.
+ * </p>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see FormatUtils
+ * @since 1.0.0
+ */
+@Immutable
+public final class MessageTemplate {
+
+    /**
+     * The escape character for the placeholder
+     */
+    public static final char ESCAPE_CHAR = '\\';
+
+    /**
+     * The property name for message template cache size : {@code "microsphere.text.message-template.cache.size"}
+     */
+    public static final String MESSAGE_TEMPLATE_CACHE_SIZE_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "text.message-template.cache.size";
+
+    /**
+     * The default value of message template cache size : {@code "1024"}
+     */
+    public static final String DEFAULT_MESSAGE_TEMPLATE_CACHE_SIZE_PROPERTY_VALUE = "1024";
+
+    /**
+     * The default size of message template cache
+     */
+    public static final int DEFAULT_MESSAGE_TEMPLATE_CACHE_SIZE = parseInt(DEFAULT_MESSAGE_TEMPLATE_CACHE_SIZE_PROPERTY_VALUE);
+
+    /**
+     * The size of message template cache
+     */
+    @ConfigurationProperty(
+            name = MESSAGE_TEMPLATE_CACHE_SIZE_PROPERTY_NAME,
+            defaultValue = DEFAULT_MESSAGE_TEMPLATE_CACHE_SIZE_PROPERTY_VALUE,
+            description = "The size of message template cache",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int MESSAGE_TEMPLATE_CACHE_SIZE = getInteger(MESSAGE_TEMPLATE_CACHE_SIZE_PROPERTY_NAME, DEFAULT_MESSAGE_TEMPLATE_CACHE_SIZE);
+
+    /**
+     * The estimated length of an argument to pre-size the rendered content
+     */
+    static final int ESTIMATED_ARGUMENT_LENGTH = 16;
+
+    private static final ConcurrentMap<String, MessageTemplate> templatesCache = newConcurrentHashMap(64);
+
+    private final String pattern;
+
+    private final String placeholder;
+
+    /**
+     * The literal segments, the size is always one more than the count of placeholders
+     */
+    private final String[] segments;
+
+    private final int literalLength;
+
+    /**
+     * Whether the rendered content of no argument differs from the pattern, e.g. the pattern contains the escapes
+     */
+    private final boolean escaped;
+
+    private MessageTemplate(String pattern, String placeholder, String[] segments, boolean escaped) {
+        this.pattern = pattern;
+        this.placeholder = placeholder;
+        this.segments = segments;
+        this.escaped = escaped;
+        int literalLength = 0;
+        for (String segment : segments) {
+            literalLength += segment.length();
+        }
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Get the {@link MessageTemplate} of the specified pattern with the {@link FormatUtils#DEFAULT_PLACEHOLDER
+     * default placeholder} from the cache, or compile and cache it if absent.
+     *
+     * @param pattern the pattern
+     * @return non-null
+     * @throws IllegalArgumentException if the pattern is <code>null</code>
+     */
+    public static MessageTemplate of(String pattern) throws IllegalArgumentException {
+        assertNotNull(pattern, "The 'pattern' must not be null");
+        MessageTemplate template = templatesCache.get(pattern);
+        if (template == null) {
+            template = compile(pattern);
+            if (templatesCache.size() < MESSAGE_TEMPLATE_CACHE_SIZE) {
+                MessageTemplate existed = templatesCache.putIfAbsent(pattern, template);
+                if (existed != null) {
+                    template = existed;
+                }
+            }
+        }
+        return template;
+    }
+
+    /**
+     * Compile the specified pattern with the {@link FormatUtils#DEFAULT_PLACEHOLDER default placeholder}
+     * without caching.
+     *
+     * @param pattern the pattern
+     * @return non-null
+     * @throws IllegalArgumentException if the pattern is <code>null</code>
+     */
+    public static MessageTemplate compile(String pattern) throws IllegalArgumentException {
+        return compile(pattern, DEFAULT_PLACEHOLDER);
+    }
+
+    /**
+     * Compile the specified pattern with the specified placeholder without caching.
+     *
+     * @param pattern     the pattern
+     * @param placeholder the placeholder
+     * @return non-null
+     * @throws IllegalArgumentException if the pattern is <code>null</code> or the placeholder is empty
+     */
+    public static MessageTemplate compile(String pattern, String placeholder) throws IllegalArgumentException {
+        assertNotNull(pattern, "The 'pattern' must not be null");
+        assertNotEmpty(placeholder, "The 'placeholder' must not be empty");
+        int placeholderLength = placeholder.length();
+        List<String> segments = new ArrayList<>();
+        StringBuilder segment = new StringBuilder();
+        boolean escaped = false;
+        int from = 0;
+        int index;
+        while ((index = pattern.indexOf(placeholder, from)) > -1) {
+            if (isEscaped(pattern, index)) {
+                escaped = true;
+                if (isEscaped(pattern, index - 1)) {
+                    // "\\{}" : a backslash and a placeholder
+                    segment.append(pattern, from, index - 1);
+                    segments.add(segment.toString());
+                    segment.setLength(0);
+                } else {
+                    // "\{}" : a literal placeholder
+                    segment.append(pattern, from, index - 1).append(placeholder);
+                }
+            } else {
+                segment.append(pattern, from, index);
+                segments.add(segment.toString());
+                segment.setLength(0);
+            }
+            from = index + placeholderLength;
+        }
+        segment.append(pattern, from, pattern.length());
+        segments.add(segment.toString());
+        return new MessageTemplate(pattern, placeholder, segments.toArray(new String[0]), escaped);
+    }
+
+    private static boolean isEscaped(String pattern, int index) {
+        return index > 0 && pattern.charAt(index - 1) == ESCAPE_CHAR;
+    }
+
+    /**
+     * Get the original pattern
+     *
+     * @return non-null
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Get the placeholder
+     *
+     * @return non-null
+     */
+    public String getPlaceholder() {
+        return placeholder;
+    }
+
+    /**
+     * Get the count of placeholders that could be bound to the arguments
+     *
+     * @return zero or more
+     */
+    public int getPlaceholderCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Render the content with the specified arguments
+     *
+     * @param args the arguments to replace the placeholders
+     * @return non-null
+     */
+    public String render(Object... args) {
+        int argsLength = length(args);
+        if (!escaped && (argsLength == 0 || getPlaceholderCount() == 0)) {
+            return pattern;
+        }
+        int placeholderCount = getPlaceholderCount();
+        int capacity = literalLength + (placeholderCount * ESTIMATED_ARGUMENT_LENGTH);
+        return appendTo(new StringBuilder(capacity), args).toString();
+    }
+
+    /**
+     * Append the rendered content with the specified arguments to the specified {@link StringBuilder}
+     *
+     * @param builder the {@link StringBuilder}
+     * @param args    the arguments to replace the placeholders
+     * @return the specified {@link StringBuilder}
+     */
+    public StringBuilder appendTo(StringBuilder builder, Object... args) {
+        String[] segments = this.segments;
+        int placeholderCount = segments.length - 1;
+        int argsLength = length(args);
+        for (int i = 0; i < placeholderCount; i++) {
+            builder.append(segments[i]);
+            if (i < argsLength) {
+                builder.append(valueOf(args[i]));
+            } else {
+                builder.append(placeholder);
+            }
+        }
+        return builder.append(segments[placeholderCount]);
+    }
+
+    /**
+     * Append the rendered content with the specified arguments to the specified {@link Appendable}
+     *
+     * @param appendable the {@link Appendable}
+     * @param args       the arguments to replace the placeholders
+     * @param <A>        the type of {@link Appendable}
+     * @return the specified {@link Appendable}
+     * @throws IOException if an I/O error occurs
+     */
+    public <A extends Appendable> A appendTo(A appendable, Object... args) throws IOException {
+        String[] segments = this.segments;
+        int placeholderCount = segments.length - 1;
+        int argsLength = length(args);
+        for (int i = 0; i < placeholderCount; i++) {
+            appendable.append(segments[i]);
+            if (i < argsLength) {
+                appendable.append(valueOf(args[i]));
+            } else {
+                appendable.append(placeholder);
+            }
+        }
+        appendable.append(segments[placeholderCount]);
+        return appendable;
+    }
+
+    /**
+     * Clear the cache of {@link MessageTemplate templates}
+     */
+    public static void clearCache() {
+        templatesCache.clear();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MessageTemplate)) {
+            return false;
+        }
+        MessageTemplate that = (MessageTemplate) o;
+        return pattern.equals(that.pattern) && placeholder.equals(that.placeholder);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * pattern.hashCode() + placeholder.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate{" +
+                "pattern='" + pattern + '\'' +
+                ", placeholder='" + placeholder + '\'' +
+                ", placeholderCount=" + getPlaceholderCount() +
+                '}';
+    }
+}
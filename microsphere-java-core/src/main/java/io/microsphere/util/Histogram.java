@@ -0,0 +1,262 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+import io.microsphere.annotation.Nonnull;
+
+import java.util.StringJoiner;
+
+import static io.microsphere.util.Assert.assertTrue;
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Arrays.copyOf;
+
+/**
+ * A compact histogram of the non-negative {@code long} values (e.g. the elapsed nanoseconds) in the style of
+ * HDR Histogram : the values are recorded into the log-linear buckets, each power of two range is divided into
+ * {@link #SUB_BUCKET_COUNT} linear sub-buckets, so the relative error of the percentiles is bounded by
+ * {@code 1 / SUB_BUCKET_COUNT} while the memory footprint only grows with the magnitude of the maximum value.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Histogram histogram = new Histogram();
+ * histogram.record(1200);
+ * histogram.record(1500);
+ * histogram.record(98000);
+ *
+ * histogram.getCount();            // 3
+ * histogram.getMax();              // 98000
+ * histogram.getPercentile(50.0);   // ~1500
+ *
+ * Histogram other = new Histogram();
+ * other.record(2000);
+ * histogram.merge(other);          // histogram.getCount() == 4
+ * }</pre>
+ *
+ * <p>Note: This class is not thread-safe, the instances should be confined in a thread or guarded by a lock.</p>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Profiler
+ * @since 1.0.0
+ */
+public class Histogram {
+
+    /**
+     * The bits of sub-buckets in every power of two range
+     */
+    public static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The count of sub-buckets in every power of two range
+     */
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * The count of buckets that record the values exactly
+     */
+    static final int LINEAR_BUCKET_COUNT = SUB_BUCKET_COUNT << 1;
+
+    private long[] counts;
+
+    private long count;
+
+    private long total;
+
+    private long min;
+
+    private long max;
+
+    public Histogram() {
+        this.counts = new long[LINEAR_BUCKET_COUNT];
+        this.min = Long.MAX_VALUE;
+    }
+
+    private Histogram(Histogram source) {
+        this.counts = source.counts.clone();
+        this.count = source.count;
+        this.total = source.total;
+        this.min = source.min;
+        this.max = source.max;
+    }
+
+    /**
+     * Record the value
+     *
+     * @param value the non-negative value
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(long value) throws IllegalArgumentException {
+        assertTrue(value >= 0, () -> "The recorded value must not be negative : " + value);
+        int index = indexOf(value);
+        long[] counts = this.counts;
+        if (index >= counts.length) {
+            counts = this.counts = copyOf(counts, index + 1);
+        }
+        counts[index]++;
+        this.count++;
+        this.total += value;
+        if (value < this.min) {
+            this.min = value;
+        }
+        if (value > this.max) {
+            this.max = value;
+        }
+    }
+
+    /**
+     * Merge the values of another {@link Histogram} into this one
+     *
+     * @param other another {@link Histogram}
+     * @return this
+     */
+    public Histogram merge(@Nonnull Histogram other) {
+        long[] otherCounts = other.counts;
+        if (otherCounts.length > this.counts.length) {
+            this.counts = copyOf(this.counts, otherCounts.length);
+        }
+        long[] counts = this.counts;
+        for (int i = 0; i < otherCounts.length; i++) {
+            counts[i] += otherCounts[i];
+        }
+        this.count += other.count;
+        this.total += other.total;
+        this.min = min(this.min, other.min);
+        this.max = max(this.max, other.max);
+        return this;
+    }
+
+    /**
+     * Create a copy of this {@link Histogram}
+     *
+     * @return non-null
+     */
+    public Histogram copy() {
+        return new Histogram(this);
+    }
+
+    /**
+     * Reset all recorded values
+     */
+    public void reset() {
+        this.counts = new long[LINEAR_BUCKET_COUNT];
+        this.count = 0;
+        this.total = 0;
+        this.min = Long.MAX_VALUE;
+        this.max = 0;
+    }
+
+    /**
+     * Get the count of recorded values
+     *
+     * @return zero or positive
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Get the total of recorded values
+     *
+     * @return zero or positive
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Get the minimum of recorded values
+     *
+     * @return <code>0</code> if no value was recorded
+     */
+    public long getMin() {
+        return count == 0 ? 0 : min;
+    }
+
+    /**
+     * Get the maximum of recorded values
+     *
+     * @return <code>0</code> if no value was recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Get the mean of recorded values
+     *
+     * @return <code>0</code> if no value was recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * Get the value at the specified percentile, the result is the highest value that is equivalent to the
+     * recorded values in the same bucket, and it's bounded by the {@link #getMin() minimum} and {@link #getMax() maximum}.
+     *
+     * @param percentile the percentile in the range of [0, 100]
+     * @return <code>0</code> if no value was recorded
+     * @throws IllegalArgumentException if the percentile is out of range
+     */
+    public long getPercentile(double percentile) throws IllegalArgumentException {
+        assertTrue(percentile >= 0.0 && percentile <= 100.0, () -> "The percentile must be in the range of [0, 100] : " + percentile);
+        long count = this.count;
+        if (count == 0) {
+            return 0;
+        }
+        long target = max(1, (long) ceil(percentile / 100.0 * count));
+        long[] counts = this.counts;
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return max(getMin(), min(highestEquivalentValue(i), max));
+            }
+        }
+        return max;
+    }
+
+    static int indexOf(long value) {
+        if (value < LINEAR_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int magnitude = (63 - numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        return (magnitude << SUB_BUCKET_BITS) + (int) (value >>> magnitude);
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < LINEAR_BUCKET_COUNT) {
+            return index;
+        }
+        int magnitude = (index >> SUB_BUCKET_BITS) - 1;
+        long subBucket = index - (magnitude << SUB_BUCKET_BITS);
+        return ((subBucket + 1) << magnitude) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Histogram.class.getSimpleName() + "[", "]")
+                .add("count=" + count)
+                .add("total=" + total)
+                .add("min=" + getMin())
+                .add("max=" + max)
+                .add("mean=" + getMean())
+                .toString();
+    }
+}
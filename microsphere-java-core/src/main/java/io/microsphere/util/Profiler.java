@@ -0,0 +1,526 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+import io.microsphere.annotation.Nullable;
+import io.microsphere.annotation.concurrent.ThreadSafe;
+import io.microsphere.util.StopWatch.Task;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.newTreeMap;
+import static io.microsphere.constants.SymbolConstants.COMMA_CHAR;
+import static io.microsphere.constants.SymbolConstants.LEFT_CURLY_BRACE_CHAR;
+import static io.microsphere.constants.SymbolConstants.LEFT_SQUARE_BRACKET_CHAR;
+import static io.microsphere.constants.SymbolConstants.RIGHT_CURLY_BRACE_CHAR;
+import static io.microsphere.constants.SymbolConstants.RIGHT_SQUARE_BRACKET_CHAR;
+import static io.microsphere.json.JSONUtils.append;
+import static io.microsphere.json.JSONUtils.appendName;
+import static io.microsphere.util.ArrayUtils.EMPTY_STRING_ARRAY;
+import static io.microsphere.util.Assert.assertNotBlank;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.copyOf;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * {@code Profiler} records the nested tasks of multiple threads, every thread owns a {@link StopWatch} and an
+ * array-backed stack of the task tree nodes, so that the recording is lock-free across threads. The elapsed times
+ * are aggregated per task name and per task tree node into {@link Histogram histograms}, which are merged across
+ * all threads on demand.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Profiler profiler = new Profiler("startup");
+ *
+ * profiler.start("load-config");
+ * profiler.start("parse-yaml");
+ * // ...
+ * profiler.stop(); // stops "parse-yaml"
+ * profiler.stop(); // stops "load-config"
+ *
+ * Histogram histogram = profiler.getStatistics("parse-yaml");
+ * histogram.getPercentile(99.0);
+ *
+ * Profiler.TaskNode tree = profiler.getTaskTree();   // merged across threads
+ * String json = profiler.toJSON();
+ * profiler.registerMBean(ManagementFactory.getPlatformMBeanServer());
+ * }</pre>
+ *
+ * <p>Just like {@link StopWatch}, the tasks are non-reentrant in a thread, the task must be stopped in the thread
+ * where it was started.</p>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see StopWatch
+ * @see Histogram
+ * @see ProfilerMBean
+ * @since 1.0.0
+ */
+@ThreadSafe
+public class Profiler implements ProfilerMBean {
+
+    /**
+     * The domain of {@link ObjectName} for {@link Profiler}
+     */
+    public static final String MBEAN_DOMAIN = "io.microsphere";
+
+    private final String id;
+
+    private final ThreadLocal<Recorder> recorderHolder;
+
+    private final List<Recorder> recorders = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a new {@code Profiler} with the given identifier.
+     *
+     * @param id the identifier for this profiler
+     * @throws IllegalArgumentException if {@code id} is blank
+     */
+    public Profiler(String id) throws IllegalArgumentException {
+        assertNotBlank(id, "The 'id' argument must not be blank");
+        this.id = id;
+        this.recorderHolder = ThreadLocal.withInitial(this::newRecorder);
+    }
+
+    private Recorder newRecorder() {
+        Recorder recorder = new Recorder(id, currentThread().getName());
+        this.recorders.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * Starts a new task with the given name in the current thread, the task is nested in the current running task.
+     *
+     * @param taskName the name of the task to start; must not be blank
+     * @throws IllegalArgumentException if {@code taskName} is blank
+     * @throws IllegalStateException    if the task with the same name is already running in the current thread
+     */
+    public void start(String taskName) throws IllegalArgumentException, IllegalStateException {
+        recorderHolder.get().start(taskName);
+    }
+
+    /**
+     * Stops the most recently started task in the current thread, and records its elapsed time.
+     *
+     * @throws IllegalStateException if no task is currently running in the current thread
+     */
+    public void stop() throws IllegalStateException {
+        recorderHolder.get().stop();
+    }
+
+    /**
+     * Get the current running task in the current thread
+     *
+     * @return <code>null</code> if no task is running
+     */
+    @Nullable
+    public Task getCurrentTask() {
+        return recorderHolder.get().stopWatch.getCurrentTask();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Get the statistics of all tasks merged across threads, the entries are sorted by the task names.
+     *
+     * @return non-null read-only {@link Map} with the task names as keys
+     */
+    public Map<String, Histogram> getStatistics() {
+        Map<String, Histogram> statistics = newTreeMap();
+        for (Recorder recorder : recorders) {
+            recorder.mergeStatisticsTo(statistics);
+        }
+        return unmodifiableMap(statistics);
+    }
+
+    /**
+     * Get the statistics of the specified task merged across threads
+     *
+     * @param taskName the name of task
+     * @return <code>null</code> if the task is absent
+     */
+    @Nullable
+    public Histogram getStatistics(String taskName) {
+        Histogram histogram = null;
+        for (Recorder recorder : recorders) {
+            histogram = recorder.mergeStatisticsTo(taskName, histogram);
+        }
+        return histogram;
+    }
+
+    /**
+     * Get the task tree merged across threads, the name of the root node is the {@link #getId() id}
+     *
+     * @return non-null
+     */
+    public TaskNode getTaskTree() {
+        TaskNode root = new TaskNode(id);
+        for (Recorder recorder : recorders) {
+            recorder.mergeTaskTreeTo(root);
+        }
+        return root;
+    }
+
+    /**
+     * Get the task trees of every thread
+     *
+     * @return non-null read-only {@link Map} with the thread names as keys
+     */
+    public Map<String, TaskNode> getThreadTaskTrees() {
+        Map<String, TaskNode> taskTrees = newTreeMap();
+        for (Recorder recorder : recorders) {
+            TaskNode root = taskTrees.computeIfAbsent(recorder.threadName, TaskNode::new);
+            recorder.mergeTaskTreeTo(root);
+        }
+        return unmodifiableMap(taskTrees);
+    }
+
+    @Override
+    public String[] getTaskNames() {
+        return getStatistics().keySet().toArray(EMPTY_STRING_ARRAY);
+    }
+
+    @Override
+    public long getCount(String taskName) {
+        Histogram histogram = getStatistics(taskName);
+        return histogram == null ? 0 : histogram.getCount();
+    }
+
+    @Override
+    public long getTotalNanos(String taskName) {
+        Histogram histogram = getStatistics(taskName);
+        return histogram == null ? 0 : histogram.getTotal();
+    }
+
+    @Override
+    public long getMinNanos(String taskName) {
+        Histogram histogram = getStatistics(taskName);
+        return histogram == null ? 0 : histogram.getMin();
+    }
+
+    @Override
+    public long getMaxNanos(String taskName) {
+        Histogram histogram = getStatistics(taskName);
+        return histogram == null ? 0 : histogram.getMax();
+    }
+
+    @Override
+    public long getPercentileNanos(String taskName, double percentile) {
+        Histogram histogram = getStatistics(taskName);
+        return histogram == null ? 0 : histogram.getPercentile(percentile);
+    }
+
+    /**
+     * Export the statistics and the merged task tree as JSON, for example :
+     * <pre>{@code
+     * {
+     *   "id": "startup",
+     *   "statistics": [{"name": "load-config", "count": 1, "totalNanos": 1200, "minNanos": 1200, "maxNanos": 1200,
+     *                   "meanNanos": 1200.0, "p50Nanos": 1200, "p90Nanos": 1200, "p99Nanos": 1200}],
+     *   "tree": {"name": "startup", "count": 0, ..., "children": [{"name": "load-config", ...}]}
+     * }
+     * }</pre>
+     *
+     * @return non-null
+     */
+    @Override
+    public String toJSON() {
+        StringBuilder jsonBuilder = new StringBuilder();
+        jsonBuilder.append(LEFT_CURLY_BRACE_CHAR);
+        append(jsonBuilder, "id", id);
+        jsonBuilder.append(COMMA_CHAR);
+        appendName(jsonBuilder, "statistics");
+        jsonBuilder.append(LEFT_SQUARE_BRACKET_CHAR);
+        boolean first = true;
+        for (Map.Entry<String, Histogram> entry : getStatistics().entrySet()) {
+            if (!first) {
+                jsonBuilder.append(COMMA_CHAR);
+            }
+            jsonBuilder.append(LEFT_CURLY_BRACE_CHAR);
+            appendStatistics(jsonBuilder, entry.getKey(), entry.getValue());
+            jsonBuilder.append(RIGHT_CURLY_BRACE_CHAR);
+            first = false;
+        }
+        jsonBuilder.append(RIGHT_SQUARE_BRACKET_CHAR);
+        jsonBuilder.append(COMMA_CHAR);
+        appendName(jsonBuilder, "tree");
+        appendTaskNode(jsonBuilder, getTaskTree());
+        jsonBuilder.append(RIGHT_CURLY_BRACE_CHAR);
+        return jsonBuilder.toString();
+    }
+
+    static void appendStatistics(StringBuilder jsonBuilder, String name, Histogram histogram) {
+        append(jsonBuilder, "name", name);
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "count", histogram.getCount());
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "totalNanos", histogram.getTotal());
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "minNanos", histogram.getMin());
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "maxNanos", histogram.getMax());
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "meanNanos", histogram.getMean());
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "p50Nanos", histogram.getPercentile(50.0));
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "p90Nanos", histogram.getPercentile(90.0));
+        jsonBuilder.append(COMMA_CHAR);
+        append(jsonBuilder, "p99Nanos", histogram.getPercentile(99.0));
+    }
+
+    static void appendTaskNode(StringBuilder jsonBuilder, TaskNode node) {
+        jsonBuilder.append(LEFT_CURLY_BRACE_CHAR);
+        appendStatistics(jsonBuilder, node.name, node.histogram);
+        List<TaskNode> children = node.children;
+        int size = children.size();
+        if (size > 0) {
+            jsonBuilder.append(COMMA_CHAR);
+            appendName(jsonBuilder, "children");
+            jsonBuilder.append(LEFT_SQUARE_BRACKET_CHAR);
+            for (int i = 0; i < size; i++) {
+                if (i > 0) {
+                    jsonBuilder.append(COMMA_CHAR);
+                }
+                appendTaskNode(jsonBuilder, children.get(i));
+            }
+            jsonBuilder.append(RIGHT_SQUARE_BRACKET_CHAR);
+        }
+        jsonBuilder.append(RIGHT_CURLY_BRACE_CHAR);
+    }
+
+    /**
+     * Reset the recorded statistics of all threads, the running tasks are kept.
+     */
+    @Override
+    public void reset() {
+        for (Recorder recorder : recorders) {
+            recorder.reset();
+        }
+    }
+
+    /**
+     * Register this {@link Profiler} as an MBean with the {@link ObjectName} :
+     * {@code "io.microsphere:type=Profiler,name=${id}"}
+     *
+     * @param mBeanServer {@link MBeanServer}
+     * @return the registered {@link ObjectName}
+     * @throws JMException if the registration failed
+     */
+    public ObjectName registerMBean(MBeanServer mBeanServer) throws JMException {
+        ObjectName objectName = new ObjectName(MBEAN_DOMAIN + ":type=" + Profiler.class.getSimpleName() + ",name=" + ObjectName.quote(id));
+        return mBeanServer.registerMBean(this, objectName).getObjectName();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", Profiler.class.getSimpleName() + "[", "]")
+                .add("id='" + id + "'")
+                .add("threads=" + recorders.size())
+                .toString();
+    }
+
+    /**
+     * The node of the task tree, which aggregates the elapsed times of the task with the same path.
+     *
+     * @since 1.0.0
+     */
+    public static class TaskNode {
+
+        private final String name;
+
+        private final Histogram histogram;
+
+        private final List<TaskNode> children;
+
+        TaskNode(String name) {
+            this.name = name;
+            this.histogram = new Histogram();
+            this.children = newArrayList(2);
+        }
+
+        /**
+         * Get the name of task
+         *
+         * @return non-null
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the {@link Histogram} of elapsed nanoseconds
+         *
+         * @return non-null
+         */
+        public Histogram getHistogram() {
+            return histogram;
+        }
+
+        /**
+         * Get the child nodes in the order of their first starts
+         *
+         * @return non-null read-only {@link List}
+         */
+        public List<TaskNode> getChildren() {
+            return unmodifiableList(children);
+        }
+
+        /**
+         * Get the child node by name
+         *
+         * @param name the name of child task
+         * @return <code>null</code> if not found
+         */
+        @Nullable
+        public TaskNode getChild(String name) {
+            List<TaskNode> children = this.children;
+            for (int i = 0, size = children.size(); i < size; i++) {
+                TaskNode child = children.get(i);
+                if (child.name.equals(name)) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        TaskNode getOrCreateChild(String name) {
+            TaskNode child = getChild(name);
+            if (child == null) {
+                child = new TaskNode(name);
+                children.add(child);
+            }
+            return child;
+        }
+
+        void merge(TaskNode other) {
+            histogram.merge(other.histogram);
+            for (TaskNode otherChild : other.children) {
+                getOrCreateChild(otherChild.name).merge(otherChild);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", TaskNode.class.getSimpleName() + "[", "]")
+                    .add("name='" + name + "'")
+                    .add("histogram=" + histogram)
+                    .add("children=" + children)
+                    .toString();
+        }
+    }
+
+    /**
+     * The recorder is confined in a thread except that the aggregated data is guarded by itself for the merging.
+     */
+    static class Recorder {
+
+        private final String threadName;
+
+        private final StopWatch stopWatch;
+
+        private final Map<String, Histogram> statistics = newHashMap();
+
+        private final TaskNode root;
+
+        private TaskNode[] nodeStack = new TaskNode[8];
+
+        private int depth;
+
+        Recorder(String profilerId, String threadName) {
+            this.threadName = threadName;
+            this.stopWatch = new StopWatch(profilerId + "@" + threadName);
+            this.root = new TaskNode(threadName);
+        }
+
+        void start(String taskName) {
+            stopWatch.start(taskName);
+            TaskNode parent = depth == 0 ? null : nodeStack[depth - 1];
+            TaskNode node;
+            synchronized (this) {
+                node = (parent == null ? root : parent).getOrCreateChild(taskName);
+            }
+            if (depth == nodeStack.length) {
+                nodeStack = copyOf(nodeStack, depth << 1);
+            }
+            nodeStack[depth++] = node;
+        }
+
+        void stop() {
+            Task task = stopWatch.getCurrentTask(true);
+            if (task == null) {
+                throw new IllegalStateException("No task is running");
+            }
+            task.stop();
+            long elapsedNanos = task.getElapsedNanos();
+            TaskNode node = nodeStack[--depth];
+            nodeStack[depth] = null;
+            synchronized (this) {
+                node.histogram.record(elapsedNanos);
+                statistics.computeIfAbsent(task.getTaskName(), name -> new Histogram()).record(elapsedNanos);
+            }
+        }
+
+        synchronized void mergeStatisticsTo(Map<String, Histogram> target) {
+            for (Map.Entry<String, Histogram> entry : statistics.entrySet()) {
+                Histogram histogram = target.get(entry.getKey());
+                if (histogram == null) {
+                    target.put(entry.getKey(), entry.getValue().copy());
+                } else {
+                    histogram.merge(entry.getValue());
+                }
+            }
+        }
+
+        synchronized Histogram mergeStatisticsTo(String taskName, Histogram target) {
+            Histogram histogram = statistics.get(taskName);
+            if (histogram == null) {
+                return target;
+            }
+            return target == null ? histogram.copy() : target.merge(histogram);
+        }
+
+        synchronized void mergeTaskTreeTo(TaskNode target) {
+            for (TaskNode child : root.children) {
+                target.getOrCreateChild(child.name).merge(child);
+            }
+        }
+
+        synchronized void reset() {
+            statistics.clear();
+            resetNode(root);
+        }
+
+        private void resetNode(TaskNode node) {
+            node.histogram.reset();
+            for (TaskNode child : node.children) {
+                resetNode(child);
+            }
+        }
+    }
+}
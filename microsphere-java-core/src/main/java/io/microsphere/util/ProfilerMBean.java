@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+/**
+ * The management interface of {@link Profiler}, which exposes the aggregated statistics of tasks via JMX.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * Profiler profiler = new Profiler("startup");
+ * ObjectName objectName = profiler.registerMBean(ManagementFactory.getPlatformMBeanServer());
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Profiler
+ * @since 1.0.0
+ */
+public interface ProfilerMBean {
+
+    /**
+     * Get the identifier of {@link Profiler}
+     *
+     * @return non-null
+     */
+    String getId();
+
+    /**
+     * Get the names of tasks that have been completed in any thread
+     *
+     * @return non-null
+     */
+    String[] getTaskNames();
+
+    /**
+     * Get the count of completed executions of the specified task
+     *
+     * @param taskName the name of task
+     * @return <code>0</code> if the task is absent
+     */
+    long getCount(String taskName);
+
+    /**
+     * Get the total elapsed nanoseconds of the specified task
+     *
+     * @param taskName the name of task
+     * @return <code>0</code> if the task is absent
+     */
+    long getTotalNanos(String taskName);
+
+    /**
+     * Get the minimum elapsed nanoseconds of the specified task
+     *
+     * @param taskName the name of task
+     * @return <code>0</code> if the task is absent
+     */
+    long getMinNanos(String taskName);
+
+    /**
+     * Get the maximum elapsed nanoseconds of the specified task
+     *
+     * @param taskName the name of task
+     * @return <code>0</code> if the task is absent
+     */
+    long getMaxNanos(String taskName);
+
+    /**
+     * Get the elapsed nanoseconds at the specified percentile of the specified task
+     *
+     * @param taskName   the name of task
+     * @param percentile the percentile in the range of [0, 100]
+     * @return <code>0</code> if the task is absent
+     */
+    long getPercentileNanos(String taskName, double percentile);
+
+    /**
+     * Export the statistics and the task tree as JSON
+     *
+     * @return non-null
+     */
+    String toJSON();
+
+    /**
+     * Reset all recorded statistics
+     */
+    void reset();
+}
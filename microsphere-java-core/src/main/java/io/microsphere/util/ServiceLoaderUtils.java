@@ -15,14 +15,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.ConcurrentMap;
 
 import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
 import static io.microsphere.collection.ListUtils.first;
 import static io.microsphere.collection.ListUtils.last;
 import static io.microsphere.collection.ListUtils.newLinkedList;
 import static io.microsphere.collection.Lists.ofList;
-import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
 import static io.microsphere.collection.SetUtils.newFixedLinkedHashSet;
 import static io.microsphere.collection.SetUtils.newLinkedHashSet;
 import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
@@ -55,7 +53,7 @@ import static java.util.ServiceLoader.load;
  * <h3>Key Features</h3>
  * <ul>
  *     <li>Load services using the context class loader or a specified class loader.</li>
- *     <li>Supports caching of loaded services (configurable).</li>
+ *     <li>Supports caching of loaded services (configurable) per {@link ClassLoader} by {@link ServiceRegistry}.</li>
  *     <li>Sorts services by priority if they implement the {@link io.microsphere.lang.Prioritized} interface.</li>
  *     <li>Returns read-only lists or arrays of service instances.</li>
  * </ul>
@@ -137,8 +135,6 @@ public abstract class ServiceLoaderUtils implements Utils {
     )
     public static final boolean SERVICE_LOADER_CACHED = parseBoolean(getProperty(SERVICE_LOADER_CACHED_PROPERTY_NAME, DEFAULT_SERVICE_LOADER_CACHED_PROPERTY_VALUE));
 
-    private static final ConcurrentMap<Class<?>, List<?>> servicesCache = newConcurrentHashMap();
-
     /**
      * Retrieves the implementation classes of all service providers for the specified service type using the context class loader.
      *
@@ -843,7 +839,8 @@ public abstract class ServiceLoaderUtils implements Utils {
     static <S> List<S> loadServicesAsList(Class<S> serviceType, @Nullable ClassLoader classLoader, boolean cached) throws IllegalArgumentException {
         final List<S> serviceList;
         if (cached) {
-            serviceList = (List<S>) servicesCache.computeIfAbsent(serviceType, type -> loadServicesAsList(type, classLoader));
+            ClassLoader actualClassLoader = classLoader == null ? getClassLoader(serviceType) : classLoader;
+            serviceList = ServiceRegistry.getInstance(actualClassLoader).getProviders(serviceType);
         } else {
             serviceList = loadServicesAsList(serviceType, classLoader);
         }
@@ -0,0 +1,619 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+import io.microsphere.annotation.ConfigurationProperty;
+import io.microsphere.annotation.Immutable;
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+import io.microsphere.annotation.concurrent.ThreadSafe;
+import io.microsphere.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.net.URL;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import static io.microsphere.annotation.ConfigurationProperty.SYSTEM_PROPERTIES_SOURCE;
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.newWeakHashMap;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.constants.PathConstants.SLASH_CHAR;
+import static io.microsphere.constants.PropertyConstants.MICROSPHERE_PROPERTY_NAME_PREFIX;
+import static io.microsphere.constants.SymbolConstants.COMMA;
+import static io.microsphere.constants.SymbolConstants.SHARP_CHAR;
+import static io.microsphere.io.IOUtils.readLines;
+import static io.microsphere.lang.Prioritized.COMPARATOR;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.text.FormatUtils.format;
+import static io.microsphere.util.ClassLoaderUtils.ResourceType.DEFAULT;
+import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
+import static io.microsphere.util.ClassLoaderUtils.getResources;
+import static io.microsphere.util.ClassLoaderUtils.loadClass;
+import static io.microsphere.util.ClassUtils.isAssignableFrom;
+import static io.microsphere.util.ServiceLoaderUtils.SERVICE_PROVIDER_CONFIG_FILES_LOCATION_PATTERN;
+import static io.microsphere.util.StringUtils.isBlank;
+import static io.microsphere.util.StringUtils.split;
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.System.getProperty;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.sort;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The registry of the service providers that are declared in the {@link ServiceLoader} configuration files
+ * ({@code META-INF/services/<service-type>}) per {@link ClassLoader}.
+ *
+ * <p>
+ * Compared to {@link ServiceLoader}, the registry :
+ * <ul>
+ *     <li>Is keyed by the {@link ClassLoader} and the service type, so that the different
+ *     {@link ClassLoader ClassLoaders} never share the providers.</li>
+ *     <li>Reads the class names of providers first, the providers are instantiated on demand one by one, e.g.
+ *     {@link #getProviderClassNames(Class)} never instantiates any provider, and {@link #getProvider(Class, String)}
+ *     only instantiates the specified one.</li>
+ *     <li>Instantiates the providers in parallel if {@link #SERVICE_REGISTRY_PARALLEL} is enabled.</li>
+ *     <li>Reads the class names of providers from the build-time index files ({@link #SERVICES_INDEX_RESOURCE_NAME})
+ *     if present, so that the startup can skip looking up the configuration files in every archive.</li>
+ * </ul>
+ * </p>
+ *
+ * <h3>Services Index</h3>
+ * <p>
+ * The index file is a properties file whose key is the service type, and the value is the comma-separated class
+ * names of providers, e.g.
+ * <pre>{@code
+ * io.microsphere.convert.Converter=io.microsphere.convert.StringToIntegerConverter,io.microsphere.convert.StringToLongConverter
+ * }</pre>
+ * The entries of all index files in the {@link ClassLoader} are merged. Once a service type is present in the index,
+ * the configuration files of the service type will not be looked up, thus the index should be generated for every
+ * archive that declares the providers of that service type, or it can be disabled by {@link #SERVICES_INDEX_ENABLED}.
+ * </p>
+ *
+ * <h3>Service Type Arguments Index</h3>
+ * <p>
+ * The build-time index files ({@link #SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME}) record the resolved type arguments
+ * of the generic service type per provider class, the key is the service type and the provider class joined by
+ * {@code '/'}, and the value is the comma-separated class names of the type arguments, e.g.
+ * <pre>{@code
+ * io.microsphere.convert.Converter/io.microsphere.convert.StringToIntegerConverter=java.lang.String,java.lang.Integer
+ * }</pre>
+ * so that {@link #getTypeArguments(Class, Class)} can skip resolving the generic types by reflection. Unlike the
+ * services index, the absent entries are always resolved by the callers as before.
+ * </p>
+ *
+ * <h3>Lifecycle</h3>
+ * <p>
+ * The registries are cached by the weak keys of {@link ClassLoader ClassLoaders} and the soft values, because the
+ * registry caches the service types and the shared instances of the providers, which refer to the
+ * {@link ClassLoader} that defined them strongly. Once the {@link ClassLoader} is discarded, its registry is released
+ * by the garbage collector as the other softly reachable objects, e.g. when the memory is demanded, then the
+ * {@link ClassLoader} can be collected. {@link #remove(ClassLoader)} should be invoked to release them immediately,
+ * e.g. the application is undeployed. The registry that was released will be created again on demand, thus the
+ * shared instances of the providers are not guaranteed to be identical across the garbage collections, unless the
+ * registry is referred by the caller.
+ * </p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * ServiceRegistry registry = ServiceRegistry.getInstance(classLoader);
+ * List<String> classNames = registry.getProviderClassNames(Converter.class); // no provider is instantiated
+ * List<Converter> converters = registry.getProviders(Converter.class);       // the shared instances
+ * List<Converter> newConverters = registry.newProviders(Converter.class);    // the new instances
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ServiceLoaderUtils
+ * @see ServiceLoader
+ * @since 1.0.0
+ */
+@ThreadSafe
+public class ServiceRegistry {
+
+    private static final Logger logger = getLogger(ServiceRegistry.class);
+
+    /**
+     * The resource name of the services index files : {@code "META-INF/microsphere/services.index"}
+     */
+    public static final String SERVICES_INDEX_RESOURCE_NAME = "META-INF/microsphere/services.index";
+
+    /**
+     * The resource name of the service type arguments index files :
+     * {@code "META-INF/microsphere/service-type-arguments.index"}
+     */
+    public static final String SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME = "META-INF/microsphere/service-type-arguments.index";
+
+    /**
+     * The property name of whether the services index is enabled : {@code "microsphere.service-registry.index.enabled"}
+     */
+    public static final String SERVICES_INDEX_ENABLED_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "service-registry.index.enabled";
+
+    /**
+     * The default property value of whether the services index is enabled : {@code "true"}
+     */
+    public static final String DEFAULT_SERVICES_INDEX_ENABLED_PROPERTY_VALUE = "true";
+
+    /**
+     * Whether the services index is enabled
+     */
+    @ConfigurationProperty(
+            name = SERVICES_INDEX_ENABLED_PROPERTY_NAME,
+            defaultValue = DEFAULT_SERVICES_INDEX_ENABLED_PROPERTY_VALUE,
+            description = "Whether the services index is enabled",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final boolean SERVICES_INDEX_ENABLED = parseBoolean(getProperty(SERVICES_INDEX_ENABLED_PROPERTY_NAME, DEFAULT_SERVICES_INDEX_ENABLED_PROPERTY_VALUE));
+
+    /**
+     * The property name of whether the providers are instantiated in parallel : {@code "microsphere.service-registry.parallel"}
+     */
+    public static final String SERVICE_REGISTRY_PARALLEL_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "service-registry.parallel";
+
+    /**
+     * The default property value of whether the providers are instantiated in parallel : {@code "false"}
+     */
+    public static final String DEFAULT_SERVICE_REGISTRY_PARALLEL_PROPERTY_VALUE = "false";
+
+    /**
+     * Whether the providers are instantiated in parallel
+     */
+    @ConfigurationProperty(
+            name = SERVICE_REGISTRY_PARALLEL_PROPERTY_NAME,
+            defaultValue = DEFAULT_SERVICE_REGISTRY_PARALLEL_PROPERTY_VALUE,
+            description = "Whether the providers are instantiated in parallel",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final boolean SERVICE_REGISTRY_PARALLEL = parseBoolean(getProperty(SERVICE_REGISTRY_PARALLEL_PROPERTY_NAME, DEFAULT_SERVICE_REGISTRY_PARALLEL_PROPERTY_VALUE));
+
+    /**
+     * The registries keyed by the {@link ClassLoader} weakly, the values are referred softly, so that the registries
+     * that cached the providers defined by the {@link ClassLoader} do not keep the keys reachable strongly
+     */
+    static final Map<ClassLoader, SoftReference<ServiceRegistry>> registries = newWeakHashMap();
+
+    /**
+     * The registry itself does not refer the {@link ClassLoader} strongly, the cached providers may
+     */
+    private final WeakReference<ClassLoader> classLoaderReference;
+
+    private final boolean indexEnabled;
+
+    private final boolean parallel;
+
+    private final ConcurrentMap<Class<?>, ServiceProviders<?>> providersMap = newConcurrentHashMap();
+
+    private volatile Map<String, List<String>> index;
+
+    private volatile Map<String, List<String>> typeArgumentsIndex;
+
+    protected ServiceRegistry(ClassLoader classLoader, boolean indexEnabled, boolean parallel) {
+        this.classLoaderReference = new WeakReference<>(classLoader);
+        this.indexEnabled = indexEnabled;
+        this.parallel = parallel;
+    }
+
+    /**
+     * Get the {@link ServiceRegistry} of the specified {@link ClassLoader}
+     *
+     * @param classLoader the {@link ClassLoader}, <code>null</code> means the
+     *                    {@link ClassLoaderUtils#getDefaultClassLoader() default one}
+     * @return non-null
+     */
+    @Nonnull
+    public static ServiceRegistry getInstance(@Nullable ClassLoader classLoader) {
+        ClassLoader actualClassLoader = classLoader == null ? getDefaultClassLoader() : classLoader;
+        synchronized (registries) {
+            SoftReference<ServiceRegistry> registryReference = registries.get(actualClassLoader);
+            ServiceRegistry registry = registryReference == null ? null : registryReference.get();
+            if (registry == null) {
+                registry = new ServiceRegistry(actualClassLoader, SERVICES_INDEX_ENABLED, SERVICE_REGISTRY_PARALLEL);
+                registries.put(actualClassLoader, new SoftReference<>(registry));
+            }
+            return registry;
+        }
+    }
+
+    /**
+     * Remove the {@link ServiceRegistry} of the specified {@link ClassLoader}, e.g. the {@link ClassLoader} is
+     * going to be closed, so that the {@link ClassLoader} can be collected without waiting for the soft reference
+     * of the registry to be cleared.
+     *
+     * @param classLoader the {@link ClassLoader}
+     * @return the removed {@link ServiceRegistry} if present, or <code>null</code>
+     */
+    @Nullable
+    public static ServiceRegistry remove(@Nullable ClassLoader classLoader) {
+        SoftReference<ServiceRegistry> registryReference;
+        synchronized (registries) {
+            registryReference = registries.remove(classLoader);
+        }
+        return registryReference == null ? null : registryReference.get();
+    }
+
+    /**
+     * Clear all {@link ServiceRegistry registries}
+     */
+    public static void clear() {
+        synchronized (registries) {
+            registries.clear();
+        }
+    }
+
+    /**
+     * Get the {@link ClassLoader} of this registry
+     *
+     * @return <code>null</code> if the {@link ClassLoader} was collected
+     */
+    @Nullable
+    public ClassLoader getClassLoader() {
+        return classLoaderReference.get();
+    }
+
+    /**
+     * Get the class names of the providers of the specified service type in the declaration order without
+     * instantiating any provider.
+     *
+     * @param serviceType the service type
+     * @return non-null read-only {@link List}, may be empty
+     */
+    @Nonnull
+    @Immutable
+    public List<String> getProviderClassNames(Class<?> serviceType) {
+        return getServiceProviders(serviceType).getClassNames();
+    }
+
+    /**
+     * Get the shared instance of the provider of the specified service type, which is instantiated at the first time
+     * without instantiating the other providers.
+     *
+     * @param serviceType the service type
+     * @param className   the class name of provider
+     * @param <S>         the service type
+     * @return non-null
+     * @throws IllegalArgumentException  if the provider was not declared
+     * @throws ServiceConfigurationError if the provider can't be instantiated
+     */
+    @Nonnull
+    public <S> S getProvider(Class<S> serviceType, String className) throws IllegalArgumentException, ServiceConfigurationError {
+        return getServiceProviders(serviceType).getInstance(className);
+    }
+
+    /**
+     * Get the shared instances of the providers of the specified service type, which are instantiated at the first
+     * time and sorted by {@link io.microsphere.lang.Prioritized}, the shared instances that were instantiated by
+     * {@link #getProvider(Class, String)} are reused.
+     *
+     * @param serviceType the service type
+     * @param <S>         the service type
+     * @return non-null read-only {@link List}
+     * @throws IllegalArgumentException  if no provider was declared
+     * @throws ServiceConfigurationError if any provider can't be instantiated
+     */
+    @Nonnull
+    @Immutable
+    public <S> List<S> getProviders(Class<S> serviceType) throws IllegalArgumentException, ServiceConfigurationError {
+        return getServiceProviders(serviceType).getInstances();
+    }
+
+    /**
+     * Create the new instances of the providers of the specified service type, which are sorted by
+     * {@link io.microsphere.lang.Prioritized}.
+     *
+     * @param serviceType the service type
+     * @param <S>         the service type
+     * @return non-null {@link List}
+     * @throws IllegalArgumentException  if no provider was declared
+     * @throws ServiceConfigurationError if any provider can't be instantiated
+     */
+    @Nonnull
+    public <S> List<S> newProviders(Class<S> serviceType) throws IllegalArgumentException, ServiceConfigurationError {
+        return getServiceProviders(serviceType).newInstances();
+    }
+
+    /**
+     * Get the type arguments of the specified generic service type that were resolved from the provider class at
+     * build time, e.g. the source and target types of {@code Converter<String, Integer>}.
+     *
+     * @param serviceType   the generic service type
+     * @param providerClass the provider class
+     * @return <code>null</code> if the index is disabled, or the provider class was not indexed, or any type argument
+     * can't be loaded, the caller should resolve the type arguments by itself
+     */
+    @Nullable
+    @Immutable
+    public List<Class<?>> getTypeArguments(Class<?> serviceType, Class<?> providerClass) {
+        if (!indexEnabled) {
+            return null;
+        }
+        List<String> classNames = getTypeArgumentsIndex().get(serviceType.getName() + SLASH_CHAR + providerClass.getName());
+        if (classNames == null) {
+            return null;
+        }
+        ClassLoader classLoader = providerClass.getClassLoader();
+        int size = classNames.size();
+        List<Class<?>> typeArguments = newArrayList(size);
+        for (int i = 0; i < size; i++) {
+            Class<?> typeArgument = loadClass(classLoader, classNames.get(i));
+            if (typeArgument == null) {
+                return null;
+            }
+            typeArguments.add(typeArgument);
+        }
+        return unmodifiableList(typeArguments);
+    }
+
+    /**
+     * Get the type argument at the specified index of the generic service type that was resolved from the provider
+     * class at build time.
+     *
+     * @param serviceType   the generic service type
+     * @param providerClass the provider class
+     * @param index         the index of the type argument
+     * @param <T>           the type argument
+     * @return <code>null</code> if the type argument was not indexed
+     * @see #getTypeArguments(Class, Class)
+     */
+    @Nullable
+    public <T> Class<T> getTypeArgument(Class<?> serviceType, Class<?> providerClass, int index) {
+        List<Class<?>> typeArguments = getTypeArguments(serviceType, providerClass);
+        return typeArguments == null || index >= typeArguments.size() ? null : (Class<T>) typeArguments.get(index);
+    }
+
+    <S> ServiceProviders<S> getServiceProviders(Class<S> serviceType) {
+        return (ServiceProviders<S>) providersMap.computeIfAbsent(serviceType, ServiceProviders::new);
+    }
+
+    List<String> resolveProviderClassNames(Class<?> serviceType) {
+        ClassLoader classLoader = getClassLoader();
+        String serviceTypeName = serviceType.getName();
+        if (indexEnabled) {
+            List<String> classNames = getIndex().get(serviceTypeName);
+            if (classNames != null) {
+                return classNames;
+            }
+        }
+        Set<String> classNames = newLinkedHashSet();
+        String resourceName = format(SERVICE_PROVIDER_CONFIG_FILES_LOCATION_PATTERN, serviceTypeName);
+        try {
+            for (URL resource : getResources(classLoader, DEFAULT, resourceName)) {
+                try (InputStream inputStream = resource.openStream()) {
+                    for (String line : readLines(inputStream)) {
+                        addClassName(classNames, line);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ServiceConfigurationError(format("The configuration files of service[type : '{}'] can't be read by {}",
+                    serviceTypeName, classLoader), e);
+        }
+        return unmodifiableList(newArrayList(classNames));
+    }
+
+    Map<String, List<String>> getIndex() {
+        Map<String, List<String>> index = this.index;
+        if (index == null) {
+            synchronized (this) {
+                index = this.index;
+                if (index == null) {
+                    this.index = index = loadIndex(SERVICES_INDEX_RESOURCE_NAME, true);
+                }
+            }
+        }
+        return index;
+    }
+
+    Map<String, List<String>> getTypeArgumentsIndex() {
+        Map<String, List<String>> typeArgumentsIndex = this.typeArgumentsIndex;
+        if (typeArgumentsIndex == null) {
+            synchronized (this) {
+                typeArgumentsIndex = this.typeArgumentsIndex;
+                if (typeArgumentsIndex == null) {
+                    this.typeArgumentsIndex = typeArgumentsIndex = loadIndex(SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME, false);
+                }
+            }
+        }
+        return typeArgumentsIndex;
+    }
+
+    /**
+     * Load the index files
+     *
+     * @param resourceName the resource name of index files
+     * @param merged       <code>true</code> if the distinct values of the same key are merged, or the first one wins
+     * @return non-null read-only {@link Map}
+     */
+    private Map<String, List<String>> loadIndex(String resourceName, boolean merged) {
+        ClassLoader classLoader = getClassLoader();
+        Map<String, Collection<String>> classNamesMap = newHashMap();
+        try {
+            for (URL resource : getResources(classLoader, DEFAULT, resourceName)) {
+                Properties properties = new Properties();
+                try (InputStream inputStream = resource.openStream()) {
+                    properties.load(inputStream);
+                }
+                for (String key : properties.stringPropertyNames()) {
+                    Collection<String> classNames = classNamesMap.get(key);
+                    if (classNames == null) {
+                        classNames = merged ? newLinkedHashSet() : newArrayList();
+                        classNamesMap.put(key, classNames);
+                    } else if (!merged) {
+                        continue;
+                    }
+                    for (String className : split(properties.getProperty(key), COMMA)) {
+                        addClassName(classNames, className);
+                    }
+                }
+                if (logger.isTraceEnabled()) {
+                    logger.trace("The index[{}] was loaded by {}", resource, classLoader);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("The index[name : '{}'] can't be loaded by {}, it will be ignored", resourceName, classLoader, e);
+            return emptyMap();
+        }
+        if (classNamesMap.isEmpty()) {
+            return emptyMap();
+        }
+        Map<String, List<String>> index = newHashMap(classNamesMap.size());
+        for (Map.Entry<String, Collection<String>> entry : classNamesMap.entrySet()) {
+            index.put(entry.getKey(), unmodifiableList(newArrayList(entry.getValue())));
+        }
+        return unmodifiableMap(index);
+    }
+
+    /**
+     * Add the class name with the syntax of {@link ServiceLoader} configuration file : the comment begins with '#',
+     * the spaces and blank lines are ignored
+     */
+    static void addClassName(Collection<String> classNames, String line) {
+        int commentIndex = line.indexOf(SHARP_CHAR);
+        String className = commentIndex > -1 ? line.substring(0, commentIndex) : line;
+        if (!isBlank(className)) {
+            classNames.add(className.trim());
+        }
+    }
+
+    <S> S instantiate(Class<S> serviceType, String className) throws ServiceConfigurationError {
+        ClassLoader classLoader = getClassLoader();
+        Class<?> providerClass = loadClass(classLoader, className);
+        if (providerClass == null) {
+            throw new ServiceConfigurationError(format("The provider[class : '{}'] of service[type : '{}'] can't be loaded by {}",
+                    className, serviceType.getName(), classLoader));
+        }
+        if (!isAssignableFrom(serviceType, providerClass)) {
+            throw new ServiceConfigurationError(format("The provider[class : '{}'] is not a subtype of service[type : '{}']",
+                    className, serviceType.getName()));
+        }
+        try {
+            Constructor<?> constructor = providerClass.getConstructor();
+            return serviceType.cast(constructor.newInstance());
+        } catch (Throwable e) {
+            throw new ServiceConfigurationError(format("The provider[class : '{}'] of service[type : '{}'] can't be instantiated",
+                    className, serviceType.getName()), e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ServiceRegistry{" +
+                "classLoader=" + getClassLoader() +
+                ", indexEnabled=" + indexEnabled +
+                ", parallel=" + parallel +
+                ", serviceTypes=" + providersMap.keySet() +
+                '}';
+    }
+
+    /**
+     * The providers of a service type
+     *
+     * @param <S> the service type
+     */
+    class ServiceProviders<S> {
+
+        private final Class<S> serviceType;
+
+        private volatile List<String> classNames;
+
+        private final ConcurrentMap<String, S> sharedInstances = newConcurrentHashMap();
+
+        private volatile List<S> instances;
+
+        ServiceProviders(Class<?> serviceType) {
+            this.serviceType = (Class<S>) serviceType;
+        }
+
+        List<String> getClassNames() {
+            List<String> classNames = this.classNames;
+            if (classNames == null) {
+                synchronized (this) {
+                    classNames = this.classNames;
+                    if (classNames == null) {
+                        this.classNames = classNames = resolveProviderClassNames(serviceType);
+                    }
+                }
+            }
+            return classNames;
+        }
+
+        List<S> getInstances() {
+            List<S> instances = this.instances;
+            if (instances == null) {
+                synchronized (this) {
+                    instances = this.instances;
+                    if (instances == null) {
+                        this.instances = instances = unmodifiableList(instantiateAll(this::getInstance));
+                    }
+                }
+            }
+            return instances;
+        }
+
+        S getInstance(String className) {
+            S instance = sharedInstances.get(className);
+            if (instance == null) {
+                if (!getClassNames().contains(className)) {
+                    throw new IllegalArgumentException(format("The provider[class : '{}'] of service[type : '{}'] was not declared under ClassLoader[{}]",
+                            className, serviceType.getName(), getClassLoader()));
+                }
+                instance = sharedInstances.computeIfAbsent(className, name -> instantiate(serviceType, name));
+            }
+            return instance;
+        }
+
+        List<S> newInstances() {
+            return instantiateAll(className -> instantiate(serviceType, className));
+        }
+
+        private List<S> instantiateAll(Function<String, S> instantiator) {
+            List<String> classNames = getClassNames();
+            int size = classNames.size();
+            if (size == 0) {
+                String serviceTypeName = serviceType.getName();
+                throw new IllegalArgumentException(format("No Service interface[type : {}] implementation was defined in service loader configuration file[/META-INF/services/{}] under ClassLoader[{}]",
+                        serviceTypeName, serviceTypeName, getClassLoader()));
+            }
+            final List<S> instances;
+            if (parallel && size > 1) {
+                instances = classNames.parallelStream()
+                        .map(instantiator)
+                        .collect(toList());
+            } else {
+                instances = newArrayList(size);
+                for (String className : classNames) {
+                    instances.add(instantiator.apply(className));
+                }
+            }
+            sort(instances, COMPARATOR);
+            return instances;
+        }
+    }
+}
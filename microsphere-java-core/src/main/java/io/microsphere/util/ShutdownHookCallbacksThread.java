@@ -16,11 +16,43 @@
  */
 package io.microsphere.util;
 
+import io.microsphere.lang.Prioritized;
 import io.microsphere.logging.Logger;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.concurrent.CustomizedThreadFactory.newThreadFactory;
+import static io.microsphere.constants.SeparatorConstants.LINE_SEPARATOR;
+import static io.microsphere.lang.Prioritized.COMPARATOR;
 import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.COMPLETED;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.FAILED;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.PENDING;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.RUNNING;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.SKIPPED;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.TIMED_OUT;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_PARALLELISM;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_TIMEOUT;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACK_TIMEOUT;
 import static io.microsphere.util.ShutdownHookUtils.clearShutdownHookCallbacks;
 import static io.microsphere.util.ShutdownHookUtils.shutdownHookCallbacks;
+import static java.lang.Long.MAX_VALUE;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.sort;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 /**
  * A {@link Thread} that executes registered shutdown hook {@link Runnable} callbacks
@@ -63,7 +95,8 @@ class ShutdownHookCallbacksThread extends Thread {
     }
 
     /**
-     * Executes all registered shutdown hook callbacks and then clears the callback registry.
+     * Executes all registered shutdown hook callbacks in phases, reports the timing of each callback, and then clears
+     * the callback registry.
      *
      * <h3>Example Usage</h3>
      * <pre>{@code
@@ -75,17 +108,239 @@ class ShutdownHookCallbacksThread extends Thread {
      */
     @Override
     public void run() {
-        executeShutdownHookCallbacks();
+        List<CallbackExecution> executions = executeShutdownHookCallbacks();
+        report(executions);
         clearShutdownHookCallbacks();
     }
 
-    private void executeShutdownHookCallbacks() {
-        for (Runnable callback : shutdownHookCallbacks) {
+    List<CallbackExecution> executeShutdownHookCallbacks() {
+        return executeShutdownHookCallbacks(SHUTDOWN_HOOK_CALLBACKS_PARALLELISM, SHUTDOWN_HOOK_CALLBACK_TIMEOUT,
+                SHUTDOWN_HOOK_CALLBACKS_TIMEOUT);
+    }
+
+    /**
+     * Executes the callbacks phase by phase, the callbacks in the same phase run in parallel on a bounded pool of
+     * daemon threads, the timeout callbacks are interrupted and abandoned, so that the next phase always makes progress.
+     * Without parallelism and timeouts, the callbacks run one by one in the current thread.
+     *
+     * @param parallelism           the maximum number of callbacks running in parallel
+     * @param callbackTimeoutMillis the timeout in milliseconds of a callback, no timeout if it's not positive
+     * @param timeoutMillis         the timeout in milliseconds of all callbacks, no timeout if it's not positive
+     * @return the executions of callbacks in the order of phases
+     */
+    List<CallbackExecution> executeShutdownHookCallbacks(int parallelism, long callbackTimeoutMillis, long timeoutMillis) {
+        List<List<CallbackExecution>> phases = resolvePhases();
+        List<CallbackExecution> executions = newArrayList();
+        boolean timed = timeoutMillis > 0;
+        long deadline = timed ? nanoTime() + MILLISECONDS.toNanos(timeoutMillis) : 0L;
+        long callbackTimeoutNanos = callbackTimeoutMillis > 0 ? MILLISECONDS.toNanos(callbackTimeoutMillis) : 0L;
+        for (List<CallbackExecution> phase : phases) {
+            executions.addAll(phase);
+            if (timed && nanoTime() - deadline >= 0) {
+                // The executions of remaining phases are skipped
+                continue;
+            }
+            int threads = max(1, min(parallelism, phase.size()));
+            if (threads == 1 && !timed && callbackTimeoutNanos == 0L) {
+                for (CallbackExecution execution : phase) {
+                    execution.execute();
+                }
+                continue;
+            }
+            ExecutorService executor = newFixedThreadPool(threads, newThreadFactory(getName(), true));
+            try {
+                for (CallbackExecution execution : phase) {
+                    execution.future = executor.submit(execution);
+                }
+                for (CallbackExecution execution : phase) {
+                    execution.await(callbackTimeoutNanos, timed, deadline);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        return executions;
+    }
+
+    static List<List<CallbackExecution>> resolvePhases() {
+        Runnable[] callbacks = shutdownHookCallbacks.toArray(new Runnable[0]);
+        // The iterator of PriorityBlockingQueue does not traverse in the order of priorities
+        sort(callbacks, COMPARATOR);
+        List<List<CallbackExecution>> phases = newArrayList();
+        List<CallbackExecution> phase = null;
+        Integer phasePriority = null;
+        for (Runnable callback : callbacks) {
+            Integer priority = callback instanceof Prioritized ? ((Prioritized) callback).getPriority() : null;
+            if (phase == null || !Objects.equals(phasePriority, priority)) {
+                phase = newArrayList();
+                phases.add(phase);
+                phasePriority = priority;
+            }
+            phase.add(new CallbackExecution(callback, priority));
+        }
+        return phases;
+    }
+
+    static void report(List<CallbackExecution> executions) {
+        if (executions.isEmpty()) {
+            return;
+        }
+        for (CallbackExecution execution : executions) {
+            if (execution.failure != null) {
+                logger.error("The ShutdownHook Callback failed : {}", execution.callback, execution.failure);
+            }
+        }
+        if (logger.isInfoEnabled()) {
+            StringBuilder report = new StringBuilder("The timing report of ShutdownHook Callbacks :");
+            for (CallbackExecution execution : executions) {
+                report.append(LINE_SEPARATOR).append(execution);
+            }
+            logger.info(report.toString());
+        }
+    }
+
+    /**
+     * The status of {@link CallbackExecution}
+     */
+    enum Status {
+
+        /**
+         * Not started yet
+         */
+        PENDING,
+
+        RUNNING,
+
+        COMPLETED,
+
+        FAILED,
+
+        /**
+         * Interrupted and abandoned because of the timeout
+         */
+        TIMED_OUT,
+
+        /**
+         * Never submitted because the timeout of all callbacks was elapsed
+         */
+        SKIPPED
+    }
+
+    /**
+     * The execution of a ShutdownHook callback
+     */
+    static class CallbackExecution implements Runnable {
+
+        final Runnable callback;
+
+        /**
+         * The priority of callback, <code>null</code> if it's not {@link Prioritized}
+         */
+        final Integer priority;
+
+        Future<?> future;
+
+        private volatile Status status = PENDING;
+
+        private volatile long startNanos;
+
+        private volatile long elapsedNanos;
+
+        volatile Throwable failure;
+
+        CallbackExecution(Runnable callback, Integer priority) {
+            this.callback = callback;
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            this.startNanos = nanoTime();
+            if (!transit(PENDING, RUNNING)) {
+                return;
+            }
             if (logger.isTraceEnabled()) {
                 logger.trace("The ShutdownHook Callback is about to run : {}", callback);
             }
-            callback.run();
+            try {
+                callback.run();
+                finish(COMPLETED);
+            } catch (Throwable e) {
+                this.failure = e;
+                finish(FAILED);
+            }
         }
-    }
 
+        /**
+         * Run the callback in the current thread
+         */
+        void execute() {
+            this.future = completedFuture(null);
+            run();
+        }
+
+        /**
+         * Wait for the submitted callback
+         *
+         * @param callbackTimeoutNanos the timeout in nanoseconds of the callback, no timeout if it's zero
+         * @param timed                whether the deadline of all callbacks is present
+         * @param deadline             the deadline in nanoseconds of all callbacks
+         */
+        void await(long callbackTimeoutNanos, boolean timed, long deadline) {
+            long now = nanoTime();
+            long waitNanos = MAX_VALUE;
+            if (callbackTimeoutNanos > 0L) {
+                waitNanos = (status == PENDING ? now : startNanos) + callbackTimeoutNanos - now;
+            }
+            if (timed) {
+                waitNanos = min(waitNanos, deadline - now);
+            }
+            try {
+                future.get(max(0, waitNanos), NANOSECONDS);
+            } catch (TimeoutException | CancellationException | ExecutionException e) {
+                abandon();
+            } catch (InterruptedException e) {
+                abandon();
+                currentThread().interrupt();
+            }
+        }
+
+        private void abandon() {
+            if (status == RUNNING) {
+                finish(TIMED_OUT);
+            } else {
+                transit(PENDING, TIMED_OUT);
+            }
+            future.cancel(true);
+        }
+
+        private void finish(Status status) {
+            if (transit(RUNNING, status)) {
+                this.elapsedNanos = nanoTime() - startNanos;
+            }
+        }
+
+        private synchronized boolean transit(Status from, Status to) {
+            if (this.status == from) {
+                this.status = to;
+                return true;
+            }
+            return false;
+        }
+
+        Status getStatus() {
+            Status status = this.status;
+            return status == PENDING && future == null ? SKIPPED : status;
+        }
+
+        long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "[priority : " + (priority == null ? "none" : priority) + "] " + getStatus() +
+                    " in " + NANOSECONDS.toMillis(elapsedNanos) + " ms : " + callback;
+        }
+    }
 }
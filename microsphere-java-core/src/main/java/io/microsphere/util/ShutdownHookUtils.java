@@ -59,6 +59,34 @@ import static java.util.stream.Collectors.toSet;
  * });
  * }</pre>
  *
+ * <h4>Phases of Callbacks</h4>
+ * <p>The callbacks are executed in phases ordered by their {@link io.microsphere.lang.Prioritized priorities}, the
+ * callbacks with the same priority are in the same phase, and the non-{@link io.microsphere.lang.Prioritized prioritized}
+ * callbacks are executed in the last phase, the timing of each callback is reported at last. By default, the callbacks
+ * run one by one without any timeout, the following features are opt-in :
+ * <ul>
+ *     <li>The callbacks in the same phase run in parallel if {@link #SHUTDOWN_HOOK_CALLBACKS_PARALLELISM} is greater
+ *     than {@code 1}.</li>
+ *     <li>A callback is abandoned if it exceeds the positive {@link #SHUTDOWN_HOOK_CALLBACK_TIMEOUT}.</li>
+ *     <li>The remaining callbacks are abandoned once the positive {@link #SHUTDOWN_HOOK_CALLBACKS_TIMEOUT} is
+ *     elapsed.</li>
+ * </ul>
+ * </p>
+ * <pre>{@code
+ * class FlushCallback implements Runnable, Prioritized {
+ *
+ *     public void run() {
+ *         // flush the remote buffer
+ *     }
+ *
+ *     public int getPriority() {
+ *         return MAX_PRIORITY; // runs in the first phase
+ *     }
+ * }
+ *
+ * ShutdownHookUtils.addShutdownHookCallback(new FlushCallback());
+ * }</pre>
+ *
  * <h4>Filtering Existing Shutdown Hooks</h4>
  * <pre>{@code
  * Set<Thread> shutdownHooks = ShutdownHookUtils.getShutdownHookThreads();
@@ -106,6 +134,91 @@ public abstract class ShutdownHookUtils implements Utils {
     )
     public static final int SHUTDOWN_HOOK_CALLBACKS_CAPACITY = getInteger(SHUTDOWN_HOOK_CALLBACKS_CAPACITY_PROPERTY_NAME, DEFAULT_SHUTDOWN_HOOK_CALLBACKS_CAPACITY);
 
+    /**
+     * The System property name of the parallelism of ShutdownHook callbacks in the same phase :
+     * {@code "microsphere.shutdown-hook.callbacks-parallelism"}
+     */
+    public static final String SHUTDOWN_HOOK_CALLBACKS_PARALLELISM_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "shutdown-hook.callbacks-parallelism";
+
+    /**
+     * The default property value of the parallelism of ShutdownHook callbacks: {@code "1"}
+     */
+    public static final String DEFAULT_SHUTDOWN_HOOK_CALLBACKS_PARALLELISM_PROPERTY_VALUE = "1";
+
+    /**
+     * The default value of the parallelism of ShutdownHook callbacks: {@code 1}
+     */
+    public static final int DEFAULT_SHUTDOWN_HOOK_CALLBACKS_PARALLELISM = parseInt(DEFAULT_SHUTDOWN_HOOK_CALLBACKS_PARALLELISM_PROPERTY_VALUE);
+
+    /**
+     * The maximum number of ShutdownHook callbacks with the same priority(phase) running in parallel,
+     * the default value is 1 which means the callbacks are executed one by one.
+     */
+    @ConfigurationProperty(
+            name = SHUTDOWN_HOOK_CALLBACKS_PARALLELISM_PROPERTY_NAME,
+            defaultValue = DEFAULT_SHUTDOWN_HOOK_CALLBACKS_PARALLELISM_PROPERTY_VALUE,
+            description = "The maximum number of ShutdownHook callbacks with the same priority running in parallel",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int SHUTDOWN_HOOK_CALLBACKS_PARALLELISM = getInteger(SHUTDOWN_HOOK_CALLBACKS_PARALLELISM_PROPERTY_NAME, DEFAULT_SHUTDOWN_HOOK_CALLBACKS_PARALLELISM);
+
+    /**
+     * The System property name of the timeout in milliseconds of a ShutdownHook callback :
+     * {@code "microsphere.shutdown-hook.callback-timeout"}
+     */
+    public static final String SHUTDOWN_HOOK_CALLBACK_TIMEOUT_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "shutdown-hook.callback-timeout";
+
+    /**
+     * The default property value of the timeout in milliseconds of a ShutdownHook callback: {@code "0"}
+     */
+    public static final String DEFAULT_SHUTDOWN_HOOK_CALLBACK_TIMEOUT_PROPERTY_VALUE = "0";
+
+    /**
+     * The default value of the timeout in milliseconds of a ShutdownHook callback: {@code 0}
+     */
+    public static final int DEFAULT_SHUTDOWN_HOOK_CALLBACK_TIMEOUT = parseInt(DEFAULT_SHUTDOWN_HOOK_CALLBACK_TIMEOUT_PROPERTY_VALUE);
+
+    /**
+     * The timeout in milliseconds of a ShutdownHook callback, the callback will be interrupted and abandoned
+     * if it's timeout, the default value is 0 which means no timeout
+     */
+    @ConfigurationProperty(
+            name = SHUTDOWN_HOOK_CALLBACK_TIMEOUT_PROPERTY_NAME,
+            defaultValue = DEFAULT_SHUTDOWN_HOOK_CALLBACK_TIMEOUT_PROPERTY_VALUE,
+            description = "The timeout in milliseconds of a ShutdownHook callback",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int SHUTDOWN_HOOK_CALLBACK_TIMEOUT = getInteger(SHUTDOWN_HOOK_CALLBACK_TIMEOUT_PROPERTY_NAME, DEFAULT_SHUTDOWN_HOOK_CALLBACK_TIMEOUT);
+
+    /**
+     * The System property name of the timeout in milliseconds of all ShutdownHook callbacks :
+     * {@code "microsphere.shutdown-hook.callbacks-timeout"}
+     */
+    public static final String SHUTDOWN_HOOK_CALLBACKS_TIMEOUT_PROPERTY_NAME = MICROSPHERE_PROPERTY_NAME_PREFIX + "shutdown-hook.callbacks-timeout";
+
+    /**
+     * The default property value of the timeout in milliseconds of all ShutdownHook callbacks: {@code "0"}
+     */
+    public static final String DEFAULT_SHUTDOWN_HOOK_CALLBACKS_TIMEOUT_PROPERTY_VALUE = "0";
+
+    /**
+     * The default value of the timeout in milliseconds of all ShutdownHook callbacks: {@code 0}
+     */
+    public static final int DEFAULT_SHUTDOWN_HOOK_CALLBACKS_TIMEOUT = parseInt(DEFAULT_SHUTDOWN_HOOK_CALLBACKS_TIMEOUT_PROPERTY_VALUE);
+
+    /**
+     * The timeout in milliseconds of all ShutdownHook callbacks, the remaining callbacks will be abandoned
+     * once it's elapsed, the default value is 0 which means no timeout, e.g. 25000 fits in the common termination
+     * grace period(30 seconds)
+     */
+    @ConfigurationProperty(
+            name = SHUTDOWN_HOOK_CALLBACKS_TIMEOUT_PROPERTY_NAME,
+            defaultValue = DEFAULT_SHUTDOWN_HOOK_CALLBACKS_TIMEOUT_PROPERTY_VALUE,
+            description = "The timeout in milliseconds of all ShutdownHook callbacks",
+            source = SYSTEM_PROPERTIES_SOURCE
+    )
+    public static final int SHUTDOWN_HOOK_CALLBACKS_TIMEOUT = getInteger(SHUTDOWN_HOOK_CALLBACKS_TIMEOUT_PROPERTY_NAME, DEFAULT_SHUTDOWN_HOOK_CALLBACKS_TIMEOUT);
+
     /**
      * The {@link Predicate} to filter the type that is {@link ShutdownHookCallbacksThread}
      */
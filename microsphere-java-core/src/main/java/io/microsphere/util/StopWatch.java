@@ -21,7 +21,7 @@ import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 
-import static io.microsphere.collection.ListUtils.newLinkedList;
+import static io.microsphere.collection.ListUtils.newArrayList;
 import static io.microsphere.constants.SymbolConstants.QUOTE;
 import static io.microsphere.util.StringUtils.isBlank;
 import static java.lang.System.nanoTime;
@@ -63,9 +63,11 @@ import static java.util.concurrent.TimeUnit.NANOSECONDS;
  * stopWatch.stop();  // ends the original task
  * }</pre>
  *
- * <p>Note: This class is not thread-safe and should only be used within a single thread.</p>
+ * <p>Note: This class is not thread-safe and should only be used within a single thread, the {@link Profiler}
+ * records the nested tasks of multiple threads based on {@link StopWatch}.</p>
  *
  * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Profiler
  * @since 1.0.0
  */
 public class StopWatch {
@@ -78,14 +80,14 @@ public class StopWatch {
     private final String id;
 
     /**
-     * Running tasks(FIFO)
+     * Running tasks(FIFO), the array-backed stack
      */
-    private final List<Task> runningTasks = newLinkedList();
+    private final List<Task> runningTasks = newArrayList(4);
 
     /**
      * Completed tasks(FILO)
      */
-    private final List<Task> completedTasks = newLinkedList();
+    private final List<Task> completedTasks = newArrayList();
 
     /**
      * Total running time.
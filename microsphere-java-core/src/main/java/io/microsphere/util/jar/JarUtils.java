@@ -17,6 +17,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Collection;
 import java.util.Enumeration;
 import java.util.LinkedList;
@@ -41,8 +44,17 @@ import static io.microsphere.text.FormatUtils.format;
 import static io.microsphere.util.Assert.assertNotNull;
 import static io.microsphere.util.StringUtils.EMPTY;
 import static io.microsphere.util.StringUtils.substringAfter;
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.nio.ByteBuffer.allocate;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.zip.ZipEntry.STORED;
 
 /**
  * Jar Utility class
@@ -62,6 +74,14 @@ public abstract class JarUtils implements Utils {
      */
     public static final String MANIFEST_RESOURCE_PATH = "META-INF/MANIFEST.MF";
 
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+
+    private static final int END_RECORD_SIGNATURE = 0x06054b50;
+
+    private static final int END_RECORD_MIN_LENGTH = 22;
+
     /**
      * Creates a {@link JarFile} from the specified {@link URL}.
      *
@@ -412,6 +432,133 @@ public abstract class JarUtils implements Utils {
         }
     }
 
+    /**
+     * Maps the content of the specified entry stored without compression in the JAR file into the memory.
+     *
+     * <p>
+     * The end record and the central directory of the JAR file are read to locate the matched entry, then only the
+     * region of the entry's data is mapped as the read-only {@link MappedByteBuffer}, thus the content is read by the
+     * OS page cache without being copied into the heap, and the returned buffer never keeps the whole JAR file mapped.
+     * The ZIP64 archives, the compressed entries and the entries larger than {@link Integer#MAX_VALUE} bytes are not
+     * supported, {@code null} will be returned, the caller should read them by {@link JarFile} instead.
+     * </p>
+     *
+     * <h3>Example Usage</h3>
+     * <pre>{@code
+     * ByteBuffer buffer = JarUtils.mapStoredEntry(new File("/path/to/file.jar"), "com/example/resource.txt");
+     * if (buffer != null) {
+     *     // read the content without copying
+     * }
+     * }</pre>
+     *
+     * @param jarFile   the JAR file; must not be {@code null}
+     * @param entryName the name of entry, e.g. "com/example/resource.txt"
+     * @return the read-only {@link ByteBuffer} of the entry's content if it's stored without compression,
+     * or {@code null} if the entry is absent, compressed, too large or the JAR file is a ZIP64 archive
+     * @throws IOException if an I/O error occurs while reading the JAR file
+     */
+    @Nullable
+    public static ByteBuffer mapStoredEntry(File jarFile, String entryName) throws IOException {
+        try (FileChannel channel = FileChannel.open(jarFile.toPath(), READ)) {
+            long fileSize = channel.size();
+            int tailLength = (int) min(fileSize, END_RECORD_MIN_LENGTH + 0xFFFF);
+            ByteBuffer tail = read(channel, fileSize - tailLength, tailLength);
+            int endRecordOffset = tail == null ? -1 : findEndRecordOffset(tail);
+            if (endRecordOffset < 0) {
+                return null;
+            }
+
+            int entries = tail.getShort(endRecordOffset + 10) & 0xFFFF;
+            long centralDirectorySize = tail.getInt(endRecordOffset + 12) & 0xFFFFFFFFL;
+            long centralDirectoryOffset = tail.getInt(endRecordOffset + 16) & 0xFFFFFFFFL;
+            if (entries == 0xFFFF || centralDirectoryOffset == 0xFFFFFFFFL // ZIP64
+                    || centralDirectorySize > MAX_VALUE || centralDirectoryOffset + centralDirectorySize > fileSize) {
+                return null;
+            }
+
+            ByteBuffer centralDirectory = channel.map(READ_ONLY, centralDirectoryOffset, centralDirectorySize);
+            centralDirectory.order(LITTLE_ENDIAN);
+            int limit = centralDirectory.limit();
+            byte[] name = entryName.getBytes(UTF_8);
+            int offset = 0;
+            for (int i = 0; i < entries && offset + 46 <= limit; i++) {
+                if (centralDirectory.getInt(offset) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                    return null;
+                }
+                int nameLength = centralDirectory.getShort(offset + 28) & 0xFFFF;
+                int extraLength = centralDirectory.getShort(offset + 30) & 0xFFFF;
+                int commentLength = centralDirectory.getShort(offset + 32) & 0xFFFF;
+                if (offset + 46 + nameLength <= limit && matches(centralDirectory, offset + 46, nameLength, name)) {
+                    int method = centralDirectory.getShort(offset + 10) & 0xFFFF;
+                    long compressedSize = centralDirectory.getInt(offset + 20) & 0xFFFFFFFFL;
+                    long size = centralDirectory.getInt(offset + 24) & 0xFFFFFFFFL;
+                    long localHeaderOffset = centralDirectory.getInt(offset + 42) & 0xFFFFFFFFL;
+                    if (method != STORED || compressedSize != size || localHeaderOffset == 0xFFFFFFFFL) {
+                        return null;
+                    }
+                    return mapEntryData(channel, fileSize, localHeaderOffset, size);
+                }
+                offset += 46 + nameLength + extraLength + commentLength;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Map the data region of the entry
+     *
+     * @return <code>null</code> if the local header is invalid, or the data can't be mapped into a single buffer
+     */
+    private static ByteBuffer mapEntryData(FileChannel channel, long fileSize, long localHeaderOffset, long size) throws IOException {
+        ByteBuffer localHeader = read(channel, localHeaderOffset, 30);
+        if (localHeader == null || localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+            return null;
+        }
+        long dataOffset = localHeaderOffset + 30 + (localHeader.getShort(26) & 0xFFFF) + (localHeader.getShort(28) & 0xFFFF);
+        if (size > MAX_VALUE || dataOffset + size > fileSize) {
+            return null;
+        }
+        return channel.map(READ_ONLY, dataOffset, size).asReadOnlyBuffer();
+    }
+
+    /**
+     * Read the bytes at the position of the {@link FileChannel} fully
+     *
+     * @return the little-endian {@link ByteBuffer}, or <code>null</code> if the end of file is reached
+     */
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = allocate(length).order(LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    static int findEndRecordOffset(ByteBuffer buffer) {
+        int minOffset = max(0, buffer.limit() - END_RECORD_MIN_LENGTH - 0xFFFF);
+        for (int offset = buffer.limit() - END_RECORD_MIN_LENGTH; offset >= minOffset; offset--) {
+            if (buffer.getInt(offset) == END_RECORD_SIGNATURE) {
+                return offset;
+            }
+        }
+        return -1;
+    }
+
+    static boolean matches(ByteBuffer buffer, int offset, int length, byte[] name) {
+        if (length != name.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Determines whether the specified URL points to a directory entry within a JAR file.
      *
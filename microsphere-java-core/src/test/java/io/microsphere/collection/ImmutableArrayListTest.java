@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import static io.microsphere.collection.ImmutableArrayList.of;
+import static io.microsphere.collection.ImmutableArrayList.wrap;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ImmutableArrayList} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ImmutableArrayList
+ * @since 1.0.0
+ */
+class ImmutableArrayListTest {
+
+    @Test
+    void testOf() {
+        Object[] elements = {1, null, 3, 1};
+        List<Object> list = of(elements);
+        assertTrue(list instanceof RandomAccess);
+        assertEquals(4, list.size());
+        assertFalse(list.isEmpty());
+        assertEquals(1, list.get(0));
+        assertNull(list.get(1));
+        assertEquals(asList(elements), list);
+        assertEquals(list, asList(elements));
+        assertEquals(asList(elements).hashCode(), list.hashCode());
+
+        // the array is not retained
+        elements[0] = 0;
+        assertEquals(1, list.get(0));
+    }
+
+    @Test
+    void testOfOnEmpty() {
+        List<Object> list = of(new Object[0]);
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+    }
+
+    @Test
+    void testWrap() {
+        Object[] elements = {1, 2};
+        assertEquals(asList(1, 2), wrap(elements));
+    }
+
+    @Test
+    void testIndexOf() {
+        List<Object> list = of(new Object[]{1, null, 3, 1, null});
+        assertEquals(0, list.indexOf(1));
+        assertEquals(3, list.lastIndexOf(1));
+        assertEquals(1, list.indexOf(null));
+        assertEquals(4, list.lastIndexOf(null));
+        assertEquals(-1, list.indexOf(2));
+        assertEquals(-1, list.lastIndexOf(2));
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(2));
+    }
+
+    @Test
+    void testIteratorAndForEach() {
+        List<Object> list = of(new Object[]{1, 2, 3});
+        List<Object> elements = new ArrayList<>();
+        Iterator<Object> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            elements.add(iterator.next());
+        }
+        list.forEach(elements::add);
+        assertEquals(asList(1, 2, 3, 1, 2, 3), elements);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testToArray() {
+        List<Object> list = of(new Object[]{1, 2, 3});
+        Object[] array = list.toArray();
+        assertArrayEquals(new Object[]{1, 2, 3}, array);
+        array[0] = 0;
+        assertEquals(1, list.get(0));
+        assertArrayEquals(new Integer[]{1, 2, 3}, list.toArray(new Integer[0]));
+    }
+
+    @Test
+    void testSubList() {
+        List<Object> subList = of(new Object[]{1, 2, 3}).subList(1, 3);
+        assertEquals(asList(2, 3), subList);
+        assertThrows(UnsupportedOperationException.class, () -> subList.add(4));
+    }
+
+    @Test
+    void testImmutability() {
+        List<Object> list = of(new Object[]{2, 1});
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove((Object) 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.addAll(asList(3, 4)));
+        assertThrows(UnsupportedOperationException.class, () -> list.addAll(0, asList(3, 4)));
+        assertThrows(UnsupportedOperationException.class, () -> list.removeAll(asList(1)));
+        assertThrows(UnsupportedOperationException.class, () -> list.retainAll(asList(1)));
+        assertThrows(UnsupportedOperationException.class, () -> list.removeIf(e -> true));
+        assertThrows(UnsupportedOperationException.class, () -> list.replaceAll(e -> e));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(null));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import static io.microsphere.collection.ImmutableArraySet.LINEAR_SCAN_THRESHOLD;
+import static io.microsphere.collection.ImmutableArrayMap.of;
+import static io.microsphere.collection.MapUtils.ofEntry;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ImmutableArrayMap} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ImmutableArrayMap
+ * @since 1.0.0
+ */
+class ImmutableArrayMapTest {
+
+    @Test
+    void testOfOnEmpty() {
+        Map<Object, Object> map = of(new Object[0]);
+        assertTrue(map.isEmpty());
+        assertEquals(0, map.size());
+        assertNull(map.get(null));
+        assertTrue(map.entrySet().isEmpty());
+    }
+
+    @Test
+    void testOfOnOddKeyValuePairs() {
+        assertThrows(IllegalArgumentException.class, () -> of(new Object[]{"a"}));
+    }
+
+    @Test
+    void testOfOnLinearScan() {
+        assertMap(LINEAR_SCAN_THRESHOLD);
+    }
+
+    @Test
+    void testOfOnIndexTable() {
+        assertMap(LINEAR_SCAN_THRESHOLD + 1);
+        assertMap(1000);
+    }
+
+    @Test
+    void testOfOnDuplicatedKeysAndNulls() {
+        Object[] keyValuePairs = {"b", 1, null, 2, "a", null, "b", 3};
+        Map<Object, Object> map = of(keyValuePairs);
+        Map<Object, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected.put(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(asList("b", null, "a"), new ArrayList<>(map.keySet()));
+        assertEquals(asList(3, 2, null), new ArrayList<>(map.values()));
+        assertEquals(3, map.get("b"));
+        assertTrue(map.containsKey(null));
+        assertTrue(map.containsKey("a"));
+        assertTrue(map.containsValue(null));
+        assertFalse(map.containsValue(1));
+        assertNull(map.getOrDefault("a", 0));
+        assertEquals(0, map.getOrDefault("c", 0));
+    }
+
+    @Test
+    void testOfOnEntries() {
+        Entry<String, Integer>[] entries = new Entry[]{ofEntry("a", 1), ofEntry("b", 2), ofEntry("a", 3)};
+        Map<String, Integer> map = of(entries);
+        assertEquals(2, map.size());
+        assertEquals(Integer.valueOf(3), map.get("a"));
+        assertEquals(Integer.valueOf(2), map.get("b"));
+        assertEquals(asList("a", "b"), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void testEntrySet() {
+        Map<Object, Object> map = of(new Object[]{"a", 1, "b", 2});
+        assertSame(map.entrySet(), map.entrySet());
+        assertTrue(map.entrySet().contains(ofEntry("a", 1)));
+        assertFalse(map.entrySet().contains(ofEntry("a", 2)));
+        assertFalse(map.entrySet().contains(ofEntry("c", null)));
+        assertFalse(map.entrySet().contains("a"));
+        assertEquals(new LinkedHashMap<>(map).entrySet(), map.entrySet());
+        assertEquals(new LinkedHashMap<>(map).entrySet().hashCode(), map.entrySet().hashCode());
+        Entry<Object, Object> entry = map.entrySet().iterator().next();
+        assertThrows(UnsupportedOperationException.class, () -> entry.setValue(3));
+        assertThrows(UnsupportedOperationException.class, () -> map.entrySet().clear());
+        assertThrows(UnsupportedOperationException.class, () -> map.keySet().remove("a"));
+    }
+
+    @Test
+    void testForEach() {
+        List<Object> keyValues = new ArrayList<>();
+        of(new Object[]{"a", 1, "b", 2}).forEach((k, v) -> {
+            keyValues.add(k);
+            keyValues.add(v);
+        });
+        assertEquals(asList("a", 1, "b", 2), keyValues);
+    }
+
+    @Test
+    void testImmutability() {
+        Map<Object, Object> map = of(new Object[]{"a", 1});
+        assertThrows(UnsupportedOperationException.class, () -> map.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+        assertThrows(UnsupportedOperationException.class, () -> map.putAll(map));
+        assertThrows(UnsupportedOperationException.class, map::clear);
+        assertThrows(UnsupportedOperationException.class, () -> map.replaceAll((k, v) -> v));
+        assertThrows(UnsupportedOperationException.class, () -> map.putIfAbsent("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.remove("a", 1));
+        assertThrows(UnsupportedOperationException.class, () -> map.replace("a", 1, 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.replace("a", 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.computeIfAbsent("b", k -> 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.computeIfPresent("a", (k, v) -> 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.compute("a", (k, v) -> 2));
+        assertThrows(UnsupportedOperationException.class, () -> map.merge("a", 2, (v1, v2) -> v2));
+    }
+
+    private void assertMap(int size) {
+        Object[] keyValuePairs = new Object[size * 2];
+        Map<Object, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            keyValuePairs[i * 2] = "key-" + i;
+            keyValuePairs[i * 2 + 1] = i;
+            expected.put("key-" + i, i);
+        }
+        Map<Object, Object> map = of(keyValuePairs);
+        assertEquals(size, map.size());
+        assertEquals(expected, map);
+        assertEquals(map, expected);
+        assertEquals(expected.hashCode(), map.hashCode());
+        assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet()));
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, map.get("key-" + i));
+            assertTrue(map.containsKey("key-" + i));
+        }
+        assertFalse(map.containsKey("key-" + size));
+        assertNull(map.get(null));
+    }
+}
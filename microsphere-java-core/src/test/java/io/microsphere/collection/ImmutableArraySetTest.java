@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static io.microsphere.collection.ImmutableArraySet.LINEAR_SCAN_THRESHOLD;
+import static io.microsphere.collection.ImmutableArraySet.of;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ImmutableArraySet} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ImmutableArraySet
+ * @since 1.0.0
+ */
+class ImmutableArraySetTest {
+
+    @Test
+    void testOfOnEmpty() {
+        Set<Object> set = of(new Object[0]);
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.size());
+        assertFalse(set.contains(null));
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    void testOfOnLinearScan() {
+        assertSet(LINEAR_SCAN_THRESHOLD);
+    }
+
+    @Test
+    void testOfOnIndexTable() {
+        assertSet(LINEAR_SCAN_THRESHOLD + 1);
+        assertSet(1000);
+    }
+
+    @Test
+    void testOfOnDuplicatedAndNullElements() {
+        Object[] elements = {"c", null, "a", "c", null, "b"};
+        Set<Object> set = of(elements);
+        assertEquals(asList("c", null, "a", "b"), new ArrayList<>(set));
+        assertTrue(set.contains(null));
+        assertEquals(new LinkedHashSet<>(asList(elements)), set);
+        assertEquals(new LinkedHashSet<>(asList(elements)).hashCode(), set.hashCode());
+
+        // the array is not retained
+        elements[0] = "x";
+        assertTrue(set.contains("c"));
+        assertFalse(set.contains("x"));
+    }
+
+    @Test
+    void testOfOnCollidedHashCodes() {
+        // "Aa" and "BB" have the same hash code
+        Object[] elements = new Object[LINEAR_SCAN_THRESHOLD * 2];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = (i % 2 == 0 ? "Aa" : "BB") + i;
+        }
+        Set<Object> set = of(elements);
+        assertEquals(elements.length, set.size());
+        for (Object element : elements) {
+            assertTrue(set.contains(element));
+        }
+        assertFalse(set.contains("Aa1"));
+    }
+
+    @Test
+    void testIterator() {
+        Iterator<Object> iterator = of(new Object[]{1}).iterator();
+        assertEquals(1, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void testForEach() {
+        List<Object> elements = new ArrayList<>();
+        of(new Object[]{3, 1, 2}).forEach(elements::add);
+        assertEquals(asList(3, 1, 2), elements);
+    }
+
+    @Test
+    void testToArray() {
+        Set<Object> set = of(new Object[]{3, 1, 2});
+        Object[] array = set.toArray();
+        assertArrayEquals(new Object[]{3, 1, 2}, array);
+        array[0] = 0;
+        assertTrue(set.contains(3));
+        assertArrayEquals(new Integer[]{3, 1, 2}, set.toArray(new Integer[0]));
+    }
+
+    @Test
+    void testImmutability() {
+        Set<Object> set = of(new Object[]{1, 2});
+        assertThrows(UnsupportedOperationException.class, () -> set.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove(1));
+        assertThrows(UnsupportedOperationException.class, () -> set.addAll(asList(3, 4)));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(asList(1)));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(asList(1)));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(e -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+    }
+
+    private void assertSet(int size) {
+        Object[] elements = new Object[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        Set<Object> set = of(elements);
+        Set<Object> expected = new LinkedHashSet<>(asList(elements));
+        assertEquals(size, set.size());
+        assertEquals(expected, set);
+        assertEquals(set, expected);
+        assertEquals(expected.hashCode(), set.hashCode());
+        assertEquals(new ArrayList<>(expected), new ArrayList<>(set));
+        for (Object element : elements) {
+            assertTrue(set.contains(element));
+        }
+        assertFalse(set.contains(-1));
+        assertFalse(set.contains(null));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Set;
+
+import static io.microsphere.collection.SetUtils.newHashSet;
+import static io.microsphere.collection.SetUtils.ofSet;
+import static java.util.Arrays.sort;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IntHashSet} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntHashSet
+ * @since 1.0.0
+ */
+class IntHashSetTest {
+
+    @Test
+    void testAddAndContains() {
+        IntHashSet set = new IntHashSet();
+        assertTrue(set.isEmpty());
+        assertTrue(set.add(1));
+        assertFalse(set.add(1));
+        assertTrue(set.add(0));
+        assertFalse(set.add(0));
+        assertTrue(set.add(-1));
+        assertEquals(3, set.size());
+        assertTrue(set.contains(0));
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(-1));
+        assertFalse(set.contains(2));
+        assertTrue(set.addAll(2, 3));
+        assertFalse(set.addAll(2, 3));
+        assertThrows(IllegalArgumentException.class, () -> new IntHashSet(-1));
+    }
+
+    @Test
+    void testRemove() {
+        IntHashSet set = new IntHashSet();
+        set.addAll(0, 1, 2);
+        assertTrue(set.remove(0));
+        assertFalse(set.remove(0));
+        assertTrue(set.remove(1));
+        assertFalse(set.remove(1));
+        assertEquals(1, set.size());
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.contains(2));
+        set.clear();
+    }
+
+    @Test
+    void testResize() {
+        IntHashSet set = new IntHashSet(0);
+        int capacity = set.capacity();
+        for (int i = 0; i < 10000; i++) {
+            set.add(i * 31);
+        }
+        assertTrue(set.capacity() > capacity);
+        assertEquals(10000, set.size());
+        for (int i = 0; i < 10000; i++) {
+            assertTrue(set.contains(i * 31));
+        }
+    }
+
+    @Test
+    void testAgainstHashSet() {
+        Random random = new Random(20241018L);
+        IntHashSet set = new IntHashSet(4);
+        Set<Integer> expected = newHashSet();
+        for (int i = 0; i < 100000; i++) {
+            // the narrow range causes the collisions and the removals within the probe chains
+            int value = random.nextInt(512) - 256;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(value), set.add(value));
+            } else {
+                assertEquals(expected.remove(value), set.remove(value));
+            }
+            assertEquals(expected.size(), set.size());
+        }
+        for (int value = -256; value < 256; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    void testIteration() {
+        IntHashSet set = new IntHashSet();
+        set.addAll(3, 0, 1, 2);
+
+        Set<Integer> values = newHashSet();
+        set.forEach(values::add);
+        assertEquals(ofSet(0, 1, 2, 3), values);
+
+        values.clear();
+        PrimitiveIterator.OfInt iterator = set.iterator();
+        while (iterator.hasNext()) {
+            values.add(iterator.nextInt());
+        }
+        assertEquals(ofSet(0, 1, 2, 3), values);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+
+        int[] array = set.toArray();
+        sort(array);
+        assertArrayEquals(new int[]{0, 1, 2, 3}, array);
+
+        assertFalse(new IntHashSet().iterator().hasNext());
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntHashSet set = new IntHashSet();
+        set.addAll(0, 1, 2);
+        IntHashSet other = new IntHashSet(1024);
+        other.addAll(2, 1, 0);
+        assertEquals(set, set);
+        assertEquals(set, other);
+        assertEquals(set.hashCode(), other.hashCode());
+        assertEquals(ofSet(0, 1, 2).hashCode(), set.hashCode());
+
+        other.remove(0);
+        other.add(3);
+        assertNotEquals(set, other);
+        other.remove(3);
+        assertNotEquals(set, other);
+        other.add(0);
+        other.remove(2);
+        other.add(4);
+        assertNotEquals(set, other);
+        assertNotEquals(set, "[0, 1, 2]");
+
+        assertEquals("[]", new IntHashSet().toString());
+        IntHashSet single = new IntHashSet();
+        single.add(0);
+        single.add(1);
+        assertEquals("[1, 0]", single.toString());
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IntList} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntList
+ * @since 1.0.0
+ */
+class IntListTest {
+
+    @Test
+    void testAddAndGet() {
+        IntList list = new IntList(0);
+        assertTrue(list.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        assertEquals(100, list.size());
+        assertFalse(list.isEmpty());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, list.get(i));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(100));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+    }
+
+    @Test
+    void testAddAtIndex() {
+        IntList list = new IntList();
+        list.addAll(1, 3);
+        list.add(1, 2);
+        list.add(0, 0);
+        list.add(4, 4);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, list.toArray());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(6, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(-1, 6));
+    }
+
+    @Test
+    void testSetAndRemove() {
+        IntList list = new IntList();
+        list.addAll(1, 2, 3, 2);
+        list.addAll();
+        assertEquals(2, list.set(1, 5));
+        assertEquals(1, list.removeAt(0));
+        assertArrayEquals(new int[]{5, 3, 2}, list.toArray());
+        assertTrue(list.removeValue(2));
+        assertFalse(list.removeValue(2));
+        assertEquals(0, list.indexOf(5));
+        assertEquals(-1, list.indexOf(2));
+        assertTrue(list.contains(3));
+        assertFalse(list.contains(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+    }
+
+    @Test
+    void testCapacity() {
+        IntList list = new IntList(1);
+        list.ensureCapacity(100);
+        list.addAll(3, 1, 2);
+        list.trimToSize();
+        list.sort();
+        assertArrayEquals(new int[]{1, 2, 3}, list.toArray());
+        list.clear();
+        assertTrue(list.isEmpty());
+        list.trimToSize();
+        list.add(1);
+        assertEquals(1, list.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new IntList(-1));
+    }
+
+    @Test
+    void testIteration() {
+        IntList list = new IntList();
+        list.addAll(1, 2, 3);
+
+        List<Integer> values = newArrayList();
+        list.forEach(values::add);
+        assertEquals(newArrayList(asList(1, 2, 3)), values);
+
+        PrimitiveIterator.OfInt iterator = list.iterator();
+        int sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+        assertEquals(6, sum);
+        assertThrows(NoSuchElementException.class, iterator::nextInt);
+        assertEquals(6, list.stream().sum());
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntList list = new IntList();
+        list.addAll(1, 2, 3);
+        IntList other = new IntList(3);
+        other.addAll(1, 2, 3);
+        assertEquals(list, list);
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+        assertEquals(asList(1, 2, 3).hashCode(), list.hashCode());
+        assertEquals("[1, 2, 3]", list.toString());
+        assertEquals("[]", new IntList().toString());
+
+        other.set(2, 4);
+        assertNotEquals(list, other);
+        other.removeAt(2);
+        assertNotEquals(list, other);
+        assertNotEquals(list, "[1, 2, 3]");
+    }
+}
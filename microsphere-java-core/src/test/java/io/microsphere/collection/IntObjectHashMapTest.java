@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.of;
+import static io.microsphere.collection.SetUtils.newHashSet;
+import static io.microsphere.collection.SetUtils.ofSet;
+import static java.util.Arrays.sort;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IntObjectHashMap} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntObjectHashMap
+ * @since 1.0.0
+ */
+class IntObjectHashMapTest {
+
+    @Test
+    void testPutAndGet() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(0, "zero"));
+        assertNull(map.put(1, "one"));
+        assertEquals("one", map.put(1, "uno"));
+        assertEquals(2, map.size());
+        assertEquals("zero", map.get(0));
+        assertEquals("uno", map.get(1));
+        assertNull(map.get(2));
+        assertEquals("none", map.getOrDefault(2, "none"));
+        assertEquals("zero", map.getOrDefault(0, "none"));
+        assertTrue(map.containsKey(0));
+        assertFalse(map.containsKey(2));
+        assertThrows(IllegalArgumentException.class, () -> map.put(2, null));
+        assertThrows(IllegalArgumentException.class, () -> new IntObjectHashMap<>(-1));
+    }
+
+    @Test
+    void testComputeIfAbsent() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        assertEquals("1", map.computeIfAbsent(1, String::valueOf));
+        String value = map.get(1);
+        assertSame(value, map.computeIfAbsent(1, key -> "other"));
+        assertNull(map.computeIfAbsent(2, key -> null));
+        assertFalse(map.containsKey(2));
+    }
+
+    @Test
+    void testRemove() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        map.put(1, "one");
+        map.put(2, "two");
+        assertEquals("one", map.remove(1));
+        assertNull(map.remove(1));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(2));
+        map.clear();
+    }
+
+    @Test
+    void testResize() {
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>(0);
+        int capacity = map.capacity();
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, i);
+        }
+        assertTrue(map.capacity() > capacity);
+        assertEquals(10000, map.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+    }
+
+    @Test
+    void testAgainstHashMap() {
+        Random random = new Random(20241018L);
+        IntObjectHashMap<Integer> map = new IntObjectHashMap<>(4);
+        Map<Integer, Integer> expected = newHashMap();
+        for (int i = 0; i < 100000; i++) {
+            int key = random.nextInt(512) - 256;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = -256; key < 256; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void testIteration() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        map.put(1, "one");
+        map.put(2, "two");
+
+        Map<Integer, String> values = newHashMap();
+        map.forEach(values::put);
+        assertEquals(of(1, "one", 2, "two"), values);
+
+        int[] keys = map.keys();
+        sort(keys);
+        assertArrayEquals(new int[]{1, 2}, keys);
+        assertEquals(ofSet("one", "two"), newHashSet(map.values()));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        map.put(1, "one");
+        map.put(2, "two");
+        IntObjectHashMap<String> other = new IntObjectHashMap<>(1024);
+        other.put(2, "two");
+        other.put(1, "one");
+        assertEquals(map, map);
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        assertEquals(of(1, "one", 2, "two").hashCode(), map.hashCode());
+
+        other.put(2, "dos");
+        assertNotEquals(map, other);
+        other.remove(2);
+        assertNotEquals(map, other);
+        assertNotEquals(map, "{1=one, 2=two}");
+
+        assertEquals("{}", new IntObjectHashMap<>().toString());
+        other.put(2, "two");
+        assertEquals(2, other.toString().split(", ").length);
+    }
+}
@@ -24,11 +24,15 @@ import static io.microsphere.collection.ListUtils.isList;
 import static io.microsphere.collection.ListUtils.last;
 import static io.microsphere.collection.ListUtils.newArrayList;
 import static io.microsphere.collection.ListUtils.newCopyOnWriteArrayList;
+import static io.microsphere.collection.ListUtils.newIntList;
 import static io.microsphere.collection.ListUtils.newLinkedList;
+import static io.microsphere.collection.ListUtils.newLongList;
 import static io.microsphere.collection.ListUtils.of;
 import static io.microsphere.collection.ListUtils.ofArrayList;
+import static io.microsphere.collection.ListUtils.ofIntList;
 import static io.microsphere.collection.ListUtils.ofLinkedList;
 import static io.microsphere.collection.ListUtils.ofList;
+import static io.microsphere.collection.ListUtils.ofLongList;
 import static io.microsphere.lang.MutableInteger.of;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyEnumeration;
@@ -264,4 +268,20 @@ class ListUtilsTest implements Loggable {
         assertTrue(list.contains("b"));
         assertTrue(list.contains("c"));
     }
+
+    @Test
+    void testNewIntList() {
+        assertTrue(newIntList().isEmpty());
+        assertTrue(newIntList(1024).isEmpty());
+        assertEquals("[1, 2, 3]", ofIntList(1, 2, 3).toString());
+        assertTrue(ofIntList().isEmpty());
+    }
+
+    @Test
+    void testNewLongList() {
+        assertTrue(newLongList().isEmpty());
+        assertTrue(newLongList(1024).isEmpty());
+        assertEquals("[1, 2, 3]", ofLongList(1L, 2L, 3L).toString());
+        assertTrue(ofLongList().isEmpty());
+    }
 }
@@ -2,27 +2,16 @@ package io.microsphere.collection;
 
 import org.junit.jupiter.api.Test;
 
-import java.lang.invoke.MethodHandle;
+import java.util.List;
 
 import static io.microsphere.AbstractTestCase.TEST_NULL_OBJECT_ARRAY;
 import static io.microsphere.collection.ListUtils.of;
 import static io.microsphere.collection.Lists.ofList;
-import static io.microsphere.collection.Lists.ofList0;
-import static io.microsphere.collection.Lists.ofList1;
-import static io.microsphere.collection.Lists.ofList10;
-import static io.microsphere.collection.Lists.ofList2;
-import static io.microsphere.collection.Lists.ofList3;
-import static io.microsphere.collection.Lists.ofList4;
-import static io.microsphere.collection.Lists.ofList5;
-import static io.microsphere.collection.Lists.ofList6;
-import static io.microsphere.collection.Lists.ofList7;
-import static io.microsphere.collection.Lists.ofList8;
-import static io.microsphere.collection.Lists.ofList9;
-import static io.microsphere.collection.Lists.ofListElements;
-import static io.microsphere.invoke.MethodHandlesLookupUtils.findPublicStatic;
+import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
-import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -104,136 +93,25 @@ class ListsTest {
     }
 
     @Test
-    void testOfList0WithNull() {
-        assertEquals(emptyList(), ofList0(null));
+    void testOfListOnCompactImplementation() {
+        assertSame(ImmutableArrayList.class, ofList(1, 2).getClass());
+        assertSame(ImmutableArrayList.class, ofList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10).getClass());
+        assertSame(ImmutableArrayList.class, ofList(new Integer[]{1, 2, 3}).getClass());
     }
 
     @Test
-    void testOfList0WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(emptyList(), ofList0(wrongMethodHandle));
+    void testOfListOnNullElements() {
+        List<Integer> list = ofList(1, null, 3);
+        assertEquals(3, list.size());
+        assertNull(list.get(1));
+        assertEquals(asList(1, null, 3), list);
     }
 
     @Test
-    void testOfList1WithNull() {
-        assertEquals(singletonList(1), ofList1(null, 1));
-    }
-
-    @Test
-    void testOfList1WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(singletonList(1), ofList1(wrongMethodHandle, 1));
-    }
-
-    @Test
-    void testOfList2WithNull() {
-        assertEquals(of(1, 2), ofList2(null, 1, 2));
-    }
-
-    @Test
-    void testOfList2WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2), ofList2(wrongMethodHandle, 1, 2));
-    }
-
-    @Test
-    void testOfList3WithNull() {
-        assertEquals(of(1, 2, 3), ofList3(null, 1, 2, 3));
-    }
-
-    @Test
-    void testOfList3WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3), ofList3(wrongMethodHandle, 1, 2, 3));
-    }
-
-    @Test
-    void testOfList4WithNull() {
-        assertEquals(of(1, 2, 3, 4), ofList4(null, 1, 2, 3, 4));
-    }
-
-    @Test
-    void testOfList4WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4), ofList4(wrongMethodHandle, 1, 2, 3, 4));
-    }
-
-    @Test
-    void testOfList5WithNull() {
-        assertEquals(of(1, 2, 3, 4, 5), ofList5(null, 1, 2, 3, 4, 5));
-    }
-
-    @Test
-    void testOfList5WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4, 5), ofList5(wrongMethodHandle, 1, 2, 3, 4, 5));
-    }
-
-    @Test
-    void testOfList6WithNull() {
-        assertEquals(of(1, 2, 3, 4, 5, 6), ofList6(null, 1, 2, 3, 4, 5, 6));
-    }
-
-    @Test
-    void testOfList6WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4, 5, 6), ofList6(wrongMethodHandle, 1, 2, 3, 4, 5, 6));
-    }
-
-    @Test
-    void testOfList7WithNull() {
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7), ofList7(null, 1, 2, 3, 4, 5, 6, 7));
-    }
-
-    @Test
-    void testOfList7WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7), ofList7(wrongMethodHandle, 1, 2, 3, 4, 5, 6, 7));
-    }
-
-    @Test
-    void testOfList8WithNull() {
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7, 8), ofList8(null, 1, 2, 3, 4, 5, 6, 7, 8));
-    }
-
-    @Test
-    void testOfList8WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7, 8), ofList8(wrongMethodHandle, 1, 2, 3, 4, 5, 6, 7, 8));
-    }
-
-    @Test
-    void testOfList9WithNull() {
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7, 8, 9), ofList9(null, 1, 2, 3, 4, 5, 6, 7, 8, 9));
-    }
-
-    @Test
-    void testOfList9WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7, 8, 9), ofList9(wrongMethodHandle, 1, 2, 3, 4, 5, 6, 7, 8, 9));
-    }
-
-    @Test
-    void testOfList10WithNull() {
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), ofList10(null, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
-    }
-
-    @Test
-    void testOfList10WithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
-        assertEquals(of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), ofList10(wrongMethodHandle, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
-    }
-
-    @Test
-    void testOfListElementsWithNull() {
-        Integer[] elements = {1, 2, 3};
-        assertEquals(of(elements), ofListElements(null, elements));
-    }
-
-    @Test
-    void testOfListElementsWithWrongMethodHandle() {
-        MethodHandle wrongMethodHandle = findPublicStatic(java.util.Collections.class, "emptyList");
+    void testOfListOnElementsCopied() {
         Integer[] elements = {1, 2, 3};
-        assertEquals(of(elements), ofListElements(wrongMethodHandle, elements));
+        List<Integer> list = ofList(elements);
+        elements[0] = 0;
+        assertEquals(asList(1, 2, 3), list);
     }
 }
@@ -43,7 +43,10 @@ import static io.microsphere.collection.MapUtils.newConcurrentHashMap;
 import static io.microsphere.collection.MapUtils.newConcurrentSkipListMap;
 import static io.microsphere.collection.MapUtils.newHashMap;
 import static io.microsphere.collection.MapUtils.newIdentityHashMap;
+import static io.microsphere.collection.MapUtils.newIntObjectHashMap;
 import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.collection.MapUtils.newLongObjectHashMap;
+import static io.microsphere.collection.MapUtils.newObjectIntHashMap;
 import static io.microsphere.collection.MapUtils.newTreeMap;
 import static io.microsphere.collection.MapUtils.newWeakHashMap;
 import static io.microsphere.collection.MapUtils.of;
@@ -528,4 +531,28 @@ class MapUtilsTest {
         assertEquals(2, map.get("b"));
         assertEquals(3, map.get("c"));
     }
+
+    @Test
+    void testNewIntObjectHashMap() {
+        assertTrue(newIntObjectHashMap().isEmpty());
+        IntObjectHashMap<String> map = newIntObjectHashMap(1024);
+        map.put(1, "one");
+        assertEquals("one", map.get(1));
+    }
+
+    @Test
+    void testNewLongObjectHashMap() {
+        assertTrue(newLongObjectHashMap().isEmpty());
+        LongObjectHashMap<String> map = newLongObjectHashMap(1024);
+        map.put(1L, "one");
+        assertEquals("one", map.get(1L));
+    }
+
+    @Test
+    void testNewObjectIntHashMap() {
+        assertTrue(newObjectIntHashMap().isEmpty());
+        ObjectIntHashMap<String> map = newObjectIntHashMap(1024);
+        map.put("one", 1);
+        assertEquals(1, map.get("one"));
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.collection.MapUtils.of;
+import static io.microsphere.collection.ObjectIntHashMap.DEFAULT_MISSING_VALUE;
+import static io.microsphere.collection.SetUtils.newHashSet;
+import static io.microsphere.collection.SetUtils.ofSet;
+import static java.util.Arrays.sort;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ObjectIntHashMap} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ObjectIntHashMap
+ * @since 1.0.0
+ */
+class ObjectIntHashMapTest {
+
+    @Test
+    void testPutAndGet() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        assertTrue(map.isEmpty());
+        assertEquals(DEFAULT_MISSING_VALUE, map.getMissingValue());
+        assertEquals(0, map.put("a", 1));
+        assertEquals(1, map.put("a", 2));
+        assertEquals(0, map.put("b", 0));
+        assertEquals(2, map.size());
+        assertEquals(2, map.get("a"));
+        assertEquals(0, map.get("c"));
+        assertEquals(-1, map.getOrDefault("c", -1));
+        assertEquals(0, map.getOrDefault("b", -1));
+        assertTrue(map.containsKey("b"));
+        assertFalse(map.containsKey("c"));
+        assertFalse(map.containsKey(null));
+        assertEquals(0, map.get(null));
+        assertThrows(IllegalArgumentException.class, () -> map.put(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ObjectIntHashMap<>(-1));
+    }
+
+    @Test
+    void testMissingValue() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>(8, -1);
+        assertEquals(-1, map.getMissingValue());
+        assertEquals(-1, map.get("a"));
+        assertEquals(-1, map.put("a", 1));
+        assertEquals(-1, map.remove("b"));
+        assertEquals(1, map.addTo("b", 2));
+    }
+
+    @Test
+    void testAddTo() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        assertEquals(1, map.addTo("a", 1));
+        assertEquals(3, map.addTo("a", 2));
+        assertEquals(3, map.get("a"));
+        assertThrows(IllegalArgumentException.class, () -> map.addTo(null, 1));
+    }
+
+    @Test
+    void testRemove() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        assertEquals(1, map.remove("a"));
+        assertEquals(0, map.remove("a"));
+        assertEquals(0, map.remove(null));
+        assertEquals(1, map.size());
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertFalse(map.containsKey("b"));
+        map.clear();
+    }
+
+    @Test
+    void testResize() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>(0);
+        int capacity = map.capacity();
+        for (int i = 0; i < 10000; i++) {
+            map.put(String.valueOf(i), i);
+        }
+        assertTrue(map.capacity() > capacity);
+        assertEquals(10000, map.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, map.get(String.valueOf(i)));
+        }
+    }
+
+    @Test
+    void testAgainstHashMap() {
+        Random random = new Random(20241018L);
+        ObjectIntHashMap<Integer> map = new ObjectIntHashMap<>(4);
+        Map<Integer, Integer> expected = newHashMap();
+        for (int i = 0; i < 100000; i++) {
+            Integer key = random.nextInt(512) - 256;
+            if (random.nextBoolean()) {
+                Integer previous = expected.put(key, i);
+                assertEquals(previous == null ? 0 : previous, map.put(key, i));
+            } else {
+                Integer previous = expected.remove(key);
+                assertEquals(previous == null ? 0 : previous, map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (int key = -256; key < 256; key++) {
+            assertEquals(expected.containsKey(key), map.containsKey(key));
+            assertEquals((int) expected.getOrDefault(key, -1), map.getOrDefault(key, -1));
+        }
+    }
+
+    @Test
+    void testIteration() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+
+        Map<String, Integer> values = newHashMap();
+        map.forEach(values::put);
+        assertEquals(of("one", 1, "two", 2), values);
+
+        int[] array = map.values();
+        sort(array);
+        assertArrayEquals(new int[]{1, 2}, array);
+        assertEquals(ofSet("one", "two"), newHashSet(map.keys()));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        map.put("one", 1);
+        map.put("two", 2);
+        ObjectIntHashMap<String> other = new ObjectIntHashMap<>(1024);
+        other.put("two", 2);
+        other.put("one", 1);
+        assertEquals(map, map);
+        assertEquals(map, other);
+        assertEquals(map.hashCode(), other.hashCode());
+        assertEquals(of("one", 1, "two", 2).hashCode(), map.hashCode());
+
+        other.put("two", 3);
+        assertNotEquals(map, other);
+        other.remove("two");
+        assertNotEquals(map, other);
+        other.put("three", 2);
+        assertNotEquals(map, other);
+        assertNotEquals(map, "{one=1, two=2}");
+
+        assertEquals("{}", new ObjectIntHashMap<>().toString());
+        assertEquals(2, map.toString().split(", ").length);
+    }
+}
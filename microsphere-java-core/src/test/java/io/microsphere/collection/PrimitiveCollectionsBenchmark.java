@@ -0,0 +1,330 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The primitive-specialized collections Benchmark versus the boxed JDK collections
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
+ * @see IntList
+ * @see IntHashSet
+ * @see LongHashSet
+ * @see IntObjectHashMap
+ * @see LongObjectHashMap
+ * @see ObjectIntHashMap
+ * @since 1.0.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+public class PrimitiveCollectionsBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private int[] ints;
+
+    private long[] longs;
+
+    private String[] strings;
+
+    private IntList intList;
+
+    private List<Integer> boxedIntList;
+
+    private IntHashSet intHashSet;
+
+    private Set<Integer> boxedIntSet;
+
+    private LongHashSet longHashSet;
+
+    private Set<Long> boxedLongSet;
+
+    private IntObjectHashMap<String> intObjectHashMap;
+
+    private Map<Integer, String> boxedIntObjectMap;
+
+    private LongObjectHashMap<String> longObjectHashMap;
+
+    private Map<Long, String> boxedLongObjectMap;
+
+    private ObjectIntHashMap<String> objectIntHashMap;
+
+    private Map<String, Integer> boxedObjectIntMap;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(size);
+        ints = new int[size];
+        longs = new long[size];
+        strings = new String[size];
+        intList = new IntList(size);
+        boxedIntList = new ArrayList<>(size);
+        intHashSet = new IntHashSet(size);
+        boxedIntSet = new HashSet<>(size);
+        longHashSet = new LongHashSet(size);
+        boxedLongSet = new HashSet<>(size);
+        intObjectHashMap = new IntObjectHashMap<>(size);
+        boxedIntObjectMap = new HashMap<>(size);
+        longObjectHashMap = new LongObjectHashMap<>(size);
+        boxedLongObjectMap = new HashMap<>(size);
+        objectIntHashMap = new ObjectIntHashMap<>(size);
+        boxedObjectIntMap = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            int intValue = random.nextInt();
+            long longValue = random.nextLong();
+            String string = String.valueOf(intValue);
+            ints[i] = intValue;
+            longs[i] = longValue;
+            strings[i] = string;
+            intList.add(intValue);
+            boxedIntList.add(intValue);
+            intHashSet.add(intValue);
+            boxedIntSet.add(intValue);
+            longHashSet.add(longValue);
+            boxedLongSet.add(longValue);
+            intObjectHashMap.put(intValue, string);
+            boxedIntObjectMap.put(intValue, string);
+            longObjectHashMap.put(longValue, string);
+            boxedLongObjectMap.put(longValue, string);
+            objectIntHashMap.put(string, intValue);
+            boxedObjectIntMap.put(string, intValue);
+        }
+    }
+
+    @Benchmark
+    public IntList testIntListAdd() {
+        IntList list = new IntList();
+        for (int value : ints) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Integer> testBoxedIntListAdd() {
+        List<Integer> list = new ArrayList<>();
+        for (int value : ints) {
+            list.add(value);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public long testIntListSum() {
+        long sum = 0;
+        for (int i = 0, size = intList.size(); i < size; i++) {
+            sum += intList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long testBoxedIntListSum() {
+        long sum = 0;
+        for (int i = 0, size = boxedIntList.size(); i < size; i++) {
+            sum += boxedIntList.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public IntHashSet testIntHashSetAdd() {
+        IntHashSet set = new IntHashSet();
+        for (int value : ints) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public Set<Integer> testBoxedIntSetAdd() {
+        Set<Integer> set = new HashSet<>();
+        for (int value : ints) {
+            set.add(value);
+        }
+        return set;
+    }
+
+    @Benchmark
+    public int testIntHashSetContains() {
+        int count = 0;
+        for (int value : ints) {
+            if (intHashSet.contains(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testBoxedIntSetContains() {
+        int count = 0;
+        for (int value : ints) {
+            if (boxedIntSet.contains(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testLongHashSetContains() {
+        int count = 0;
+        for (long value : longs) {
+            if (longHashSet.contains(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testBoxedLongSetContains() {
+        int count = 0;
+        for (long value : longs) {
+            if (boxedLongSet.contains(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public IntObjectHashMap<String> testIntObjectHashMapPut() {
+        IntObjectHashMap<String> map = new IntObjectHashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(ints[i], strings[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Integer, String> testBoxedIntObjectMapPut() {
+        Map<Integer, String> map = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            map.put(ints[i], strings[i]);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int testIntObjectHashMapGet() {
+        int count = 0;
+        for (int value : ints) {
+            if (intObjectHashMap.get(value) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testBoxedIntObjectMapGet() {
+        int count = 0;
+        for (int value : ints) {
+            if (boxedIntObjectMap.get(value) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testLongObjectHashMapGet() {
+        int count = 0;
+        for (long value : longs) {
+            if (longObjectHashMap.get(value) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testBoxedLongObjectMapGet() {
+        int count = 0;
+        for (long value : longs) {
+            if (boxedLongObjectMap.get(value) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long testObjectIntHashMapGet() {
+        long sum = 0;
+        for (String string : strings) {
+            sum += objectIntHashMap.get(string);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long testBoxedObjectIntMapGet() {
+        long sum = 0;
+        for (String string : strings) {
+            sum += boxedObjectIntMap.get(string);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public ObjectIntHashMap<String> testObjectIntHashMapAddTo() {
+        ObjectIntHashMap<String> map = new ObjectIntHashMap<>();
+        for (String string : strings) {
+            map.addTo(string, 1);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<String, Integer> testBoxedObjectIntMapMerge() {
+        Map<String, Integer> map = new HashMap<>();
+        for (String string : strings) {
+            map.merge(string, 1, Integer::sum);
+        }
+        return map;
+    }
+}
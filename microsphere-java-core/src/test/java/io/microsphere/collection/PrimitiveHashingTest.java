@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.collection;
+
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.collection.PrimitiveHashing.LOAD_FACTOR;
+import static io.microsphere.collection.PrimitiveHashing.MAX_CAPACITY;
+import static io.microsphere.collection.PrimitiveHashing.MIN_CAPACITY;
+import static io.microsphere.collection.PrimitiveHashing.tableCapacity;
+import static io.microsphere.collection.PrimitiveHashing.mix;
+import static io.microsphere.collection.PrimitiveHashing.resizeThreshold;
+import static io.microsphere.collection.PrimitiveHashing.shouldShift;
+import static java.lang.Integer.MAX_VALUE;
+import static java.lang.Integer.bitCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link PrimitiveHashing} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see PrimitiveHashing
+ * @since 1.0.0
+ */
+class PrimitiveHashingTest {
+
+    @Test
+    void testTableCapacity() {
+        assertEquals(MIN_CAPACITY, tableCapacity(0));
+        assertEquals(MIN_CAPACITY, tableCapacity(1));
+        assertEquals(MAX_CAPACITY, tableCapacity(MAX_VALUE));
+        for (int expectedSize = 0; expectedSize < 10000; expectedSize += 7) {
+            int capacity = tableCapacity(expectedSize);
+            assertEquals(1, bitCount(capacity));
+            assertTrue(resizeThreshold(capacity) >= expectedSize);
+        }
+        assertThrows(IllegalArgumentException.class, () -> tableCapacity(-1));
+    }
+
+    @Test
+    void testResizeThreshold() {
+        assertEquals((int) (16 * LOAD_FACTOR), resizeThreshold(16));
+        assertEquals(MAX_CAPACITY - 1, resizeThreshold(MAX_CAPACITY));
+    }
+
+    @Test
+    void testMix() {
+        assertNotEquals(mix(1) & 15, mix(2) & 15);
+        assertEquals(mix(1), mix(1));
+        assertEquals(mix(1L), mix(1L));
+        assertNotEquals(mix(1L), mix(1L << 32));
+    }
+
+    @Test
+    void testShouldShift() {
+        // no wrapping : the deleted slot 2 lies between the home slot and the current index
+        assertTrue(shouldShift(2, 4, 1));
+        assertTrue(shouldShift(2, 4, 2));
+        assertFalse(shouldShift(2, 4, 3));
+        assertFalse(shouldShift(2, 4, 4));
+        assertTrue(shouldShift(2, 4, 6));
+        // wrapping : the current index 1 wraps around the deleted slot 6
+        assertTrue(shouldShift(6, 1, 5));
+        assertTrue(shouldShift(6, 1, 6));
+        assertFalse(shouldShift(6, 1, 7));
+        assertFalse(shouldShift(6, 1, 0));
+        assertFalse(shouldShift(6, 1, 1));
+    }
+}
@@ -24,9 +24,13 @@ import static io.microsphere.collection.SetUtils.newCopyOnWriteArraySet;
 import static io.microsphere.collection.SetUtils.newFixedHashSet;
 import static io.microsphere.collection.SetUtils.newFixedLinkedHashSet;
 import static io.microsphere.collection.SetUtils.newHashSet;
+import static io.microsphere.collection.SetUtils.newIntHashSet;
 import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.collection.SetUtils.newLongHashSet;
 import static io.microsphere.collection.SetUtils.newTreeSet;
 import static io.microsphere.collection.SetUtils.of;
+import static io.microsphere.collection.SetUtils.ofIntHashSet;
+import static io.microsphere.collection.SetUtils.ofLongHashSet;
 import static io.microsphere.collection.SetUtils.ofSet;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyEnumeration;
@@ -287,4 +291,24 @@ class SetUtilsTest {
         assertTrue(set.contains("c"));
         assertFalse(set.contains("d"));
     }
+
+    @Test
+    void testNewIntHashSet() {
+        assertTrue(newIntHashSet().isEmpty());
+        assertTrue(newIntHashSet(1024).isEmpty());
+        IntHashSet set = ofIntHashSet(1, 2, 2);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1));
+        assertTrue(set.contains(2));
+    }
+
+    @Test
+    void testNewLongHashSet() {
+        assertTrue(newLongHashSet().isEmpty());
+        assertTrue(newLongHashSet(1024).isEmpty());
+        LongHashSet set = ofLongHashSet(1L, 2L, 2L);
+        assertEquals(2, set.size());
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(2L));
+    }
 }
@@ -7,19 +7,30 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.PriorityBlockingQueue;
 
 import static io.microsphere.concurrent.CustomizedThreadFactory.newThreadFactory;
+import static io.microsphere.collection.ListUtils.ofList;
 import static io.microsphere.concurrent.ExecutorUtils.shutdown;
+import static io.microsphere.concurrent.ExecutorUtils.shutdownAll;
 import static io.microsphere.concurrent.ExecutorUtils.shutdownOnExit;
 import static io.microsphere.reflect.FieldUtils.getStaticFieldValue;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.lang.Thread.interrupted;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -87,4 +98,80 @@ class ExecutorUtilsTest extends LoggingTest implements Loggable {
     void testShutdownForExecutorServiceOnNull() {
         assertFalse(shutdown(null));
     }
+
+    @Test
+    void testShutdownAll() {
+        ExecutorService other = newSingleThreadExecutor(newThreadFactory("ExecutorUtilsTest-other-", true));
+        Executor nonServiceExecutor = Runnable::run;
+        ExecutorShutdownReport report = shutdownAll(1, SECONDS, this.executorService, other, this.executorService,
+                nonServiceExecutor, null);
+        assertTrue(report.isTerminated());
+        assertEquals(ofList(this.executorService, other), report.getTerminated());
+        assertTrue(report.getStragglers().isEmpty());
+        assertEquals(0, report.getAbandonedTaskCount());
+        assertEquals(0, report.getAbandonedTaskCount(this.executorService));
+        assertTrue(this.executorService.isTerminated());
+        assertTrue(other.isTerminated());
+        assertNotNull(report.toString());
+    }
+
+    @Test
+    void testShutdownAllWithStragglers() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService straggler = newSingleThreadExecutor(newThreadFactory("ExecutorUtilsTest-straggler-", true));
+        straggler.execute(() -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                log("Interrupted");
+            }
+        });
+        straggler.execute(() -> log("Abandoned-1"));
+        straggler.execute(() -> log("Abandoned-2"));
+        blocked.await();
+
+        long startTime = nanoTime();
+        ExecutorShutdownReport report = shutdownAll(ofList(this.executorService, straggler), 50, MILLISECONDS);
+        long elapsedMillis = NANOSECONDS.toMillis(nanoTime() - startTime);
+
+        assertFalse(report.isTerminated());
+        assertEquals(ofList(this.executorService), report.getTerminated());
+        assertTrue(report.getStragglers().contains(straggler));
+        assertEquals(2, report.getAbandonedTaskCount(straggler));
+        assertEquals(2, report.getAbandonedTaskCount());
+        assertTrue(elapsedMillis < 1000);
+        assertTrue(straggler.awaitTermination(1, SECONDS));
+    }
+
+    @Test
+    void testShutdownAllOnInterrupted() {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService straggler = newSingleThreadExecutor(newThreadFactory("ExecutorUtilsTest-straggler-", true));
+        straggler.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                log("Interrupted");
+            }
+        });
+        currentThread().interrupt();
+        ExecutorShutdownReport report = shutdownAll(10, SECONDS, straggler);
+        assertTrue(interrupted());
+        assertFalse(report.isTerminated());
+        assertTrue(report.getStragglers().contains(straggler));
+    }
+
+    @Test
+    void testShutdownAllOnEmpty() {
+        assertTrue(shutdownAll(1, SECONDS).isTerminated());
+        assertTrue(shutdownAll(1, SECONDS, (Executor[]) null).isTerminated());
+        assertTrue(shutdownAll((Collection<Executor>) null, 1, SECONDS).isTerminated());
+    }
+
+    @Test
+    void testShutdownAllOnNullUnit() {
+        assertThrows(IllegalArgumentException.class, () -> shutdownAll(1, null, this.executorService));
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link MpscArrayQueue} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MpscArrayQueue
+ * @since 1.0.0
+ */
+class MpscArrayQueueTest extends RingBufferQueueTest<MpscArrayQueue<Integer>> {
+
+    @Override
+    protected MpscArrayQueue<Integer> newQueue(int capacity) {
+        return new MpscArrayQueue<>(capacity);
+    }
+
+    @Test
+    void testConcurrentOfferAndDrain() throws Exception {
+        assertConcurrentOfferAndDrain(newQueue(128), 4, 100000);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link RingBufferQueue} Benchmark, the throughput of the concurrent offer and poll compared with the JDK
+ * {@link java.util.concurrent.BlockingQueue BlockingQueues}
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see SpscArrayQueue
+ * @see MpscArrayQueue
+ * @since 1.0.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Group)
+public class RingBufferQueueBenchmark {
+
+    private static final Integer ELEMENT = 1;
+
+    @Param({"spsc", "mpsc", "array", "linked"})
+    public String type;
+
+    private Queue<Integer> queue;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int capacity = 1024;
+        switch (type) {
+            case "spsc":
+                queue = new SpscArrayQueue<>(capacity);
+                break;
+            case "mpsc":
+                queue = new MpscArrayQueue<>(capacity);
+                break;
+            case "array":
+                queue = new ArrayBlockingQueue<>(capacity);
+                break;
+            default:
+                queue = new LinkedBlockingQueue<>(capacity);
+        }
+    }
+
+    @Benchmark
+    @Group("singleProducer")
+    @GroupThreads(1)
+    public boolean offerOnSingleProducer() {
+        return queue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("singleProducer")
+    @GroupThreads(1)
+    public Integer pollOnSingleProducer() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("multipleProducers")
+    @GroupThreads(3)
+    public boolean offerOnMultipleProducers() {
+        if ("spsc".equals(type)) {
+            // SpscArrayQueue does not support the concurrent producers
+            return false;
+        }
+        return queue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("multipleProducers")
+    @GroupThreads(1)
+    public Integer pollOnMultipleProducers() {
+        return queue.poll();
+    }
+
+    @Benchmark
+    @Group("batchDrain")
+    @GroupThreads(1)
+    public boolean offerOnBatchDrain() {
+        return queue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("batchDrain")
+    @GroupThreads(1)
+    public int drainOnBatchDrain(Blackhole blackhole) {
+        if (queue instanceof RingBufferQueue) {
+            return ((RingBufferQueue<Integer>) queue).drain(blackhole::consume, 64);
+        }
+        int count = 0;
+        Integer e;
+        while (count < 64 && (e = queue.poll()) != null) {
+            blackhole.consume(e);
+            count++;
+        }
+        return count;
+    }
+}
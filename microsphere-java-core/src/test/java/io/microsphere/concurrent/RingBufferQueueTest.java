@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.concurrent.RingBufferQueue.MAX_PARK_NANOS;
+import static io.microsphere.concurrent.RingBufferQueue.PARK_NANOS;
+import static io.microsphere.concurrent.RingBufferQueue.backoffNanos;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The abstract test for {@link RingBufferQueue}
+ *
+ * @param <Q> the type of {@link RingBufferQueue}
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see RingBufferQueue
+ * @since 1.0.0
+ */
+abstract class RingBufferQueueTest<Q extends RingBufferQueue<Integer>> {
+
+    protected abstract Q newQueue(int capacity);
+
+    @Test
+    void testConstructor() {
+        assertEquals(1, newQueue(1).getCapacity());
+        assertEquals(4, newQueue(3).getCapacity());
+        assertEquals(16, newQueue(16).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> newQueue(0));
+        assertThrows(IllegalArgumentException.class, () -> newQueue(-1));
+        assertThrows(IllegalArgumentException.class, () -> newQueue(RingBufferQueue.MAX_CAPACITY + 1));
+    }
+
+    @Test
+    void testOfferAndPoll() {
+        Q queue = newQueue(4);
+        assertTrue(queue.isEmpty());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertFalse(queue.offer(4));
+        assertThrows(IllegalStateException.class, () -> queue.add(4));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals(Integer.valueOf(0), queue.peek());
+        assertEquals(Integer.valueOf(0), queue.poll());
+        assertTrue(queue.offer(4));
+        for (int i = 1; i < 5; i++) {
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+        assertEquals(4, queue.remainingCapacity());
+        assertThrows(NoSuchElementException.class, queue::remove);
+    }
+
+    @Test
+    void testOfferOnNull() {
+        Q queue = newQueue(4);
+        assertThrows(NullPointerException.class, () -> queue.offer(null));
+        assertThrows(NullPointerException.class, () -> queue.put(null));
+    }
+
+    @Test
+    void testWrapAround() {
+        Q queue = newQueue(2);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+            assertEquals(1, queue.size());
+            assertEquals(Integer.valueOf(i), queue.poll());
+        }
+    }
+
+    @Test
+    void testDrain() {
+        Q queue = newQueue(8);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        List<Integer> elements = new ArrayList<>();
+        assertEquals(3, queue.drain(elements::add, 3));
+        assertEquals(ofList(0, 1, 2), elements);
+        assertEquals(2, queue.drain(elements::add, 10));
+        assertEquals(ofList(0, 1, 2, 3, 4), elements);
+        assertEquals(0, queue.drain(elements::add, 10));
+        assertTrue(queue.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> queue.drain(null, 1));
+    }
+
+    @Test
+    void testDrainOnFailedConsumer() {
+        Q queue = newQueue(8);
+        queue.offer(1);
+        queue.offer(2);
+        assertThrows(IllegalStateException.class, () -> queue.drain(e -> {
+            throw new IllegalStateException();
+        }, 2));
+        // the element passed to the failed consumer has been removed
+        assertEquals(1, queue.size());
+        assertEquals(Integer.valueOf(2), queue.poll());
+        assertTrue(queue.offer(3));
+        assertEquals(Integer.valueOf(3), queue.poll());
+    }
+
+    @Test
+    void testDrainTo() {
+        Q queue = newQueue(8);
+        for (int i = 0; i < 5; i++) {
+            queue.offer(i);
+        }
+        List<Integer> elements = new ArrayList<>();
+        assertEquals(2, queue.drainTo(elements, 2));
+        assertEquals(3, queue.drainTo(elements));
+        assertEquals(ofList(0, 1, 2, 3, 4), elements);
+        assertThrows(NullPointerException.class, () -> queue.drainTo(null));
+        assertThrows(IllegalArgumentException.class, () -> queue.drainTo(queue));
+    }
+
+    @Test
+    void testIterator() {
+        Q queue = newQueue(4);
+        queue.offer(1);
+        queue.offer(2);
+        queue.offer(3);
+        queue.poll();
+        Iterator<Integer> iterator = queue.iterator();
+        assertTrue(iterator.hasNext());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+
+        assertTrue(queue.contains(2));
+        assertFalse(queue.contains(1));
+        assertEquals("[2, 3]", queue.toString());
+        queue.clear();
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void testTimedOfferAndPoll() throws Exception {
+        Q queue = newQueue(1);
+        assertNull(queue.poll(1, MILLISECONDS));
+        assertTrue(queue.offer(1, 1, MILLISECONDS));
+        assertFalse(queue.offer(2, 1, MILLISECONDS));
+        assertEquals(Integer.valueOf(1), queue.poll(1, MILLISECONDS));
+    }
+
+    @Test
+    void testPutAndTake() throws Exception {
+        Q queue = newQueue(1);
+        ExecutorService executor = newSingleThreadExecutor();
+        try {
+            queue.put(1);
+            Future<?> future = executor.submit(() -> {
+                queue.put(2);
+                return null;
+            });
+            assertEquals(Integer.valueOf(1), queue.take());
+            future.get(5, SECONDS);
+            assertEquals(Integer.valueOf(2), queue.take());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testTakeSignaledByOffer() throws Exception {
+        Q queue = newQueue(1);
+        AtomicReference<Integer> taken = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                taken.set(queue.take());
+            } catch (InterruptedException ignored) {
+            }
+        });
+        consumer.start();
+        while (queue.consumerWaiter != consumer) {
+            Thread.sleep(1);
+        }
+        // the consumer has been parked
+        Thread.sleep(50);
+        assertTrue(queue.offer(1));
+        consumer.join(5000);
+        assertEquals(Integer.valueOf(1), taken.get());
+        assertNull(queue.consumerWaiter);
+    }
+
+    @Test
+    void testPutSignaledByPoll() throws Exception {
+        Q queue = newQueue(1);
+        queue.put(1);
+        Thread producer = new Thread(() -> {
+            try {
+                queue.put(2);
+            } catch (InterruptedException ignored) {
+            }
+        });
+        producer.start();
+        while (!queue.producerWaiters.contains(producer)) {
+            Thread.sleep(1);
+        }
+        // the producer has been parked
+        Thread.sleep(50);
+        assertEquals(Integer.valueOf(1), queue.poll());
+        producer.join(5000);
+        assertFalse(producer.isAlive());
+        assertTrue(queue.producerWaiters.isEmpty());
+        assertEquals(Integer.valueOf(2), queue.poll());
+    }
+
+    @Test
+    void testBackoffNanos() {
+        assertEquals(PARK_NANOS, backoffNanos(0));
+        assertEquals(PARK_NANOS * 2, backoffNanos(1));
+        assertEquals(MAX_PARK_NANOS, backoffNanos(20));
+        assertEquals(MAX_PARK_NANOS, backoffNanos(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void testRemoveObject() {
+        Q queue = newQueue(4);
+        queue.offer(1);
+        assertThrows(UnsupportedOperationException.class, () -> queue.remove(1));
+        assertEquals(1, queue.size());
+    }
+
+    @Test
+    void testTakeOnInterrupted() throws Exception {
+        Q queue = newQueue(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread consumer = new Thread(() -> {
+            try {
+                queue.take();
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        consumer.start();
+        consumer.interrupt();
+        consumer.join(5000);
+        assertTrue(failure.get() instanceof InterruptedException);
+        assertFalse(currentThread().isInterrupted());
+    }
+
+    /**
+     * Offer the sequences from the producers concurrently and assert every sequence is taken in its order
+     *
+     * @param queue     the queue
+     * @param producers the number of the producers
+     * @param count     the number of the elements per producer
+     */
+    protected void assertConcurrentOfferAndDrain(Q queue, int producers, int count) throws Exception {
+        List<Thread> threads = new ArrayList<>(producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < count; i++) {
+                    Integer e = producer * count + i;
+                    while (!queue.offer(e)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        int[] last = new int[producers];
+        for (int p = 0; p < producers; p++) {
+            last[p] = -1;
+        }
+        int total = producers * count;
+        int[] received = new int[1];
+        long deadline = System.nanoTime() + SECONDS.toNanos(30);
+        while (received[0] < total) {
+            int drained = queue.drain(e -> {
+                int producer = e / count;
+                int sequence = e % count;
+                assertEquals(last[producer] + 1, sequence);
+                last[producer] = sequence;
+                received[0]++;
+            }, 64);
+            if (drained == 0) {
+                Integer e = queue.poll();
+                if (e != null) {
+                    int producer = e / count;
+                    assertEquals(last[producer] + 1, e % count);
+                    last[producer] = e % count;
+                    received[0]++;
+                }
+            }
+            assertTrue(System.nanoTime() < deadline);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll());
+    }
+}
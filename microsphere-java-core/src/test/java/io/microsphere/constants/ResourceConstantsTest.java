@@ -22,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import static io.microsphere.constants.ResourceConstants.ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_FILE_NAME;
 import static io.microsphere.constants.ResourceConstants.ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_RESOURCE;
 import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_FILE_NAME;
+import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_INDEX_FILE_NAME;
+import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE;
 import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_RESOURCE;
 import static io.microsphere.constants.ResourceConstants.METADATA_RESOURCE;
 import static io.microsphere.constants.ResourceConstants.MICROSPHERE_METADATA_RESOURCE;
@@ -44,5 +46,7 @@ class ResourceConstantsTest {
         assertEquals("additional-configuration-properties.json", ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_FILE_NAME);
         assertEquals("META-INF/microsphere/configuration-properties.json", CONFIGURATION_PROPERTY_METADATA_RESOURCE);
         assertEquals("META-INF/microsphere/additional-configuration-properties.json", ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_RESOURCE);
+        assertEquals("configuration-properties.idx", CONFIGURATION_PROPERTY_METADATA_INDEX_FILE_NAME);
+        assertEquals("META-INF/microsphere/configuration-properties.idx", CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE);
     }
 }
@@ -1,18 +1,28 @@
 package io.microsphere.event;
 
+import io.microsphere.util.ServiceRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.util.List;
 import java.util.concurrent.Executor;
 
+import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
+import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
+import static io.microsphere.util.ServiceRegistry.SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME;
 import static java.lang.Thread.currentThread;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.write;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link AbstractEventDispatcher} Test
@@ -58,6 +68,37 @@ class AbstractEventDispatcherTest {
         }
     }
 
+    @Test
+    void testAddEventListenerWithServiceRegistry() throws IOException {
+        File directory = createRandomTempDirectory();
+        File indexFile = new File(directory, SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME);
+        createDirectories(indexFile.getParentFile().toPath());
+        write(indexFile.toPath(), (EventListener.class.getName() + "/" + EchoEventListener.class.getName() + "=" +
+                EchoEvent.class.getName()).getBytes("UTF-8"));
+
+        AbstractEventDispatcher eventDispatcher = new AbstractEventDispatcher(executor) {
+            @Override
+            protected void loadEventListenerInstances() {
+            }
+        };
+
+        try (URLClassLoader indexedClassLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, getDefaultClassLoader())) {
+            ServiceRegistry serviceRegistry = ServiceRegistry.getInstance(indexedClassLoader);
+            // indexed
+            EchoEventListener listener = new EchoEventListener();
+            eventDispatcher.addEventListener(serviceRegistry, listener);
+            // not indexed
+            EchoEventListener2 listener2 = new EchoEventListener2();
+            eventDispatcher.addEventListener(serviceRegistry, listener2);
+
+            List<EventListener<?>> eventListeners = eventDispatcher.getAllEventListeners();
+            assertEquals(2, eventListeners.size());
+            assertTrue(eventListeners.contains(listener));
+            assertTrue(eventListeners.contains(listener2));
+            ServiceRegistry.remove(indexedClassLoader);
+        }
+    }
+
     @Test
     void testGetExecutor() {
         assertSame(executor, this.eventDispatcher.getExecutor());
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.internal.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+
+import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
+import static io.microsphere.internal.io.MappingUtils.map;
+import static io.microsphere.internal.io.MappingUtils.mapFile;
+import static io.microsphere.internal.io.MappingUtils.toFile;
+import static io.microsphere.io.IOUtils.toByteArray;
+import static io.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MappingUtils} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MappingUtils
+ * @since 1.0.0
+ */
+class MappingUtilsTest {
+
+    private static final ClassLoader classLoader = getClassLoader(MappingUtilsTest.class);
+
+    @Test
+    void testMap() throws IOException {
+        URL url = classLoader.getResource("META-INF/test.properties");
+        ByteBuffer byteBuffer = map(url.openConnection());
+        assertNotNull(byteBuffer);
+        assertTrue(byteBuffer.isReadOnly());
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        assertArrayEquals(toByteArray(url.openStream()), bytes);
+
+        // directory
+        assertNull(map(classLoader.getResource("io/microsphere/internal/io").openConnection()));
+        // the compressed entry in JAR
+        assertNull(map(classLoader.getResource("javax/annotation/Nonnull.class").openConnection()));
+        // unsupported protocol
+        assertNull(map(new URL("http://localhost/test.properties").openConnection()));
+    }
+
+    @Test
+    void testMapFile() throws IOException {
+        File emptyFile = new File(createRandomTempDirectory(), "empty.txt");
+        assertTrue(emptyFile.createNewFile());
+        ByteBuffer byteBuffer = mapFile(emptyFile);
+        assertNotNull(byteBuffer);
+        assertEquals(0, byteBuffer.remaining());
+    }
+
+    @Test
+    void testToFile() throws IOException {
+        File directory = createRandomTempDirectory();
+        File file = new File(directory, "a b.txt");
+        assertEquals(file.getCanonicalFile(), toFile(file.toURI().toURL()).getCanonicalFile());
+    }
+}
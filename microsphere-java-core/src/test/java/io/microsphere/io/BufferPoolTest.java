@@ -0,0 +1,226 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static io.microsphere.io.BufferPool.DEFAULT_BUFFER_POOL;
+import static io.microsphere.io.BufferPool.MAX_POOLED_SIZE;
+import static io.microsphere.io.BufferPool.MIN_POOLED_SIZE;
+import static io.microsphere.io.BufferPool.SIZE_CLASSES;
+import static io.microsphere.io.BufferPool.THREAD_LOCAL_CACHE_BYTES;
+import static io.microsphere.io.BufferPool.classSize;
+import static io.microsphere.io.BufferPool.releasedSizeClass;
+import static io.microsphere.io.BufferPool.sizeClass;
+import static io.microsphere.io.BufferPool.threadLocalCacheCapacity;
+import static java.lang.System.gc;
+import static java.lang.Thread.sleep;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link BufferPool} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see BufferPool
+ * @since 1.0.0
+ */
+class BufferPoolTest {
+
+    @Test
+    void testSizeClass() {
+        assertEquals(0, sizeClass(0));
+        assertEquals(0, sizeClass(MIN_POOLED_SIZE));
+        assertEquals(1, sizeClass(MIN_POOLED_SIZE + 1));
+        assertEquals(SIZE_CLASSES - 1, sizeClass(MAX_POOLED_SIZE));
+        assertEquals(-1, sizeClass(MAX_POOLED_SIZE + 1));
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            assertEquals(i, sizeClass(classSize(i)));
+            assertEquals(i, releasedSizeClass(classSize(i)));
+        }
+        assertEquals(-1, releasedSizeClass(MIN_POOLED_SIZE - 1));
+        assertEquals(-1, releasedSizeClass(MIN_POOLED_SIZE + 1));
+        assertEquals(-1, releasedSizeClass(MAX_POOLED_SIZE << 1));
+    }
+
+    @Test
+    void testAcquireAndRelease() {
+        BufferPool bufferPool = new BufferPool();
+        byte[] buffer = bufferPool.acquire(1000);
+        assertEquals(1024, buffer.length);
+        bufferPool.release(buffer);
+        assertSame(buffer, bufferPool.acquire(1024));
+        assertNotSame(buffer, bufferPool.acquire(1024));
+
+        // unpooled
+        byte[] largeBuffer = bufferPool.acquire(MAX_POOLED_SIZE + 1);
+        assertEquals(MAX_POOLED_SIZE + 1, largeBuffer.length);
+        bufferPool.release(largeBuffer);
+        assertNotSame(largeBuffer, bufferPool.acquire(MAX_POOLED_SIZE + 1));
+
+        // not acquired from the pool
+        bufferPool.release(new byte[100]);
+        assertEquals(MIN_POOLED_SIZE, bufferPool.acquire(1).length);
+
+        assertThrows(IllegalArgumentException.class, () -> bufferPool.acquire(-1));
+    }
+
+    @Test
+    void testReleaseToSharedPool() throws InterruptedException {
+        BufferPool bufferPool = new BufferPool();
+        int size = MAX_POOLED_SIZE;
+        int threadLocalCapacity = threadLocalCacheCapacity(sizeClass(size));
+        byte[][] buffers = new byte[threadLocalCapacity + 1][];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = bufferPool.acquire(size);
+        }
+        for (byte[] buffer : buffers) {
+            bufferPool.release(buffer);
+        }
+        byte[][] acquired = new byte[1][];
+        Thread thread = new Thread(() -> acquired[0] = bufferPool.acquire(size));
+        thread.start();
+        thread.join();
+        assertSame(buffers[buffers.length - 1], acquired[0]);
+    }
+
+    @Test
+    void testThreadLocalCacheBytes() throws InterruptedException {
+        BufferPool bufferPool = new BufferPool();
+        int size = THREAD_LOCAL_CACHE_BYTES / 2;
+        byte[] heapBuffer = bufferPool.acquire(size);
+        byte[] otherSizeBuffer = bufferPool.acquire(size / 2);
+        ByteBuffer directBuffer = bufferPool.acquireDirect(size);
+        // the thread-local cache is full after caching the heap and direct buffers
+        bufferPool.release(heapBuffer);
+        bufferPool.releaseDirect(directBuffer);
+        // the buffers of the other size class are released to the shared pool
+        bufferPool.release(otherSizeBuffer);
+
+        Object[] acquired = new Object[3];
+        Thread thread = new Thread(() -> {
+            acquired[0] = bufferPool.acquire(size);
+            acquired[1] = bufferPool.acquireDirect(size);
+            acquired[2] = bufferPool.acquire(size / 2);
+        });
+        thread.start();
+        thread.join();
+        assertNotSame(heapBuffer, acquired[0]);
+        assertNotSame(directBuffer, acquired[1]);
+        assertSame(otherSizeBuffer, acquired[2]);
+
+        // the buffers larger than the thread-local cache are never cached by the thread
+        assertEquals(0, threadLocalCacheCapacity(sizeClass(MAX_POOLED_SIZE)));
+    }
+
+    @Test
+    void testReleaseTwice() {
+        BufferPool bufferPool = new BufferPool();
+        byte[] buffer = bufferPool.acquire(100);
+        bufferPool.release(buffer);
+        bufferPool.release(buffer);
+        assertSame(buffer, bufferPool.acquire(100));
+        assertNotSame(buffer, bufferPool.acquire(100));
+    }
+
+    @Test
+    void testReleaseTwiceWithCheck() {
+        BufferPool bufferPool = new BufferPool(false, true);
+        byte[] buffer = bufferPool.acquire(100);
+        byte[] otherBuffer = bufferPool.acquire(100);
+        bufferPool.release(buffer);
+        bufferPool.release(otherBuffer);
+        // not the last one cached
+        bufferPool.release(buffer);
+        assertSame(otherBuffer, bufferPool.acquire(100));
+        assertSame(buffer, bufferPool.acquire(100));
+        byte[] newBuffer = bufferPool.acquire(100);
+        assertNotSame(buffer, newBuffer);
+        assertNotSame(otherBuffer, newBuffer);
+
+        // in the shared pool
+        byte[] largeBuffer = bufferPool.acquire(MAX_POOLED_SIZE);
+        bufferPool.release(largeBuffer);
+        bufferPool.release(largeBuffer);
+        assertSame(largeBuffer, bufferPool.acquire(MAX_POOLED_SIZE));
+        assertNotSame(largeBuffer, bufferPool.acquire(MAX_POOLED_SIZE));
+    }
+
+    @Test
+    void testAcquireDirectAndReleaseDirect() {
+        BufferPool bufferPool = new BufferPool();
+        ByteBuffer buffer = bufferPool.acquireDirect(2000);
+        assertTrue(buffer.isDirect());
+        assertEquals(2048, buffer.capacity());
+        buffer.putInt(1);
+        bufferPool.releaseDirect(buffer);
+
+        ByteBuffer acquired = bufferPool.acquireDirect(2048);
+        assertSame(buffer, acquired);
+        assertEquals(0, acquired.position());
+        assertEquals(2048, acquired.limit());
+
+        // the heap buffer is ignored
+        bufferPool.releaseDirect(ByteBuffer.allocate(2048));
+        assertTrue(bufferPool.acquireDirect(2048).isDirect());
+    }
+
+    @Test
+    void testLeakDetection() throws InterruptedException {
+        BufferPool bufferPool = new BufferPool(true);
+        assertTrue(bufferPool.isLeakDetection());
+
+        byte[] buffer = bufferPool.acquire(100);
+        ByteBuffer directBuffer = bufferPool.acquireDirect(100);
+        assertEquals(2, bufferPool.getAcquiredCount());
+        bufferPool.release(buffer);
+        bufferPool.releaseDirect(directBuffer);
+        assertEquals(0, bufferPool.getAcquiredCount());
+
+        // released twice
+        bufferPool.release(buffer);
+        assertSame(buffer, bufferPool.acquire(100));
+        assertNotSame(buffer, bufferPool.acquire(100));
+
+        // not acquired from the pool
+        bufferPool.release(new byte[MIN_POOLED_SIZE]);
+        assertEquals(2, bufferPool.getAcquiredCount());
+
+        buffer = null;
+        for (int i = 0; i < 10 && bufferPool.getLeakCount() == 0; i++) {
+            gc();
+            sleep(100);
+        }
+        assertTrue(bufferPool.getLeakCount() > 0);
+    }
+
+    @Test
+    void testWithoutLeakDetection() {
+        BufferPool bufferPool = new BufferPool();
+        assertFalse(bufferPool.isLeakDetection());
+        bufferPool.acquire(1);
+        assertEquals(0, bufferPool.getAcquiredCount());
+        assertEquals(0, bufferPool.getLeakCount());
+        assertFalse(DEFAULT_BUFFER_POOL.isLeakDetection());
+    }
+}
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.io;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+import static io.microsphere.io.ChunkedByteArrayOutputStream.MAX_CHUNK_SIZE;
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.delete;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ChunkedByteArrayOutputStream} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ChunkedByteArrayOutputStream
+ * @since 1.0.0
+ */
+class ChunkedByteArrayOutputStreamTest {
+
+    private static final byte[] TEST_BYTES = newBytes(MAX_CHUNK_SIZE * 3 + 7);
+
+    private BufferPool bufferPool;
+
+    private ChunkedByteArrayOutputStream outputStream;
+
+    @BeforeEach
+    void setUp() {
+        this.bufferPool = new BufferPool(true);
+        this.outputStream = new ChunkedByteArrayOutputStream(16, bufferPool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.outputStream.close();
+        assertEquals(0, bufferPool.getAcquiredCount());
+    }
+
+    @Test
+    void testConstructorOnIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedByteArrayOutputStream(0));
+        assertThrows(NullPointerException.class, () -> new ChunkedByteArrayOutputStream(1, null));
+    }
+
+    @Test
+    void testWrite() {
+        for (byte b : TEST_BYTES) {
+            outputStream.write(b);
+        }
+        assertEquals(TEST_BYTES.length, outputStream.size());
+        assertArrayEquals(TEST_BYTES, outputStream.toByteArray());
+    }
+
+    @Test
+    void testWriteBytes() throws IOException {
+        outputStream.write(TEST_BYTES, 0, 10);
+        outputStream.write(TEST_BYTES, 10, TEST_BYTES.length - 10);
+        assertArrayEquals(TEST_BYTES, outputStream.toByteArray());
+    }
+
+    @Test
+    void testWriteOnIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> outputStream.write(TEST_BYTES, -1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> outputStream.write(TEST_BYTES, 0, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> outputStream.write(TEST_BYTES, 0, TEST_BYTES.length + 1));
+    }
+
+    @Test
+    void testReadFrom() throws IOException {
+        assertEquals(TEST_BYTES.length, outputStream.readFrom(new ByteArrayInputStream(TEST_BYTES)));
+        assertArrayEquals(TEST_BYTES, outputStream.toByteArray());
+        assertEquals(0, outputStream.readFrom(new ByteArrayInputStream(new byte[0])));
+        assertEquals(TEST_BYTES.length, outputStream.size());
+    }
+
+    @Test
+    void testToByteArrayOnEmpty() {
+        assertEquals(0, outputStream.size());
+        assertEquals(0, outputStream.toByteArray().length);
+        assertEquals(0, outputStream.toByteBuffers().length);
+    }
+
+    @Test
+    void testToByteBuffers() throws IOException {
+        outputStream.write(TEST_BYTES);
+        ByteBuffer[] byteBuffers = outputStream.toByteBuffers();
+        assertTrue(byteBuffers.length > 1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (ByteBuffer byteBuffer : byteBuffers) {
+            assertTrue(byteBuffer.isReadOnly());
+            assertTrue(byteBuffer.remaining() <= MAX_CHUNK_SIZE);
+            byte[] chunk = new byte[byteBuffer.remaining()];
+            byteBuffer.get(chunk);
+            bytes.write(chunk);
+        }
+        assertArrayEquals(TEST_BYTES, bytes.toByteArray());
+    }
+
+    @Test
+    void testWriteToChannel() throws IOException {
+        outputStream.write(TEST_BYTES);
+        Path file = createTempFile("test", ".bin");
+        try {
+            try (FileChannel channel = FileChannel.open(file, WRITE)) {
+                assertEquals(TEST_BYTES.length, outputStream.writeTo(channel));
+            }
+            assertArrayEquals(TEST_BYTES, readAllBytes(file));
+        } finally {
+            delete(file);
+        }
+    }
+
+    @Test
+    void testWriteToOutputStream() throws IOException {
+        outputStream.write(TEST_BYTES);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        outputStream.writeTo(bytes);
+        assertArrayEquals(TEST_BYTES, bytes.toByteArray());
+    }
+
+    @Test
+    void testToInputStream() throws IOException {
+        outputStream.write(TEST_BYTES);
+        InputStream inputStream = outputStream.toInputStream();
+        assertEquals(0, outputStream.size());
+        assertEquals(TEST_BYTES.length, inputStream.available());
+
+        assertEquals(TEST_BYTES[0] & 0xFF, inputStream.read());
+        assertEquals(10, inputStream.skip(10));
+        byte[] bytes = new byte[TEST_BYTES.length];
+        bytes[0] = TEST_BYTES[0];
+        System.arraycopy(TEST_BYTES, 1, bytes, 1, 10);
+        int offset = 11;
+        int n;
+        while ((n = inputStream.read(bytes, offset, bytes.length - offset)) > 0) {
+            offset += n;
+        }
+        assertArrayEquals(TEST_BYTES, bytes);
+        assertEquals(-1, inputStream.read());
+        assertEquals(-1, inputStream.read(bytes, 0, 1));
+        assertEquals(0, inputStream.read(bytes, 0, 0));
+        assertEquals(0, inputStream.available());
+        assertTrue(bufferPool.getAcquiredCount() > 0);
+
+        inputStream.close();
+        inputStream.close();
+        assertEquals(0, bufferPool.getAcquiredCount());
+    }
+
+    @Test
+    void testToInputStreamOnEmpty() throws IOException {
+        try (InputStream inputStream = outputStream.toInputStream()) {
+            assertEquals(-1, inputStream.read());
+            assertEquals(0, inputStream.available());
+        }
+    }
+
+    @Test
+    void testResetAndClose() throws IOException {
+        outputStream.write(TEST_BYTES);
+        outputStream.reset();
+        assertEquals(0, outputStream.size());
+        assertEquals(0, bufferPool.getAcquiredCount());
+        outputStream.write(TEST_BYTES, 0, 3);
+        outputStream.close();
+        outputStream.close();
+        assertEquals(0, outputStream.size());
+    }
+
+    private static byte[] newBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
+}
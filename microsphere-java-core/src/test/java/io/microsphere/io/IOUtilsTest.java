@@ -5,15 +5,24 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.Pipe;
 import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 
 import static io.microsphere.AbstractTestCase.TEST_NULL_STRING;
+import static io.microsphere.AbstractTestCase.createRandomTempFile;
 import static io.microsphere.io.IOUtils.BUFFER_SIZE;
 import static io.microsphere.io.IOUtils.DEFAULT_BUFFER_SIZE;
 import static io.microsphere.io.IOUtils.close;
@@ -25,11 +34,22 @@ import static io.microsphere.nio.charset.CharsetUtils.DEFAULT_CHARSET;
 import static io.microsphere.util.ClassLoaderUtils.getResource;
 import static io.microsphere.util.StringUtils.EMPTY_STRING;
 import static io.microsphere.util.SystemUtils.FILE_ENCODING;
+import static java.lang.Thread.sleep;
+import static java.nio.channels.Channels.newChannel;
+import static java.nio.channels.Channels.newInputStream;
+import static java.nio.channels.Channels.newOutputStream;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * {@link IOUtils} Test
@@ -197,6 +217,137 @@ class IOUtilsTest extends LoggingTest {
         assertArrayEquals(TEST_BYTES, outputStream.toByteArray());
     }
 
+    @Test
+    void testCopyOnFileStreams() throws IOException {
+        byte[] bytes = newBytes(BUFFER_SIZE * 3 + 1);
+        File source = createRandomTempFile();
+        File target = createRandomTempFile();
+        write(source.toPath(), bytes);
+        try (FileInputStream inputStream = new FileInputStream(source);
+             FileOutputStream outputStream = new FileOutputStream(target)) {
+            assertEquals(1, inputStream.skip(1));
+            outputStream.write(bytes[0]);
+            assertEquals(bytes.length - 1, copy(inputStream, outputStream));
+            // the position of FileInputStream is advanced
+            assertEquals(-1, inputStream.read());
+        }
+        assertArrayEquals(bytes, readAllBytes(target.toPath()));
+    }
+
+    @Test
+    void testCopyOnNonRegularFile() throws IOException {
+        File procFile = new File("/proc/self/status");
+        assumeTrue(procFile.exists());
+        File target = createRandomTempFile();
+        try (FileInputStream inputStream = new FileInputStream(procFile);
+             FileOutputStream outputStream = new FileOutputStream(target)) {
+            assertTrue(copy(inputStream, outputStream) > 0);
+        }
+        assertTrue(readAllBytes(target.toPath()).length > 0);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (FileChannel sourceChannel = FileChannel.open(procFile.toPath(), READ)) {
+            assertTrue(copy(sourceChannel, newChannel(outputStream)) > 0);
+        }
+        assertTrue(outputStream.size() > 0);
+
+        // FileChannel -> FileChannel
+        try (FileChannel sourceChannel = FileChannel.open(procFile.toPath(), READ);
+             FileChannel targetChannel = FileChannel.open(target.toPath(), WRITE, TRUNCATE_EXISTING)) {
+            long byteCount = copy(sourceChannel, targetChannel);
+            assertTrue(byteCount > 0);
+            assertEquals(byteCount, targetChannel.size());
+        }
+    }
+
+    @Test
+    void testCopyWithNonBlockingChannels() throws Exception {
+        byte[] bytes = newBytes(1 << 20);
+        File source = createRandomTempFile();
+        File target = createRandomTempFile();
+        write(source.toPath(), bytes);
+
+        // FileChannel -> non-blocking Pipe.SinkChannel, which is full before the reader drains it
+        Pipe pipe = Pipe.open();
+        pipe.sink().configureBlocking(false);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Thread reader = new Thread(() -> {
+            try (InputStream inputStream = newInputStream(pipe.source())) {
+                sleep(100);
+                copy(inputStream, outputStream);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        reader.start();
+        try (FileChannel sourceChannel = FileChannel.open(source.toPath(), READ)) {
+            assertEquals(bytes.length, copy(sourceChannel, pipe.sink()));
+        }
+        pipe.sink().close();
+        reader.join();
+        assertArrayEquals(bytes, outputStream.toByteArray());
+
+        // non-blocking Pipe.SourceChannel -> FileChannel, which is empty before the writer fills it
+        Pipe otherPipe = Pipe.open();
+        otherPipe.source().configureBlocking(false);
+        Thread writer = new Thread(() -> {
+            try (OutputStream pipeOutputStream = newOutputStream(otherPipe.sink())) {
+                sleep(100);
+                pipeOutputStream.write(bytes);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        try (FileChannel targetChannel = FileChannel.open(target.toPath(), WRITE)) {
+            assertEquals(bytes.length, copy(otherPipe.source(), targetChannel));
+        }
+        otherPipe.source().close();
+        writer.join();
+        assertArrayEquals(bytes, readAllBytes(target.toPath()));
+    }
+
+    @Test
+    void testCopyWithChannels() throws IOException {
+        byte[] bytes = newBytes(BUFFER_SIZE * 3 + 1);
+        File source = createRandomTempFile();
+        File target = createRandomTempFile();
+        write(source.toPath(), bytes);
+
+        // FileChannel -> FileChannel
+        try (FileChannel sourceChannel = FileChannel.open(source.toPath(), READ);
+             FileChannel targetChannel = FileChannel.open(target.toPath(), WRITE)) {
+            assertEquals(bytes.length, copy(sourceChannel, targetChannel));
+            assertEquals(bytes.length, sourceChannel.position());
+            assertEquals(bytes.length, targetChannel.position());
+            assertEquals(0, copy(sourceChannel, targetChannel));
+        }
+        assertArrayEquals(bytes, readAllBytes(target.toPath()));
+
+        // ReadableByteChannel -> FileChannel
+        try (FileChannel targetChannel = FileChannel.open(target.toPath(), WRITE)) {
+            targetChannel.position(1);
+            assertEquals(bytes.length - 1, copy(newChannel(new ByteArrayInputStream(bytes, 1, bytes.length - 1)), targetChannel));
+            assertEquals(bytes.length, targetChannel.position());
+        }
+        assertArrayEquals(bytes, readAllBytes(target.toPath()));
+
+        // FileChannel -> WritableByteChannel
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (FileChannel sourceChannel = FileChannel.open(source.toPath(), READ)) {
+            assertEquals(bytes.length, copy(sourceChannel, newChannel(outputStream)));
+        }
+        assertArrayEquals(bytes, outputStream.toByteArray());
+
+        // ReadableByteChannel -> WritableByteChannel
+        outputStream.reset();
+        assertEquals(bytes.length, copy(newChannel(new ByteArrayInputStream(bytes)), newChannel(outputStream)));
+        assertArrayEquals(bytes, outputStream.toByteArray());
+
+        assertThrows(NullPointerException.class, () -> copy(null, newChannel(outputStream)));
+        assertThrows(NullPointerException.class, () -> copy(newChannel(inputStream), null));
+    }
+
     @Test
     void testClose() {
         tearDown();
@@ -214,4 +365,12 @@ class IOUtilsTest extends LoggingTest {
             throw new IOException("For testing");
         });
     }
+
+    private static byte[] newBytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) i;
+        }
+        return bytes;
+    }
 }
@@ -4,12 +4,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import static io.microsphere.io.filter.DirectoryFileFilter.INSTANCE;
 import static io.microsphere.util.SystemUtils.JAVA_HOME;
 import static io.microsphere.util.SystemUtils.JAVA_IO_TMPDIR;
 import static io.microsphere.util.SystemUtils.USER_DIR;
 import static java.io.File.createTempFile;
+import static java.nio.file.Files.readAttributes;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -41,4 +44,17 @@ class DirectoryFileFilterTest {
         testFile.deleteOnExit();
     }
 
+    @Test
+    void testAcceptWithAttributes() throws IOException {
+        Path javaHome = new File(JAVA_HOME).toPath();
+        assertTrue(INSTANCE.accept(javaHome, readAttributes(javaHome, BasicFileAttributes.class)));
+        assertTrue(INSTANCE.accept(javaHome, null));
+
+        File testFile = createTempFile("test", "txt");
+        Path testPath = testFile.toPath();
+        assertFalse(INSTANCE.accept(testPath, readAttributes(testPath, BasicFileAttributes.class)));
+        assertFalse(INSTANCE.accept(testPath, null));
+        testFile.deleteOnExit();
+    }
+
 }
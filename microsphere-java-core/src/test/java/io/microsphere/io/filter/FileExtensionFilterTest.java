@@ -5,12 +5,15 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 
 import static io.microsphere.io.filter.FileExtensionFilter.of;
 import static io.microsphere.util.SystemUtils.JAVA_HOME;
 import static io.microsphere.util.SystemUtils.JAVA_IO_TMPDIR;
 import static io.microsphere.util.SystemUtils.USER_DIR;
 import static java.io.File.createTempFile;
+import static java.nio.file.Files.readAttributes;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -53,6 +56,19 @@ class FileExtensionFilterTest {
         testFile.deleteOnExit();
     }
 
+    @Test
+    void testAcceptWithAttributes() throws IOException {
+        File testFile = createTempFile("test", ".txt");
+        Path testPath = testFile.toPath();
+        assertTrue(this.instance.accept(testPath, readAttributes(testPath, BasicFileAttributes.class)));
+        assertTrue(this.instance.accept(testPath, null));
+        testFile.deleteOnExit();
+
+        Path tmpDir = new File(JAVA_IO_TMPDIR).toPath();
+        assertFalse(this.instance.accept(tmpDir, readAttributes(tmpDir, BasicFileAttributes.class)));
+        assertFalse(this.instance.accept(tmpDir, null));
+    }
+
     @Test
     void testMatches() {
         assertTrue(this.instance.matches("txt", true));
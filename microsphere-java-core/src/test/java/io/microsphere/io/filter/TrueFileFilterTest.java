@@ -2,6 +2,9 @@ package io.microsphere.io.filter;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.File;
+import java.nio.file.Path;
+
 import static io.microsphere.io.filter.TrueFileFilter.INSTANCE;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -17,6 +20,7 @@ class TrueFileFilterTest {
     @Test
     void test() {
         assertTrue(INSTANCE.accept(null));
-        assertTrue(INSTANCE.accept(null, null));
+        assertTrue(INSTANCE.accept((File) null, null));
+        assertTrue(INSTANCE.accept((Path) null, null));
     }
 }
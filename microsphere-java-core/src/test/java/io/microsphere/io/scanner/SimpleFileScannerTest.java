@@ -4,19 +4,35 @@
 package io.microsphere.io.scanner;
 
 import io.microsphere.io.filter.DirectoryFileFilter;
+import io.microsphere.io.filter.IOFileFilter;
 import io.microsphere.io.filter.NameFileFilter;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
 import static io.microsphere.AbstractTestCase.createRandomTempFile;
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.ListUtils.ofList;
+import static io.microsphere.io.filter.FileExtensionFilter.of;
 import static io.microsphere.io.scanner.SimpleFileScanner.INSTANCE;
 import static io.microsphere.util.SystemUtils.JAVA_HOME;
+import static java.lang.Integer.MAX_VALUE;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.createFile;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -32,6 +48,25 @@ class SimpleFileScannerTest {
 
     private static final File JAVA_HOME_DIR = new File(JAVA_HOME);
 
+    private static final IOFileFilter NOT_GIT_FILTER = file -> !".git".equals(file.getName());
+
+    private static Path root;
+
+    @BeforeAll
+    static void createTree() throws IOException {
+        // root
+        // ├── .git/config.txt
+        // ├── a/a.txt
+        // ├── a/b/b.class
+        // └── c.class
+        root = createRandomTempDirectory().toPath();
+        createFile(createDirectories(root.resolve(".git")).resolve("config.txt"));
+        Path a = createDirectories(root.resolve("a"));
+        createFile(a.resolve("a.txt"));
+        createFile(createDirectories(a.resolve("b")).resolve("b.class"));
+        createFile(root.resolve("c.class"));
+    }
+
     @Test
     void testScan() {
         Set<File> directories = simpleFileScanner.scan(JAVA_HOME_DIR, true);
@@ -68,4 +103,114 @@ class SimpleFileScannerTest {
         assertEquals(1, files.size());
         assertTrue(files.contains(file));
     }
+
+    @Test
+    void testScanOnNonExistentFile() {
+        File file = new File(createRandomTempDirectory(), "non-existent");
+        Set<File> files = simpleFileScanner.scan(file, true);
+        assertEquals(1, files.size());
+        assertTrue(files.contains(file));
+        assertTrue(simpleFileScanner.scan(file, true, DirectoryFileFilter.INSTANCE).isEmpty());
+    }
+
+    @Test
+    void testScanInPreOrder() {
+        List<File> files = newArrayList(simpleFileScanner.scan(root.toFile(), true));
+        assertEquals(8, files.size());
+        assertEquals(root.toFile(), files.get(0));
+        for (int i = 1; i < files.size(); i++) {
+            File file = files.get(i);
+            // the parent directory precedes its children
+            assertTrue(files.indexOf(file.getParentFile()) < i);
+        }
+        assertEquals(4, simpleFileScanner.scan(root.toFile(), false).size());
+    }
+
+    @Test
+    void testScanOnPath() {
+        Set<Path> paths = simpleFileScanner.scan(root, MAX_VALUE, null, of("class"));
+        assertEquals(2, paths.size());
+        assertTrue(paths.contains(root.resolve("a/b/b.class")));
+        assertTrue(paths.contains(root.resolve("c.class")));
+
+        paths = simpleFileScanner.scan(root, 0, null, DirectoryFileFilter.INSTANCE);
+        assertEquals(singletonList(root), newArrayList(paths));
+
+        paths = simpleFileScanner.scan(root, 1, null, of("class"));
+        assertEquals(singletonList(root.resolve("c.class")), newArrayList(paths));
+    }
+
+    @Test
+    void testScanOnPathWithDirectoryFilter() {
+        Set<Path> paths = simpleFileScanner.scan(root, MAX_VALUE, NOT_GIT_FILTER, of("txt"));
+        assertEquals(singletonList(root.resolve("a/a.txt")), newArrayList(paths));
+
+        // the pruned directory is still accepted by the filter
+        paths = simpleFileScanner.scan(root, MAX_VALUE, NOT_GIT_FILTER, DirectoryFileFilter.INSTANCE);
+        assertEquals(4, paths.size());
+        assertTrue(paths.contains(root.resolve(".git")));
+    }
+
+    @Test
+    void testScanOnPathWithoutFollowingLinks() {
+        SimpleFileScanner scanner = new SimpleFileScanner(false);
+        assertEquals(simpleFileScanner.scan(root, MAX_VALUE, null, of("class")), scanner.scan(root, MAX_VALUE, null, of("class")));
+    }
+
+    @Test
+    void testScanOnInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> simpleFileScanner.scan(root, -1, null, of("class")));
+        assertThrows(IllegalArgumentException.class, () -> simpleFileScanner.scan(null, 1, null, of("class")));
+        assertThrows(IllegalArgumentException.class, () -> simpleFileScanner.scan(root, 1, null, null));
+        assertThrows(IllegalArgumentException.class, () -> simpleFileScanner.visit(root, 1, null, of("class"), null));
+        assertThrows(IllegalArgumentException.class, () -> simpleFileScanner.parallelScan(root, 1, null, of("class"), null));
+    }
+
+    @Test
+    void testVisit() {
+        AtomicInteger counter = new AtomicInteger();
+        simpleFileScanner.visit(root, MAX_VALUE, null, of("class"), path -> counter.incrementAndGet() < 1);
+        assertEquals(1, counter.get());
+
+        counter.set(0);
+        simpleFileScanner.visit(root, MAX_VALUE, null, of("class"), path -> counter.incrementAndGet() > 0);
+        assertEquals(2, counter.get());
+    }
+
+    @Test
+    void testStream() {
+        List<Path> expected = newArrayList(simpleFileScanner.scan(root, MAX_VALUE, null, NOT_GIT_FILTER));
+        try (Stream<Path> paths = simpleFileScanner.stream(root, MAX_VALUE, null, NOT_GIT_FILTER)) {
+            assertEquals(expected, paths.collect(toList()));
+        }
+
+        expected = newArrayList(simpleFileScanner.scan(root, 2, NOT_GIT_FILTER, of("class")));
+        try (Stream<Path> paths = simpleFileScanner.stream(root, 2, NOT_GIT_FILTER, of("class"))) {
+            assertEquals(expected, paths.collect(toList()));
+        }
+
+        try (Stream<Path> paths = simpleFileScanner.stream(root, MAX_VALUE, null, of("class"))) {
+            assertTrue(paths.findFirst().isPresent());
+        }
+
+        try (Stream<Path> paths = simpleFileScanner.stream(root.resolve("c.class"), MAX_VALUE, null, of("class"))) {
+            assertEquals(singletonList(root.resolve("c.class")), paths.collect(toList()));
+        }
+    }
+
+    @Test
+    void testParallelScan() {
+        assertEquals(newArrayList(simpleFileScanner.scan(root, MAX_VALUE, null, NOT_GIT_FILTER)),
+                newArrayList(simpleFileScanner.parallelScan(root, MAX_VALUE, null, NOT_GIT_FILTER)));
+
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        try {
+            assertEquals(newArrayList(simpleFileScanner.scan(root, 2, NOT_GIT_FILTER, DirectoryFileFilter.INSTANCE)),
+                    newArrayList(simpleFileScanner.parallelScan(root, 2, NOT_GIT_FILTER, DirectoryFileFilter.INSTANCE, forkJoinPool)));
+            assertEquals(newArrayList(simpleFileScanner.scan(JAVA_HOME_DIR.toPath(), MAX_VALUE, null, of("jar"))),
+                    newArrayList(simpleFileScanner.parallelScan(JAVA_HOME_DIR.toPath(), MAX_VALUE, null, of("jar"), forkJoinPool)));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+
+import static io.microsphere.collection.MapUtils.newLinkedHashMap;
+import static io.microsphere.json.CompactNameValuePairs.MAX_COMPACT_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CompactNameValuePairs} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see CompactNameValuePairs
+ * @since 1.0.0
+ */
+class CompactNameValuePairsTest {
+
+    @Test
+    void testPutAndGet() {
+        CompactNameValuePairs pairs = new CompactNameValuePairs();
+        assertTrue(pairs.isEmpty());
+        assertNull(pairs.get("a"));
+        assertNull(pairs.put("a", 1));
+        assertNull(pairs.put(new String("b"), 2));
+        assertEquals(1, pairs.put(new String("a"), 3));
+        assertEquals(3, pairs.get("a"));
+        assertEquals(2, pairs.get("b"));
+        assertTrue(pairs.containsKey("b"));
+        assertFalse(pairs.containsKey("c"));
+        assertFalse(pairs.containsKey(null));
+        assertEquals(2, pairs.size());
+        assertTrue(pairs.isCompact());
+    }
+
+    @Test
+    void testInsertionOrder() {
+        CompactNameValuePairs pairs = new CompactNameValuePairs();
+        Map<String, Object> expected = newLinkedHashMap();
+        for (int i = 0; i <= MAX_COMPACT_SIZE; i++) {
+            assertTrue(pairs.isCompact());
+            pairs.put("k" + (MAX_COMPACT_SIZE - i), i);
+            expected.put("k" + (MAX_COMPACT_SIZE - i), i);
+            assertEquals(expected, pairs);
+            assertEquals(expected.toString(), pairs.toString());
+        }
+        assertFalse(pairs.isCompact());
+        assertEquals(MAX_COMPACT_SIZE, pairs.get("k0"));
+        assertEquals(0, pairs.remove("k" + MAX_COMPACT_SIZE));
+        assertEquals(MAX_COMPACT_SIZE, pairs.size());
+        pairs.trimToSize();
+        pairs.clear();
+        assertTrue(pairs.isEmpty());
+    }
+
+    @Test
+    void testRemove() {
+        CompactNameValuePairs pairs = new CompactNameValuePairs();
+        pairs.put("a", 1);
+        pairs.put("b", 2);
+        pairs.put("c", 3);
+        assertNull(pairs.remove("d"));
+        assertEquals(2, pairs.remove("b"));
+        assertEquals("{a=1, c=3}", pairs.toString());
+        pairs.clear();
+        assertTrue(pairs.isEmpty());
+        pairs.put("d", 4);
+        assertEquals("{d=4}", pairs.toString());
+    }
+
+    @Test
+    void testEntrySet() {
+        CompactNameValuePairs pairs = new CompactNameValuePairs();
+        pairs.put("a", 1);
+        pairs.put("b", 2);
+        pairs.put("c", 3);
+        Iterator<Entry<String, Object>> iterator = pairs.entrySet().iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        assertEquals(1, iterator.next().setValue(10));
+        assertEquals(10, pairs.get("a"));
+        assertEquals("b", iterator.next().getKey());
+        iterator.remove();
+        assertEquals("c", iterator.next().getKey());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        assertEquals("{a=10, c=3}", pairs.toString());
+        assertEquals(2, pairs.entrySet().size());
+    }
+
+    @Test
+    void testTrimToSize() {
+        CompactNameValuePairs pairs = new CompactNameValuePairs();
+        pairs.trimToSize();
+        pairs.put("a", 1);
+        pairs.trimToSize();
+        assertEquals(1, pairs.get("a"));
+        pairs.put("b", 2);
+        pairs.remove("a");
+        pairs.remove("b");
+        pairs.trimToSize();
+        assertTrue(pairs.isEmpty());
+        pairs.put("c", 3);
+        assertEquals("{c=3}", pairs.toString());
+    }
+}
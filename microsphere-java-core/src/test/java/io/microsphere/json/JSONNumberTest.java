@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.json;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import static io.microsphere.json.JSONNumber.resolve;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JSONNumber} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONNumber
+ * @since 1.0.0
+ */
+class JSONNumberTest {
+
+    @Test
+    void testGetValue() {
+        JSONNumber number = new JSONNumber("[8080]", 1, 5);
+        assertFalse(number.isResolved());
+        Number value = number.getValue();
+        assertTrue(number.isResolved());
+        assertEquals(8080, value);
+        assertSame(value, number.getValue());
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        JSONNumber number = new JSONNumber("[8080]", 1, 5);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(number);
+        }
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertEquals(8080, objectInputStream.readObject());
+        }
+    }
+
+    @Test
+    void testResolve() {
+        assertEquals(0, resolve("0", 0, 1));
+        assertEquals(-12, resolve("-12", 0, 3));
+        assertEquals(2147483647, resolve("2147483647", 0, 10));
+        assertEquals(2147483648L, resolve("2147483648", 0, 10));
+        assertEquals(-2147483648, resolve("-2147483648", 0, 11));
+        assertEquals(1234567890123456789L, resolve("1234567890123456789", 0, 19));
+        assertEquals(9.223372036854775808E18, resolve("9223372036854775808", 0, 19));
+        assertEquals(1.5, resolve("1.5", 0, 3));
+        assertEquals(-0.0, resolve("-0.0", 0, 4));
+    }
+
+    @Test
+    void testNumberValues() {
+        JSONNumber number = new JSONNumber("-1.5", 0, 4);
+        assertEquals(-1, number.intValue());
+        assertEquals(-1L, number.longValue());
+        assertEquals(-1.5f, number.floatValue());
+        assertEquals(-1.5, number.doubleValue());
+    }
+
+    @Test
+    void testEquals() {
+        JSONNumber number = new JSONNumber("10", 0, 2);
+        assertEquals(number, number);
+        assertEquals(number, new JSONNumber("[10]", 1, 3));
+        // symmetric with the resolved value
+        assertNotEquals(number, 10);
+        assertNotEquals(Integer.valueOf(10), number);
+        assertNotEquals(number, new JSONNumber("10.0", 0, 4));
+        assertNotEquals(number, null);
+        assertEquals(Integer.valueOf(10).hashCode(), number.hashCode());
+        assertEquals("10", number.toString());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static io.microsphere.json.JSONUtils.jsonArray;
+import static io.microsphere.json.JSONUtils.readValue;
+import static io.microsphere.json.JSONUtils.readValues;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link JSONReader} Benchmark decoding the large homogeneous arrays, compared with the {@link JSONArray} tree
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONReader
+ * @see JSONUtils
+ * @since 1.0.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+public class JSONReaderBenchmark {
+
+    private static final int SIZE = 10000;
+
+    private String ids;
+
+    private String names;
+
+    @Setup
+    public void setup() {
+        StringBuilder ids = new StringBuilder("[");
+        StringBuilder names = new StringBuilder("[");
+        for (int i = 0; i < SIZE; i++) {
+            if (i > 0) {
+                ids.append(',');
+                names.append(',');
+            }
+            ids.append(i * 7919);
+            names.append("\"name-").append(i).append('"');
+        }
+        this.ids = ids.append(']').toString();
+        this.names = names.append(']').toString();
+    }
+
+    @Benchmark
+    public List<?> testReadIdsByTree() {
+        return readValues(jsonArray(ids), List.class, Integer.class);
+    }
+
+    @Benchmark
+    public List<?> testReadIds() {
+        return readValues(ids, List.class, Integer.class);
+    }
+
+    @Benchmark
+    public int[] testReadIdsAsIntArray() {
+        return readValue(ids, (Type) int[].class);
+    }
+
+    @Benchmark
+    public List<?> testReadNamesByTree() {
+        return readValues(jsonArray(names), List.class, String.class);
+    }
+
+    @Benchmark
+    public List<?> testReadNames() {
+        return readValues(names, List.class, String.class);
+    }
+}
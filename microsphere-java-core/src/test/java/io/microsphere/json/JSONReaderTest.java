@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.json;
+
+import io.microsphere.test.Data;
+import io.microsphere.test.MultipleValueData;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static io.microsphere.collection.EnumerationUtils.ofEnumeration;
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.QueueUtils.ofQueue;
+import static io.microsphere.collection.Sets.ofSet;
+import static io.microsphere.json.JSONUtils.jsonObject;
+import static io.microsphere.json.JSONUtils.readValueAsBean;
+import static io.microsphere.json.JSONUtils.writeValueAsString;
+import static io.microsphere.reflect.generics.ParameterizedTypeImpl.of;
+import static io.microsphere.util.ArrayUtils.ofArray;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link JSONReader} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONReader
+ * @since 1.0.0
+ */
+class JSONReaderTest {
+
+    @Test
+    void testOf() {
+        JSONReader<int[]> reader = JSONReader.of(int[].class);
+        assertSame(reader, JSONReader.of(int[].class));
+        assertSame(int[].class, reader.getType());
+        assertSame(JSONReader.of(of(List.class, String.class)), JSONReader.of(of(List.class, String.class)));
+    }
+
+    @Test
+    void testReadPrimitiveArrays() throws JSONException {
+        assertArrayEquals(new int[]{1, -2, 3, 4}, JSONReader.<int[]>of(int[].class).read("[1, -2; \"3\", 4.5]"));
+        assertArrayEquals(new int[0], JSONReader.<int[]>of(int[].class).read(" [ ] "));
+        assertArrayEquals(new long[]{1L, 9223372036854775807L, 0x1FL}, JSONReader.<long[]>of(long[].class).read("[1,9223372036854775807,0x1F]"));
+        assertArrayEquals(new double[]{1.5, -2.0, 1000.0}, JSONReader.<double[]>of(double[].class).read("[1.5,-2,1e3]"));
+        assertNull(JSONReader.of(int[].class).read("null"));
+
+        int[] values = new int[100];
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i * 31;
+            json.append(i > 0 ? "," : "").append(values[i]);
+        }
+        assertArrayEquals(values, JSONReader.<int[]>of(int[].class).read(json.append(']').toString()));
+
+        assertThrows(JSONException.class, () -> JSONReader.of(int[].class).read("[1, null]"));
+        assertThrows(JSONException.class, () -> JSONReader.of(long[].class).read("[true]"));
+        assertThrows(JSONException.class, () -> JSONReader.of(double[].class).read("[\"a\"]"));
+        assertThrows(JSONException.class, () -> JSONReader.of(int[].class).read("[1 2]"));
+        assertThrows(JSONException.class, () -> JSONReader.of(int[].class).read("[1,"));
+    }
+
+    @Test
+    void testReadArrays() throws JSONException {
+        assertArrayEquals(new String[]{"a", "b", null, "1"}, JSONReader.<String[]>of(String[].class).read("['a', \"b\", null, 1]"));
+        assertArrayEquals(new Integer[]{1, null}, JSONReader.<Integer[]>of(Integer[].class).read("[1, null]"));
+        assertArrayEquals(new boolean[]{true, false}, JSONReader.<boolean[]>of(boolean[].class).read("[true, \"false\"]"));
+        assertArrayEquals(new char[]{'a', 'b'}, JSONReader.<char[]>of(char[].class).read("[\"a\", \"b\"]"));
+        assertArrayEquals(new TimeUnit[]{SECONDS}, JSONReader.<TimeUnit[]>of(TimeUnit[].class).read("[\"SECONDS\"]"));
+
+        Type listArrayType = new ListOfStringArrayHolder().getType();
+        List<String>[] lists = JSONReader.<List<String>[]>of(listArrayType).read("[[\"a\"], [\"b\", \"c\"]]");
+        assertEquals(ofList("a"), lists[0]);
+        assertEquals(ofList("b", "c"), lists[1]);
+    }
+
+    @Test
+    void testReadCollections() throws JSONException {
+        List<String> list = JSONReader.<List<String>>of(of(List.class, String.class)).read("[\"a\", \"b\"]");
+        assertEquals(ArrayList.class, list.getClass());
+        assertEquals(ofList("a", "b"), list);
+
+        Set<Long> set = JSONReader.<Set<Long>>of(of(Set.class, Long.class)).read("[1, 2, 1]");
+        assertEquals(LinkedHashSet.class, set.getClass());
+        assertEquals(ofSet(1L, 2L), set);
+
+        Queue<Double> queue = JSONReader.<Queue<Double>>of(of(Queue.class, Double.class)).read("[1, 2.5]");
+        assertEquals(ArrayDeque.class, queue.getClass());
+        assertEquals(Double.valueOf(1.0), queue.poll());
+        assertEquals(Double.valueOf(2.5), queue.poll());
+
+        Enumeration<Integer> enumeration = JSONReader.<Enumeration<Integer>>of(of(Enumeration.class, Integer.class)).read("[1]");
+        assertEquals(Integer.valueOf(1), enumeration.nextElement());
+
+        Iterable<Boolean> iterable = JSONReader.<Iterable<Boolean>>of(of(Iterable.class, Boolean.class)).read("[true]");
+        assertEquals(ofList(true), iterable);
+
+        List<List<Integer>> lists = JSONReader.<List<List<Integer>>>of(of(List.class, of(List.class, Integer.class))).read("[[1], [2, 3]]");
+        assertEquals(ofList(ofList(1), ofList(2, 3)), lists);
+
+        // the raw type
+        assertEquals(ofList("a", 1), JSONReader.of(List.class).read("[\"a\", 1]"));
+        assertNull(JSONReader.of(List.class).read("null"));
+    }
+
+    @Test
+    void testReadMap() throws JSONException {
+        Type type = of(Map.class, String.class, Data.class);
+        Data data = createData();
+        String json = "{\"a\":" + writeValueAsString(data) + ", \"b\": null}";
+        Map<String, Data> map = JSONReader.<Map<String, Data>>of(type).read(json);
+        assertEquals(2, map.size());
+        assertEquals(data, map.get("a"));
+        assertNull(map.get("b"));
+
+        Map<String, Object> rawMap = JSONReader.<Map<String, Object>>of(Map.class).read("{\"a\":1, \"b\":[\"x\", \"y\"], \"c\":{\"d\":true}}");
+        assertEquals(1, rawMap.get("a"));
+        assertArrayEquals(new String[]{"x", "y"}, (String[]) rawMap.get("b"));
+        assertEquals(true, ((Map) rawMap.get("c")).get("d"));
+
+        assertThrows(JSONException.class, () -> JSONReader.of(Map.class).read("{\"a\" 1}"));
+        assertThrows(JSONException.class, () -> JSONReader.of(Map.class).read("{\"a\":1 \"b\":2}"));
+        assertThrows(JSONException.class, () -> JSONReader.of(Map.class).read("{\"a\":1,"));
+        assertThrows(JSONException.class, () -> JSONReader.of(Map.class).read("{null:1}"));
+    }
+
+    @Test
+    void testReadBean() throws JSONException {
+        Data data = createData();
+        String json = writeValueAsString(data);
+        assertEquals(data, JSONReader.of(Data.class).read(json));
+        // the unknown and null properties
+        Data dataCopy = JSONReader.<Data>of(Data.class).read("{\"unknown\":{\"a\":[1]}, \"name\":null, \"age\":null, \"male\" => true}");
+        assertNull(dataCopy.getName());
+        assertEquals(0, dataCopy.getAge());
+        assertTrue(dataCopy.isMale());
+
+        MultipleValueData md = new MultipleValueData();
+        md.setStringList(ofList("a", "b", "c"));
+        md.setIntegerSet(ofSet(1, 2, 3));
+        md.setDataQueue(ofQueue(createData()));
+        md.setClassEnumeration(ofEnumeration(String.class, Integer.class));
+        md.setObjects(ofArray("Hello", 123, true, 45.67));
+        json = writeValueAsString(md);
+        assertEquals(readValueAsBean(jsonObject(json), MultipleValueData.class), JSONReader.of(MultipleValueData.class).read(json));
+    }
+
+    @Test
+    void testReadScalars() throws JSONException {
+        assertEquals("a\"b", JSONReader.of(String.class).read("\"a\\\"b\""));
+        assertEquals("true", JSONReader.of(String.class).read("true"));
+        assertNull(JSONReader.of(String.class).read("null"));
+        assertEquals(1, JSONReader.of(int.class).read("1"));
+        assertEquals(1, JSONReader.of(Integer.class).read("\"1\""));
+        assertEquals(2147483648L, JSONReader.of(long.class).read("2147483648"));
+        assertNull(JSONReader.of(Long.class).read("null"));
+        assertEquals(0.5, JSONReader.of(double.class).read("0.5"));
+        assertEquals(true, JSONReader.of(boolean.class).read("\"true\""));
+        assertNull(JSONReader.of(Boolean.class).read("null"));
+        assertEquals((short) 1, JSONReader.of(short.class).read("1"));
+        assertEquals(SECONDS, JSONReader.of(TimeUnit.class).read("\"SECONDS\""));
+        assertNull(JSONReader.of(TimeUnit.class).read("null"));
+        assertEquals("a", JSONReader.of(Object.class).read("\"a\""));
+
+        assertThrows(JSONException.class, () -> JSONReader.of(int.class).read("true"));
+        assertThrows(JSONException.class, () -> JSONReader.of(long.class).read("\"a\""));
+        assertThrows(JSONException.class, () -> JSONReader.of(double.class).read("{}"));
+        assertThrows(JSONException.class, () -> JSONReader.of(boolean.class).read("1"));
+        assertThrows(JSONException.class, () -> JSONReader.of(TimeUnit.class).read("\"YEARS\""));
+        assertThrows(JSONException.class, () -> JSONReader.of(TimeUnit.class).read("1"));
+    }
+
+    @Test
+    void testResolveBound() throws NoSuchMethodException {
+        Type wildcardType = ((ParameterizedType) JSONReaderTest.class.getDeclaredMethod("bounded", List.class)
+                .getGenericParameterTypes()[0]).getActualTypeArguments()[0];
+        assertEquals(Number.class, JSONReader.resolveBound(wildcardType));
+        assertEquals(Object.class, JSONReader.getTypeArgument(List.class, 0));
+        assertEquals(Object.class, JSONReader.getTypeArgument(of(List.class, String.class), 1));
+    }
+
+    void bounded(List<? extends Number> values) {
+    }
+
+    static class ListOfStringArrayHolder {
+
+        List<String>[] lists;
+
+        Type getType() {
+            try {
+                return ListOfStringArrayHolder.class.getDeclaredField("lists").getGenericType();
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static Data createData() {
+        Data data = new Data();
+        data.setName("Mercy");
+        data.setAge(18);
+        data.setMale(true);
+        data.setHeight(1.78);
+        data.setWeight(68.5f);
+        data.setBirth(System.currentTimeMillis());
+        data.setIndex((short) 1);
+        data.setGrade((byte) 1);
+        data.setSex('M');
+        data.setObject("Testing");
+        data.setNames(new String[]{"Mercy", "Mercy"});
+        return data;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.json;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+
+import static io.microsphere.util.ClassLoaderUtils.getResourceAsString;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link JSONTokener} Benchmark parsing the metadata of the configuration properties in the default and compact modes
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see JSONTokener
+ * @since 1.0.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+@State(Scope.Thread)
+public class JSONTokenerBenchmark {
+
+    private static final String METADATA_RESOURCE_NAME = "META-INF/microsphere/additional-configuration-properties.json";
+
+    /**
+     * The times of the metadata entries repeated in the large document
+     */
+    private static final int REPEATS = 100;
+
+    private String metadata;
+
+    private String largeMetadata;
+
+    @Setup
+    public void setup() throws IOException, JSONException {
+        this.metadata = getResourceAsString(METADATA_RESOURCE_NAME);
+        JSONArray entries = new JSONArray(this.metadata);
+        JSONArray largeEntries = new JSONArray();
+        for (int i = 0; i < REPEATS; i++) {
+            for (int j = 0; j < entries.length(); j++) {
+                largeEntries.put(entries.get(j));
+            }
+        }
+        this.largeMetadata = largeEntries.toString();
+    }
+
+    @Benchmark
+    public Object testParse() throws JSONException {
+        return new JSONTokener(metadata).nextValue();
+    }
+
+    @Benchmark
+    public Object testParseInCompactMode() throws JSONException {
+        return new JSONTokener(metadata, true).nextValue();
+    }
+
+    @Benchmark
+    public Object testParseLarge() throws JSONException {
+        return new JSONTokener(largeMetadata).nextValue();
+    }
+
+    @Benchmark
+    public Object testParseLargeInCompactMode() throws JSONException {
+        return new JSONTokener(largeMetadata, true).nextValue();
+    }
+}
@@ -27,6 +27,8 @@ import static java.lang.Boolean.TRUE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -149,6 +151,126 @@ class JSONTokenerTest {
 
     }
 
+    @Test
+    void testReadObjectInCompactMode() throws Throwable {
+        JSONArray jsonArray = (JSONArray) new JSONTokener("[{\"name\":\"a\",\"port\":8080}, {\"name\":\"b\",\"port\":-1.5}, {'name':\"c\", \"n\\u0061me2\":1}]", true).nextValue();
+        JSONObject first = jsonArray.getJSONObject(0);
+        JSONObject second = jsonArray.getJSONObject(1);
+        JSONObject third = jsonArray.getJSONObject(2);
+        assertEquals("a", first.getString("name"));
+        assertEquals(8080, first.getInt("port"));
+        assertEquals(-1.5, second.getDouble("port"));
+        assertEquals("c", third.getString("name"));
+        assertEquals(1, third.getInt("name2"));
+
+        // the interned names
+        assertSame(first.keys().next(), second.keys().next());
+        assertEquals(first.toString(), new JSONObject("{\"name\":\"a\",\"port\":8080}").toString());
+        assertEquals(new JSONArray(jsonArray.toString()).toString(), jsonArray.toString());
+    }
+
+    @Test
+    void testReadLiteralInCompactMode() throws Throwable {
+        assertEquals(JSONNumber.class, new JSONTokener("0", true).readLiteral().getClass());
+        assertEquals(JSONNumber.class, new JSONTokener("-12.50", true).readLiteral().getClass());
+
+        // the literals parsed eagerly
+        assertEquals(Double.class, new JSONTokener("1e3", true).readLiteral().getClass());
+        assertEquals(Integer.class, new JSONTokener("012", true).readLiteral().getClass());
+        assertEquals(Integer.class, new JSONTokener("0x1F", true).readLiteral().getClass());
+        assertEquals(Double.class, new JSONTokener("1.", true).readLiteral().getClass());
+        assertEquals("-", new JSONTokener("-", true).readLiteral());
+        assertEquals(TRUE, new JSONTokener("true", true).readLiteral());
+        assertThrows(JSONException.class, () -> new JSONTokener("{\"a\":1e400}", true).nextValue());
+
+        String[] literals = {"0", "-0", "7", "2147483647", "2147483648", "-2147483649", "9223372036854775807",
+                "9223372036854775808", "123456789012345678", "1234567890123456789", "-0.0", "3.14159"};
+        for (String literal : literals) {
+            Object lazy = new JSONTokener(literal, true).readLiteral();
+            Object eager = new JSONTokener(literal).readLiteral();
+            assertEquals(eager, ((JSONNumber) lazy).getValue());
+            assertEquals(eager.getClass(), ((JSONNumber) lazy).getValue().getClass());
+            assertEquals(eager.toString(), lazy.toString());
+        }
+    }
+
+    @Test
+    void testIsLazyNumber() {
+        assertLazyNumber(true, "0", "-0", "10", "-10.01", "0.5");
+        assertLazyNumber(false, "", "-", "00", "01", "1.", ".5", "1e3", "1E-3", "+1", "0x1", "1a", "NaN");
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i <= JSONTokener.MAX_LAZY_NUMBER_LENGTH; i++) {
+            digits.append('1');
+        }
+        assertLazyNumber(false, digits.toString());
+    }
+
+    @Test
+    void testNextName() throws Throwable {
+        JSONTokener jsonTokener = new JSONTokener(" \"name\" \"name\" \"a\\\"b\" 'name' \"name", true);
+        Object name = jsonTokener.nextName();
+        assertEquals("name", name);
+        assertSame(name, jsonTokener.nextName());
+        assertEquals("a\"b", jsonTokener.nextName());
+        assertEquals("name", jsonTokener.nextName());
+        assertThrows(JSONException.class, jsonTokener::nextName);
+    }
+
+    @Test
+    void testReadNumber() throws Throwable {
+        assertEquals(12, new JSONTokener("12]").readNumber());
+        assertEquals(0x1F, new JSONTokener("0x1F").readNumber());
+        assertEquals(1.0e3, new JSONTokener("1e3").readNumber());
+        JSONTokener jsonTokener = new JSONTokener("-a");
+        assertNull(jsonTokener.readNumber());
+        assertEquals("-a", jsonTokener.nextValue());
+        assertNull(new JSONTokener("]").readNumber());
+    }
+
+    @Test
+    void testNextElement() throws Throwable {
+        JSONTokener jsonTokener = new JSONTokener(" 1 , 2 ; 3 , ]");
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(jsonTokener.nextElement(i - 1));
+            assertEquals(i, jsonTokener.nextValue());
+        }
+        assertFalse(jsonTokener.nextElement(3));
+        assertFalse(new JSONTokener("]").nextElement(0));
+        assertThrows(JSONException.class, () -> new JSONTokener("").nextElement(0));
+        assertThrows(JSONException.class, () -> new JSONTokener(": 1").nextElement(1));
+    }
+
+    @Test
+    void testNextEntryName() throws Throwable {
+        JSONTokener jsonTokener = new JSONTokener(" \"a\" : 1 , b = 2 ; \"c\" => 3 }");
+        assertEquals("a", jsonTokener.nextEntryName(0));
+        assertEquals(1, jsonTokener.nextValue());
+        assertEquals("b", jsonTokener.nextEntryName(1));
+        assertEquals(2, jsonTokener.nextValue());
+        assertEquals("c", jsonTokener.nextEntryName(2));
+        assertEquals(3, jsonTokener.nextValue());
+        assertNull(jsonTokener.nextEntryName(3));
+        assertNull(new JSONTokener("}").nextEntryName(0));
+        assertThrows(JSONException.class, () -> new JSONTokener("").nextEntryName(0));
+        assertThrows(JSONException.class, () -> new JSONTokener(": 1").nextEntryName(1));
+        assertThrows(JSONException.class, () -> new JSONTokener("1 : 1").nextEntryName(0));
+        assertThrows(JSONException.class, () -> new JSONTokener("\"a\" 1").nextEntryName(0));
+    }
+
+    @Test
+    void testPeek() throws Throwable {
+        JSONTokener jsonTokener = new JSONTokener("  [ ");
+        assertEquals('[', jsonTokener.peek());
+        assertEquals('[', jsonTokener.nextCleanInternal());
+        assertEquals(-1, jsonTokener.peek());
+    }
+
+    private void assertLazyNumber(boolean expected, String... literals) {
+        for (String literal : literals) {
+            assertEquals(expected, new JSONTokener(literal, true).isLazyNumber(0, literal.length()));
+        }
+    }
+
     @Test
     void testNextCleanInternal() throws Throwable {
         JSONTokener jsonTokener = getJSONTokener("test/json/clean.txt");
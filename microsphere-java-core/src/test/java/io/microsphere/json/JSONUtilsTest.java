@@ -19,6 +19,7 @@ package io.microsphere.json;
 
 import io.microsphere.beans.ConfigurationProperty;
 import io.microsphere.collection.CollectionUtils;
+import io.microsphere.reflect.generics.ParameterizedTypeImpl;
 import io.microsphere.test.A;
 import io.microsphere.test.B;
 import io.microsphere.test.C;
@@ -28,6 +29,7 @@ import io.microsphere.test.MultipleValueData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.lang.reflect.Type;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
@@ -556,6 +558,17 @@ class JSONUtilsTest {
         assertEquals(data, readValue);
     }
 
+    @Test
+    void testReadValueWithType() {
+        Data data = createData();
+        String json = "{\"a\":" + writeValueAsString(data) + "}";
+        Map<String, Data> dataMap = readValue(json, ParameterizedTypeImpl.of(Map.class, String.class, Data.class));
+        assertEquals(data, dataMap.get("a"));
+        assertArrayEquals(new int[]{1, 2, 3}, readValue("[1,2,3]", (Type) int[].class));
+        assertNull(readValue("null", (Type) int[].class));
+        assertThrows(IllegalArgumentException.class, () -> readValue("[1,2,3", (Type) int[].class));
+    }
+
     @Test
     void testReadValueAsBean() {
         MultipleValueData md = new MultipleValueData();
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.lang.function;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.microsphere.collection.ListUtils.newArrayList;
+import static io.microsphere.collection.ListUtils.ofList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link IntObjectConsumer} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IntObjectConsumer
+ * @since 1.0.0
+ */
+class IntObjectConsumerTest {
+
+    @Test
+    void testAccept() {
+        List<String> values = newArrayList();
+        IntObjectConsumer<String> consumer = (key, value) -> values.add(key + "=" + value);
+        consumer.accept(1, "one");
+        assertEquals(ofList("1=one"), values);
+    }
+
+    @Test
+    void testAndThen() {
+        List<String> values = newArrayList();
+        IntObjectConsumer<String> consumer = (key, value) -> values.add(key + "=" + value);
+        consumer.andThen((key, value) -> values.add(value)).accept(1, "one");
+        assertEquals(ofList("1=one", "one"), values);
+        assertThrows(NullPointerException.class, () -> consumer.andThen(null));
+    }
+}
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 import static io.microsphere.util.ArrayUtils.EMPTY_OBJECT_ARRAY;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 /**
  * {@link AbstractLogger} Test
@@ -57,6 +58,9 @@ public abstract class AbstractLoggerTest {
         logger.trace("test", EMPTY_OBJECT_ARRAY);
         logger.trace("test : {}", "a");
         logger.trace("test : {}", "a", new Throwable());
+        logger.trace("test : {} {}", "a", "b");
+        logger.trace("test : {} {} {}", "a", "b", "c");
+        logger.trace("test : {} {} {} {}", "a", "b", "c", "d");
         logger.trace("test", new Throwable());
     }
 
@@ -71,6 +75,9 @@ public abstract class AbstractLoggerTest {
         logger.debug("test", EMPTY_OBJECT_ARRAY);
         logger.debug("test : {}", "a");
         logger.debug("test : {}", "a", new Throwable());
+        logger.debug("test : {} {}", "a", "b");
+        logger.debug("test : {} {} {}", "a", "b", "c");
+        logger.debug("test : {} {} {} {}", "a", "b", "c", "d");
         logger.debug("test", new Throwable());
     }
 
@@ -85,6 +92,9 @@ public abstract class AbstractLoggerTest {
         logger.info("test", EMPTY_OBJECT_ARRAY);
         logger.info("test : {}", "a");
         logger.info("test : {}", "a", new Throwable());
+        logger.info("test : {} {}", "a", "b");
+        logger.info("test : {} {} {}", "a", "b", "c");
+        logger.info("test : {} {} {} {}", "a", "b", "c", "d");
         logger.info("test", new Throwable());
     }
 
@@ -99,6 +109,9 @@ public abstract class AbstractLoggerTest {
         logger.warn("test", EMPTY_OBJECT_ARRAY);
         logger.warn("test : {}", "a");
         logger.warn("test : {}", "a", new Throwable());
+        logger.warn("test : {} {}", "a", "b");
+        logger.warn("test : {} {} {}", "a", "b", "c");
+        logger.warn("test : {} {} {} {}", "a", "b", "c", "d");
         logger.warn("test", new Throwable());
     }
 
@@ -113,6 +126,114 @@ public abstract class AbstractLoggerTest {
         logger.error("test", EMPTY_OBJECT_ARRAY);
         logger.error("test : {}", "a");
         logger.error("test : {}", "a", new Throwable());
+        logger.error("test : {} {}", "a", "b");
+        logger.error("test : {} {} {}", "a", "b", "c");
+        logger.error("test : {} {} {} {}", "a", "b", "c", "d");
         logger.error("test", new Throwable());
     }
+
+    @Test
+    void testLevelGuard() {
+        Logger logger = new DisabledLogger();
+        Object argument = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("The argument must not be formatted when the level is disabled");
+            }
+        };
+        logger.trace("test : {}", argument);
+        logger.trace("test : {} {}", argument, argument);
+        logger.trace("test : {} {} {}", argument, argument, argument);
+        logger.trace("test : {} {} {} {}", argument, argument, argument, argument);
+        logger.debug("test : {}", argument);
+        logger.debug("test : {} {} {} {}", argument, argument, argument, argument);
+        logger.info("test : {}", argument);
+        logger.info("test : {} {} {} {}", argument, argument, argument, argument);
+        logger.warn("test : {}", argument);
+        logger.warn("test : {} {} {} {}", argument, argument, argument, argument);
+        logger.error("test : {}", argument);
+        logger.error("test : {} {} {} {}", argument, argument, argument, argument);
+    }
+
+    static class DisabledLogger extends AbstractLogger {
+
+        DisabledLogger() {
+            super("disabled");
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return false;
+        }
+
+        @Override
+        public void trace(String message) {
+            fail(message);
+        }
+
+        @Override
+        public void trace(String message, Throwable t) {
+            fail(message);
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return false;
+        }
+
+        @Override
+        public void debug(String message) {
+            fail(message);
+        }
+
+        @Override
+        public void debug(String message, Throwable t) {
+            fail(message);
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return false;
+        }
+
+        @Override
+        public void info(String message) {
+            fail(message);
+        }
+
+        @Override
+        public void info(String message, Throwable t) {
+            fail(message);
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return false;
+        }
+
+        @Override
+        public void warn(String message) {
+            fail(message);
+        }
+
+        @Override
+        public void warn(String message, Throwable t) {
+            fail(message);
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return false;
+        }
+
+        @Override
+        public void error(String message) {
+            fail(message);
+        }
+
+        @Override
+        public void error(String message, Throwable t) {
+            fail(message);
+        }
+    }
 }
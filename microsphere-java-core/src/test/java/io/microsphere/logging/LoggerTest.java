@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link Logger} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Logger
+ * @since 1.0.0
+ */
+class LoggerTest {
+
+    @Test
+    void testFixedArityMethodsDelegateToVarargs() {
+        RecordingLogger logger = new RecordingLogger();
+
+        logger.trace("{}", 1);
+        logger.trace("{} {}", 1, 2);
+        logger.trace("{} {} {}", 1, 2, 3);
+        logger.debug("{}", 1);
+        logger.debug("{} {}", 1, 2);
+        logger.debug("{} {} {}", 1, 2, 3);
+        logger.info("{}", 1);
+        logger.info("{} {}", 1, 2);
+        logger.info("{} {} {}", 1, 2, 3);
+        logger.warn("{}", 1);
+        logger.warn("{} {}", 1, 2);
+        logger.warn("{} {} {}", 1, 2, 3);
+        logger.error("{}", 1);
+        logger.error("{} {}", 1, 2);
+        logger.error("{} {} {}", 1, 2, 3);
+
+        List<String> expected = new ArrayList<>();
+        for (String level : asList("TRACE", "DEBUG", "INFO", "WARN", "ERROR")) {
+            expected.add(level + " {} [1]");
+            expected.add(level + " {} {} [1, 2]");
+            expected.add(level + " {} {} {} [1, 2, 3]");
+        }
+        assertEquals(expected, logger.records);
+    }
+
+    /**
+     * The {@link Logger} implements the abstract methods only
+     */
+    static class RecordingLogger implements Logger {
+
+        private final List<String> records = new ArrayList<>();
+
+        private void record(String level, String format, Object... arguments) {
+            records.add(level + " " + format + " " + asList(arguments));
+        }
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public void trace(String message) {
+        }
+
+        @Override
+        public void trace(String format, Object... arguments) {
+            record("TRACE", format, arguments);
+        }
+
+        @Override
+        public void trace(String message, Throwable t) {
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public void debug(String message) {
+        }
+
+        @Override
+        public void debug(String format, Object... arguments) {
+            record("DEBUG", format, arguments);
+        }
+
+        @Override
+        public void debug(String message, Throwable t) {
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public void info(String message) {
+        }
+
+        @Override
+        public void info(String format, Object... arguments) {
+            record("INFO", format, arguments);
+        }
+
+        @Override
+        public void info(String message, Throwable t) {
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public void warn(String message) {
+        }
+
+        @Override
+        public void warn(String format, Object... arguments) {
+            record("WARN", format, arguments);
+        }
+
+        @Override
+        public void warn(String message, Throwable t) {
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        public void error(String message) {
+        }
+
+        @Override
+        public void error(String format, Object... arguments) {
+            record("ERROR", format, arguments);
+        }
+
+        @Override
+        public void error(String message, Throwable t) {
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static io.microsphere.management.MBeanAttributeSampler.toDouble;
+import static io.microsphere.management.MBeanSnapshotterTest.DOMAIN;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static javax.management.ObjectName.getInstance;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MBeanAttributeSampler} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanAttributeSampler
+ * @since 1.0.0
+ */
+class MBeanAttributeSamplerTest {
+
+    private MBeanServer mBeanServer;
+
+    private MBeanSnapshotter snapshotter;
+
+    private ObjectName pattern;
+
+    private ObjectName objectName;
+
+    private CacheControl cacheControl;
+
+    private MBeanAttributeSampler sampler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mBeanServer = getPlatformMBeanServer();
+        this.snapshotter = new MBeanSnapshotter(mBeanServer);
+        this.pattern = getInstance(DOMAIN + ":type=CacheControl,*");
+        this.objectName = getInstance(DOMAIN + ":type=CacheControl,name=sampler");
+        this.cacheControl = new CacheControl();
+        mBeanServer.registerMBean(new StandardMBean(cacheControl, CacheControlMBean.class), objectName);
+        this.sampler = new MBeanAttributeSampler(snapshotter, pattern, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.sampler.close();
+        this.snapshotter.close();
+        if (mBeanServer.isRegistered(objectName)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    void testSample() throws Exception {
+        assertNull(sampler.getSamples(objectName, "CacheSize"));
+        assertTrue(sampler.getSamples(objectName).isEmpty());
+
+        cacheControl.setCacheSize(1);
+        sampler.sample();
+        cacheControl.setCacheSize(2);
+        sampler.sample();
+        cacheControl.setCacheSize(3);
+        sampler.sample();
+
+        MBeanAttributeSamples samples = sampler.getSamples(objectName, "CacheSize");
+        assertNotNull(samples);
+        assertArrayEquals(new double[]{2, 3}, samples.snapshot().getValues());
+        assertSame(samples, sampler.getSamples(objectName).get("CacheSize"));
+
+        // the failed attribute is not sampled
+        cacheControl.setCacheSize(-1);
+        sampler.sample();
+        assertArrayEquals(new double[]{2, 3}, samples.snapshot().getValues());
+
+        // the unregistered MBean is removed
+        mBeanServer.unregisterMBean(objectName);
+        sampler.sample();
+        assertNull(sampler.getSamples(objectName, "CacheSize"));
+    }
+
+    @Test
+    void testSampleOnFailure() throws Exception {
+        AtomicBoolean queryFailed = new AtomicBoolean();
+        AtomicBoolean snapshotFailed = new AtomicBoolean();
+        MBeanSnapshotter failingSnapshotter = new MBeanSnapshotter(mBeanServer) {
+            @Override
+            Set<ObjectName> queryNames(ObjectName pattern) {
+                return queryFailed.get() ? null : super.queryNames(pattern);
+            }
+
+            @Override
+            public MBeanSnapshot snapshot(ObjectName objectName) {
+                return snapshotFailed.get() ? null : super.snapshot(objectName);
+            }
+        };
+        try (MBeanAttributeSampler sampler = new MBeanAttributeSampler(failingSnapshotter, pattern, 2)) {
+            cacheControl.setCacheSize(1);
+            sampler.sample();
+            MBeanAttributeSamples samples = sampler.getSamples(objectName, "CacheSize");
+            assertArrayEquals(new double[]{1}, samples.snapshot().getValues());
+
+            // the failed query keeps the samples
+            queryFailed.set(true);
+            cacheControl.setCacheSize(2);
+            sampler.sample();
+            assertSame(samples, sampler.getSamples(objectName, "CacheSize"));
+            assertArrayEquals(new double[]{1}, samples.snapshot().getValues());
+
+            // the failed snapshot is skipped
+            queryFailed.set(false);
+            snapshotFailed.set(true);
+            sampler.sample();
+            assertSame(samples, sampler.getSamples(objectName, "CacheSize"));
+            assertArrayEquals(new double[]{1}, samples.snapshot().getValues());
+
+            snapshotFailed.set(false);
+            sampler.sample();
+            assertArrayEquals(new double[]{1, 2}, samples.snapshot().getValues());
+        } finally {
+            failingSnapshotter.close();
+        }
+    }
+
+    @Test
+    void testStart() throws Exception {
+        ScheduledExecutorService scheduler = newSingleThreadScheduledExecutor();
+        try {
+            cacheControl.setCacheSize(1);
+            assertSame(sampler, sampler.start(scheduler, 10, MILLISECONDS));
+            assertThrows(IllegalStateException.class, () -> sampler.start(scheduler, 10, MILLISECONDS));
+            while (sampler.getSamples(objectName, "CacheSize") == null) {
+                Thread.sleep(10);
+            }
+            sampler.close();
+            sampler.close();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    @Test
+    void testToDouble() {
+        assertEquals(1.0, toDouble(1));
+        assertEquals(1.5, toDouble(1.5f));
+        assertEquals(1.0, toDouble(true));
+        assertEquals(0.0, toDouble(false));
+        assertTrue(Double.isNaN(toDouble("1")));
+        assertTrue(Double.isNaN(toDouble(null)));
+    }
+
+    @Test
+    void testGetPattern() {
+        assertSame(pattern, sampler.getPattern());
+    }
+
+    @Test
+    void testConstructorOnIllegalCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MBeanAttributeSampler(snapshotter, pattern, 0));
+    }
+}
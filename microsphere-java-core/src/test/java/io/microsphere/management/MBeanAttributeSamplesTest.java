@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import io.microsphere.management.MBeanAttributeSamples.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.ObjectName;
+
+import static javax.management.ObjectName.getInstance;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MBeanAttributeSamples} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanAttributeSamples
+ * @since 1.0.0
+ */
+class MBeanAttributeSamplesTest {
+
+    private ObjectName objectName;
+
+    private MBeanAttributeSamples samples;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.objectName = getInstance("java.lang:type=ClassLoading");
+        this.samples = new MBeanAttributeSamples(objectName, "LoadedClassCount", 3);
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, samples.size());
+        assertEquals(3, samples.capacity());
+        assertTrue(Double.isNaN(samples.getLatestValue()));
+        assertEquals(-1L, samples.getLatestTimestamp());
+        assertEquals(0, samples.snapshot().size());
+        assertEquals(0, samples.snapshot().getValues().length);
+        assertEquals(0, samples.snapshot().getTimestamps().length);
+        assertSame(objectName, samples.getObjectName());
+        assertEquals("LoadedClassCount", samples.getAttributeName());
+        assertNotNull(samples.toString());
+    }
+
+    @Test
+    void testAdd() {
+        samples.add(1L, 10);
+        samples.add(2L, 20);
+        assertEquals(2, samples.size());
+        assertEquals(20, samples.getLatestValue());
+        assertEquals(2L, samples.getLatestTimestamp());
+        Snapshot snapshot = samples.snapshot();
+        assertEquals(2, snapshot.size());
+        assertArrayEquals(new double[]{10, 20}, snapshot.getValues());
+        assertArrayEquals(new long[]{1L, 2L}, snapshot.getTimestamps());
+
+        // overwrite the oldest
+        samples.add(3L, 30);
+        samples.add(4L, 40);
+        samples.add(5L, 50);
+        assertEquals(3, samples.size());
+        assertEquals(50, samples.getLatestValue());
+        assertEquals(5L, samples.getLatestTimestamp());
+        assertArrayEquals(new double[]{30, 40, 50}, samples.snapshot().getValues());
+        assertArrayEquals(new long[]{3L, 4L, 5L}, samples.snapshot().getTimestamps());
+
+        // the snapshot is not affected by the following samples
+        assertArrayEquals(new double[]{10, 20}, snapshot.getValues());
+        snapshot.getValues()[0] = 0;
+        assertArrayEquals(new double[]{10, 20}, snapshot.getValues());
+    }
+
+    @Test
+    void testConstructorOnIllegalCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MBeanAttributeSamples(objectName, "LoadedClassCount", 0));
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.AttributeList;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+import static io.microsphere.util.ArrayUtils.ofArray;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static javax.management.ObjectName.getInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MBeanExporter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanExporter
+ * @since 1.0.0
+ */
+class MBeanExporterTest {
+
+    private MBeanServer mBeanServer;
+
+    private MBeanExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        this.mBeanServer = getPlatformMBeanServer();
+        this.exporter = new MBeanExporter(mBeanServer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        exporter.close();
+    }
+
+    @Test
+    void testExport() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            exporter.export(new TenantStats("tenant-" + i), newObjectName("tenant-" + i));
+        }
+        assertEquals(10, exporter.getExportedNames().size());
+        assertSame(mBeanServer, exporter.getMBeanServer());
+
+        ObjectName objectName = newObjectName("tenant-1");
+        assertEquals("tenant-1", mBeanServer.getAttribute(objectName, "Tenant"));
+        mBeanServer.invoke(objectName, "increment", ofArray(5L), ofArray("long"));
+        AttributeList attributes = mBeanServer.getAttributes(objectName, ofArray("Tenant", "RequestCount"));
+        assertEquals(2, attributes.size());
+        assertEquals(5L, attributes.asList().get(1).getValue());
+
+        assertThrows(InstanceAlreadyExistsException.class, () -> exporter.export(new TenantStats("tenant-1"), objectName));
+
+        exporter.close();
+        assertTrue(exporter.getExportedNames().isEmpty());
+        assertFalse(mBeanServer.isRegistered(objectName));
+    }
+
+    @Test
+    void testExportDynamicMBean() throws Exception {
+        ObjectName objectName = getInstance("io.microsphere.management.exporter:type=CacheControl");
+        StandardMBean standardMBean = new StandardMBean(new CacheControl(), CacheControlMBean.class);
+        exporter.export(standardMBean, objectName);
+        assertEquals(0L, mBeanServer.getAttribute(objectName, "CacheSize"));
+    }
+
+    @Test
+    void testUnexport() throws Exception {
+        ObjectName objectName = newObjectName("tenant");
+        exporter.export(new TenantStats("tenant"), objectName);
+        assertTrue(exporter.unexport(objectName));
+        assertFalse(exporter.unexport(objectName));
+        assertFalse(mBeanServer.isRegistered(objectName));
+
+        // unregistered by others
+        exporter.export(new TenantStats("tenant"), objectName);
+        mBeanServer.unregisterMBean(objectName);
+        assertTrue(exporter.unexport(objectName));
+    }
+
+    private ObjectName newObjectName(String tenant) throws Exception {
+        return getInstance("io.microsphere.management.exporter:type=TenantStats,name=" + tenant);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.ObjectName;
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.ofMap;
+import static io.microsphere.management.JmxUtils.getMBeanInfo;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static javax.management.ObjectName.getInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link MBeanSnapshot} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanSnapshot
+ * @since 1.0.0
+ */
+class MBeanSnapshotTest {
+
+    private static ObjectName objectName;
+
+    private static MBeanInfo mBeanInfo;
+
+    private static MBeanSnapshot snapshot;
+
+    @BeforeAll
+    static void beforeAll() throws Throwable {
+        objectName = getInstance("java.lang:type=ClassLoading");
+        mBeanInfo = getMBeanInfo(getPlatformMBeanServer(), objectName);
+        MBeanAttributeInfo attributeInfo = mBeanInfo.getAttributes()[0];
+        MBeanAttribute attribute = new MBeanAttribute(mBeanInfo, attributeInfo, "value");
+        snapshot = new MBeanSnapshot(objectName, mBeanInfo, 1L, ofMap(attributeInfo.getName(), attribute));
+    }
+
+    @Test
+    void testGetters() {
+        assertSame(objectName, snapshot.getObjectName());
+        assertSame(mBeanInfo, snapshot.getMBeanInfo());
+        assertEquals(1L, snapshot.getTimestamp());
+    }
+
+    @Test
+    void testGetAttributes() {
+        Map<String, MBeanAttribute> attributes = snapshot.getAttributes();
+        assertEquals(1, attributes.size());
+        assertThrows(UnsupportedOperationException.class, attributes::clear);
+    }
+
+    @Test
+    void testGetValue() {
+        String attributeName = mBeanInfo.getAttributes()[0].getName();
+        assertEquals("value", snapshot.getValue(attributeName));
+        assertSame(snapshot.getAttributes().get(attributeName), snapshot.getAttribute(attributeName));
+        assertNull(snapshot.getValue("NotFound"));
+    }
+
+    @Test
+    void testToString() {
+        assertEquals("MBeanSnapshot{objectName=" + objectName + ", timestamp=1, attributes=" + snapshot.getAttributes().keySet() + "}",
+                snapshot.toString());
+    }
+}
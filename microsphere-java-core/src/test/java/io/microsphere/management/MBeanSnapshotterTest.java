@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerNotification;
+import javax.management.Notification;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.util.List;
+
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static javax.management.MBeanServerDelegate.DELEGATE_NAME;
+import static javax.management.MBeanServerNotification.UNREGISTRATION_NOTIFICATION;
+import static javax.management.ObjectName.getInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MBeanSnapshotter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MBeanSnapshotter
+ * @since 1.0.0
+ */
+class MBeanSnapshotterTest {
+
+    static final String DOMAIN = "io.microsphere.management.snapshot";
+
+    private MBeanServer mBeanServer;
+
+    private MBeanSnapshotter snapshotter;
+
+    private ObjectName objectName;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        this.mBeanServer = getPlatformMBeanServer();
+        this.snapshotter = new MBeanSnapshotter(mBeanServer);
+        this.objectName = registerCacheControl("test", 1024);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        this.snapshotter.close();
+        for (ObjectName objectName : mBeanServer.queryNames(getInstance(DOMAIN + ":*"), null)) {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    void testGetMBeanInfo() throws Exception {
+        MBeanInfo mBeanInfo = snapshotter.getMBeanInfo(objectName);
+        assertNotNull(mBeanInfo);
+        assertSame(mBeanInfo, snapshotter.getMBeanInfo(objectName));
+
+        snapshotter.invalidate(objectName);
+        assertNotSame(mBeanInfo, snapshotter.getMBeanInfo(objectName));
+
+        assertNull(snapshotter.getMBeanInfo(getInstance(DOMAIN + ":type=NotFound")));
+    }
+
+    @Test
+    void testInvalidateOnUnregistration() throws Exception {
+        MBeanInfo mBeanInfo = snapshotter.getMBeanInfo(objectName);
+        mBeanServer.unregisterMBean(objectName);
+        assertNull(snapshotter.getMBeanInfo(objectName));
+
+        mBeanServer.registerMBean(newMBean(new CacheControl()), objectName);
+        assertNotSame(mBeanInfo, snapshotter.getMBeanInfo(objectName));
+    }
+
+    @Test
+    void testHandleNotification() {
+        MBeanInfo mBeanInfo = snapshotter.getMBeanInfo(objectName);
+        // ignore the other notifications
+        snapshotter.handleNotification(new Notification("test", DELEGATE_NAME, 1), null);
+        assertSame(mBeanInfo, snapshotter.getMBeanInfo(objectName));
+
+        snapshotter.handleNotification(new MBeanServerNotification(UNREGISTRATION_NOTIFICATION, DELEGATE_NAME, 2, objectName), null);
+        assertNotSame(mBeanInfo, snapshotter.getMBeanInfo(objectName));
+    }
+
+    @Test
+    void testSnapshot() {
+        MBeanSnapshot snapshot = snapshotter.snapshot(objectName);
+        assertNotNull(snapshot);
+        assertEquals(objectName, snapshot.getObjectName());
+        assertSame(snapshotter.getMBeanInfo(objectName), snapshot.getMBeanInfo());
+        assertTrue(snapshot.getTimestamp() > 0);
+        assertEquals(1, snapshot.getAttributes().size());
+        assertEquals(1024L, snapshot.getValue("CacheSize"));
+        assertEquals("long", snapshot.getAttribute("CacheSize").getType());
+        assertNull(snapshot.getAttribute("NotFound"));
+        assertNull(snapshot.getValue("NotFound"));
+        assertNotNull(snapshot.toString());
+    }
+
+    @Test
+    void testSnapshotOnFailedAttribute() throws Exception {
+        ObjectName objectName = registerCacheControl("failed", -1);
+        MBeanSnapshot snapshot = snapshotter.snapshot(objectName);
+        assertNotNull(snapshot);
+        assertNotNull(snapshot.getAttribute("CacheSize"));
+        assertNull(snapshot.getValue("CacheSize"));
+    }
+
+    @Test
+    void testSnapshotOnNotFound() {
+        assertNull(snapshotter.snapshot(getNotRegisteredObjectName()));
+    }
+
+    @Test
+    void testSnapshotOnPlatformMBean() throws Exception {
+        MBeanSnapshot snapshot = snapshotter.snapshot(getInstance("java.lang:type=ClassLoading"));
+        assertNotNull(snapshot);
+        assertEquals(5, snapshot.getAttributes().size());
+        assertNotNull(snapshot.getValue("LoadedClassCount"));
+    }
+
+    @Test
+    void testSnapshots() throws Exception {
+        registerCacheControl("test2", 2048);
+        List<MBeanSnapshot> snapshots = snapshotter.snapshots(getInstance(DOMAIN + ":type=CacheControl,*"));
+        assertEquals(2, snapshots.size());
+        assertTrue(snapshotter.snapshots(getInstance(DOMAIN + ":type=NotFound,*")).isEmpty());
+        assertSame(mBeanServer, snapshotter.getConnection());
+    }
+
+    ObjectName registerCacheControl(String name, long cacheSize) throws Exception {
+        ObjectName objectName = getInstance(DOMAIN + ":type=CacheControl,name=" + name);
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setCacheSize(cacheSize);
+        mBeanServer.registerMBean(newMBean(cacheControl), objectName);
+        return objectName;
+    }
+
+    static StandardMBean newMBean(CacheControl cacheControl) throws Exception {
+        return new StandardMBean(cacheControl, CacheControlMBean.class) {
+            @Override
+            protected MBeanInfo getCachedMBeanInfo() {
+                // introspect the new MBeanInfo every time
+                return null;
+            }
+        };
+    }
+
+    private ObjectName getNotRegisteredObjectName() {
+        try {
+            return getInstance(DOMAIN + ":type=NotFound");
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import java.util.Map;
+
+import static io.microsphere.collection.MapUtils.newHashMap;
+import static io.microsphere.management.ManagedBeanMetadata.isAnnotated;
+import static javax.management.MBeanOperationInfo.ACTION;
+import static javax.management.MBeanOperationInfo.INFO;
+import static javax.management.MBeanOperationInfo.UNKNOWN;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ManagedBeanMetadata} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ManagedBeanMetadata
+ * @since 1.0.0
+ */
+class ManagedBeanMetadataTest {
+
+    @Test
+    void testOf() {
+        ManagedBeanMetadata metadata = ManagedBeanMetadata.of(TenantStats.class);
+        assertSame(metadata, ManagedBeanMetadata.of(TenantStats.class));
+        assertSame(TenantStats.class, metadata.getBeanClass());
+    }
+
+    @Test
+    void testGetMBeanInfoOnAnnotatedClass() {
+        MBeanInfo mBeanInfo = ManagedBeanMetadata.of(TenantStats.class).getMBeanInfo();
+        assertEquals(TenantStats.class.getName(), mBeanInfo.getClassName());
+        assertEquals("The statistics of tenant", mBeanInfo.getDescription());
+
+        Map<String, MBeanAttributeInfo> attributeInfos = newHashMap();
+        for (MBeanAttributeInfo attributeInfo : mBeanInfo.getAttributes()) {
+            attributeInfos.put(attributeInfo.getName(), attributeInfo);
+        }
+        assertEquals(4, attributeInfos.size());
+        assertFalse(attributeInfos.containsKey("Description"));
+
+        MBeanAttributeInfo tenant = attributeInfos.get("Tenant");
+        assertEquals("The name of tenant", tenant.getDescription());
+        assertEquals(String.class.getName(), tenant.getType());
+        assertTrue(tenant.isReadable());
+        assertFalse(tenant.isWritable());
+
+        MBeanAttributeInfo requestCount = attributeInfos.get("RequestCount");
+        assertEquals("RequestCount", requestCount.getDescription());
+        assertEquals("long", requestCount.getType());
+
+        MBeanAttributeInfo enabled = attributeInfos.get("Enabled");
+        assertTrue(enabled.isIs());
+        assertTrue(enabled.isReadable());
+        assertTrue(enabled.isWritable());
+
+        MBeanAttributeInfo threshold = attributeInfos.get("Threshold");
+        assertEquals("The threshold of requests", threshold.getDescription());
+        assertTrue(threshold.isWritable());
+
+        Map<String, MBeanOperationInfo> operationInfos = newHashMap();
+        for (MBeanOperationInfo operationInfo : mBeanInfo.getOperations()) {
+            operationInfos.put(operationInfo.getName(), operationInfo);
+        }
+        assertEquals(4, operationInfos.size());
+        MBeanOperationInfo increment = operationInfos.get("increment");
+        assertEquals("Increment the count of requests", increment.getDescription());
+        assertEquals(ACTION, increment.getImpact());
+        assertEquals("long", increment.getReturnType());
+        assertEquals(1, increment.getSignature().length);
+        assertEquals("reset", operationInfos.get("reset").getDescription());
+        assertEquals(INFO, operationInfos.get("format").getImpact());
+        assertEquals(UNKNOWN, operationInfos.get("fail").getImpact());
+    }
+
+    @Test
+    void testGetMBeanInfoOnPlainClass() {
+        MBeanInfo mBeanInfo = ManagedBeanMetadata.of(CacheControl.class).getMBeanInfo();
+        assertEquals(CacheControl.class.getName(), mBeanInfo.getDescription());
+        assertEquals(1, mBeanInfo.getAttributes().length);
+        MBeanAttributeInfo cacheSize = mBeanInfo.getAttributes()[0];
+        assertEquals("CacheSize", cacheSize.getName());
+        assertTrue(cacheSize.isReadable());
+        assertTrue(cacheSize.isWritable());
+        assertEquals(0, mBeanInfo.getOperations().length);
+    }
+
+    @Test
+    void testGetAttributeAccessor() {
+        ManagedBeanMetadata metadata = ManagedBeanMetadata.of(TenantStats.class);
+        assertNotNull(metadata.getAttributeAccessor("Tenant").getter);
+        assertNull(metadata.getAttributeAccessor("Tenant").setter);
+        assertNull(metadata.getAttributeAccessor("Description"));
+    }
+
+    @Test
+    void testGetOperationInvoker() {
+        ManagedBeanMetadata metadata = ManagedBeanMetadata.of(TenantStats.class);
+        assertNotNull(metadata.getOperationInvoker("reset", null));
+        assertNotNull(metadata.getOperationInvoker("reset", new String[0]));
+        assertNotNull(metadata.getOperationInvoker("increment", new String[]{"long"}));
+        assertNull(metadata.getOperationInvoker("increment", new String[]{"int"}));
+        assertNull(metadata.getOperationInvoker("increment", null));
+        assertNotNull(metadata.getOperationInvoker("format", new String[]{String.class.getName(), "int"}));
+        assertNull(metadata.getOperationInvoker("format", new String[]{String.class.getName()}));
+        assertNull(metadata.getOperationInvoker("notFound", null));
+    }
+
+    @Test
+    void testIsAnnotated() {
+        assertTrue(isAnnotated(TenantStats.class));
+        assertFalse(isAnnotated(CacheControl.class));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.InvalidAttributeValueException;
+import javax.management.MBeanException;
+import javax.management.ReflectionException;
+import javax.management.RuntimeMBeanException;
+
+import static io.microsphere.util.ArrayUtils.ofArray;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ManagedBean} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ManagedBean
+ * @since 1.0.0
+ */
+class ManagedBeanTest {
+
+    private TenantStats tenantStats;
+
+    private ManagedBean managedBean;
+
+    @BeforeEach
+    void setUp() {
+        this.tenantStats = new TenantStats("tenant-1");
+        this.managedBean = new ManagedBean(tenantStats);
+    }
+
+    @Test
+    void testGetBean() {
+        assertSame(tenantStats, managedBean.getBean());
+        assertSame(ManagedBeanMetadata.of(TenantStats.class).getMBeanInfo(), managedBean.getMBeanInfo());
+        assertThrows(IllegalArgumentException.class, () -> new ManagedBean(null));
+    }
+
+    @Test
+    void testGetAttribute() throws Exception {
+        assertEquals("tenant-1", managedBean.getAttribute("Tenant"));
+        assertEquals(0L, managedBean.getAttribute("RequestCount"));
+        assertEquals(true, managedBean.getAttribute("Enabled"));
+        assertThrows(AttributeNotFoundException.class, () -> managedBean.getAttribute("Description"));
+        assertThrows(AttributeNotFoundException.class, () -> managedBean.getAttribute("NotFound"));
+    }
+
+    @Test
+    void testSetAttribute() throws Exception {
+        managedBean.setAttribute(new Attribute("Enabled", false));
+        assertFalse(tenantStats.isEnabled());
+        managedBean.setAttribute(new Attribute("Threshold", 10));
+        assertEquals(10, tenantStats.getThreshold());
+
+        // not writable
+        assertThrows(AttributeNotFoundException.class, () -> managedBean.setAttribute(new Attribute("Tenant", "tenant-2")));
+        // invalid values
+        assertThrows(InvalidAttributeValueException.class, () -> managedBean.setAttribute(new Attribute("Threshold", "10")));
+        assertThrows(InvalidAttributeValueException.class, () -> managedBean.setAttribute(new Attribute("Threshold", null)));
+        // the setter throws the exception
+        assertThrows(RuntimeMBeanException.class, () -> managedBean.setAttribute(new Attribute("Threshold", -1)));
+    }
+
+    @Test
+    void testGetAttributes() {
+        AttributeList attributes = managedBean.getAttributes(ofArray("Tenant", "RequestCount", "Description", "NotFound"));
+        assertEquals(2, attributes.size());
+        assertEquals(new Attribute("Tenant", "tenant-1"), attributes.asList().get(0));
+        assertEquals(new Attribute("RequestCount", 0L), attributes.asList().get(1));
+    }
+
+    @Test
+    void testSetAttributes() {
+        AttributeList attributes = new AttributeList();
+        attributes.add(new Attribute("Enabled", false));
+        attributes.add(new Attribute("Threshold", -1));
+        attributes.add(new Attribute("Tenant", "tenant-2"));
+        AttributeList result = managedBean.setAttributes(attributes);
+        assertEquals(1, result.size());
+        assertEquals(new Attribute("Enabled", false), result.asList().get(0));
+        assertFalse(tenantStats.isEnabled());
+    }
+
+    @Test
+    void testInvoke() throws Exception {
+        assertEquals(2L, managedBean.invoke("increment", ofArray(2L), ofArray("long")));
+        assertEquals(2L, tenantStats.getRequestCount());
+        assertEquals("--tenant-1", managedBean.invoke("format", ofArray("-", 2), ofArray(String.class.getName(), "int")));
+        assertNull(managedBean.invoke("reset", null, null));
+        assertEquals(0L, tenantStats.getRequestCount());
+
+        assertThrows(ReflectionException.class, () -> managedBean.invoke("notFound", null, null));
+        assertThrows(MBeanException.class, () -> managedBean.invoke("fail", new Object[0], new String[0]));
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.management;
+
+import static io.microsphere.management.builder.MBeanOperationInfoBuilder.Impact.ACTION;
+import static io.microsphere.management.builder.MBeanOperationInfoBuilder.Impact.INFO;
+
+/**
+ * The statistics of tenant for testing
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @since 1.0.0
+ */
+@ManagedResource(description = "The statistics of tenant")
+public class TenantStats {
+
+    private final String tenant;
+
+    private long requestCount;
+
+    private boolean enabled = true;
+
+    private int threshold;
+
+    public TenantStats(String tenant) {
+        this.tenant = tenant;
+    }
+
+    @ManagedAttribute(description = "The name of tenant")
+    public String getTenant() {
+        return tenant;
+    }
+
+    @ManagedAttribute
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    @ManagedAttribute(description = "Is enabled or not")
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @ManagedAttribute(description = "The threshold of requests")
+    public void setThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("The 'threshold' must not be negative");
+        }
+        this.threshold = threshold;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    // not managed
+    public String getDescription() {
+        return "Tenant : " + tenant;
+    }
+
+    @ManagedOperation(description = "Increment the count of requests", impact = ACTION)
+    public long increment(long delta) {
+        return requestCount += delta;
+    }
+
+    @ManagedOperation(impact = ACTION)
+    public void reset() {
+        this.requestCount = 0;
+    }
+
+    @ManagedOperation(impact = INFO)
+    public String format(String prefix, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(prefix);
+        }
+        return builder.append(tenant).toString();
+    }
+
+    @ManagedOperation
+    public void fail() throws Exception {
+        throw new Exception("For testing");
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.metadata;
+
+import io.microsphere.beans.ConfigurationProperty;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
+import static io.microsphere.constants.ResourceConstants.ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_RESOURCE;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.FOOTER_LENGTH;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.MAGIC;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.VERSION;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.of;
+import static io.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static java.nio.ByteBuffer.allocate;
+import static java.nio.ByteBuffer.wrap;
+import static java.nio.file.Files.write;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ConfigurationPropertyIndex} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertyIndex
+ * @since 1.0.0
+ */
+class ConfigurationPropertyIndexTest {
+
+    private static final String[] NAMES = {"b.port", "a.name", "b.host", "a.name", "ab.size"};
+
+    @Test
+    void testConstants() {
+        assertEquals(0x4D534349, MAGIC);
+        assertEquals(1, VERSION);
+    }
+
+    @Test
+    void testGetConfigurationProperty() throws IOException {
+        ConfigurationPropertyIndex index = of(wrap(newIndex(NAMES)));
+        assertEquals(NAMES.length, index.size());
+        ConfigurationProperty configurationProperty = index.getConfigurationProperty("b.host");
+        assertEquals("b.host", configurationProperty.getName());
+        assertEquals("java.lang.String", configurationProperty.getType());
+        assertTrue(configurationProperty.isRequired());
+        assertTrue(configurationProperty.getMetadata().getSources().contains("system-properties"));
+        assertEquals("Test", configurationProperty.getMetadata().getDeclaredClass());
+        // materialized once
+        assertSame(configurationProperty, index.getConfigurationProperty("b.host"));
+        // the first one of the same names
+        assertEquals("1", index.getConfigurationProperty("a.name").getDescription());
+
+        assertNull(index.getConfigurationProperty("a"));
+        assertNull(index.getConfigurationProperty("c"));
+        assertNull(index.getConfigurationProperty(""));
+    }
+
+    @Test
+    void testGetConfigurationPropertyConcurrently() throws Exception {
+        ConfigurationPropertyIndex index = of(wrap(newIndex(NAMES)));
+        int threads = 8;
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executorService = newFixedThreadPool(threads);
+        try {
+            List<Future<ConfigurationProperty>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; i++) {
+                futures.add(executorService.submit(() -> {
+                    latch.await();
+                    return index.getConfigurationProperty("b.port");
+                }));
+            }
+            latch.countDown();
+            ConfigurationProperty configurationProperty = index.getConfigurationProperty("b.port");
+            for (Future<ConfigurationProperty> future : futures) {
+                // all threads share the same instance
+                assertSame(configurationProperty, future.get());
+            }
+            assertEquals("b.port", configurationProperty.getName());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testGetConfigurationProperties() throws IOException {
+        ConfigurationPropertyIndex index = of(wrap(newIndex(NAMES)));
+        assertNames(index.getConfigurationProperties("a."), "a.name", "a.name");
+        assertNames(index.getConfigurationProperties("a"), "a.name", "a.name", "ab.size");
+        assertNames(index.getConfigurationProperties("b."), "b.host", "b.port");
+        assertNames(index.getConfigurationProperties(""), "a.name", "a.name", "ab.size", "b.host", "b.port");
+        assertNames(index.getConfigurationProperties("c"));
+        assertThrows(UnsupportedOperationException.class, () -> index.getConfigurationProperties("").clear());
+    }
+
+    @Test
+    void testOnEmpty() throws IOException {
+        ConfigurationPropertyIndex index = of(wrap(newIndex()));
+        assertEquals(0, index.size());
+        assertNull(index.getConfigurationProperty("a"));
+        assertTrue(index.getConfigurationProperties("").isEmpty());
+        assertNotNull(index.toString());
+    }
+
+    @Test
+    void testOfSlicedBuffer() throws IOException {
+        byte[] bytes = newIndex(NAMES);
+        ByteBuffer buffer = allocate(bytes.length + 3);
+        buffer.put((byte) 1).put(bytes).put((byte) 2).flip();
+        buffer.position(1).limit(1 + bytes.length);
+        assertEquals("ab.size", of(buffer).getConfigurationProperty("ab.size").getName());
+    }
+
+    @Test
+    void testOfURL() throws IOException {
+        File file = new File(createRandomTempDirectory(), "test.idx");
+        write(file.toPath(), newIndex(NAMES));
+        assertEquals(NAMES.length, of(file.toURI().toURL()).size());
+
+        // not mapped
+        URL url = getClassLoader(getClass()).getResource(ADDITIONAL_CONFIGURATION_PROPERTY_METADATA_RESOURCE);
+        assertThrows(IllegalArgumentException.class, () -> of(url));
+    }
+
+    @Test
+    void testOfOnInvalidContent() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> of((ByteBuffer) null));
+        assertThrows(IllegalArgumentException.class, () -> of((URL) null));
+        assertThrows(IllegalArgumentException.class, () -> of(allocate(FOOTER_LENGTH - 1)));
+        assertThrows(IllegalArgumentException.class, () -> of(allocate(FOOTER_LENGTH)));
+
+        byte[] bytes = newIndex(NAMES);
+        ByteBuffer buffer = wrap(bytes);
+        // the unsupported version
+        buffer.putInt(bytes.length - 8, VERSION + 1);
+        assertThrows(IllegalArgumentException.class, () -> of(wrap(bytes)));
+        // the corrupted count
+        buffer.putInt(bytes.length - 8, VERSION);
+        buffer.putInt(bytes.length - 12, NAMES.length + 1);
+        assertThrows(IllegalArgumentException.class, () -> of(wrap(bytes)));
+    }
+
+    static byte[] newIndex(String... names) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ConfigurationPropertyIndexWriter writer = new ConfigurationPropertyIndexWriter(outputStream)) {
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                writer.add(name, "{\"name\":\"" + name + "\",\"type\":\"java.lang.String\",\"required\":true," +
+                        "\"description\":\"" + i + "\",\"metadata\":{\"sources\":[\"system-properties\"]," +
+                        "\"declaredClass\":\"Test\",\"declaredField\":\"FIELD_" + i + "\"}}");
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    private void assertNames(List<ConfigurationProperty> configurationProperties, String... names) {
+        assertEquals(names.length, configurationProperties.size());
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[i], configurationProperties.get(i).getName());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.metadata;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static io.microsphere.metadata.ConfigurationPropertyIndex.FOOTER_LENGTH;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.MAGIC;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.TABLE_ENTRY_LENGTH;
+import static io.microsphere.metadata.ConfigurationPropertyIndex.VERSION;
+import static java.nio.ByteBuffer.wrap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link ConfigurationPropertyIndexWriter} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ConfigurationPropertyIndexWriter
+ * @since 1.0.0
+ */
+class ConfigurationPropertyIndexWriterTest {
+
+    @Test
+    void testWrite() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ConfigurationPropertyIndexWriter writer = new ConfigurationPropertyIndexWriter(outputStream);
+        assertSame(writer, writer.add("b", "{}"));
+        writer.add("\u4e2d", "[1]");
+        writer.add("a", "{\"name\":\"a\"}");
+        assertEquals(3, writer.size());
+        writer.close();
+
+        byte[] bytes = outputStream.toByteArray();
+        // entries : 2 + 3 + 12 bytes, names : "a", "b", "\u4e2d" in 1 + 1 + 3 bytes
+        int tableOffset = 17 + 5;
+        assertEquals(tableOffset + 3 * TABLE_ENTRY_LENGTH + FOOTER_LENGTH, bytes.length);
+
+        ByteBuffer buffer = wrap(bytes);
+        int footerOffset = bytes.length - FOOTER_LENGTH;
+        assertEquals(tableOffset, buffer.getInt(footerOffset));
+        assertEquals(3, buffer.getInt(footerOffset + 4));
+        assertEquals(VERSION, buffer.getInt(footerOffset + 8));
+        assertEquals(MAGIC, buffer.getInt(footerOffset + 12));
+
+        // the table sorted by the names : (name offset, name length, entry offset, entry length)
+        assertTableEntry(buffer, tableOffset, 17, 1, 5, 12);
+        assertTableEntry(buffer, tableOffset + TABLE_ENTRY_LENGTH, 18, 1, 0, 2);
+        assertTableEntry(buffer, tableOffset + 2 * TABLE_ENTRY_LENGTH, 19, 3, 2, 3);
+    }
+
+    @Test
+    void testOnNull() {
+        assertThrows(IllegalArgumentException.class, () -> new ConfigurationPropertyIndexWriter(null));
+        ConfigurationPropertyIndexWriter writer = new ConfigurationPropertyIndexWriter(new ByteArrayOutputStream());
+        assertThrows(IllegalArgumentException.class, () -> writer.add(null, "{}"));
+        assertThrows(IllegalArgumentException.class, () -> writer.add("a", null));
+    }
+
+    private void assertTableEntry(ByteBuffer buffer, int offset, int... values) {
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], buffer.getInt(offset + i * 4));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.microsphere.metadata;
+
+import io.microsphere.LoggingTest;
+import io.microsphere.beans.ConfigurationProperty;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
+import static io.microsphere.constants.ResourceConstants.CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE;
+import static io.microsphere.lang.Prioritized.MIN_PRIORITY;
+import static io.microsphere.metadata.ConfigurationPropertyIndexTest.newIndex;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.write;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link IndexedConfigurationPropertyLoader} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see IndexedConfigurationPropertyLoader
+ * @since 1.0.0
+ */
+class IndexedConfigurationPropertyLoaderTest extends LoggingTest {
+
+    @Test
+    void testLookup() throws IOException {
+        File directory1 = writeIndex(newIndex("a.port", "a.host"));
+        File directory2 = writeIndex(newIndex("b.port", "a.port"));
+        // the invalid index is skipped
+        File directory3 = writeIndex(new byte[]{1, 2, 3});
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{directory1.toURI().toURL(),
+                directory2.toURI().toURL(), directory3.toURI().toURL()}, null)) {
+            IndexedConfigurationPropertyLoader loader = new IndexedConfigurationPropertyLoader(classLoader);
+            assertEquals(2, loader.getIndexes().size());
+            assertSame(loader.getIndexes(), loader.getIndexes());
+
+            ConfigurationProperty configurationProperty = loader.getConfigurationProperty("a.port");
+            // the first index in the Class-Path order
+            assertEquals("0", configurationProperty.getDescription());
+            assertEquals("b.port", loader.getConfigurationProperty("b.port").getName());
+            assertNull(loader.getConfigurationProperty("c.port"));
+
+            assertNames(loader.getConfigurationProperties("a."), "a.host", "a.port", "a.port");
+            assertNames(loader.getConfigurationProperties("b"), "b.port");
+            assertNames(loader.load(), "a.host", "a.port", "a.port", "b.port");
+        }
+    }
+
+    @Test
+    void testLookupOnNotFound() {
+        IndexedConfigurationPropertyLoader loader = new IndexedConfigurationPropertyLoader("Not-Found-Resource", null);
+        assertNull(loader.getConfigurationProperty("a"));
+        assertTrue(loader.load().isEmpty());
+        assertTrue(new IndexedConfigurationPropertyLoader().getIndexes().isEmpty());
+    }
+
+    @Test
+    void testGetPriority() {
+        assertEquals(MIN_PRIORITY, new IndexedConfigurationPropertyLoader().getPriority());
+    }
+
+    @Test
+    void testIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexedConfigurationPropertyLoader("", null));
+    }
+
+    private File writeIndex(byte[] content) throws IOException {
+        File directory = createRandomTempDirectory();
+        File indexFile = new File(directory, CONFIGURATION_PROPERTY_METADATA_INDEX_RESOURCE);
+        createDirectories(indexFile.getParentFile().toPath());
+        write(indexFile.toPath(), content);
+        return directory;
+    }
+
+    private void assertNames(List<ConfigurationProperty> configurationProperties, String... names) {
+        assertEquals(names.length, configurationProperties.size());
+        for (int i = 0; i < names.length; i++) {
+            assertEquals(names[i], configurationProperties.get(i).getName());
+        }
+    }
+}
@@ -27,6 +27,7 @@ import java.net.URLConnection;
 import java.util.List;
 
 import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.SetUtils.ofSet;
 import static java.net.Proxy.NO_PROXY;
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -93,4 +94,16 @@ class CompositeSubProtocolURLConnectionFactoryTest {
         composite.addInternal(factory);
         assertFalse(composite.supports(url, ofList("test")));
     }
+
+    @Test
+    void testGetSubProtocols() {
+        CompositeSubProtocolURLConnectionFactory composite = this.composite;
+        assertTrue(composite.getSubProtocols().isEmpty());
+
+        composite.add(new TextSubProtocolURLConnectionFactory("text"), new TextSubProtocolURLConnectionFactory("json"));
+        assertEquals(ofSet("text", "json"), composite.getSubProtocols());
+
+        composite.add(new ConsoleSubProtocolURLConnectionFactory());
+        assertTrue(composite.getSubProtocols().isEmpty());
+    }
 }
@@ -46,6 +46,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -189,6 +190,64 @@ class ExtendableProtocolURLStreamHandlerTest {
         assertEquals(TEST_CONSOLE_URL_WITH_SP, url.toString());
     }
 
+    @Test
+    void testOpenConnectionByDispatchTable() throws IOException {
+        TextSubProtocolURLConnectionFactory textFactory = new TextSubProtocolURLConnectionFactory("text");
+        TextSubProtocolURLConnectionFactory jsonFactory = new TextSubProtocolURLConnectionFactory("json");
+        handler.customizeSubProtocolURLConnectionFactories(factories -> {
+            factories.add(textFactory);
+            factories.add(jsonFactory);
+            factories.add(new NullSubProtocolURLConnectionFactory());
+        });
+
+        assertNotNull(handler.openConnection(new URL(TEST_URL_WITH_SP), NO_PROXY));
+        assertEquals(1, textFactory.probes);
+        assertEquals(0, jsonFactory.probes);
+
+        // no sub-protocol : only the generic factories are probed
+        assertNull(handler.openConnection(new URL(TEST_URL), NO_PROXY));
+        assertEquals(1, textFactory.probes);
+        assertEquals(0, jsonFactory.probes);
+    }
+
+    @Test
+    void testSelectFactories() {
+        TextSubProtocolURLConnectionFactory textFactory = new TextSubProtocolURLConnectionFactory("text");
+        TextSubProtocolURLConnectionFactory jsonFactory = new TextSubProtocolURLConnectionFactory("json");
+        ConsoleSubProtocolURLConnectionFactory consoleFactory = new ConsoleSubProtocolURLConnectionFactory();
+        handler.customizeSubProtocolURLConnectionFactories(factories -> {
+            factories.add(textFactory);
+            factories.add(consoleFactory);
+            factories.add(jsonFactory);
+        });
+
+        assertEquals(ofList(consoleFactory), handler.selectFactories(emptyList()));
+        assertEquals(ofList(consoleFactory), handler.selectFactories(ofList("xml")));
+        assertEquals(ofList(textFactory, consoleFactory), handler.selectFactories(ofList("text")));
+        assertEquals(ofList(consoleFactory, jsonFactory), handler.selectFactories(ofList("json")));
+        assertEquals(ofList(textFactory, consoleFactory, jsonFactory), handler.selectFactories(ofList("json", "text")));
+    }
+
+    @Test
+    void testGetParsedURL() throws IOException {
+        URL url = new URL(TEST_URL_WITH_SP + "?a=1");
+        ParsedURL parsedURL = handler.getParsedURL(url);
+        assertSame(url, parsedURL.getURL());
+        assertEquals("test", parsedURL.getProtocol());
+        assertEquals(ofList("text"), parsedURL.getSubProtocols());
+        assertEquals("localhost:12345", parsedURL.getAuthority());
+        assertEquals("/abc", parsedURL.getPath());
+        assertEquals("1", parsedURL.getQueryParameter("a"));
+        assertEquals(TEST_URL_WITH_SP + "?a=1", parsedURL.toString());
+
+        // cached
+        assertSame(parsedURL, handler.getParsedURL(url));
+        assertSame(parsedURL, handler.getParsedURL(new URL(TEST_URL_WITH_SP + "?a=1")));
+
+        handler.clearParsedURLs();
+        assertNotSame(parsedURL, handler.getParsedURL(url));
+    }
+
     @Test
     void testOpenFallbackConnection() throws IOException {
         assertNull(handler.openFallbackConnection(null, null));
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.net;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import static io.microsphere.collection.Lists.ofList;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ParsedURL} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ParsedURL
+ * @since 1.0.0
+ */
+class ParsedURLTest {
+
+    @Test
+    void testOf() throws MalformedURLException {
+        URL url = new URL("http://localhost:8080/abc;charset=UTF-8;_sp=text;_sp=json?a=1&a=2&b=3");
+        ParsedURL parsedURL = ParsedURL.of(url);
+        assertSame(url, parsedURL.getURL());
+        assertEquals("http", parsedURL.getProtocol());
+        assertEquals(ofList("text", "json"), parsedURL.getSubProtocols());
+        assertEquals("localhost:8080", parsedURL.getAuthority());
+        assertEquals("/abc", parsedURL.getPath());
+        assertEquals("UTF-8", parsedURL.getMatrixParameter("charset"));
+        assertEquals(ofList("text", "json"), parsedURL.getMatrixParameters().get("_sp"));
+        assertNull(parsedURL.getMatrixParameter("a"));
+        assertEquals("1", parsedURL.getQueryParameter("a"));
+        assertEquals(ofList("1", "2"), parsedURL.getQueryParameters().get("a"));
+        assertEquals("3", parsedURL.getQueryParameter("b"));
+        assertNull(parsedURL.getQueryParameter("c"));
+        assertEquals(url.toString(), parsedURL.toString());
+    }
+
+    @Test
+    void testOfWithoutParameters() throws MalformedURLException {
+        URL url = new URL("http://localhost/abc");
+        ParsedURL parsedURL = ParsedURL.of(url);
+        assertEquals(emptyList(), parsedURL.getSubProtocols());
+        assertEquals("localhost", parsedURL.getAuthority());
+        assertEquals("/abc", parsedURL.getPath());
+        assertTrue(parsedURL.getMatrixParameters().isEmpty());
+        assertTrue(parsedURL.getQueryParameters().isEmpty());
+        assertNull(parsedURL.getMatrixParameter("charset"));
+        assertNull(parsedURL.getQueryParameter("a"));
+    }
+}
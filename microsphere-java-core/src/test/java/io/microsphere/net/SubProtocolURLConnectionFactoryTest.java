@@ -27,6 +27,7 @@ import java.util.List;
 
 import static java.util.Collections.emptyList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link SubProtocolURLConnectionFactory} Test
@@ -45,5 +46,6 @@ class SubProtocolURLConnectionFactoryTest {
             URLConnection urlConnection = instance.create(url, subProtocols, Proxy.NO_PROXY);
             assertEquals(ConsoleURLConnection.class, urlConnection.getClass());
         }
+        assertTrue(instance.getSubProtocols().isEmpty());
     }
 }
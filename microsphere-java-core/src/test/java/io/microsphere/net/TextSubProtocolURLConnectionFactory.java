@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.net;
+
+import io.microsphere.net.console.ConsoleURLConnection;
+
+import java.io.IOException;
+import java.net.Proxy;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.List;
+import java.util.Set;
+
+import static io.microsphere.collection.SetUtils.ofSet;
+
+/**
+ * The {@link SubProtocolURLConnectionFactory} dedicated to a sub-protocol, which counts the probes
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @since 1.0.0
+ */
+class TextSubProtocolURLConnectionFactory implements SubProtocolURLConnectionFactory {
+
+    private final String subProtocol;
+
+    int probes;
+
+    TextSubProtocolURLConnectionFactory(String subProtocol) {
+        this.subProtocol = subProtocol;
+    }
+
+    @Override
+    public boolean supports(URL url, List<String> subProtocols) {
+        probes++;
+        return subProtocols.contains(subProtocol);
+    }
+
+    @Override
+    public URLConnection create(URL url, List<String> subProtocols, Proxy proxy) throws IOException {
+        return new ConsoleURLConnection(url);
+    }
+
+    @Override
+    public Set<String> getSubProtocols() {
+        return ofSet(subProtocol);
+    }
+}
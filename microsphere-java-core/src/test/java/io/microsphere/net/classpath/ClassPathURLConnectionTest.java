@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.net.classpath;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+
+import static io.microsphere.io.IOUtils.toByteArray;
+import static io.microsphere.net.classpath.HandlerTest.TEST_PROPERTIES_CLASSPATH_URL;
+import static java.net.Proxy.NO_PROXY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ClassPathURLConnection} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ClassPathURLConnection
+ * @since 1.0.0
+ */
+class ClassPathURLConnectionTest {
+
+    private Handler handler;
+
+    private URL url;
+
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        this.handler = new Handler(true);
+        this.url = new URL(TEST_PROPERTIES_CLASSPATH_URL);
+        this.content = toByteArray(url.openStream());
+    }
+
+    @Test
+    void testGetClassPath() throws IOException {
+        assertEquals("META-INF/test.properties", openConnection().getClassPath());
+    }
+
+    @Test
+    void testGetInputStream() throws IOException {
+        assertArrayEquals(content, toByteArray(openConnection().getInputStream()));
+        // from the bytes cache
+        assertArrayEquals(content, toByteArray(openConnection().getInputStream()));
+
+        handler.invalidateAll();
+        assertArrayEquals(content, toByteArray(openConnection().getInputStream()));
+    }
+
+    @Test
+    void testGetByteBuffer() throws IOException {
+        ByteBuffer byteBuffer = openConnection().getByteBuffer();
+        assertTrue(byteBuffer.isReadOnly());
+        assertArrayEquals(content, toBytes(byteBuffer));
+        // independent positions
+        assertArrayEquals(content, toBytes(openConnection().getByteBuffer()));
+    }
+
+    private ClassPathURLConnection openConnection() throws IOException {
+        return (ClassPathURLConnection) handler.openConnection(url, NO_PROXY);
+    }
+
+    private byte[] toBytes(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        return bytes;
+    }
+}
@@ -24,11 +24,19 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.Proxy;
 import java.net.URL;
+import java.net.URLConnection;
 
 import static io.microsphere.io.IOUtils.toByteArray;
+import static io.microsphere.net.classpath.Handler.resolveClassPath;
 import static java.net.Proxy.NO_PROXY;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * {@link Handler} Test for "classpath" protocol
@@ -61,6 +69,50 @@ public class HandlerTest extends AbstractExtendableProtocolURLStreamHandlerTest
         assertThrows(IOException.class, url::openStream);
     }
 
+    @Test
+    void testResolveClassPath() throws MalformedURLException {
+        assertEquals("META-INF/test.properties", resolveClassPath(new URL(TEST_PROPERTIES_CLASSPATH_URL)));
+        assertEquals("META-INF/services/io.microsphere.event.EventListener", resolveClassPath(new URL(EVENT_LISTENER_URL)));
+        assertEquals("META-INF/test.properties", resolveClassPath(new URL("classpath:META-INF/test.properties")));
+        assertEquals("", resolveClassPath(new URL("classpath:///")));
+    }
+
+    @Test
+    void testGetResource() {
+        Handler handler = new Handler();
+        assertFalse(handler.isCacheEnabled());
+        URL url = handler.getResource("META-INF/test.properties");
+        assertNotNull(url);
+        assertNull(handler.getResource("META-INF/not-found.res"));
+    }
+
+    @Test
+    void testGetResourceInCacheMode() {
+        Handler handler = new Handler(true);
+        assertTrue(handler.isCacheEnabled());
+        URL url = handler.getResource("META-INF/test.properties");
+        assertSame(url, handler.getResource("META-INF/test.properties"));
+        assertNull(handler.getResource("META-INF/not-found.res"));
+
+        handler.invalidate("META-INF/test.properties");
+        assertEquals(url, handler.getResource("META-INF/test.properties"));
+
+        handler.invalidateAll();
+        assertEquals(url, handler.getResource("META-INF/test.properties"));
+    }
+
+    @Test
+    void testOpenConnectionInCacheMode() throws IOException {
+        Handler handler = new Handler(true);
+        URL url = new URL(TEST_PROPERTIES_CLASSPATH_URL);
+        URLConnection urlConnection = handler.openConnection(url, NO_PROXY);
+        assertTrue(urlConnection instanceof ClassPathURLConnection);
+        assertArrayEquals(toByteArray(url.openStream()), toByteArray(urlConnection.getInputStream()));
+
+        URL notFoundURL = new URL(NOT_FOUND_URL);
+        assertThrows(IOException.class, () -> handler.openConnection(notFoundURL, NO_PROXY));
+    }
+
     @Override
     protected ExtendableProtocolURLStreamHandler createHandler() {
         return new Handler();
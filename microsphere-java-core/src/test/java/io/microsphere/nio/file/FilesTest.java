@@ -24,13 +24,30 @@ import org.junit.jupiter.api.Test;
 import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.MappedByteBuffer;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
+import static io.microsphere.AbstractTestCase.createRandomTempFile;
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.nio.file.Files.lines;
+import static io.microsphere.nio.file.Files.map;
 import static io.microsphere.nio.file.Files.readLines;
 import static io.microsphere.util.ClassLoaderUtils.getResource;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.write;
+import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * {@link Files} Test
@@ -63,4 +80,75 @@ class FilesTest {
         assertEquals(1, lines.length);
         assertEquals("test", lines[0]);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testMap() throws IOException {
+        MappedByteBuffer buffer = map(this.testFilePath);
+        assertTrue(buffer.isReadOnly());
+        assertEquals('t', buffer.get(0));
+        assertEquals(4, buffer.remaining());
+
+        buffer = map(this.testFilePath, 1, 2);
+        assertEquals('e', buffer.get());
+        assertEquals('s', buffer.get());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void testLines() throws IOException {
+        try (Stream<String> lines = lines(this.testFilePath)) {
+            assertEquals(ofList("test"), lines.collect(toList()));
+        }
+
+        Path path = createRandomTempFile().toPath();
+        String content = "a\n\u4e2d\u6587\r\n\n" + repeat('b', 100) + "\nlast";
+        write(path, content.getBytes(UTF_8));
+        List<String> expected = ofList("a", "\u4e2d\u6587", "", repeat('b', 100), "last");
+        try (Stream<String> lines = lines(path, UTF_8)) {
+            assertEquals(expected, lines.collect(toList()));
+        }
+        // the lines and multibyte characters across the mapped regions
+        for (int regionSize = 1; regionSize < 8; regionSize++) {
+            try (Stream<String> lines = lines(path, UTF_8, regionSize)) {
+                assertEquals(expected, lines.collect(toList()));
+            }
+        }
+
+        // empty file
+        write(path, new byte[0]);
+        try (Stream<String> lines = lines(path, UTF_8)) {
+            Iterator<String> iterator = lines.iterator();
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> lines(path, UTF_16));
+    }
+
+    @Test
+    void testLinesOnNonRegularFile() throws IOException {
+        Path procFile = Paths.get("/proc/self/status");
+        assumeTrue(java.nio.file.Files.exists(procFile));
+        List<String> expected = java.nio.file.Files.readAllLines(procFile, UTF_8);
+        assertFalse(expected.isEmpty());
+        try (Stream<String> lines = lines(procFile, UTF_8)) {
+            // "/proc/self/status" varies by the reading thread, so only the keys are compared
+            assertEquals(keys(expected), keys(lines.collect(toList())));
+        }
+        try (Stream<String> lines = lines(procFile, UTF_8, 3)) {
+            assertEquals(keys(expected), keys(lines.collect(toList())));
+        }
+    }
+
+    private static List<String> keys(List<String> lines) {
+        return lines.stream().map(line -> line.substring(0, line.indexOf(':') + 1)).collect(toList());
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.text;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static io.microsphere.text.FormatUtils.DEFAULT_PLACEHOLDER;
+import static io.microsphere.text.FormatUtils.format;
+import static java.lang.String.valueOf;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * {@link FormatUtils} Benchmark
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see FormatUtils
+ * @see MessageTemplate
+ * @since 1.0.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = SECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(NANOSECONDS)
+@State(Scope.Thread)
+public class FormatUtilsBenchmark {
+
+    private static final String PATTERN = "The method[name : '{}' , declaring class : '{}'] can't be invoked with arguments : {} , cause : {}";
+
+    private static final MessageTemplate TEMPLATE = MessageTemplate.compile(PATTERN);
+
+    private final Object[] args = {"invoke", "io.microsphere.reflect.MethodUtils", "[1, 2, 3]", "java.lang.IllegalAccessException"};
+
+    private final StringBuilder builder = new StringBuilder(256);
+
+    @Benchmark
+    public String testLegacyFormat() {
+        return legacyFormat(PATTERN, DEFAULT_PLACEHOLDER, args);
+    }
+
+    @Benchmark
+    public String testFormat() {
+        return format(PATTERN, args);
+    }
+
+    @Benchmark
+    public String testTemplateRender() {
+        return TEMPLATE.render(args);
+    }
+
+    @Benchmark
+    public StringBuilder testTemplateAppendTo() {
+        builder.setLength(0);
+        return TEMPLATE.appendTo(builder, args);
+    }
+
+    /**
+     * The previous implementation of {@link FormatUtils#formatWithPlaceholder(String, String, Object...)}
+     */
+    static String legacyFormat(String pattern, String placeholder, Object... args) {
+        int offset = placeholder.length();
+        StringBuilder stringBuilder = new StringBuilder(pattern);
+        int index;
+        for (int i = 0; i < args.length; i++) {
+            index = stringBuilder.indexOf(placeholder);
+            if (index == -1) {
+                break;
+            }
+            String value = valueOf(args[i]);
+            stringBuilder.replace(index, index + offset, value);
+        }
+        return stringBuilder.toString();
+    }
+}
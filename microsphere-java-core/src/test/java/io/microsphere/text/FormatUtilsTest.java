@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import static io.microsphere.constants.SymbolConstants.SPACE;
 import static io.microsphere.text.FormatUtils.format;
+import static io.microsphere.text.FormatUtils.formatWithPlaceholder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -50,5 +51,31 @@ class FormatUtilsTest {
 
         message = format("A,{},C,{},E", 1, 2, 3);
         assertEquals("A,1,C,2,E", message);
+
+        message = format("A,\\{},C,{},E", "B");
+        assertEquals("A,{},C,B,E", message);
+
+        // the escapes are resolved without any argument, as MessageTemplate does
+        message = format("A,\\{},C,{},E");
+        assertEquals("A,{},C,{},E", message);
+        assertEquals(MessageTemplate.of("A,\\{},C,{},E").render(), message);
+
+        message = format("C:\\\\{}");
+        assertEquals("C:\\{}", message);
+    }
+
+    @Test
+    void testFormatWithPlaceholder() {
+        assertNull(formatWithPlaceholder(null, "$"));
+
+        assertEquals(SPACE, formatWithPlaceholder(SPACE, "$", "A"));
+
+        assertEquals("A,$,C", formatWithPlaceholder("A,$,C", "$"));
+
+        assertEquals("A,$,C", formatWithPlaceholder("A,\\$,C", "$"));
+
+        assertEquals("A,B,C", formatWithPlaceholder("A,$,C", "$", "B"));
+
+        assertEquals("A,B,C,[placeholder]", formatWithPlaceholder("A,[placeholder],C,[placeholder]", "[placeholder]", "B"));
     }
 }
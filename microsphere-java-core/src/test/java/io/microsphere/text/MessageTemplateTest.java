@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.text;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static io.microsphere.text.MessageTemplate.clearCache;
+import static io.microsphere.text.MessageTemplate.compile;
+import static io.microsphere.text.MessageTemplate.of;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link MessageTemplate} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see MessageTemplate
+ * @since 1.0.0
+ */
+class MessageTemplateTest {
+
+    @AfterEach
+    void tearDown() {
+        clearCache();
+    }
+
+    @Test
+    void testOf() {
+        MessageTemplate template = of("A,{},C,{},E");
+        assertSame(template, of("A,{},C,{},E"));
+        assertEquals("A,{},C,{},E", template.getPattern());
+        assertEquals("{}", template.getPlaceholder());
+        assertEquals(2, template.getPlaceholderCount());
+    }
+
+    @Test
+    void testOfOnNull() {
+        assertThrows(IllegalArgumentException.class, () -> of(null));
+    }
+
+    @Test
+    void testCompile() {
+        MessageTemplate template = compile("A,{},C");
+        assertNotSame(template, compile("A,{},C"));
+        assertEquals(template, compile("A,{},C"));
+        assertEquals(template.hashCode(), compile("A,{},C").hashCode());
+        assertNotEquals(template, compile("A,{},C", "$"));
+        assertEquals(0, compile("A,{},C", "$").getPlaceholderCount());
+        assertThrows(IllegalArgumentException.class, () -> compile("A", ""));
+    }
+
+    @Test
+    void testRender() {
+        assertEquals("A,B,C,D,E", of("A,{},C,{},E").render("B", "D"));
+        assertEquals("A,B,C,{},E", of("A,{},C,{},E").render("B"));
+        assertEquals("A,{},C,{},E", of("A,{},C,{},E").render());
+        assertEquals("A,1,C,2,E", of("A,{},C,{},E").render(1, 2, 3));
+        assertEquals("null,null", of("{},{}").render(null, null));
+        assertEquals("1+2=3", of("{}+{}={}").render(1, 2, 3));
+        assertEquals("No replacement here", of("No replacement here").render("extra"));
+        assertEquals("2 + 2 = 4", compile("$ + $ = 4", "$").render(2, 2));
+    }
+
+    @Test
+    void testRenderWithEscape() {
+        assertEquals("Set {} is empty", of("Set \\{} is empty").render("x"));
+        assertEquals("Set {} is empty", of("Set \\{} is empty").render());
+        assertEquals("C:\\temp", of("C:\\\\{}").render("temp"));
+        assertEquals("{} is x", of("\\{} is {}").render("x"));
+        assertEquals(1, of("\\{} is {}").getPlaceholderCount());
+    }
+
+    @Test
+    void testAppendTo() throws IOException {
+        MessageTemplate template = of("{} + {} = {}");
+        StringBuilder builder = new StringBuilder("Result : ");
+        assertSame(builder, template.appendTo(builder, 2, 2, 4));
+        assertEquals("Result : 2 + 2 = 4", builder.toString());
+
+        StringWriter writer = new StringWriter();
+        assertSame(writer, template.appendTo(writer, 1, 1));
+        assertEquals("1 + 1 = {}", writer.toString());
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(of("{}").toString().contains("placeholderCount=1"));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+import org.junit.jupiter.api.Test;
+
+import static io.microsphere.util.Histogram.LINEAR_BUCKET_COUNT;
+import static io.microsphere.util.Histogram.SUB_BUCKET_COUNT;
+import static io.microsphere.util.Histogram.highestEquivalentValue;
+import static io.microsphere.util.Histogram.indexOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link Histogram} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Histogram
+ * @since 1.0.0
+ */
+class HistogramTest {
+
+    @Test
+    void testEmpty() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getTotal());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0.0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(50.0));
+    }
+
+    @Test
+    void testRecord() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getTotal());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50.5, histogram.getMean());
+        assertEquals(1, histogram.getPercentile(0.0));
+        assertEquals(100, histogram.getPercentile(100.0));
+        assertPercentile(histogram, 50, 50.0);
+        assertPercentile(histogram, 99, 99.0);
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.1));
+    }
+
+    @Test
+    void testRecordOnLargeValues() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+        assertPercentile(histogram, 500_000_000L, 50.0);
+        assertPercentile(histogram, 900_000_000L, 90.0);
+        assertEquals(1_000_000_000L, histogram.getPercentile(100.0));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(Long.MAX_VALUE, histogram.getPercentile(100.0));
+    }
+
+    @Test
+    void testMerge() {
+        Histogram histogram = new Histogram();
+        histogram.record(10);
+        Histogram other = new Histogram();
+        other.record(1_000_000);
+        other.record(5);
+        assertSame(histogram, histogram.merge(other));
+        assertEquals(3, histogram.getCount());
+        assertEquals(1_000_015, histogram.getTotal());
+        assertEquals(5, histogram.getMin());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(10, histogram.getPercentile(50.0));
+    }
+
+    @Test
+    void testCopyAndReset() {
+        Histogram histogram = new Histogram();
+        histogram.record(10);
+        Histogram copy = histogram.copy();
+        assertNotSame(histogram, copy);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(1, copy.getCount());
+        assertEquals(10, copy.getPercentile(50.0));
+    }
+
+    @Test
+    void testIndexOf() {
+        for (int i = 0; i < LINEAR_BUCKET_COUNT; i++) {
+            assertEquals(i, indexOf(i));
+            assertEquals(i, highestEquivalentValue(i));
+        }
+        long previous = LINEAR_BUCKET_COUNT - 1;
+        for (int index = LINEAR_BUCKET_COUNT, maxIndex = indexOf(Long.MAX_VALUE); index <= maxIndex; index++) {
+            long highest = highestEquivalentValue(index);
+            assertEquals(index, indexOf(previous + 1));
+            assertEquals(index, indexOf(highest));
+            assertTrue(highest > previous);
+            previous = highest;
+        }
+        assertEquals(Long.MAX_VALUE, previous);
+    }
+
+    @Test
+    void testToString() {
+        assertTrue(new Histogram().toString().startsWith("Histogram["));
+    }
+
+    private void assertPercentile(Histogram histogram, long expected, double percentile) {
+        long actual = histogram.getPercentile(percentile);
+        assertTrue(Math.abs(actual - expected) <= expected / SUB_BUCKET_COUNT,
+                "percentile " + percentile + " : expected ~" + expected + " but " + actual);
+    }
+}
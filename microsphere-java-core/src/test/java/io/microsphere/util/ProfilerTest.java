@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+import io.microsphere.json.JSONArray;
+import io.microsphere.json.JSONObject;
+import io.microsphere.util.Profiler.TaskNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static io.microsphere.management.JmxUtils.getAttribute;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link Profiler} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Profiler
+ * @since 1.0.0
+ */
+class ProfilerTest {
+
+    private Profiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        this.profiler = new Profiler("test");
+    }
+
+    @Test
+    void testConstructorOnBlankId() {
+        assertThrows(IllegalArgumentException.class, () -> new Profiler(" "));
+    }
+
+    @Test
+    void testStartAndStop() {
+        profiler.start("A");
+        profiler.start("B");
+        assertEquals("B", profiler.getCurrentTask().getTaskName());
+        assertThrows(IllegalStateException.class, () -> profiler.start("A"));
+        profiler.stop();
+        profiler.start("B");
+        profiler.stop();
+        profiler.stop();
+        assertNull(profiler.getCurrentTask());
+        assertThrows(IllegalStateException.class, profiler::stop);
+
+        assertEquals(1, profiler.getCount("A"));
+        assertEquals(2, profiler.getCount("B"));
+        assertEquals(0, profiler.getCount("C"));
+        assertArrayEquals(new String[]{"A", "B"}, profiler.getTaskNames());
+        assertTrue(profiler.getTotalNanos("A") >= profiler.getTotalNanos("B"));
+        assertTrue(profiler.getMinNanos("B") <= profiler.getMaxNanos("B"));
+        assertTrue(profiler.getPercentileNanos("B", 50) <= profiler.getMaxNanos("B"));
+        assertEquals(0, profiler.getTotalNanos("C"));
+        assertEquals(0, profiler.getMinNanos("C"));
+        assertEquals(0, profiler.getMaxNanos("C"));
+        assertEquals(0, profiler.getPercentileNanos("C", 50));
+
+        TaskNode root = profiler.getTaskTree();
+        assertEquals("test", root.getName());
+        assertEquals(1, root.getChildren().size());
+        TaskNode a = root.getChild("A");
+        assertEquals(1, a.getHistogram().getCount());
+        assertEquals(2, a.getChild("B").getHistogram().getCount());
+        assertNull(a.getChild("C"));
+        assertNotNull(root.toString());
+    }
+
+    @Test
+    void testMultipleThreads() throws InterruptedException {
+        int threads = 4;
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            String threadName = "profiler-" + i;
+            new Thread(() -> {
+                profiler.start("startup");
+                profiler.start("phase");
+                profiler.stop();
+                profiler.stop();
+                latch.countDown();
+            }, threadName).start();
+        }
+        latch.await();
+
+        Map<String, Histogram> statistics = profiler.getStatistics();
+        assertEquals(threads, statistics.get("startup").getCount());
+        assertEquals(threads, statistics.get("phase").getCount());
+        assertEquals(threads, profiler.getTaskTree().getChild("startup").getChild("phase").getHistogram().getCount());
+
+        Map<String, TaskNode> threadTaskTrees = profiler.getThreadTaskTrees();
+        assertEquals(threads, threadTaskTrees.size());
+        assertEquals(1, threadTaskTrees.get("profiler-0").getChild("startup").getHistogram().getCount());
+
+        profiler.reset();
+        assertEquals(0, profiler.getCount("startup"));
+        assertEquals(0, profiler.getTaskNames().length);
+    }
+
+    @Test
+    void testToJSON() throws Exception {
+        profiler.start("A");
+        profiler.start("B");
+        profiler.stop();
+        profiler.stop();
+
+        JSONObject jsonObject = new JSONObject(profiler.toJSON());
+        assertEquals("test", jsonObject.getString("id"));
+        JSONArray statistics = jsonObject.getJSONArray("statistics");
+        assertEquals(2, statistics.length());
+        assertEquals("A", statistics.getJSONObject(0).getString("name"));
+        assertEquals(1, statistics.getJSONObject(0).getLong("count"));
+        JSONObject tree = jsonObject.getJSONObject("tree");
+        assertEquals("test", tree.getString("name"));
+        JSONObject b = tree.getJSONArray("children").getJSONObject(0).getJSONArray("children").getJSONObject(0);
+        assertEquals("B", b.getString("name"));
+        assertTrue(b.getLong("p99Nanos") > 0);
+    }
+
+    @Test
+    void testRegisterMBean() throws Exception {
+        profiler.start("A");
+        profiler.stop();
+        MBeanServer mBeanServer = getPlatformMBeanServer();
+        ObjectName objectName = profiler.registerMBean(mBeanServer);
+        try {
+            assertEquals("test", getAttribute(mBeanServer, objectName, "Id"));
+            assertArrayEquals(new String[]{"A"}, (String[]) getAttribute(mBeanServer, objectName, "TaskNames"));
+            assertEquals(1L, mBeanServer.invoke(objectName, "getCount", new Object[]{"A"}, new String[]{String.class.getName()}));
+        } finally {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+}
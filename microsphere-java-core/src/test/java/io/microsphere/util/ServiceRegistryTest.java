@@ -0,0 +1,299 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.util;
+
+import io.microsphere.convert.Converter;
+import io.microsphere.convert.StringToCharArrayConverter;
+import io.microsphere.event.EchoEvent;
+import io.microsphere.event.EchoEventListener;
+import io.microsphere.event.EchoEventListener2;
+import io.microsphere.event.EventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.Set;
+
+import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.collection.SetUtils.newLinkedHashSet;
+import static io.microsphere.constants.PathConstants.SLASH_CHAR;
+import static io.microsphere.reflect.TypeUtils.resolveActualTypeArgumentClasses;
+import static io.microsphere.util.ClassLoaderUtils.getClassLoader;
+import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
+import static io.microsphere.util.ClassLoaderUtils.loadClass;
+import static io.microsphere.util.ClassUtils.getCodeSourceLocation;
+import static io.microsphere.util.ServiceRegistry.SERVICES_INDEX_RESOURCE_NAME;
+import static io.microsphere.util.ServiceRegistry.SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME;
+import static io.microsphere.util.ServiceRegistry.addClassName;
+import static io.microsphere.util.ServiceRegistry.clear;
+import static io.microsphere.util.ServiceRegistry.getInstance;
+import static io.microsphere.util.ServiceRegistry.registries;
+import static io.microsphere.util.ServiceRegistry.remove;
+import static java.lang.System.gc;
+import static java.lang.Thread.sleep;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.newOutputStream;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ServiceRegistry} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ServiceRegistry
+ * @since 1.0.0
+ */
+class ServiceRegistryTest {
+
+    private static final ClassLoader classLoader = getClassLoader(ServiceRegistryTest.class);
+
+    private static final List<String> EVENT_LISTENER_CLASS_NAMES = ofList(EchoEventListener.class.getName(), EchoEventListener2.class.getName());
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    void testGetInstance() {
+        ServiceRegistry registry = getInstance(classLoader);
+        assertSame(registry, getInstance(classLoader));
+        assertSame(getInstance(getDefaultClassLoader()), getInstance(null));
+        assertSame(classLoader, registry.getClassLoader());
+        assertNotNull(registry.toString());
+
+        assertSame(registry, remove(classLoader));
+        assertNull(remove(classLoader));
+        assertNotSame(registry, getInstance(classLoader));
+    }
+
+    @Test
+    void testGetInstanceOnDifferentClassLoaders() throws IOException {
+        try (URLClassLoader childClassLoader = new URLClassLoader(new URL[0], classLoader)) {
+            assertNotSame(getInstance(classLoader), getInstance(childClassLoader));
+        }
+    }
+
+    @Test
+    void testGetProviderClassNames() {
+        ServiceRegistry registry = getInstance(classLoader);
+        assertEquals(EVENT_LISTENER_CLASS_NAMES, registry.getProviderClassNames(EventListener.class));
+        assertSame(registry.getProviderClassNames(EventListener.class), registry.getProviderClassNames(EventListener.class));
+        assertTrue(registry.getProviderClassNames(Set.class).isEmpty());
+    }
+
+    @Test
+    void testGetProviders() {
+        ServiceRegistry registry = getInstance(classLoader);
+        List<EventListener> eventListeners = registry.getProviders(EventListener.class);
+        assertEventListeners(eventListeners);
+        assertSame(eventListeners, registry.getProviders(EventListener.class));
+        assertThrows(UnsupportedOperationException.class, () -> eventListeners.add(null));
+        assertThrows(IllegalArgumentException.class, () -> registry.getProviders(Set.class));
+    }
+
+    @Test
+    void testNewProviders() {
+        ServiceRegistry registry = getInstance(classLoader);
+        List<EventListener> eventListeners = registry.newProviders(EventListener.class);
+        assertEventListeners(eventListeners);
+        assertNotSame(eventListeners.get(0), registry.newProviders(EventListener.class).get(0));
+        assertThrows(IllegalArgumentException.class, () -> registry.newProviders(Set.class));
+    }
+
+    @Test
+    void testNewProvidersInParallel() {
+        ServiceRegistry registry = new ServiceRegistry(classLoader, false, true);
+        assertEventListeners(registry.newProviders(EventListener.class));
+    }
+
+    @Test
+    void testGetProvider() {
+        ServiceRegistry registry = getInstance(classLoader);
+        String className = EchoEventListener.class.getName();
+        EventListener eventListener = registry.getProvider(EventListener.class, className);
+        assertEquals(EchoEventListener.class, eventListener.getClass());
+        assertSame(eventListener, registry.getProvider(EventListener.class, className));
+        // the shared instance is reused
+        assertSame(eventListener, registry.getProviders(EventListener.class).get(1));
+        assertThrows(IllegalArgumentException.class, () -> registry.getProvider(EventListener.class, "not.found.EventListener"));
+    }
+
+    @Test
+    void testIndex() throws IOException {
+        File directory = createRandomTempDirectory();
+        writeIndex(directory, EventListener.class.getName() + "=" + EchoEventListener2.class.getName());
+        try (URLClassLoader indexedClassLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, classLoader)) {
+            ServiceRegistry registry = new ServiceRegistry(indexedClassLoader, true, false);
+            assertEquals(ofList(EchoEventListener2.class.getName()), registry.getProviderClassNames(EventListener.class));
+            // the service type absent in the index
+            assertTrue(registry.getProviderClassNames(Set.class).isEmpty());
+
+            registry = new ServiceRegistry(indexedClassLoader, false, false);
+            assertEquals(EVENT_LISTENER_CLASS_NAMES, registry.getProviderClassNames(EventListener.class));
+            assertEquals(emptyMap(), new ServiceRegistry(classLoader, true, false).getIndex());
+        }
+    }
+
+    @Test
+    void testNewProvidersOnServiceConfigurationError() throws IOException {
+        File directory = createRandomTempDirectory();
+        writeIndex(directory, EventListener.class.getName() + "=io.microsphere.event.NotFoundEventListener\n" +
+                Runnable.class.getName() + "=" + EchoEventListener.class.getName() + "\n" +
+                Comparable.class.getName() + "=" + Integer.class.getName());
+        try (URLClassLoader indexedClassLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, classLoader)) {
+            ServiceRegistry registry = new ServiceRegistry(indexedClassLoader, true, false);
+            // not found
+            assertThrows(ServiceConfigurationError.class, () -> registry.newProviders(EventListener.class));
+            // not assignable
+            assertThrows(ServiceConfigurationError.class, () -> registry.newProviders(Runnable.class));
+            // no public default constructor
+            assertThrows(ServiceConfigurationError.class, () -> registry.newProviders(Comparable.class));
+        }
+    }
+
+    @Test
+    void testGetTypeArguments() throws IOException {
+        File directory = createRandomTempDirectory();
+        writeIndex(directory, SERVICE_TYPE_ARGUMENTS_INDEX_RESOURCE_NAME,
+                EventListener.class.getName() + "/" + EchoEventListener.class.getName() + "=" + EchoEvent.class.getName() + "\n" +
+                        EventListener.class.getName() + "/" + EchoEventListener2.class.getName() + "=io.microsphere.event.NotFoundEvent\n" +
+                        Converter.class.getName() + "/" + StringToCharArrayConverter.class.getName() + "=java.lang.String,[C");
+        try (URLClassLoader indexedClassLoader = new URLClassLoader(new URL[]{directory.toURI().toURL()}, classLoader)) {
+            ServiceRegistry registry = new ServiceRegistry(indexedClassLoader, true, false);
+            assertEquals(ofList(EchoEvent.class), registry.getTypeArguments(EventListener.class, EchoEventListener.class));
+            assertSame(EchoEvent.class, registry.getTypeArgument(EventListener.class, EchoEventListener.class, 0));
+            assertNull(registry.getTypeArgument(EventListener.class, EchoEventListener.class, 1));
+            assertEquals(ofList(String.class, char[].class), registry.getTypeArguments(Converter.class, StringToCharArrayConverter.class));
+            // the type argument can't be loaded
+            assertNull(registry.getTypeArguments(EventListener.class, EchoEventListener2.class));
+            // the provider class absent in the index
+            assertNull(registry.getTypeArguments(Converter.class, EchoEventListener.class));
+
+            registry = new ServiceRegistry(indexedClassLoader, false, false);
+            assertNull(registry.getTypeArguments(EventListener.class, EchoEventListener.class));
+            assertNull(new ServiceRegistry(classLoader, true, false).getTypeArguments(EventListener.class, EchoEventListener.class));
+        }
+    }
+
+    @Test
+    void testBuiltInTypeArgumentsIndex() {
+        ServiceRegistry registry = new ServiceRegistry(classLoader, true, false);
+        Map<String, List<String>> typeArgumentsIndex = registry.getTypeArgumentsIndex();
+        assertFalse(typeArgumentsIndex.isEmpty());
+        // the checked-in index must be consistent with the type arguments resolved by reflection
+        for (String key : typeArgumentsIndex.keySet()) {
+            int slashIndex = key.indexOf(SLASH_CHAR);
+            Class<?> serviceType = loadClass(classLoader, key.substring(0, slashIndex));
+            Class<?> providerClass = loadClass(classLoader, key.substring(slashIndex + 1));
+            assertEquals(resolveActualTypeArgumentClasses(providerClass, serviceType), registry.getTypeArguments(serviceType, providerClass), key);
+        }
+        // all built-in converters are indexed
+        for (String className : registry.getProviderClassNames(Converter.class)) {
+            Class<?> converterClass = loadClass(classLoader, className);
+            Converter<?, ?> converter = (Converter<?, ?>) registry.getProvider(Converter.class, className);
+            assertEquals(ofList(converter.getSourceType(), converter.getTargetType()), registry.getTypeArguments(Converter.class, converterClass), className);
+        }
+    }
+
+    @Test
+    void testAddClassName() {
+        Set<String> classNames = newLinkedHashSet();
+        addClassName(classNames, "  io.microsphere.A  ");
+        addClassName(classNames, "io.microsphere.B # comment");
+        addClassName(classNames, "# comment");
+        addClassName(classNames, "   ");
+        addClassName(classNames, "io.microsphere.A");
+        assertEquals(ofList("io.microsphere.A", "io.microsphere.B"), ofList(classNames.toArray(new String[0])));
+    }
+
+    @Test
+    void testRemoveReleasesClassLoader() throws Exception {
+        assertClassLoaderReleased(getProvidersInThrowawayClassLoader(true));
+    }
+
+    @Test
+    void testClassLoaderReleasedWithoutRemove() throws Exception {
+        assertClassLoaderReleased(getProvidersInThrowawayClassLoader(false));
+    }
+
+    private void assertClassLoaderReleased(WeakReference<ClassLoader> classLoaderReference) throws InterruptedException {
+        for (int i = 0; i < 50 && classLoaderReference.get() != null; i++) {
+            gc();
+            sleep(20);
+        }
+        assertNull(classLoaderReference.get());
+    }
+
+    /**
+     * The providers are defined by the throwaway {@link ClassLoader} without the parent, so that they refer to it
+     *
+     * @param removed <code>true</code> if the registry is removed, or its soft reference is cleared as the garbage
+     *                collector does when the memory is demanded
+     */
+    private WeakReference<ClassLoader> getProvidersInThrowawayClassLoader(boolean removed) throws Exception {
+        URL[] urls = {getCodeSourceLocation(ServiceRegistryTest.class), getCodeSourceLocation(ServiceRegistry.class)};
+        try (URLClassLoader throwawayClassLoader = new URLClassLoader(urls, null)) {
+            Class<?> serviceType = throwawayClassLoader.loadClass(EventListener.class.getName());
+            List<?> eventListeners = getInstance(throwawayClassLoader).getProviders(serviceType);
+            assertEquals(2, eventListeners.size());
+            assertSame(throwawayClassLoader, eventListeners.get(0).getClass().getClassLoader());
+            if (removed) {
+                assertNotNull(remove(throwawayClassLoader));
+            } else {
+                synchronized (registries) {
+                    registries.get(throwawayClassLoader).clear();
+                }
+            }
+            return new WeakReference<>(throwawayClassLoader);
+        }
+    }
+
+    private void writeIndex(File directory, String content) throws IOException {
+        writeIndex(directory, SERVICES_INDEX_RESOURCE_NAME, content);
+    }
+
+    private void writeIndex(File directory, String resourceName, String content) throws IOException {
+        File indexFile = new File(directory, resourceName);
+        createDirectories(indexFile.getParentFile().toPath());
+        try (OutputStream outputStream = newOutputStream(indexFile.toPath())) {
+            outputStream.write(content.getBytes("UTF-8"));
+        }
+    }
+
+    private void assertEventListeners(List<EventListener> eventListeners) {
+        assertEquals(2, eventListeners.size());
+        assertEquals(EchoEventListener2.class, eventListeners.get(0).getClass());
+        assertEquals(EchoEventListener.class, eventListeners.get(1).getClass());
+    }
+}
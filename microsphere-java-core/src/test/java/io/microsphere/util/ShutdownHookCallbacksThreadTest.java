@@ -1,21 +1,38 @@
 package io.microsphere.util;
 
 import io.microsphere.LoggingTest;
-
+import io.microsphere.lang.Prioritized;
+import io.microsphere.util.ShutdownHookCallbacksThread.CallbackExecution;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
 import static io.microsphere.util.ShutdownHookCallbacksThread.INSTANCE;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.COMPLETED;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.FAILED;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.SKIPPED;
+import static io.microsphere.util.ShutdownHookCallbacksThread.Status.TIMED_OUT;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_PARALLELISM;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_TIMEOUT;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACK_TIMEOUT;
 import static io.microsphere.util.ShutdownHookUtils.addShutdownHookCallback;
+import static io.microsphere.util.ShutdownHookUtils.clearShutdownHookCallbacks;
+import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
-/**
- * {@link ShutdownHookCallbacksThread} Test
- *
- * @author <a href="mailto:mercyblitz@gmail.com">Mercy<a/>
- * @see ShutdownHookCallbacksThread
- * @since 1.0.0
- */
 class ShutdownHookCallbacksThreadTest extends LoggingTest {
 
+    @AfterEach
+    void tearDown() {
+        clearShutdownHookCallbacks();
+    }
+
     @Test
     void testRun() {
         ShutdownHookCallbacksThread thread = INSTANCE;
@@ -28,4 +45,132 @@ class ShutdownHookCallbacksThreadTest extends LoggingTest {
 
         thread.run();
     }
+
+    @Test
+    void testExecuteShutdownHookCallbacksInPhases() {
+        long[] finishedNanos = new long[3];
+        addShutdownHookCallback(() -> finishedNanos[2] = System.nanoTime());
+        addShutdownHookCallback(new PrioritizedCallback(2, () -> finishedNanos[1] = System.nanoTime()));
+        addShutdownHookCallback(new PrioritizedCallback(1, () -> {
+            sleep(50);
+            finishedNanos[0] = System.nanoTime();
+        }));
+
+        List<CallbackExecution> executions = INSTANCE.executeShutdownHookCallbacks(4, 5000, 5000);
+        assertEquals(3, executions.size());
+        assertEquals(Integer.valueOf(1), executions.get(0).priority);
+        assertEquals(Integer.valueOf(2), executions.get(1).priority);
+        assertNull(executions.get(2).priority);
+        for (CallbackExecution execution : executions) {
+            assertEquals(COMPLETED, execution.getStatus());
+        }
+        assertTrue(executions.get(0).getElapsedNanos() > 0);
+        assertTrue(finishedNanos[0] < finishedNanos[1]);
+        assertTrue(finishedNanos[1] < finishedNanos[2]);
+    }
+
+    @Test
+    void testExecuteShutdownHookCallbacksWithoutTimeout() {
+        Thread[] threads = new Thread[2];
+        addShutdownHookCallback(new PrioritizedCallback(1, () -> threads[0] = Thread.currentThread()));
+        addShutdownHookCallback(new PrioritizedCallback(2, () -> {
+            threads[1] = Thread.currentThread();
+            throw new RuntimeException("For testing");
+        }));
+
+        List<CallbackExecution> executions = INSTANCE.executeShutdownHookCallbacks(SHUTDOWN_HOOK_CALLBACKS_PARALLELISM,
+                SHUTDOWN_HOOK_CALLBACK_TIMEOUT, SHUTDOWN_HOOK_CALLBACKS_TIMEOUT);
+        assertEquals(COMPLETED, executions.get(0).getStatus());
+        assertEquals(FAILED, executions.get(1).getStatus());
+        // The callbacks run in the current thread by default
+        assertSame(Thread.currentThread(), threads[0]);
+        assertSame(Thread.currentThread(), threads[1]);
+        ShutdownHookCallbacksThread.report(executions);
+    }
+
+    @Test
+    void testExecuteShutdownHookCallbacksInParallel() {
+        CountDownLatch latch = new CountDownLatch(2);
+        Callback callback = () -> {
+            latch.countDown();
+            latch.await(5, SECONDS);
+        };
+        addShutdownHookCallback(new PrioritizedCallback(1, callback));
+        addShutdownHookCallback(new PrioritizedCallback(1, callback));
+
+        List<CallbackExecution> executions = INSTANCE.executeShutdownHookCallbacks(2, 5000, 5000);
+        assertEquals(0, latch.getCount());
+        assertEquals(COMPLETED, executions.get(0).getStatus());
+        assertEquals(COMPLETED, executions.get(1).getStatus());
+    }
+
+    @Test
+    void testExecuteShutdownHookCallbacksOnCallbackTimeout() {
+        addShutdownHookCallback(new PrioritizedCallback(1, () -> sleep(10_000)));
+        addShutdownHookCallback(new PrioritizedCallback(2, () -> {
+        }));
+
+        List<CallbackExecution> executions = INSTANCE.executeShutdownHookCallbacks(1, 100, 5000);
+        assertEquals(TIMED_OUT, executions.get(0).getStatus());
+        assertEquals(COMPLETED, executions.get(1).getStatus());
+    }
+
+    @Test
+    void testExecuteShutdownHookCallbacksOnTimeout() {
+        addShutdownHookCallback(new PrioritizedCallback(1, () -> sleep(10_000)));
+        addShutdownHookCallback(new PrioritizedCallback(2, () -> {
+        }));
+
+        List<CallbackExecution> executions = INSTANCE.executeShutdownHookCallbacks(1, 5000, 100);
+        assertEquals(TIMED_OUT, executions.get(0).getStatus());
+        assertEquals(SKIPPED, executions.get(1).getStatus());
+        ShutdownHookCallbacksThread.report(executions);
+    }
+
+    @Test
+    void testExecuteShutdownHookCallbacksOnFailure() {
+        addShutdownHookCallback(new PrioritizedCallback(1, () -> {
+            throw new RuntimeException("For testing");
+        }));
+        addShutdownHookCallback(new PrioritizedCallback(2, () -> {
+        }));
+
+        List<CallbackExecution> executions = INSTANCE.executeShutdownHookCallbacks(1, 5000, 5000);
+        assertEquals(FAILED, executions.get(0).getStatus());
+        assertEquals(COMPLETED, executions.get(1).getStatus());
+        ShutdownHookCallbacksThread.report(executions);
+    }
+
+    interface Callback {
+
+        void call() throws Exception;
+    }
+
+    static class PrioritizedCallback implements Runnable, Prioritized {
+
+        private final int priority;
+
+        private final Callback callback;
+
+        PrioritizedCallback(int priority, Callback callback) {
+            this.priority = priority;
+            this.callback = callback;
+        }
+
+        @Override
+        public void run() {
+            try {
+                callback.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+    }
 }
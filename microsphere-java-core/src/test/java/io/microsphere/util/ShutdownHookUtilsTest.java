@@ -23,7 +23,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Queue;
 
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_PARALLELISM;
 import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_THREAD_FILTER;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACKS_TIMEOUT;
+import static io.microsphere.util.ShutdownHookUtils.SHUTDOWN_HOOK_CALLBACK_TIMEOUT;
 import static io.microsphere.util.ShutdownHookUtils.addShutdownHookCallback;
 import static io.microsphere.util.ShutdownHookUtils.clearShutdownHookCallbacks;
 import static io.microsphere.util.ShutdownHookUtils.filterShutdownHookThreads;
@@ -64,6 +67,14 @@ class ShutdownHookUtilsTest implements Loggable {
         assertFalse(filterShutdownHookThreads(SHUTDOWN_HOOK_CALLBACKS_THREAD_FILTER).isEmpty());
     }
 
+    @Test
+    void testDefaults() {
+        // The parallelism and timeouts are opt-in
+        assertEquals(1, SHUTDOWN_HOOK_CALLBACKS_PARALLELISM);
+        assertEquals(0, SHUTDOWN_HOOK_CALLBACK_TIMEOUT);
+        assertEquals(0, SHUTDOWN_HOOK_CALLBACKS_TIMEOUT);
+    }
+
     @Test
     void testGetShutdownHookThreads() {
         assertFalse(getShutdownHookThreads().isEmpty());
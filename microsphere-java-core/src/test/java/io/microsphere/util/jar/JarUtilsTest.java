@@ -10,11 +10,15 @@ import org.junit.jupiter.api.Test;
 
 import javax.annotation.Nonnull;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
 
 import static io.microsphere.AbstractTestCase.createRandomTempDirectory;
 import static io.microsphere.AbstractTestCase.createRandomTempFile;
@@ -31,10 +35,14 @@ import static io.microsphere.util.jar.JarUtils.extract;
 import static io.microsphere.util.jar.JarUtils.filter;
 import static io.microsphere.util.jar.JarUtils.findJarEntry;
 import static io.microsphere.util.jar.JarUtils.isDirectoryEntry;
+import static io.microsphere.util.jar.JarUtils.mapStoredEntry;
 import static io.microsphere.util.jar.JarUtils.resolveJarAbsolutePath;
 import static io.microsphere.util.jar.JarUtils.resolveRelativePath;
 import static io.microsphere.util.jar.JarUtils.toJarFile;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyList;
+import static java.util.zip.ZipEntry.STORED;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -203,4 +211,57 @@ class JarUtilsTest extends LoggingTest {
         resourceURL = ofURL("jar:file:/path/to/file.jar!/com/acme/");
         assertFalse(isDirectoryEntry(resourceURL));
     }
+
+    @Test
+    void testMapStoredEntry() throws IOException {
+        File jarFile = new File(createRandomTempDirectory(), "test.jar");
+        byte[] content = "Hello,World".getBytes(UTF_8);
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jarFile))) {
+            JarEntry storedEntry = new JarEntry("stored/test.txt");
+            storedEntry.setMethod(STORED);
+            storedEntry.setSize(content.length);
+            storedEntry.setCompressedSize(content.length);
+            CRC32 crc32 = new CRC32();
+            crc32.update(content);
+            storedEntry.setCrc(crc32.getValue());
+            jarOutputStream.putNextEntry(storedEntry);
+            jarOutputStream.write(content);
+            jarOutputStream.closeEntry();
+
+            jarOutputStream.putNextEntry(new JarEntry("deflated/test.txt"));
+            jarOutputStream.write(content);
+            jarOutputStream.closeEntry();
+
+            // the stored entry after the others
+            JarEntry lastStoredEntry = new JarEntry("stored/last.txt");
+            lastStoredEntry.setMethod(STORED);
+            lastStoredEntry.setSize(content.length);
+            lastStoredEntry.setCompressedSize(content.length);
+            lastStoredEntry.setCrc(crc32.getValue());
+            jarOutputStream.putNextEntry(lastStoredEntry);
+            jarOutputStream.write(content);
+            jarOutputStream.closeEntry();
+        }
+
+        assertMappedEntry(jarFile, "stored/test.txt", content);
+        assertMappedEntry(jarFile, "stored/last.txt", content);
+
+        // compressed
+        assertNull(mapStoredEntry(jarFile, "deflated/test.txt"));
+        // absent
+        assertNull(mapStoredEntry(jarFile, "not-found.txt"));
+        // not a JAR file
+        assertNull(mapStoredEntry(createRandomTempFile(), "stored/test.txt"));
+    }
+
+    private void assertMappedEntry(File jarFile, String entryName, byte[] content) throws IOException {
+        ByteBuffer byteBuffer = mapStoredEntry(jarFile, entryName);
+        assertNotNull(byteBuffer);
+        assertTrue(byteBuffer.isReadOnly());
+        // only the region of entry is mapped
+        assertEquals(content.length, byteBuffer.capacity());
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.get(bytes);
+        assertArrayEquals(content, bytes);
+    }
 }
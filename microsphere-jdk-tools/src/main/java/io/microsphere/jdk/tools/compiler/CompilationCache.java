@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.logging.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static io.microsphere.constants.SeparatorConstants.PATH_SEPARATOR;
+import static io.microsphere.io.FileUtils.deleteDirectory;
+import static io.microsphere.io.FileUtils.resolveRelativePath;
+import static io.microsphere.jdk.tools.compiler.Compiler.defaultRootDirectory;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.StringUtils.split;
+import static io.microsphere.util.SystemUtils.JAVA_CLASS_PATH;
+import static io.microsphere.util.SystemUtils.JAVA_VENDOR;
+import static io.microsphere.util.SystemUtils.JAVA_VERSION;
+import static java.lang.Long.parseLong;
+import static java.lang.String.valueOf;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.copy;
+import static java.nio.file.Files.createDirectories;
+import static java.nio.file.Files.isRegularFile;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.walk;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.stream.Collectors.toList;
+
+/**
+ * The content-addressed cache of the {@link Compiler} results.
+ *
+ * <p>The key of an entry is the SHA-256 digest of the contents of the source files, the fingerprint of the
+ * source paths, the options, the Java runtime and the fingerprint of the class path. The entry stores the class files and the generated files of a successful compilation, so that
+ * {@link Compiler#compile(Class[])} copies them into the target directory and skips javac on a hit. Hence a hit
+ * neither runs the processors nor reports the diagnostics, and the {@link Compiler} does not consult the cache when
+ * the processors are configured.</p>
+ *
+ * <p>The fingerprints consist of the paths, the lengths and the last-modified times of the files. The class path
+ * fingerprint is computed once per instance, because the class path of the running JVM does not change.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * CompilationCache cache = new CompilationCache();
+ * Compiler compiler = new Compiler().cache(cache);
+ * compiler.compile(MyService.class); // miss, javac runs and the outputs are stored
+ * compiler.compile(MyService.class); // hit, the outputs are restored
+ * cache.getHitCount();               // 1
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Compiler#cache(CompilationCache)
+ * @since 1.0.0
+ */
+public class CompilationCache {
+
+    private static final Logger logger = getLogger(CompilationCache.class);
+
+    /**
+     * The name of the default cache directory under "${rootDirectory}/target"
+     */
+    public static final String DEFAULT_DIRECTORY_NAME = "compilation-cache";
+
+    static final String FILES_DIRECTORY_NAME = "files";
+
+    static final String METADATA_FILE_NAME = "compilation.properties";
+
+    static final String COMPILE_TIME_PROPERTY_NAME = "compileTime";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final File directory;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    private final AtomicLong savedTime = new AtomicLong();
+
+    private volatile byte[] classPathFingerprint;
+
+    public CompilationCache() {
+        this(new File(defaultRootDirectory(), "target/" + DEFAULT_DIRECTORY_NAME));
+    }
+
+    public CompilationCache(File directory) {
+        assertNotNull(directory, () -> "The cache directory must not be null");
+        this.directory = directory;
+    }
+
+    /**
+     * Generate the key of the compilation
+     *
+     * @param sourceFiles the source files to compile
+     * @param sourcePaths the source paths that javac may read the dependent sources from
+     * @param options     the options of javac
+     * @return the hex string of the digest
+     * @throws IOException if the source files can't be read
+     */
+    @Nonnull
+    public String generateKey(Collection<File> sourceFiles, Collection<File> sourcePaths, List<String> options) throws IOException {
+        MessageDigest digest = newDigest();
+        for (File sourceFile : sourceFiles) {
+            update(digest, sourceFile.getAbsolutePath());
+            digest.update(readAllBytes(sourceFile.toPath()));
+        }
+        for (File sourcePath : sourcePaths) {
+            digest.update(fingerprint(sourcePath));
+        }
+        for (String option : options) {
+            update(digest, option);
+        }
+        update(digest, JAVA_VENDOR);
+        update(digest, JAVA_VERSION);
+        digest.update(getClassPathFingerprint());
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Restore the outputs of the cached compilation into the target directory
+     *
+     * @param key             the key of the compilation
+     * @param targetDirectory the target directory
+     * @return <code>true</code> if hit, the outputs are restored
+     * @throws IOException if the outputs can't be copied
+     */
+    public boolean restore(String key, File targetDirectory) throws IOException {
+        File entryDirectory = getEntryDirectory(key);
+        File metadataFile = new File(entryDirectory, METADATA_FILE_NAME);
+        if (!metadataFile.isFile()) {
+            missCount.incrementAndGet();
+            logger.trace("The compilation cache[key : '{}'] is missed", key);
+            return false;
+        }
+        Path filesDirectory = new File(entryDirectory, FILES_DIRECTORY_NAME).toPath();
+        Path targetPath = targetDirectory.toPath();
+        for (Path file : listFiles(filesDirectory)) {
+            Path targetFile = targetPath.resolve(filesDirectory.relativize(file).toString());
+            createDirectories(targetFile.getParent());
+            copy(file, targetFile, REPLACE_EXISTING);
+        }
+        hitCount.incrementAndGet();
+        savedTime.addAndGet(readCompileTime(metadataFile));
+        logger.trace("The compilation cache[key : '{}'] is hit, the outputs are restored into the directory[path : '{}']",
+                key, targetDirectory);
+        return true;
+    }
+
+    /**
+     * Store the outputs of the successful compilation
+     *
+     * @param key             the key of the compilation
+     * @param targetDirectory the target directory that the output files were written into
+     * @param outputFiles     the output files, the files outside the target directory are ignored
+     * @param compileTime     the time of the compilation in milliseconds
+     * @throws IOException if the outputs can't be copied
+     */
+    public void store(String key, File targetDirectory, Collection<File> outputFiles, long compileTime) throws IOException {
+        File entryDirectory = getEntryDirectory(key);
+        if (entryDirectory.exists()) {
+            return;
+        }
+        // write into the temporary directory and then move it, so that the incomplete entry is never visible
+        File tempDirectory = new File(directory, key + "." + System.nanoTime() + ".tmp");
+        Path filesDirectory = new File(tempDirectory, FILES_DIRECTORY_NAME).toPath();
+        createDirectories(filesDirectory);
+        for (File outputFile : outputFiles) {
+            String relativePath = resolveRelativePath(targetDirectory, outputFile);
+            if (relativePath == null || !outputFile.isFile()) {
+                continue;
+            }
+            Path file = filesDirectory.resolve(relativePath);
+            createDirectories(file.getParent());
+            copy(outputFile.toPath(), file, REPLACE_EXISTING);
+        }
+        writeCompileTime(new File(tempDirectory, METADATA_FILE_NAME), compileTime);
+        try {
+            move(tempDirectory.toPath(), entryDirectory.toPath(), ATOMIC_MOVE);
+            logger.trace("The compilation cache[key : '{}'] is stored with {} files", key, outputFiles.size());
+        } catch (IOException e) {
+            // stored by another compilation concurrently
+            deleteDirectory(tempDirectory);
+        }
+    }
+
+    /**
+     * Remove all entries and reset the statistics
+     *
+     * @throws IOException if the entries can't be deleted
+     */
+    public void clear() throws IOException {
+        if (directory.exists()) {
+            deleteDirectory(directory);
+        }
+        hitCount.set(0);
+        missCount.set(0);
+        savedTime.set(0);
+    }
+
+    /**
+     * @return the cache directory
+     */
+    @Nonnull
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * @return the count of the compilations restored from the cache
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * @return the count of the compilations that ran javac
+     */
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * @return the ratio of hits to lookups, <code>0</code> if no lookup
+     */
+    public double getHitRatio() {
+        long hitCount = getHitCount();
+        long lookupCount = hitCount + getMissCount();
+        return lookupCount == 0 ? 0 : (double) hitCount / lookupCount;
+    }
+
+    /**
+     * @return the sum of the recorded compile times of the hit entries in milliseconds
+     */
+    public long getSavedTime() {
+        return savedTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return "CompilationCache{" +
+                "directory=" + directory +
+                ", hitCount=" + getHitCount() +
+                ", missCount=" + getMissCount() +
+                ", savedTime=" + getSavedTime() +
+                "ms}";
+    }
+
+    File getEntryDirectory(String key) {
+        return new File(directory, key);
+    }
+
+    private byte[] getClassPathFingerprint() throws IOException {
+        byte[] classPathFingerprint = this.classPathFingerprint;
+        if (classPathFingerprint == null) {
+            MessageDigest digest = newDigest();
+            for (String path : split(JAVA_CLASS_PATH, PATH_SEPARATOR)) {
+                digest.update(fingerprint(new File(path)));
+            }
+            classPathFingerprint = digest.digest();
+            this.classPathFingerprint = classPathFingerprint;
+        }
+        return classPathFingerprint;
+    }
+
+    static byte[] fingerprint(File file) throws IOException {
+        MessageDigest digest = newDigest();
+        update(digest, file.getAbsolutePath());
+        if (file.exists()) {
+            for (Path path : listFiles(file.toPath())) {
+                File element = path.toFile();
+                update(digest, element.getAbsolutePath());
+                update(digest, valueOf(element.length()));
+                update(digest, valueOf(element.lastModified()));
+            }
+        }
+        return digest.digest();
+    }
+
+    static List<Path> listFiles(Path path) throws IOException {
+        try (Stream<Path> paths = walk(path)) {
+            return paths.filter(p -> isRegularFile(p))
+                    .sorted()
+                    .collect(toList());
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            chars[i * 2] = HEX_CHARS[value >>> 4];
+            chars[i * 2 + 1] = HEX_CHARS[value & 0x0F];
+        }
+        return new String(chars);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(UTF_8));
+        }
+        // the separator
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long readCompileTime(File metadataFile) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream inputStream = newInputStream(metadataFile.toPath())) {
+            properties.load(inputStream);
+        }
+        return parseLong(properties.getProperty(COMPILE_TIME_PROPERTY_NAME, "0"));
+    }
+
+    private static void writeCompileTime(File metadataFile, long compileTime) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(COMPILE_TIME_PROPERTY_NAME, valueOf(compileTime));
+        try (OutputStream outputStream = newOutputStream(metadataFile.toPath())) {
+            properties.store(outputStream, null);
+        }
+    }
+}
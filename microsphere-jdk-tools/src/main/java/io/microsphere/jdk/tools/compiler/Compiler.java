@@ -21,9 +21,13 @@ import io.microsphere.logging.Logger;
 
 import javax.annotation.processing.Processor;
 import javax.tools.DiagnosticListener;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
 import javax.tools.JavaCompiler;
 import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileManager;
 import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
 import javax.tools.StandardJavaFileManager;
 import java.io.File;
 import java.io.IOException;
@@ -31,6 +35,7 @@ import java.net.URL;
 import java.nio.charset.Charset;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
@@ -52,11 +57,13 @@ import static io.microsphere.util.Assert.assertNotNull;
 import static io.microsphere.util.ClassUtils.getTypeName;
 import static io.microsphere.util.StringUtils.substringBefore;
 import static java.io.File.separatorChar;
+import static java.lang.System.currentTimeMillis;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.stream.Collectors.toList;
 import static java.util.stream.Stream.of;
 import static javax.tools.StandardLocation.CLASS_OUTPUT;
 import static javax.tools.StandardLocation.SOURCE_OUTPUT;
@@ -92,6 +99,8 @@ public class Compiler {
 
     private Charset charset;
 
+    private CompilationCache cache;
+
     public Compiler() {
         this(defaultTargetDirectory());
     }
@@ -153,12 +162,50 @@ public class Compiler {
         return this;
     }
 
+    /**
+     * Set the {@link CompilationCache}, the compilation whose sources, options and class path are unchanged
+     * restores the outputs from the cache instead of running javac.
+     *
+     * <p>A restored compilation has no side effects : no diagnostics are reported to the
+     * {@link #diagnosticListener(DiagnosticListener) diagnostic listener}. The cache is bypassed when any
+     * {@link #processors(Processor...) processor} is configured, because the processors must run on every
+     * compilation.</p>
+     *
+     * @param cache the {@link CompilationCache}, <code>null</code> to disable the cache
+     * @return this
+     */
+    public Compiler cache(CompilationCache cache) {
+        this.cache = cache;
+        return this;
+    }
+
     public boolean compile(Class<?>... sourceClasses) throws IOException {
+        List<File> sourceFiles = getJavaSourceFiles(sourceClasses);
+        CompilationCache cache = this.cache;
+        if (cache == null || !isEmpty(getProcessors())) {
+            return compile(sourceFiles, null);
+        }
+        String key = cache.generateKey(sourceFiles, this.sourcePaths, getOptions());
+        if (cache.restore(key, this.targetDirectory)) {
+            return true;
+        }
+        List<File> outputFiles = new ArrayList<>();
+        long startTime = currentTimeMillis();
+        boolean success = compile(sourceFiles, outputFiles);
+        if (success) {
+            cache.store(key, this.targetDirectory, outputFiles, currentTimeMillis() - startTime);
+        }
+        return success;
+    }
+
+    private boolean compile(List<File> sourceFiles, List<File> outputFiles) throws IOException {
         JavaCompiler javaCompiler = getJavaCompiler();
         StringBuilderWriter writer = new StringBuilderWriter();
         try (StandardJavaFileManager javaFileManager = getJavaFileManager()) {
-            CompilationTask task = javaCompiler.getTask(writer, javaFileManager,
-                    getDiagnosticListener(), getOptions(), null, getJavaFileObjects(javaFileManager, sourceClasses));
+            JavaFileManager fileManager = outputFiles == null ? javaFileManager :
+                    new OutputRecordingJavaFileManager(javaFileManager, outputFiles);
+            CompilationTask task = javaCompiler.getTask(writer, fileManager,
+                    getDiagnosticListener(), getOptions(), null, javaFileManager.getJavaFileObjectsFromFiles(sourceFiles));
             task.setProcessors(this.getProcessors());
             return task.call();
         } finally {
@@ -206,12 +253,15 @@ public class Compiler {
         return unmodifiableSet(processors);
     }
 
-    private Iterable<? extends JavaFileObject> getJavaFileObjects(StandardJavaFileManager javaFileManager, Class<?>... sourceClasses) {
-        File[] javaFiles = of(sourceClasses)
+    public CompilationCache getCache() {
+        return this.cache;
+    }
+
+    private List<File> getJavaSourceFiles(Class<?>... sourceClasses) {
+        return of(sourceClasses)
                 .map(this::searchJavaSourceFile)
                 .filter(Objects::nonNull)
-                .toArray(File[]::new);
-        return javaFileManager.getJavaFileObjects(javaFiles);
+                .collect(toList());
     }
 
     private File searchJavaSourceFile(Class<?> sourceClass) {
@@ -284,4 +334,37 @@ public class Compiler {
     public static String resolveJavaSourceFileRelativePath(Class<?> sourceClass) {
         return sourceClass.getName().replace(DOT_CHAR, separatorChar).concat(JAVA_EXTENSION);
     }
+
+    /**
+     * Records the files written into the {@link javax.tools.StandardLocation#CLASS_OUTPUT class output} and the
+     * {@link javax.tools.StandardLocation#SOURCE_OUTPUT source output}, which are stored into {@link CompilationCache}
+     */
+    static class OutputRecordingJavaFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+        private final List<File> outputFiles;
+
+        OutputRecordingJavaFileManager(StandardJavaFileManager fileManager, List<File> outputFiles) {
+            super(fileManager);
+            this.outputFiles = outputFiles;
+        }
+
+        @Override
+        public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind,
+                                                   FileObject sibling) throws IOException {
+            return record(location, super.getJavaFileForOutput(location, className, kind, sibling));
+        }
+
+        @Override
+        public FileObject getFileForOutput(Location location, String packageName, String relativeName,
+                                           FileObject sibling) throws IOException {
+            return record(location, super.getFileForOutput(location, packageName, relativeName, sibling));
+        }
+
+        private <F extends FileObject> F record(Location location, F fileObject) {
+            if (fileObject != null && (location == CLASS_OUTPUT || location == SOURCE_OUTPUT)) {
+                outputFiles.add(new File(fileObject.toUri()));
+            }
+            return fileObject;
+        }
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * The {@link ClassLoader} defining the classes compiled by {@link InMemoryJavaFileManager}, the classes of the parent
+ * {@link ClassLoader} take precedence.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * InMemoryClassLoader classLoader = fileManager.newClassLoader(getClass().getClassLoader());
+ * Class<?> fooClass = classLoader.loadClass("com.acme.Foo");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see InMemoryJavaFileManager#newClassLoader(ClassLoader)
+ * @since 1.0.0
+ */
+public class InMemoryClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final InMemoryJavaFileManager fileManager;
+
+    InMemoryClassLoader(ClassLoader parent, InMemoryJavaFileManager fileManager) {
+        super(parent);
+        this.fileManager = fileManager;
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        byte[] bytes = fileManager.getClassBytes(name);
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        InputStream inputStream = super.getResourceAsStream(name);
+        if (inputStream == null) {
+            byte[] bytes = fileManager.getBytes(name);
+            if (bytes != null) {
+                inputStream = new ByteArrayInputStream(bytes);
+            }
+        }
+        return inputStream;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import io.microsphere.io.StringBuilderWriter;
+import io.microsphere.logging.Logger;
+
+import javax.annotation.processing.Processor;
+import javax.tools.DiagnosticListener;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import static io.microsphere.collection.CollectionUtils.isEmpty;
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.jdk.tools.compiler.Compiler.DEFAULT_OPTIONS;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofSource;
+import static io.microsphere.logging.LoggerFactory.getLogger;
+import static io.microsphere.util.Assert.assertNotNull;
+import static io.microsphere.util.ClassLoaderUtils.getDefaultClassLoader;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static java.util.Collections.unmodifiableList;
+import static javax.tools.ToolProvider.getSystemJavaCompiler;
+
+/**
+ * The Java Compiler compiling the sources in memory, the sources are passed as {@link CharSequence}, the outputs are
+ * kept by {@link InMemoryJavaFileManager} and the compiled classes are defined by {@link #getClassLoader()}.
+ *
+ * <p>The warmed-up {@link InMemoryJavaFileManager file managers} are pooled and reused across the compilations,
+ * so that the JDK and the class path are not reopened for each compilation. The independent units can be compiled
+ * {@link #compileInParallel(Collection) in parallel}, each concurrent compilation borrows its own file manager while
+ * all of them share the same outputs. Once the {@link #diagnosticListener(DiagnosticListener) diagnostic listener},
+ * the {@link #locale(Locale) locale} or the {@link #charset(Charset) charset} is changed, the pooled file managers
+ * are closed, and the new ones are created with the current settings.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * try (InMemoryCompiler compiler = new InMemoryCompiler()) {
+ *     compiler.compile("com.acme.Foo", "package com.acme; public class Foo {}");
+ *     Class<?> fooClass = compiler.getClassLoader().loadClass("com.acme.Foo");
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see Compiler
+ * @see InMemoryJavaFileManager
+ * @since 1.0.0
+ */
+public class InMemoryCompiler implements Closeable {
+
+    private static final Logger logger = getLogger(InMemoryCompiler.class);
+
+    private final JavaCompiler javaCompiler;
+
+    private final ConcurrentMap<String, InMemoryJavaFileObject> outputs = new ConcurrentHashMap<>();
+
+    /**
+     * The pool of the file managers created with the current settings, it's replaced once the settings are changed
+     */
+    private volatile ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers = new ConcurrentLinkedQueue<>();
+
+    private final InMemoryJavaFileManager outputManager;
+
+    private final InMemoryClassLoader classLoader;
+
+    private List<String> options;
+
+    private List<Supplier<? extends Processor>> processorSuppliers;
+
+    private DiagnosticListener<? super JavaFileObject> diagnosticListener;
+
+    private Locale locale;
+
+    private Charset charset;
+
+    public InMemoryCompiler() {
+        this(getDefaultClassLoader());
+    }
+
+    /**
+     * @param parentClassLoader the parent {@link ClassLoader} of {@link #getClassLoader()}
+     */
+    public InMemoryCompiler(ClassLoader parentClassLoader) {
+        options(DEFAULT_OPTIONS);
+        this.javaCompiler = getSystemJavaCompiler();
+        assertNotNull(this.javaCompiler, () -> "No Java compiler available. Ensure this process is running on a JDK (not just a JRE).");
+        this.outputManager = newFileManager();
+        this.classLoader = this.outputManager.newClassLoader(parentClassLoader);
+        this.fileManagers.add(this.outputManager);
+    }
+
+    public InMemoryCompiler options(String... options) {
+        this.options = ofList(options);
+        return this;
+    }
+
+    /**
+     * The {@link Processor} can't be initialized more than once, so the new processors are created by the suppliers
+     * for each compilation, including each unit {@link #compileInParallel(Collection) compiled in parallel}.
+     *
+     * @param processorSuppliers the suppliers of the annotation processors, e.g. <code>MyProcessor::new</code>
+     * @return this
+     */
+    @SafeVarargs
+    public final InMemoryCompiler processors(Supplier<? extends Processor>... processorSuppliers) {
+        this.processorSuppliers = ofList(processorSuppliers);
+        return this;
+    }
+
+    public InMemoryCompiler diagnosticListener(DiagnosticListener<? super JavaFileObject> diagnosticListener) {
+        if (this.diagnosticListener != diagnosticListener) {
+            this.diagnosticListener = diagnosticListener;
+            resetFileManagers();
+        }
+        return this;
+    }
+
+    public InMemoryCompiler locale(Locale locale) {
+        if (!Objects.equals(this.locale, locale)) {
+            this.locale = locale;
+            resetFileManagers();
+        }
+        return this;
+    }
+
+    public InMemoryCompiler charset(Charset charset) {
+        if (!Objects.equals(this.charset, charset)) {
+            this.charset = charset;
+            resetFileManagers();
+        }
+        return this;
+    }
+
+    /**
+     * Compile the source of the class
+     *
+     * @param className the binary name of the top-level class
+     * @param source    the source content
+     * @return <code>true</code> if compiled successfully
+     */
+    public boolean compile(String className, CharSequence source) {
+        return compile(singletonMap(className, source));
+    }
+
+    /**
+     * Compile the sources as a unit
+     *
+     * @param sources the source contents keyed by the binary names of the top-level classes
+     * @return <code>true</code> if compiled successfully
+     */
+    public boolean compile(Map<String, ? extends CharSequence> sources) {
+        List<JavaFileObject> compilationUnits = new ArrayList<>(sources.size());
+        sources.forEach((className, source) -> compilationUnits.add(ofSource(className, source)));
+
+        ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers = this.fileManagers;
+        InMemoryJavaFileManager fileManager = borrowFileManager(fileManagers);
+        StringBuilderWriter writer = new StringBuilderWriter();
+        try {
+            CompilationTask task = javaCompiler.getTask(writer, fileManager, getDiagnosticListener(), getOptions(), null,
+                    compilationUnits);
+            task.setProcessors(newProcessors());
+            return task.call();
+        } finally {
+            returnFileManager(fileManagers, fileManager);
+            logger.trace("The output of the Java compiler:\n{}", writer);
+        }
+    }
+
+    /**
+     * Compile the independent units in parallel, the units must not reference each other
+     *
+     * @param units the units of the sources keyed by the binary names of the top-level classes
+     * @return <code>true</code> if all units are compiled successfully
+     */
+    public boolean compileInParallel(Collection<? extends Map<String, ? extends CharSequence>> units) {
+        return units.parallelStream()
+                .map(this::compile)
+                .reduce(Boolean.TRUE, Boolean::logicalAnd);
+    }
+
+    /**
+     * @return the {@link ClassLoader} defining the compiled classes
+     */
+    public InMemoryClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Get the bytes of the compiled class
+     *
+     * @param className the binary name of the class
+     * @return <code>null</code> if the class has not been compiled
+     */
+    public byte[] getClassBytes(String className) {
+        return outputManager.getClassBytes(className);
+    }
+
+    /**
+     * Get the bytes of the output, e.g. the generated source or the resource
+     *
+     * @param path the relative path, e.g. "com/acme/Foo.java" or "META-INF/services/com.acme.Service"
+     * @return <code>null</code> if absent
+     */
+    public byte[] getBytes(String path) {
+        return outputManager.getBytes(path);
+    }
+
+    /**
+     * @return the sorted binary names of the compiled classes
+     */
+    public Set<String> getClassNames() {
+        return outputManager.getClassNames();
+    }
+
+    public JavaCompiler getJavaCompiler() {
+        return this.javaCompiler;
+    }
+
+    public DiagnosticListener<? super JavaFileObject> getDiagnosticListener() {
+        return this.diagnosticListener;
+    }
+
+    public Locale getLocale() {
+        return this.locale;
+    }
+
+    public Charset getCharset() {
+        return this.charset;
+    }
+
+    public List<String> getOptions() {
+        List<String> options = this.options;
+        if (isEmpty(options)) {
+            return emptyList();
+        }
+        return unmodifiableList(options);
+    }
+
+    public List<Supplier<? extends Processor>> getProcessorSuppliers() {
+        List<Supplier<? extends Processor>> processorSuppliers = this.processorSuppliers;
+        if (processorSuppliers == null) {
+            return emptyList();
+        }
+        return unmodifiableList(processorSuppliers);
+    }
+
+    /**
+     * Create the new processors for a compilation
+     *
+     * @return non-null
+     */
+    List<Processor> newProcessors() {
+        List<Supplier<? extends Processor>> processorSuppliers = getProcessorSuppliers();
+        List<Processor> processors = new ArrayList<>(processorSuppliers.size());
+        for (Supplier<? extends Processor> processorSupplier : processorSuppliers) {
+            processors.add(processorSupplier.get());
+        }
+        return processors;
+    }
+
+    /**
+     * Close the pooled file managers, the compiled classes are still available
+     *
+     * @throws IOException if any I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        closeFileManagers(fileManagers);
+    }
+
+    /**
+     * @return the pool of the file managers created with the current settings
+     */
+    Queue<InMemoryJavaFileManager> getFileManagers() {
+        return fileManagers;
+    }
+
+    /**
+     * Replace the pool of the file managers created with the previous settings
+     */
+    private void resetFileManagers() {
+        ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers = this.fileManagers;
+        this.fileManagers = new ConcurrentLinkedQueue<>();
+        closeFileManagersQuietly(fileManagers);
+    }
+
+    private InMemoryJavaFileManager borrowFileManager(ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers) {
+        InMemoryJavaFileManager fileManager = fileManagers.poll();
+        return fileManager == null ? newFileManager() : fileManager;
+    }
+
+    /**
+     * Return the file manager to the pool it was borrowed from, the pool is closed if the settings were changed
+     * during the compilation
+     */
+    private void returnFileManager(ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers, InMemoryJavaFileManager fileManager) {
+        fileManagers.offer(fileManager);
+        if (fileManagers != this.fileManagers) {
+            closeFileManagersQuietly(fileManagers);
+        }
+    }
+
+    private void closeFileManagers(ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers) throws IOException {
+        InMemoryJavaFileManager fileManager;
+        while ((fileManager = fileManagers.poll()) != null) {
+            fileManager.close();
+        }
+    }
+
+    private void closeFileManagersQuietly(ConcurrentLinkedQueue<InMemoryJavaFileManager> fileManagers) {
+        try {
+            closeFileManagers(fileManagers);
+        } catch (IOException e) {
+            logger.warn("The file managers can't be closed", e);
+        }
+    }
+
+    private InMemoryJavaFileManager newFileManager() {
+        return new InMemoryJavaFileManager(javaCompiler.getStandardFileManager(getDiagnosticListener(), getLocale(),
+                getCharset()), outputs);
+    }
+}
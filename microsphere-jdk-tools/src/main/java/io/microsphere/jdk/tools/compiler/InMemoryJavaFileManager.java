@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import io.microsphere.annotation.Nullable;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.StandardJavaFileManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static io.microsphere.constants.PathConstants.SLASH;
+import static io.microsphere.constants.PathConstants.SLASH_CHAR;
+import static io.microsphere.constants.SymbolConstants.DOT_CHAR;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofOutput;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofResource;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.toPath;
+import static io.microsphere.util.StringUtils.isBlank;
+import static javax.tools.JavaFileObject.Kind.CLASS;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static javax.tools.StandardLocation.CLASS_PATH;
+import static javax.tools.StandardLocation.SOURCE_OUTPUT;
+
+/**
+ * The {@link JavaFileManager} keeping the outputs of the compilation in memory, including the class files, the
+ * sources generated and the resources written by the annotation processors, while the inputs, e.g. the JDK and the
+ * class path, are read by the delegated {@link StandardJavaFileManager} whose caches stay warm across the
+ * compilations.
+ *
+ * <p>The classes compiled previously are listed in the {@link javax.tools.StandardLocation#CLASS_PATH class path}, so
+ * the later compilations can reference them. The instances sharing the same outputs are not thread-safe by
+ * themselves, but they can be used by the concurrent compilations respectively.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+ * InMemoryJavaFileManager fileManager = new InMemoryJavaFileManager(javaCompiler.getStandardFileManager(null, null, null));
+ * javaCompiler.getTask(null, fileManager, null, null, null,
+ *         singleton(InMemoryJavaFileObject.ofSource("com.acme.Foo", "package com.acme; public class Foo {}"))).call();
+ * byte[] bytes = fileManager.getClassBytes("com.acme.Foo");
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see InMemoryJavaFileObject
+ * @see InMemoryClassLoader
+ * @see InMemoryCompiler
+ * @since 1.0.0
+ */
+public class InMemoryJavaFileManager extends ForwardingJavaFileManager<StandardJavaFileManager> {
+
+    /**
+     * The outputs keyed by the relative path
+     */
+    private final ConcurrentMap<String, InMemoryJavaFileObject> outputs;
+
+    public InMemoryJavaFileManager(StandardJavaFileManager fileManager) {
+        this(fileManager, new ConcurrentHashMap<>());
+    }
+
+    InMemoryJavaFileManager(StandardJavaFileManager fileManager, ConcurrentMap<String, InMemoryJavaFileObject> outputs) {
+        super(fileManager);
+        this.outputs = outputs;
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind, FileObject sibling) throws IOException {
+        if (isOutputLocation(location)) {
+            InMemoryJavaFileObject file = ofOutput(className, kind);
+            outputs.put(file.getPath(), file);
+            return file;
+        }
+        return super.getJavaFileForOutput(location, className, kind, sibling);
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForInput(Location location, String className, Kind kind) throws IOException {
+        if (isOutputLocation(location)) {
+            return outputs.get(toPath(className, kind));
+        }
+        return super.getJavaFileForInput(location, className, kind);
+    }
+
+    @Override
+    public FileObject getFileForOutput(Location location, String packageName, String relativeName, FileObject sibling) throws IOException {
+        if (isOutputLocation(location)) {
+            InMemoryJavaFileObject file = ofResource(resolvePath(packageName, relativeName));
+            outputs.put(file.getPath(), file);
+            return file;
+        }
+        return super.getFileForOutput(location, packageName, relativeName, sibling);
+    }
+
+    @Override
+    public FileObject getFileForInput(Location location, String packageName, String relativeName) throws IOException {
+        if (isOutputLocation(location)) {
+            return outputs.get(resolvePath(packageName, relativeName));
+        }
+        return super.getFileForInput(location, packageName, relativeName);
+    }
+
+    @Override
+    public Iterable<JavaFileObject> list(Location location, String packageName, Set<Kind> kinds, boolean recurse) throws IOException {
+        Iterable<JavaFileObject> files = super.list(location, packageName, kinds, recurse);
+        if ((location == CLASS_PATH || location == CLASS_OUTPUT) && kinds.contains(CLASS) && !outputs.isEmpty()) {
+            List<JavaFileObject> allFiles = new ArrayList<>();
+            files.forEach(allFiles::add);
+            String prefix = isBlank(packageName) ? "" : packageName.replace(DOT_CHAR, SLASH_CHAR) + SLASH;
+            for (InMemoryJavaFileObject file : outputs.values()) {
+                if (file.getKind() == CLASS && file.getBytes() != null && isInPackage(file.getPath(), prefix, recurse)) {
+                    allFiles.add(file);
+                }
+            }
+            return allFiles;
+        }
+        return files;
+    }
+
+    @Override
+    public String inferBinaryName(Location location, JavaFileObject file) {
+        if (file instanceof InMemoryJavaFileObject) {
+            return ((InMemoryJavaFileObject) file).getClassName();
+        }
+        return super.inferBinaryName(location, file);
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a, FileObject b) {
+        if (a instanceof InMemoryJavaFileObject || b instanceof InMemoryJavaFileObject) {
+            return a.toUri().equals(b.toUri());
+        }
+        return super.isSameFile(a, b);
+    }
+
+    @Override
+    public boolean hasLocation(Location location) {
+        return isOutputLocation(location) || super.hasLocation(location);
+    }
+
+    /**
+     * Get the bytes of the compiled class
+     *
+     * @param className the binary name of the class
+     * @return <code>null</code> if the class has not been compiled
+     */
+    @Nullable
+    public byte[] getClassBytes(String className) {
+        return getBytes(toPath(className, CLASS));
+    }
+
+    /**
+     * Get the bytes of the output, e.g. the generated source or the resource
+     *
+     * @param path the relative path, e.g. "com/acme/Foo.java" or "META-INF/services/com.acme.Service"
+     * @return <code>null</code> if absent
+     */
+    @Nullable
+    public byte[] getBytes(String path) {
+        InMemoryJavaFileObject file = outputs.get(path);
+        return file == null ? null : file.getBytes();
+    }
+
+    /**
+     * @return the sorted binary names of the compiled classes
+     */
+    public Set<String> getClassNames() {
+        Set<String> classNames = new TreeSet<>();
+        for (InMemoryJavaFileObject file : outputs.values()) {
+            if (file.getKind() == CLASS && file.getBytes() != null) {
+                classNames.add(file.getClassName());
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * Create a {@link ClassLoader} defining the compiled classes
+     *
+     * @param parent the parent {@link ClassLoader}
+     * @return non-null
+     */
+    public InMemoryClassLoader newClassLoader(ClassLoader parent) {
+        return new InMemoryClassLoader(parent, this);
+    }
+
+    /**
+     * Remove all outputs
+     */
+    public void clear() {
+        outputs.clear();
+    }
+
+    static boolean isOutputLocation(Location location) {
+        return location == CLASS_OUTPUT || location == SOURCE_OUTPUT;
+    }
+
+    static String resolvePath(String packageName, String relativeName) {
+        if (isBlank(packageName)) {
+            return relativeName;
+        }
+        return packageName.replace(DOT_CHAR, SLASH_CHAR) + SLASH + relativeName;
+    }
+
+    static boolean isInPackage(String path, String prefix, boolean recurse) {
+        return path.startsWith(prefix) && (recurse || path.indexOf(SLASH_CHAR, prefix.length()) < 0);
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import io.microsphere.annotation.Nullable;
+
+import javax.tools.SimpleJavaFileObject;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URI;
+
+import static io.microsphere.constants.PathConstants.SLASH_CHAR;
+import static io.microsphere.constants.SymbolConstants.DOT_CHAR;
+import static java.lang.System.currentTimeMillis;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The {@link javax.tools.JavaFileObject} kept in memory, either the source content as a {@link CharSequence} or the
+ * output bytes written by the compiler, e.g. the class files, the generated sources and the resources.
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * InMemoryJavaFileObject source = InMemoryJavaFileObject.ofSource("com.acme.Foo", "package com.acme; public class Foo {}");
+ * source.getCharContent(true);    // "package com.acme; public class Foo {}"
+ * source.getPath();               // "com/acme/Foo.java"
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see InMemoryJavaFileManager
+ * @since 1.0.0
+ */
+public class InMemoryJavaFileObject extends SimpleJavaFileObject {
+
+    /**
+     * The scheme of the {@link URI} of {@link InMemoryJavaFileObject}
+     */
+    public static final String SCHEME = "mem";
+
+    private final String path;
+
+    @Nullable
+    private final String className;
+
+    @Nullable
+    private final CharSequence source;
+
+    @Nullable
+    private volatile byte[] bytes;
+
+    private volatile long lastModified;
+
+    private InMemoryJavaFileObject(String path, @Nullable String className, Kind kind, @Nullable CharSequence source) {
+        super(URI.create(SCHEME + ":///" + path), kind);
+        this.path = path;
+        this.className = className;
+        this.source = source;
+        this.lastModified = currentTimeMillis();
+    }
+
+    /**
+     * Create the source of the class
+     *
+     * @param className the binary name of the top-level class, e.g. "com.acme.Foo"
+     * @param source    the source content
+     * @return non-null
+     */
+    public static InMemoryJavaFileObject ofSource(String className, CharSequence source) {
+        return new InMemoryJavaFileObject(toPath(className, Kind.SOURCE), className, Kind.SOURCE, source);
+    }
+
+    /**
+     * Create the output of the class to be written by the compiler
+     *
+     * @param className the binary name of the class
+     * @param kind      {@link Kind#CLASS} or {@link Kind#SOURCE}
+     * @return non-null
+     */
+    public static InMemoryJavaFileObject ofOutput(String className, Kind kind) {
+        return new InMemoryJavaFileObject(toPath(className, kind), className, kind, null);
+    }
+
+    /**
+     * Create the output of the resource to be written by the compiler or the annotation processors
+     *
+     * @param path the relative path of the resource, e.g. "META-INF/services/com.acme.Service"
+     * @return non-null
+     */
+    public static InMemoryJavaFileObject ofResource(String path) {
+        return new InMemoryJavaFileObject(path, null, Kind.OTHER, null);
+    }
+
+    /**
+     * @return the relative path, e.g. "com/acme/Foo.class"
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the binary name of the class, or <code>null</code> if it's a resource
+     */
+    @Nullable
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the bytes written by the compiler, or <code>null</code> if absent
+     */
+    @Nullable
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) throws FileNotFoundException {
+        if (source != null) {
+            return source;
+        }
+        return new String(readBytes(), UTF_8);
+    }
+
+    @Override
+    public InputStream openInputStream() throws FileNotFoundException {
+        if (source != null) {
+            return new ByteArrayInputStream(source.toString().getBytes(UTF_8));
+        }
+        return new ByteArrayInputStream(readBytes());
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                bytes = toByteArray();
+                lastModified = currentTimeMillis();
+            }
+        };
+    }
+
+    @Override
+    public Writer openWriter() {
+        return new OutputStreamWriter(openOutputStream(), UTF_8);
+    }
+
+    @Override
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    private byte[] readBytes() throws FileNotFoundException {
+        byte[] bytes = this.bytes;
+        if (bytes == null) {
+            throw new FileNotFoundException("The content of '" + uri + "' has not been written");
+        }
+        return bytes;
+    }
+
+    static String toPath(String className, Kind kind) {
+        return className.replace(DOT_CHAR, SLASH_CHAR) + kind.extension;
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.microsphere.collection.Lists.ofList;
+import static io.microsphere.jdk.tools.compiler.CompilationCache.fingerprint;
+import static io.microsphere.jdk.tools.compiler.CompilationCache.toHex;
+import static io.microsphere.jdk.tools.compiler.Compiler.DEFAULT_OPTIONS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempDirectory;
+import static java.nio.file.Files.readAllBytes;
+import static java.nio.file.Files.write;
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link CompilationCache} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see CompilationCache
+ * @since 1.0.0
+ */
+class CompilationCacheTest {
+
+    private File directory;
+
+    private CompilationCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = createTempDirectory("compilation-cache-test").toFile();
+        cache = new CompilationCache(new File(directory, "cache"));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        cache.clear();
+    }
+
+    @Test
+    void testConstructor() {
+        assertTrue(new CompilationCache().getDirectory().getPath().endsWith(CompilationCache.DEFAULT_DIRECTORY_NAME));
+        assertThrows(IllegalArgumentException.class, () -> new CompilationCache(null));
+    }
+
+    @Test
+    void testGenerateKey() throws IOException {
+        File sourceFile = writeFile(new File(directory, "src/A.java"), "class A {}");
+        List<File> sourceFiles = ofList(sourceFile);
+        List<File> sourcePaths = ofList(sourceFile.getParentFile());
+        List<String> options = ofList(DEFAULT_OPTIONS);
+
+        String key = cache.generateKey(sourceFiles, sourcePaths, options);
+        assertEquals(64, key.length());
+        assertEquals(key, cache.generateKey(sourceFiles, sourcePaths, options));
+        assertNotEquals(key, cache.generateKey(sourceFiles, sourcePaths, emptyList()));
+        assertNotEquals(key, cache.generateKey(sourceFiles, emptyList(), options));
+
+        writeFile(sourceFile, "class A { }");
+        assertNotEquals(key, cache.generateKey(sourceFiles, sourcePaths, options));
+    }
+
+    @Test
+    void testStoreAndRestore() throws IOException {
+        File outputDirectory = new File(directory, "output");
+        File classFile = writeFile(new File(outputDirectory, "com/acme/A.class"), "A");
+        File resourceFile = writeFile(new File(outputDirectory, "META-INF/a.txt"), "a");
+        File outsideFile = writeFile(new File(directory, "outside.txt"), "outside");
+
+        assertFalse(cache.restore("key", outputDirectory));
+        assertEquals(1, cache.getMissCount());
+        assertEquals(0, cache.getHitRatio());
+
+        cache.store("key", outputDirectory, ofList(classFile, resourceFile, outsideFile, new File(outputDirectory, "absent")), 100);
+        // stored already
+        cache.store("key", outputDirectory, emptyList(), 0);
+        assertTrue(new File(cache.getEntryDirectory("key"), "files/com/acme/A.class").isFile());
+        assertFalse(new File(cache.getEntryDirectory("key"), "files/outside.txt").exists());
+
+        File targetDirectory = new File(directory, "target");
+        assertTrue(cache.restore("key", targetDirectory));
+        assertArrayEquals("A".getBytes(UTF_8), readAllBytes(new File(targetDirectory, "com/acme/A.class").toPath()));
+        assertArrayEquals("a".getBytes(UTF_8), readAllBytes(new File(targetDirectory, "META-INF/a.txt").toPath()));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(100, cache.getSavedTime());
+        assertEquals(0.5, cache.getHitRatio());
+        assertNotNull(cache.toString());
+
+        cache.clear();
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getSavedTime());
+        assertFalse(cache.getDirectory().exists());
+    }
+
+    @Test
+    void testFingerprint() throws IOException {
+        File file = writeFile(new File(directory, "fingerprint/a.txt"), "a");
+        byte[] fingerprint = fingerprint(file.getParentFile());
+        assertArrayEquals(fingerprint, fingerprint(file.getParentFile()));
+        writeFile(file, "ab");
+        assertFalse(Arrays.equals(fingerprint, fingerprint(file.getParentFile())));
+        assertNotNull(fingerprint(new File(directory, "absent")));
+    }
+
+    @Test
+    void testToHex() {
+        assertEquals("00ff7f", toHex(new byte[]{0, (byte) 0xFF, 0x7F}));
+        assertEquals("", toHex(new byte[0]));
+    }
+
+    private File writeFile(File file, String content) throws IOException {
+        file.getParentFile().mkdirs();
+        write(file.toPath(), content.getBytes(UTF_8));
+        return file;
+    }
+}
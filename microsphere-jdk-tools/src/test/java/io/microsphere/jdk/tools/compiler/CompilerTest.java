@@ -9,6 +9,7 @@ import javax.lang.model.element.TypeElement;
 import java.io.File;
 import java.io.IOException;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.microsphere.jdk.tools.compiler.Compiler.defaultRootDirectory;
 import static io.microsphere.jdk.tools.compiler.Compiler.defaultSourceDirectory;
@@ -19,6 +20,8 @@ import static io.microsphere.jdk.tools.compiler.Compiler.detectSourcePath;
 import static io.microsphere.jdk.tools.compiler.Compiler.resolveJavaSourceFileRelativePath;
 import static java.io.File.separatorChar;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.createTempDirectory;
+import static java.util.Collections.singleton;
 import static java.util.Locale.getDefault;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -169,6 +172,61 @@ class CompilerTest {
         assertTrue(result, "Test setup completed without exceptions");
     }
 
+    @Test
+    void testCompileWithCache() throws IOException {
+        CompilationCache cache = new CompilationCache(createTempDirectory("compilation-cache").toFile());
+        Compiler compiler = new Compiler().cache(cache);
+        assertSame(cache, compiler.getCache());
+
+        assertTrue(compiler.compile(Compiler.class));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertTrue(compiler.compile(Compiler.class));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        // the different options
+        compiler.options("-nowarn");
+        assertTrue(compiler.compile(Compiler.class));
+        assertEquals(2, cache.getMissCount());
+
+        cache.clear();
+    }
+
+    @Test
+    void testCompileWithCacheAndProcessors() throws IOException {
+        CompilationCache cache = new CompilationCache(createTempDirectory("compilation-cache").toFile());
+        Compiler compiler = new Compiler().cache(cache);
+        AtomicInteger rounds = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            // the processors bypass the cache, so that they run on every compilation
+            compiler.processors(newCountingProcessor(rounds));
+            assertTrue(compiler.compile(Compiler.class));
+            assertEquals(0, cache.getHitCount());
+            assertEquals(0, cache.getMissCount());
+        }
+        assertTrue(rounds.get() >= 2);
+
+        cache.clear();
+    }
+
+    private static Processor newCountingProcessor(AtomicInteger rounds) {
+        return new AbstractProcessor() {
+            @Override
+            public Set<String> getSupportedAnnotationTypes() {
+                return singleton("*");
+            }
+
+            @Override
+            public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+                rounds.incrementAndGet();
+                return false;
+            }
+        };
+    }
+
     @Test
     void testDetectRootDirectory() {
         File rootDir = detectRootDirectory(Compiler.class);
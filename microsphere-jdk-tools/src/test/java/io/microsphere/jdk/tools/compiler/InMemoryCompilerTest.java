@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import static io.microsphere.collection.SetUtils.ofSet;
+import static io.microsphere.constants.SymbolConstants.WILDCARD;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Locale.ENGLISH;
+import static javax.lang.model.SourceVersion.latestSupported;
+import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link InMemoryCompiler} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see InMemoryCompiler
+ * @since 1.0.0
+ */
+class InMemoryCompilerTest {
+
+    private final InMemoryCompiler compiler = new InMemoryCompiler();
+
+    @AfterEach
+    void tearDown() throws IOException {
+        compiler.close();
+    }
+
+    @Test
+    void testCompile() throws Exception {
+        assertTrue(compiler.compile("com.acme.Foo", "package com.acme;\n" +
+                "public class Foo implements java.util.concurrent.Callable<String> {\n" +
+                "    public String call() { return \"foo\"; }\n" +
+                "}"));
+        assertEquals(ofSet("com.acme.Foo"), compiler.getClassNames());
+        assertNotNull(compiler.getClassBytes("com.acme.Foo"));
+        assertNull(compiler.getClassBytes("com.acme.Bar"));
+
+        Class<?> fooClass = compiler.getClassLoader().loadClass("com.acme.Foo");
+        assertSame(compiler.getClassLoader(), fooClass.getClassLoader());
+        assertEquals("foo", ((Callable<?>) fooClass.getDeclaredConstructor().newInstance()).call());
+        assertThrows(ClassNotFoundException.class, () -> compiler.getClassLoader().loadClass("com.acme.Bar"));
+    }
+
+    @Test
+    void testCompileOnReferencingCompiledClass() throws Exception {
+        assertTrue(compiler.compile("com.acme.Base", "package com.acme; public class Base { public int value() { return 1; } }"));
+        // the second compilation references the class compiled in memory
+        assertTrue(compiler.compile("com.acme.sub.Derived", "package com.acme.sub;\n" +
+                "public class Derived extends com.acme.Base { public int value() { return super.value() + 1; } }"));
+        Object derived = compiler.getClassLoader().loadClass("com.acme.sub.Derived").getDeclaredConstructor().newInstance();
+        assertEquals(2, derived.getClass().getMethod("value").invoke(derived));
+    }
+
+    @Test
+    void testCompileOnMultipleSources() throws Exception {
+        Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("com.acme.A", "package com.acme; public class A { B b; }");
+        sources.put("com.acme.B", "package com.acme; public class B { A a; class Inner {} }");
+        assertTrue(compiler.compile(sources));
+        assertEquals(ofSet("com.acme.A", "com.acme.B", "com.acme.B$Inner"), compiler.getClassNames());
+    }
+
+    @Test
+    void testCompileOnError() {
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = new ArrayList<>();
+        compiler.diagnosticListener(diagnostics::add);
+        assertFalse(compiler.compile("com.acme.Broken", "package com.acme; public class Broken { int value() { } }"));
+        assertTrue(diagnostics.stream().anyMatch(diagnostic -> diagnostic.getKind() == ERROR));
+        assertTrue(compiler.getClassNames().isEmpty());
+    }
+
+    @Test
+    void testCompileInParallel() throws Exception {
+        List<Map<String, String>> units = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            Map<String, String> unit = new LinkedHashMap<>();
+            unit.put("com.acme.p" + i + ".Unit", "package com.acme.p" + i + ";\n" +
+                    "public class Unit { public int value() { return " + i + "; } }");
+            units.add(unit);
+        }
+        assertTrue(compiler.compileInParallel(units));
+        assertEquals(16, compiler.getClassNames().size());
+        for (int i = 0; i < 16; i++) {
+            Object unit = compiler.getClassLoader().loadClass("com.acme.p" + i + ".Unit").getDeclaredConstructor().newInstance();
+            assertEquals(i, unit.getClass().getMethod("value").invoke(unit));
+        }
+
+        units.add(new LinkedHashMap<>());
+        units.get(16).put("com.acme.Broken", "package com.acme; class Broken {");
+        compiler.diagnosticListener(diagnostic -> {
+        });
+        assertFalse(compiler.compileInParallel(units));
+    }
+
+    @Test
+    void testProcessors() throws Exception {
+        compiler.options()
+                .processors(GeneratingProcessor::new)
+                .charset(UTF_8);
+        assertTrue(compiler.compile("com.acme.Source", "package com.acme; public class Source {}"));
+        assertEquals(ofSet("com.acme.Generated", "com.acme.Source"), compiler.getClassNames());
+        assertNotNull(compiler.getBytes("com/acme/Generated.java"));
+        assertEquals("generated", new String(compiler.getBytes("META-INF/generated.txt"), UTF_8));
+        try (InputStream inputStream = compiler.getClassLoader().getResourceAsStream("META-INF/generated.txt")) {
+            assertNotNull(inputStream);
+        }
+        assertNull(compiler.getClassLoader().getResourceAsStream("META-INF/absent.txt"));
+        assertNotNull(compiler.getClassLoader().loadClass("com.acme.Generated"));
+        assertEquals(1, compiler.getProcessorSuppliers().size());
+    }
+
+    @Test
+    void testProcessorsOnMultipleCompilations() throws Exception {
+        compiler.processors(GeneratingProcessor::new);
+        // each compilation initializes its own processors
+        assertTrue(compiler.compile("com.acme.Source", "package com.acme; public class Source {}"));
+        assertTrue(compiler.compile("com.acme.Other", "package com.acme; public class Other {}"));
+        assertNotSame(compiler.newProcessors().get(0), compiler.newProcessors().get(0));
+
+        List<Map<String, String>> units = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Map<String, String> unit = new LinkedHashMap<>();
+            unit.put("com.acme.q" + i + ".Unit", "package com.acme.q" + i + "; public class Unit {}");
+            units.add(unit);
+        }
+        assertTrue(compiler.compileInParallel(units));
+        assertEquals(ofSet("com.acme.Generated", "com.acme.Other", "com.acme.Source", "com.acme.q0.Unit",
+                "com.acme.q1.Unit", "com.acme.q2.Unit", "com.acme.q3.Unit"), compiler.getClassNames());
+    }
+
+    @Test
+    void testResetFileManagersOnSettingsChanged() throws Exception {
+        assertTrue(compiler.compile("com.acme.Foo", "package com.acme; public class Foo {}"));
+        InMemoryJavaFileManager fileManager = compiler.getFileManagers().peek();
+        assertNotNull(fileManager);
+
+        // the same settings
+        compiler.locale(null).charset(null).diagnosticListener(null);
+        assertSame(fileManager, compiler.getFileManagers().peek());
+
+        compiler.locale(ENGLISH);
+        assertTrue(compiler.getFileManagers().isEmpty());
+        assertTrue(compiler.compile("com.acme.Bar", "package com.acme; public class Bar { Foo foo; }"));
+        assertNotSame(fileManager, compiler.getFileManagers().peek());
+
+        compiler.charset(UTF_8);
+        assertTrue(compiler.getFileManagers().isEmpty());
+        compiler.diagnosticListener(diagnostic -> {
+        });
+        assertTrue(compiler.getFileManagers().isEmpty());
+
+        // the outputs are kept
+        assertEquals(ofSet("com.acme.Bar", "com.acme.Foo"), compiler.getClassNames());
+        assertNotNull(compiler.getClassLoader().loadClass("com.acme.Bar"));
+    }
+
+    @Test
+    void testGetters() {
+        assertNotNull(compiler.getJavaCompiler());
+        assertNull(compiler.getDiagnosticListener());
+        assertNull(compiler.getLocale());
+        assertNull(compiler.getCharset());
+        assertFalse(compiler.getOptions().isEmpty());
+        assertTrue(compiler.options().getOptions().isEmpty());
+        assertTrue(compiler.getProcessorSuppliers().isEmpty());
+    }
+
+    @SupportedAnnotationTypes(WILDCARD)
+    static class GeneratingProcessor extends AbstractProcessor {
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            if (roundEnv.getRootElements().stream().anyMatch(e -> e.getSimpleName().contentEquals("Source"))) {
+                Filer filer = processingEnv.getFiler();
+                try (Writer writer = filer.createSourceFile("com.acme.Generated").openWriter()) {
+                    writer.write("package com.acme; public class Generated {}");
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                try (Writer writer = filer.createResource(CLASS_OUTPUT, "", "META-INF/generated.txt").openWriter()) {
+                    writer.write("generated");
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return latestSupported();
+        }
+    }
+}
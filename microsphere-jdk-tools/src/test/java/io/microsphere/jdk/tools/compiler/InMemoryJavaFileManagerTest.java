@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.microsphere.collection.SetUtils.ofSet;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileManager.isInPackage;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileManager.resolvePath;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofSource;
+import static javax.tools.JavaFileObject.Kind.CLASS;
+import static javax.tools.JavaFileObject.Kind.SOURCE;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
+import static javax.tools.StandardLocation.CLASS_PATH;
+import static javax.tools.StandardLocation.SOURCE_OUTPUT;
+import static javax.tools.StandardLocation.SOURCE_PATH;
+import static javax.tools.ToolProvider.getSystemJavaCompiler;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link InMemoryJavaFileManager} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see InMemoryJavaFileManager
+ * @since 1.0.0
+ */
+class InMemoryJavaFileManagerTest {
+
+    private final InMemoryJavaFileManager fileManager = new InMemoryJavaFileManager(getSystemJavaCompiler()
+            .getStandardFileManager(null, null, null));
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fileManager.close();
+    }
+
+    @Test
+    void testOutputs() throws IOException {
+        JavaFileObject classFile = fileManager.getJavaFileForOutput(CLASS_OUTPUT, "com.acme.Foo", CLASS, null);
+        assertTrue(classFile instanceof InMemoryJavaFileObject);
+        assertSame(classFile, fileManager.getJavaFileForInput(CLASS_OUTPUT, "com.acme.Foo", CLASS));
+        // not written yet
+        assertNull(fileManager.getClassBytes("com.acme.Foo"));
+        assertTrue(fileManager.getClassNames().isEmpty());
+
+        try (OutputStream outputStream = classFile.openOutputStream()) {
+            outputStream.write(new byte[]{1});
+        }
+        assertArrayEquals(new byte[]{1}, fileManager.getClassBytes("com.acme.Foo"));
+        assertEquals(ofSet("com.acme.Foo"), fileManager.getClassNames());
+        assertEquals("com.acme.Foo", fileManager.inferBinaryName(CLASS_PATH, classFile));
+
+        JavaFileObject sourceFile = fileManager.getJavaFileForOutput(SOURCE_OUTPUT, "com.acme.Bar", SOURCE, null);
+        assertSame(sourceFile, fileManager.getJavaFileForInput(SOURCE_OUTPUT, "com.acme.Bar", SOURCE));
+        assertNull(fileManager.getJavaFileForInput(SOURCE_PATH, "com.acme.Bar", SOURCE));
+
+        FileObject resource = fileManager.getFileForOutput(CLASS_OUTPUT, "com.acme", "test.txt", null);
+        assertSame(resource, fileManager.getFileForInput(CLASS_OUTPUT, "com.acme", "test.txt"));
+        assertNull(fileManager.getBytes("com/acme/test.txt"));
+
+        fileManager.clear();
+        assertNull(fileManager.getClassBytes("com.acme.Foo"));
+    }
+
+    @Test
+    void testList() throws IOException {
+        try (OutputStream outputStream = fileManager.getJavaFileForOutput(CLASS_OUTPUT, "com.acme.Foo", CLASS, null).openOutputStream();
+             OutputStream subOutputStream = fileManager.getJavaFileForOutput(CLASS_OUTPUT, "com.acme.sub.Bar", CLASS, null).openOutputStream()) {
+            outputStream.write(new byte[]{1});
+            subOutputStream.write(new byte[]{1});
+        }
+        assertEquals(1, size(fileManager.list(CLASS_PATH, "com.acme", ofSet(CLASS), false)));
+        assertEquals(2, size(fileManager.list(CLASS_PATH, "com.acme", ofSet(CLASS), true)));
+        assertEquals(0, size(fileManager.list(CLASS_PATH, "com.acme", ofSet(SOURCE), true)));
+        assertEquals(2, size(fileManager.list(CLASS_OUTPUT, "com.acme", ofSet(CLASS), true)));
+    }
+
+    @Test
+    void testHasLocationAndIsSameFile() {
+        assertTrue(fileManager.hasLocation(CLASS_OUTPUT));
+        assertTrue(fileManager.hasLocation(SOURCE_OUTPUT));
+        JavaFileObject file = ofSource("com.acme.Foo", "");
+        assertTrue(fileManager.isSameFile(file, ofSource("com.acme.Foo", "class Foo {}")));
+        assertFalse(fileManager.isSameFile(file, ofSource("com.acme.Bar", "")));
+    }
+
+    @Test
+    void testNewClassLoader() {
+        assertNotNull(fileManager.newClassLoader(getClass().getClassLoader()));
+    }
+
+    @Test
+    void testResolvePath() {
+        assertEquals("test.txt", resolvePath("", "test.txt"));
+        assertEquals("test.txt", resolvePath(null, "test.txt"));
+        assertEquals("com/acme/test.txt", resolvePath("com.acme", "test.txt"));
+    }
+
+    @Test
+    void testIsInPackage() {
+        assertTrue(isInPackage("com/acme/Foo.class", "com/acme/", false));
+        assertFalse(isInPackage("com/acme/sub/Foo.class", "com/acme/", false));
+        assertTrue(isInPackage("com/acme/sub/Foo.class", "com/acme/", true));
+        assertFalse(isInPackage("org/acme/Foo.class", "com/acme/", true));
+        assertTrue(isInPackage("Foo.class", "", false));
+    }
+
+    private int size(Iterable<?> iterable) {
+        List<Object> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list.size();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.jdk.tools.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofOutput;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofResource;
+import static io.microsphere.jdk.tools.compiler.InMemoryJavaFileObject.ofSource;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.tools.JavaFileObject.Kind.CLASS;
+import static javax.tools.JavaFileObject.Kind.OTHER;
+import static javax.tools.JavaFileObject.Kind.SOURCE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link InMemoryJavaFileObject} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see InMemoryJavaFileObject
+ * @since 1.0.0
+ */
+class InMemoryJavaFileObjectTest {
+
+    @Test
+    void testOfSource() throws IOException {
+        InMemoryJavaFileObject file = ofSource("com.acme.Foo", "class Foo {}");
+        assertEquals(SOURCE, file.getKind());
+        assertEquals("com/acme/Foo.java", file.getPath());
+        assertEquals("com.acme.Foo", file.getClassName());
+        assertEquals("mem:///com/acme/Foo.java", file.toUri().toString());
+        assertEquals("class Foo {}", file.getCharContent(true));
+        assertTrue(file.isNameCompatible("Foo", SOURCE));
+        try (InputStream inputStream = file.openInputStream()) {
+            assertEquals('c', inputStream.read());
+        }
+        assertTrue(file.getLastModified() > 0);
+    }
+
+    @Test
+    void testOfOutput() throws IOException {
+        InMemoryJavaFileObject file = ofOutput("com.acme.Foo", CLASS);
+        assertEquals(CLASS, file.getKind());
+        assertEquals("com/acme/Foo.class", file.getPath());
+        assertNull(file.getBytes());
+        assertThrows(FileNotFoundException.class, file::openInputStream);
+        assertThrows(FileNotFoundException.class, () -> file.getCharContent(true));
+
+        try (OutputStream outputStream = file.openOutputStream()) {
+            outputStream.write(new byte[]{1, 2, 3});
+        }
+        assertArrayEquals(new byte[]{1, 2, 3}, file.getBytes());
+        try (InputStream inputStream = file.openInputStream()) {
+            assertEquals(1, inputStream.read());
+        }
+    }
+
+    @Test
+    void testOfResource() throws IOException {
+        InMemoryJavaFileObject file = ofResource("META-INF/test.txt");
+        assertEquals(OTHER, file.getKind());
+        assertNull(file.getClassName());
+        try (Writer writer = file.openWriter()) {
+            writer.write("test");
+        }
+        assertEquals("test", file.getCharContent(true));
+        assertArrayEquals("test".getBytes(UTF_8), file.getBytes());
+    }
+}
@@ -52,6 +52,7 @@ import static io.microsphere.collection.MapUtils.newFixedLinkedHashMap;
 import static io.microsphere.lang.function.Predicates.EMPTY_PREDICATE_ARRAY;
 import static io.microsphere.lang.function.Streams.filterAll;
 import static io.microsphere.lang.model.util.MethodUtils.findDeclaredMethods;
+import static io.microsphere.lang.model.util.ModelQueryCache.cached;
 import static io.microsphere.lang.model.util.MethodUtils.getDeclaredMethods;
 import static io.microsphere.lang.model.util.MethodUtils.getMethodName;
 import static io.microsphere.lang.model.util.TypeUtils.getAllTypeElements;
@@ -257,7 +258,9 @@ public interface AnnotationUtils extends Utils {
         if (annotatedConstruct == null || annotationClassName == null) {
             return emptyList();
         }
-        return findAnnotations(annotatedConstruct, annotation -> matchesAnnotationTypeName(annotation, annotationClassName));
+        String annotationTypeName = annotationClassName.toString();
+        return cached("getAnnotations", annotatedConstruct, annotationTypeName,
+                () -> findAnnotations(annotatedConstruct, annotation -> matchesAnnotationTypeName(annotation, annotationTypeName)));
     }
 
     /**
@@ -607,7 +610,9 @@ public interface AnnotationUtils extends Utils {
         if (element == null || annotationClassName == null) {
             return null;
         }
-        List<AnnotationMirror> annotations = findAllAnnotations(element, annotation -> matchesAnnotationTypeName(annotation, annotationClassName));
+        String annotationTypeName = annotationClassName.toString();
+        List<AnnotationMirror> annotations = cached("findAllAnnotations", element, annotationTypeName,
+                () -> findAllAnnotations(element, annotation -> matchesAnnotationTypeName(annotation, annotationTypeName)));
         return first(annotations);
     }
 
@@ -832,17 +837,19 @@ public interface AnnotationUtils extends Utils {
         if (element == null) {
             return emptyList();
         }
-        List<TypeElement> typeElements = getAllTypeElements(element);
-
-        List<AnnotationMirror> annotations = typeElements.stream()
-                .map(AnnotationUtils::getAnnotations)
-                .flatMap(Collection::stream)
-                .collect(toList());
-
-        if (isNotEmpty(annotationFilters)) {
-            annotations = filterAll(annotations, annotationFilters);
+        List<AnnotationMirror> allAnnotations = cached("findAllAnnotations", element, () -> {
+            List<AnnotationMirror> annotations = getAllTypeElements(element).stream()
+                    .map(AnnotationUtils::getAnnotations)
+                    .flatMap(Collection::stream)
+                    .collect(toList());
+            return isEmpty(annotations) ? emptyList() : unmodifiableList(annotations);
+        });
+
+        if (isEmpty(allAnnotations) || !isNotEmpty(annotationFilters)) {
+            return allAnnotations;
         }
 
+        List<AnnotationMirror> annotations = filterAll(allAnnotations, annotationFilters);
         return isEmpty(annotations) ? emptyList() : unmodifiableList(annotations);
     }
 
@@ -1313,6 +1320,23 @@ public interface AnnotationUtils extends Utils {
     @Nonnull
     @Immutable
     static Map<String, Object> getAttributesMap(AnnotationMirror annotation, boolean withDefault) {
+        if (annotation == null) {
+            return emptyMap();
+        }
+        return cached("getAttributesMap", annotation, withDefault, () -> resolveAttributesMap(annotation, withDefault));
+    }
+
+    /**
+     * Resolves the attributes map of the specified annotation without the cache
+     *
+     * @param annotation  the annotation mirror
+     * @param withDefault whether to include the default values of the attributes
+     * @return the read-only attributes map
+     * @see #getAttributesMap(AnnotationMirror, boolean)
+     */
+    @Nonnull
+    @Immutable
+    static Map<String, Object> resolveAttributesMap(AnnotationMirror annotation, boolean withDefault) {
         Map<ExecutableElement, AnnotationValue> attributes = getElementValues(annotation, withDefault);
         int size = attributes.size();
         if (size < 1) {
@@ -1510,6 +1534,20 @@ public interface AnnotationUtils extends Utils {
         if (annotation == null) {
             return emptyMap();
         }
+        return cached("getElementValues", annotation, withDefault, () -> resolveElementValues(annotation, withDefault));
+    }
+
+    /**
+     * Resolves the attribute methods and their values of the specified annotation without the cache
+     *
+     * @param annotation  the annotation mirror
+     * @param withDefault whether to include the default values of the attributes
+     * @return the read-only map of the attribute methods and their values
+     * @see #getElementValues(AnnotationMirror, boolean)
+     */
+    @Nonnull
+    @Immutable
+    static Map<ExecutableElement, AnnotationValue> resolveElementValues(AnnotationMirror annotation, boolean withDefault) {
         DeclaredType annotationType = annotation.getAnnotationType();
         List<ExecutableElement> attributeMethods = getDeclaredMethods(annotationType);
         int size = attributeMethods.size();
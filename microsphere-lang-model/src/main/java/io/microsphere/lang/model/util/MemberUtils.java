@@ -29,6 +29,7 @@ import java.util.function.Predicate;
 
 import static io.microsphere.lang.function.Predicates.EMPTY_PREDICATE_ARRAY;
 import static io.microsphere.lang.model.util.ElementUtils.filterElements;
+import static io.microsphere.lang.model.util.ModelQueryCache.cached;
 import static io.microsphere.lang.model.util.TypeUtils.getAllDeclaredTypes;
 import static io.microsphere.lang.model.util.TypeUtils.ofTypeElement;
 import static java.util.Collections.emptyList;
@@ -350,11 +351,11 @@ public interface MemberUtils extends Utils {
         if (type == null) {
             return emptyList();
         }
-        List<T> declaredMembers = (List<T>) getAllDeclaredTypes(type)
+        List<T> declaredMembers = cached("findAllDeclaredMembers", type, () -> (List<T>) getAllDeclaredTypes(type)
                 .stream()
                 .map(MemberUtils::getDeclaredMembers)
                 .flatMap(Collection::stream)
-                .collect(toList());
+                .collect(toList()));
         return filterElements(declaredMembers, memberFilters);
     }
 
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.lang.model.util;
+
+import io.microsphere.annotation.Nonnull;
+import io.microsphere.annotation.Nullable;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static io.microsphere.util.Assert.assertNotNull;
+
+/**
+ * The per-{@link ProcessingEnvironment}, per-round cache of the queries in the package
+ * "io.microsphere.lang.model.util", e.g. the type hierarchies, all declared members, the annotation mirrors by type
+ * and the resolved annotation attributes.
+ *
+ * <p>The cache is bound to the current thread, which is the thread that javac runs the processors on. The processor
+ * {@link #enter(ProcessingEnvironment, RoundEnvironment) enters} the cache at the beginning of
+ * {@link javax.annotation.processing.Processor#process process} and {@link #exit() exits} it in the finally block,
+ * because the cache keeps the {@link ProcessingEnvironment} and the whole javac context reachable, it must not
+ * outlive the invocation if the processor throws or javac aborts before the final round, e.g. the threads are reused
+ * by the build daemons. If the cache was not exited, the entries of the previous round are invalidated on entering,
+ * because the elements and types may be recreated between rounds. Without the entered cache, the utilities compute
+ * the results every time as before.</p>
+ *
+ * <p>The cached results are immutable.</p>
+ *
+ * <h3>Example Usage</h3>
+ * <pre>{@code
+ * public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+ *     ModelQueryCache.enter(processingEnv, roundEnv);
+ *     try {
+ *         // TypeUtils.getAllTypeElements(type) is computed once per type in this invocation
+ *     } finally {
+ *         ModelQueryCache.exit();
+ *     }
+ *     return false;
+ * }
+ * }</pre>
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @since 1.0.0
+ */
+public final class ModelQueryCache {
+
+    private static final ThreadLocal<ModelQueryCache> currentCache = new ThreadLocal<>();
+
+    private final ProcessingEnvironment processingEnv;
+
+    private final Map<Key, Object> entries = new HashMap<>();
+
+    private RoundEnvironment roundEnv;
+
+    private int round;
+
+    private long hitCount;
+
+    private long missCount;
+
+    ModelQueryCache(ProcessingEnvironment processingEnv) {
+        this.processingEnv = processingEnv;
+    }
+
+    /**
+     * Enter the cache of the specified {@link ProcessingEnvironment} for the specified round on the current thread.
+     * If the round differs from the previous one, the cached entries are invalidated.
+     *
+     * @param processingEnv {@link ProcessingEnvironment}
+     * @param roundEnv      {@link RoundEnvironment}
+     * @return the entered {@link ModelQueryCache}
+     * @throws IllegalArgumentException if any argument is <code>null</code>
+     */
+    @Nonnull
+    public static ModelQueryCache enter(ProcessingEnvironment processingEnv, RoundEnvironment roundEnv) throws IllegalArgumentException {
+        assertNotNull(processingEnv, () -> "The 'processingEnv' argument must not be null");
+        assertNotNull(roundEnv, () -> "The 'roundEnv' argument must not be null");
+        ModelQueryCache cache = currentCache.get();
+        if (cache == null || cache.processingEnv != processingEnv) {
+            cache = new ModelQueryCache(processingEnv);
+            currentCache.set(cache);
+        }
+        if (cache.roundEnv != roundEnv) {
+            cache.invalidate();
+            cache.roundEnv = roundEnv;
+            cache.round++;
+        }
+        return cache;
+    }
+
+    /**
+     * Exit the cache on the current thread, the cached entries are discarded.
+     */
+    public static void exit() {
+        ModelQueryCache cache = currentCache.get();
+        if (cache != null) {
+            cache.invalidate();
+            currentCache.remove();
+        }
+    }
+
+    /**
+     * @return the entered {@link ModelQueryCache} on the current thread, or <code>null</code> if absent
+     */
+    @Nullable
+    public static ModelQueryCache current() {
+        return currentCache.get();
+    }
+
+    /**
+     * Get the result of the query from the entered cache, or load it if absent
+     *
+     * @param region the region of the query, e.g. the name of the query
+     * @param key    the argument of the query
+     * @param loader the loader of the result, the result must be immutable
+     * @param <V>    the type of result
+     * @return the result
+     */
+    static <V> V cached(String region, Object key, Supplier<V> loader) {
+        ModelQueryCache cache = currentCache.get();
+        return cache == null ? loader.get() : cache.get(new Key(region, key), loader);
+    }
+
+    /**
+     * Get the result of the query from the entered cache, or load it if absent
+     *
+     * @param region the region of the query, e.g. the name of the query
+     * @param key    the first argument of the query
+     * @param key2   the second argument of the query
+     * @param loader the loader of the result, the result must be immutable
+     * @param <V>    the type of result
+     * @return the result
+     */
+    static <V> V cached(String region, Object key, Object key2, Supplier<V> loader) {
+        ModelQueryCache cache = currentCache.get();
+        return cache == null ? loader.get() : cache.get(new Key(region, key, key2), loader);
+    }
+
+    <V> V get(Key key, Supplier<V> loader) {
+        Object value = entries.get(key);
+        if (value != null) {
+            hitCount++;
+            return (V) value;
+        }
+        missCount++;
+        // not Map#computeIfAbsent, because the loader may query the cache recursively
+        V loaded = loader.get();
+        if (loaded != null) {
+            entries.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Invalidate the cached entries
+     */
+    public void invalidate() {
+        entries.clear();
+    }
+
+    /**
+     * @return the {@link ProcessingEnvironment} of the cache
+     */
+    @Nonnull
+    public ProcessingEnvironment getProcessingEnvironment() {
+        return processingEnv;
+    }
+
+    /**
+     * @return the number of the rounds entered, starting at 1
+     */
+    public int getRound() {
+        return round;
+    }
+
+    /**
+     * @return the count of the cached entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the count of the queries hit in the cache since it was created
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the count of the queries loaded since it was created
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ModelQueryCache{" +
+                "round=" + round +
+                ", size=" + size() +
+                ", hitCount=" + hitCount +
+                ", missCount=" + missCount +
+                '}';
+    }
+
+    static final class Key {
+
+        private final Object[] values;
+
+        private final int hashCode;
+
+        Key(Object... values) {
+            this.values = values;
+            this.hashCode = Arrays.hashCode(values);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) o;
+            return hashCode == that.hashCode && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
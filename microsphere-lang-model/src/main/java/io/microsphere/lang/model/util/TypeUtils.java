@@ -43,6 +43,8 @@ import static io.microsphere.constants.SymbolConstants.LESS_THAN_CHAR;
 import static io.microsphere.lang.function.Predicates.EMPTY_PREDICATE_ARRAY;
 import static io.microsphere.lang.function.Predicates.and;
 import static io.microsphere.lang.function.Streams.filterFirst;
+import static io.microsphere.lang.model.util.ElementUtils.filterElements;
+import static io.microsphere.lang.model.util.ModelQueryCache.cached;
 import static io.microsphere.reflect.MethodUtils.invokeMethod;
 import static io.microsphere.reflect.TypeUtils.getTypeNames;
 import static io.microsphere.util.ArrayUtils.contains;
@@ -1367,7 +1369,10 @@ public interface TypeUtils extends Utils {
             return emptyList();
         }
         assertNoNullElements(typeFilters, () -> "Any element of 'typeFilters' array must not be null");
-        return typeElementFinder(type, includeSelf, includeHierarchicalTypes, includeSuperclass, includeSuperInterfaces).findTypes(typeFilters);
+        int options = (includeSelf ? 1 : 0) | (includeHierarchicalTypes ? 2 : 0) | (includeSuperclass ? 4 : 0) | (includeSuperInterfaces ? 8 : 0);
+        List<TypeElement> typeElements = cached("findTypeElements", type, options,
+                () -> typeElementFinder(type, includeSelf, includeHierarchicalTypes, includeSuperclass, includeSuperInterfaces).getTypes());
+        return isEmpty(typeFilters) ? typeElements : filterElements(typeElements, typeFilters);
     }
 
     /**
@@ -1794,7 +1799,7 @@ public interface TypeUtils extends Utils {
     @Nonnull
     @Immutable
     static List<DeclaredType> findDeclaredTypesOfInterfaces(TypeMirror type, Predicate<? super DeclaredType>... typeFilters) {
-        return type == null ? emptyList() : ofDeclaredTypes(getTypeElementsOfInterfaces(ofTypeElement(type)), typeFilters);
+        return type == null ? emptyList() : findDeclaredTypes(type, false, false, false, true, typeFilters);
     }
 
     /**
@@ -1827,7 +1832,7 @@ public interface TypeUtils extends Utils {
     @Nonnull
     @Immutable
     static List<DeclaredType> findAllDeclaredTypesOfSuperclasses(TypeMirror type, Predicate<? super DeclaredType>... typeFilters) {
-        return type == null ? emptyList() : ofDeclaredTypes(getAllTypeElementsOfSuperclasses(ofTypeElement(type)), typeFilters);
+        return type == null ? emptyList() : findDeclaredTypes(type, false, true, true, false, typeFilters);
     }
 
     /**
@@ -1861,7 +1866,7 @@ public interface TypeUtils extends Utils {
     @Nonnull
     @Immutable
     static List<DeclaredType> findAllDeclaredTypesOfInterfaces(TypeMirror type, Predicate<? super DeclaredType>... typeFilters) {
-        return type == null ? emptyList() : ofDeclaredTypes(getAllTypeElementsOfInterfaces(ofTypeElement(type)), typeFilters);
+        return type == null ? emptyList() : findDeclaredTypes(type, false, true, false, true, typeFilters);
     }
 
     /**
@@ -1895,7 +1900,7 @@ public interface TypeUtils extends Utils {
     @Nonnull
     @Immutable
     static List<DeclaredType> findAllDeclaredTypesOfSuperTypes(TypeMirror type, Predicate<? super DeclaredType>... typeFilters) {
-        return type == null ? emptyList() : ofDeclaredTypes(getAllTypeElementsOfSuperTypes(ofTypeElement(type)), typeFilters);
+        return type == null ? emptyList() : findDeclaredTypes(type, false, true, true, true, typeFilters);
     }
 
     /**
@@ -2011,7 +2016,7 @@ public interface TypeUtils extends Utils {
     @Nonnull
     @Immutable
     static List<DeclaredType> findAllDeclaredTypes(TypeMirror type, Predicate<? super DeclaredType>... typeFilters) {
-        return type == null ? emptyList() : ofDeclaredTypes(getAllTypeElements(ofTypeElement(type)), typeFilters);
+        return type == null ? emptyList() : findDeclaredTypes(type, true, true, true, true, typeFilters);
     }
 
     /**
@@ -2071,7 +2076,23 @@ public interface TypeUtils extends Utils {
                                                 boolean includeSuperClasses,
                                                 boolean includeSuperInterfaces,
                                                 Predicate<? super DeclaredType>... typeFilters) {
-        return type == null ? emptyList() : ofDeclaredTypes(getTypeElements(ofTypeElement(type), includeSelf, includeHierarchicalTypes, includeSuperClasses, includeSuperInterfaces), typeFilters);
+        if (type == null) {
+            return emptyList();
+        }
+        TypeElement typeElement = ofTypeElement(type);
+        if (typeElement == null) {
+            return emptyList();
+        }
+        int options = (includeSelf ? 1 : 0) | (includeHierarchicalTypes ? 2 : 0) | (includeSuperClasses ? 4 : 0) | (includeSuperInterfaces ? 8 : 0);
+        List<DeclaredType> declaredTypes = cached("findDeclaredTypes", typeElement, options,
+                () -> ofDeclaredTypes(getTypeElements(typeElement, includeSelf, includeHierarchicalTypes, includeSuperClasses, includeSuperInterfaces)));
+        if (isEmpty(typeFilters)) {
+            return declaredTypes;
+        }
+        List<DeclaredType> filteredDeclaredTypes = declaredTypes.stream()
+                .filter(and(typeFilters))
+                .collect(toList());
+        return filteredDeclaredTypes.isEmpty() ? emptyList() : unmodifiableList(filteredDeclaredTypes);
     }
 
     /**
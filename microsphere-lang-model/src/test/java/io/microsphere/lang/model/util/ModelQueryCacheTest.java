@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.microsphere.lang.model.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Set;
+
+import static io.microsphere.lang.model.util.AnnotationUtils.findAllAnnotations;
+import static io.microsphere.lang.model.util.AnnotationUtils.getAnnotations;
+import static io.microsphere.lang.model.util.AnnotationUtils.getAttributesMap;
+import static io.microsphere.lang.model.util.MemberUtils.getAllDeclaredMembers;
+import static io.microsphere.lang.model.util.ModelQueryCache.current;
+import static io.microsphere.lang.model.util.ModelQueryCache.enter;
+import static io.microsphere.lang.model.util.ModelQueryCache.exit;
+import static io.microsphere.lang.model.util.TypeUtils.getAllDeclaredTypes;
+import static io.microsphere.lang.model.util.TypeUtils.getAllTypeElements;
+import static java.lang.reflect.Proxy.newProxyInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * {@link ModelQueryCache} Test
+ *
+ * @author <a href="mailto:mercyblitz@gmail.com">Mercy</a>
+ * @see ModelQueryCache
+ * @since 1.0.0
+ */
+class ModelQueryCacheTest extends UtilTest {
+
+    @AfterEach
+    void tearDown() {
+        exit();
+    }
+
+    @Test
+    void testWithoutEnter() {
+        assertNull(current());
+        List<TypeElement> typeElements = getAllTypeElements(testTypeElement);
+        assertEquals(typeElements, getAllTypeElements(testTypeElement));
+        assertNotSame(typeElements, getAllTypeElements(testTypeElement));
+    }
+
+    @Test
+    void testEnter() {
+        ModelQueryCache cache = enter(processingEnv, roundEnv);
+        assertSame(cache, current());
+        assertSame(processingEnv, cache.getProcessingEnvironment());
+        assertEquals(1, cache.getRound());
+
+        List<TypeElement> typeElements = getAllTypeElements(testTypeElement);
+        assertSame(typeElements, getAllTypeElements(testTypeElement));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+
+        // the same round
+        assertSame(cache, enter(processingEnv, roundEnv));
+        assertEquals(1, cache.getRound());
+        assertSame(typeElements, getAllTypeElements(testTypeElement));
+
+        // the next round
+        assertSame(cache, enter(processingEnv, new TestRoundEnvironment()));
+        assertEquals(2, cache.getRound());
+        assertEquals(0, cache.size());
+        assertNotSame(typeElements, getAllTypeElements(testTypeElement));
+        assertNotNull(cache.toString());
+
+        // another processing environment
+        ProcessingEnvironment processingEnvironment = (ProcessingEnvironment) newProxyInstance(getClass().getClassLoader(),
+                new Class[]{ProcessingEnvironment.class}, (proxy, method, args) -> null);
+        ModelQueryCache anotherCache = enter(processingEnvironment, roundEnv);
+        assertNotSame(cache, anotherCache);
+        assertSame(anotherCache, current());
+
+        exit();
+        assertNull(current());
+        // exit again
+        exit();
+    }
+
+    @Test
+    void testEnterOnNull() {
+        assertThrows(IllegalArgumentException.class, () -> enter(null, roundEnv));
+        assertThrows(IllegalArgumentException.class, () -> enter(processingEnv, null));
+    }
+
+    @Test
+    void testCachedQueries() {
+        ModelQueryCache cache = enter(processingEnv, roundEnv);
+        assertSame(getAllDeclaredTypes(testTypeElement), getAllDeclaredTypes(testTypeElement));
+        assertEquals(getAllDeclaredMembers(testTypeElement), getAllDeclaredMembers(testTypeElement));
+
+        List<AnnotationMirror> annotations = findAllAnnotations(testTypeElement);
+        assertFalse(annotations.isEmpty());
+        assertSame(annotations, findAllAnnotations(testTypeElement));
+        // the filtered annotations are not cached
+        assertEquals(1, findAllAnnotations(testTypeElement, annotation -> annotation == annotations.get(0)).size());
+
+        AnnotationMirror annotation = annotations.get(0);
+        String annotationTypeName = annotation.getAnnotationType().toString();
+        assertSame(getAnnotations(testTypeElement, annotationTypeName), getAnnotations(testTypeElement, annotationTypeName));
+        assertSame(getAttributesMap(annotation), getAttributesMap(annotation));
+        assertTrue(cache.getHitCount() > 0);
+
+        cache.invalidate();
+        assertEquals(0, cache.size());
+    }
+
+    static class TestRoundEnvironment implements RoundEnvironment {
+
+        @Override
+        public boolean processingOver() {
+            return false;
+        }
+
+        @Override
+        public boolean errorRaised() {
+            return false;
+        }
+
+        @Override
+        public Set<? extends Element> getRootElements() {
+            return null;
+        }
+
+        @Override
+        public Set<? extends Element> getElementsAnnotatedWith(TypeElement a) {
+            return null;
+        }
+
+        @Override
+        public Set<? extends Element> getElementsAnnotatedWith(Class<? extends Annotation> a) {
+            return null;
+        }
+    }
+}